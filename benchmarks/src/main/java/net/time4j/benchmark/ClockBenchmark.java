@@ -0,0 +1,84 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ClockBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the cost of reading the current time with the different modes
+ * of {@code SystemClock}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClockBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final SystemClock coarse = SystemClock.coarse(1000);
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public Moment standard() {
+        return SystemClock.INSTANCE.currentTime();
+    }
+
+    @Benchmark
+    public Moment monotonic() {
+        return SystemClock.MONOTONIC.currentTime();
+    }
+
+    @Benchmark
+    public Moment precise() {
+        return SystemClock.PRECISE.currentTime();
+    }
+
+    @Benchmark
+    public Moment coarse() {
+        return this.coarse.currentTime();
+    }
+
+    @Benchmark
+    public long coarseInMillis() {
+        return this.coarse.currentTimeInMillis();
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DateArithmeticBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures calendar arithmetic on the time axes of {@code PlainDate}
+ * and {@code PlainTimestamp}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateArithmeticBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PlainDate start = PlainDate.of(2016, 1, 31);
+    private final PlainDate end = PlainDate.of(2043, 8, 17);
+    private final PlainTimestamp tsp1 = PlainTimestamp.of(2016, 1, 31, 10, 15, 30);
+    private final PlainTimestamp tsp2 = PlainTimestamp.of(2016, 9, 4, 23, 59, 1);
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public PlainDate plusDays() {
+        return this.start.plus(1000, CalendarUnit.DAYS);
+    }
+
+    @Benchmark
+    public PlainDate plusMonths() {
+        return this.start.plus(37, CalendarUnit.MONTHS);
+    }
+
+    @Benchmark
+    public PlainDate stepForward() {
+        return PlainDate.axis().stepForward(this.start);
+    }
+
+    @Benchmark
+    public long untilDays() {
+        return this.start.until(this.end, CalendarUnit.DAYS);
+    }
+
+    @Benchmark
+    public long untilMonths() {
+        return CalendarUnit.MONTHS.between(this.start, this.end);
+    }
+
+    @Benchmark
+    public long untilSeconds() {
+        return ClockUnit.SECONDS.between(this.tsp1, this.tsp2);
+    }
+
+    @Benchmark
+    public long untilMonthsOfTimestamp() {
+        return CalendarUnit.MONTHS.between(this.tsp1, this.tsp2);
+    }
+
+    @Benchmark
+    public Duration<CalendarUnit> untilDaysAsDuration() {
+        return Duration.in(CalendarUnit.DAYS).between(this.start, this.end);
+    }
+
+    @Benchmark
+    public Duration<ClockUnit> untilSecondsAsDuration() {
+        return Duration.in(ClockUnit.SECONDS).between(this.tsp1, this.tsp2);
+    }
+
+    @Benchmark
+    public Duration<CalendarUnit> untilYearsMonthsDays() {
+        return Duration.inYearsMonthsDays().between(this.start, this.end);
+    }
+
+    @Benchmark
+    public Duration<?> untilMixed() {
+        return Duration.in(CalendarUnit.DAYS, ClockUnit.HOURS, ClockUnit.MINUTES).between(this.tsp1, this.tsp2);
+    }
+
+}
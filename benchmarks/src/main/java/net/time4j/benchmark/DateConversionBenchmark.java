@@ -0,0 +1,95 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DateConversionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.SystemClock;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion of day numbers and moments to calendar dates near
+ * the current date. </p>
+ *
+ * <p>The optional date cache can be switched on by the JMH-option
+ * {@code -jvmArgsAppend -Dnet.time4j.date.cache.range=1000}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateConversionBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long today = SystemClock.inLocalView().today().getDaysSinceEpochUTC();
+    private final long now = SystemClock.currentMoment().getPosixTime();
+    private int counter = 0;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public long toPackedDate() {
+        return GregorianMath.toPackedDate(40587 + 730 + this.today - (this.next() % 500));
+    }
+
+    @Benchmark
+    public long toMJD() {
+        return GregorianMath.toMJD(2016, 1 + (this.next() % 12), 17);
+    }
+
+    @Benchmark
+    public PlainDate fromEpochDays() {
+        return PlainDate.of(this.today - (this.next() % 500), EpochDays.UTC);
+    }
+
+    @Benchmark
+    public PlainDate fromMoment() {
+        Moment moment = Moment.of(this.now - (this.next() % 500) * 86400L, TimeScale.POSIX);
+        return moment.toZonalTimestamp(ZonalOffset.UTC).getCalendarDate();
+    }
+
+    private int next() {
+        this.counter = (this.counter + 7) & 0x7FFFFFFF;
+        return this.counter;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DurationFormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.PrettyTime;
+import net.time4j.format.TextWidth;
+import net.time4j.tz.Timezone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures {@code Duration.Formatter} and {@code PrettyTime}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationFormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Duration.Formatter<IsoUnit> formatter =
+        Duration.formatter("'P'[-###Y'Y'][-#M'M'][-#D'D']['T'[-#h'H'][-#m'M'][-#s'S']]");
+    private final Duration<IsoUnit> duration =
+        Duration.ofZero().plus(2, CalendarUnit.YEARS).plus(3, CalendarUnit.DAYS).plus(
+            Duration.of(17, ClockUnit.HOURS).plus(45, ClockUnit.MINUTES).plus(30, ClockUnit.SECONDS));
+    private final String text = this.formatter.format(this.duration);
+
+    private final Moment reference = PlainTimestamp.of(2016, 7, 31, 17, 45, 30).atUTC();
+    private final Moment past = this.reference.minus(5 * 60 + 17, TimeUnit.SECONDS);
+    private final Timezone berlin = Timezone.of("Europe/Berlin");
+    private final PrettyTime english = PrettyTime.of(Locale.ENGLISH).withReferenceClock(() -> this.reference);
+    private final Moment[] items = new Moment[1000];
+
+    {
+        for (int i = 0; i < this.items.length; i++) {
+            this.items[i] = this.reference.minus(i * 83L, TimeUnit.SECONDS); // letzte 23 Stunden
+        }
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public String formatDuration() {
+        return this.formatter.format(this.duration);
+    }
+
+    @Benchmark
+    public Duration<IsoUnit> parseDuration() throws ParseException {
+        return this.formatter.parse(this.text);
+    }
+
+    @Benchmark
+    public String prettyPrintDuration() {
+        return this.english.print(this.duration, TextWidth.WIDE);
+    }
+
+    @Benchmark
+    public String prettyPrintUnit() {
+        return this.english.print(5, ClockUnit.MINUTES, TextWidth.WIDE);
+    }
+
+    @Benchmark
+    public String prettyPrintRelative() {
+        return this.english.printRelative(this.past, this.berlin, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public String[] prettyPrintRelativeList() {
+        String[] output = new String[this.items.length];
+        for (int i = 0; i < output.length; i++) {
+            output[i] = this.english.printRelative(this.items[i], this.berlin, TimeUnit.MINUTES);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public String[] prettyPrintRelativeListByRenderer() {
+        return this.english.relativeRenderer(this.berlin, TimeUnit.MINUTES).printAll(this.items);
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EpochCodecBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.EpochCodec;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the conversion between global and local time via entities with the
+ * primitive conversions of {@code EpochCodec}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EpochCodecBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Timezone berlin = Timezone.of("Europe/Berlin");
+    private final long posixTime = 1470000000L;
+    private final long localSeconds = 1470007200L;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public PlainTimestamp toLocalByEntities() {
+        return Moment.of(this.posixTime, TimeScale.POSIX).toZonalTimestamp(this.berlin.getID());
+    }
+
+    @Benchmark
+    public long toLocalByCodec() {
+        return EpochCodec.toPackedTimestamp(EpochCodec.toLocalSeconds(this.posixTime, this.berlin));
+    }
+
+    @Benchmark
+    public long toPosixByEntities() {
+        return PlainTimestamp.of(2016, 7, 31, 23, 20).in(this.berlin).getPosixTime();
+    }
+
+    @Benchmark
+    public long toPosixByCodec() {
+        return EpochCodec.toPosixTime(this.localSeconds, this.berlin);
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures {@code ChronoFormatter.format/parse} for ISO-8601 and CLDR patterns. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int COLUMN_SIZE = 1000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoFormatter<Moment> cldrMoment =
+        ChronoFormatter.ofMomentPattern(
+            "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+    private final ChronoFormatter<PlainDate> cldrDate =
+        ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+    private final ChronoFormatter<PlainTimestamp> cldrTimestamp =
+        ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+
+    private final Moment moment =
+        PlainTimestamp.of(2016, 7, 31, 17, 45, 30).plus(123, ClockUnit.MILLIS).atUTC();
+    private final PlainDate date = PlainDate.of(2016, 7, 31);
+    private final PlainTimestamp timestamp = PlainTimestamp.of(2016, 7, 31, 17, 45, 30);
+
+    private final String isoMomentText = Iso8601Format.EXTENDED_DATE_TIME_OFFSET.format(this.moment);
+    private final String isoDateText = Iso8601Format.EXTENDED_CALENDAR_DATE.format(this.date);
+    private final String cldrMomentText = this.cldrMoment.format(this.moment);
+    private final String cldrDateText = this.cldrDate.format(this.date);
+    private final String cldrTimestampText = this.cldrTimestamp.format(this.timestamp);
+
+    private final char[] array = new char[64];
+    private final StringBuilder builder = new StringBuilder(64);
+
+    private final List<String> cldrDateColumn = new ArrayList<>(COLUMN_SIZE);
+    private final List<String> cldrMomentColumn = new ArrayList<>(COLUMN_SIZE);
+    private final long[] longColumn = new long[COLUMN_SIZE];
+    private final int[] intColumn = new int[COLUMN_SIZE];
+    private final BitSet errors = new BitSet(COLUMN_SIZE);
+
+    {
+        for (int i = 0; i < COLUMN_SIZE; i++) {
+            this.cldrDateColumn.add(this.cldrDate.format(this.date.plus(i, CalendarUnit.DAYS)));
+            this.cldrMomentColumn.add(this.cldrMoment.format(this.moment.plus(i * 3600L, SI.SECONDS)));
+        }
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public String formatIsoMoment() {
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.format(this.moment);
+    }
+
+    @Benchmark
+    public String formatIsoDate() {
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.format(this.date);
+    }
+
+    @Benchmark
+    public String formatCldrMoment() {
+        return this.cldrMoment.format(this.moment);
+    }
+
+    @Benchmark
+    public String formatCldrDate() {
+        return this.cldrDate.format(this.date);
+    }
+
+    @Benchmark
+    public String formatCldrTimestamp() {
+        return this.cldrTimestamp.format(this.timestamp);
+    }
+
+    @Benchmark
+    public int formatToArrayCldrMoment() {
+        return this.cldrMoment.formatToArray(this.moment, this.array, 0);
+    }
+
+    @Benchmark
+    public int formatToBufferCldrMoment() throws IOException {
+        this.builder.setLength(0);
+        this.cldrMoment.formatToBuffer(this.moment, this.builder);
+        return this.builder.length();
+    }
+
+    @Benchmark
+    public Moment parseIsoMoment() throws ParseException {
+        return Iso8601Format.EXTENDED_DATE_TIME_OFFSET.parse(this.isoMomentText);
+    }
+
+    @Benchmark
+    public PlainDate parseIsoDate() throws ParseException {
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.parse(this.isoDateText);
+    }
+
+    @Benchmark
+    public Moment parseCldrMoment() throws ParseException {
+        return this.cldrMoment.parse(this.cldrMomentText);
+    }
+
+    @Benchmark
+    public PlainDate parseCldrDate() throws ParseException {
+        return this.cldrDate.parse(this.cldrDateText);
+    }
+
+    @Benchmark
+    public PlainTimestamp parseCldrTimestamp() throws ParseException {
+        return this.cldrTimestamp.parse(this.cldrTimestampText);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public long parseCldrDateColumnLoop() throws ParseException {
+        long sum = 0;
+        for (String text : this.cldrDateColumn) {
+            sum += this.cldrDate.parse(text).getDayOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public int parseCldrDateColumnBulk() {
+        return this.cldrDate.parseToEpochDays(this.cldrDateColumn, this.longColumn, this.errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public long parseCldrMomentColumnLoop() throws ParseException {
+        long sum = 0;
+        for (String text : this.cldrMomentColumn) {
+            sum += this.cldrMoment.parse(text).getPosixTime();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLUMN_SIZE)
+    public int parseCldrMomentColumnBulk() {
+        return this.cldrMoment.parseToPosixTime(this.cldrMomentColumn, this.longColumn, this.intColumn, this.errors);
+    }
+
+}
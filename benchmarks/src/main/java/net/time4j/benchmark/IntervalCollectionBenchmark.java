@@ -0,0 +1,140 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalCollectionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.ChronoInterval;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the interval algebra of {@code IntervalCollection} on the date axis. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalCollectionBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private IntervalCollection<PlainDate> first;
+    private IntervalCollection<PlainDate> second;
+    private List<ChronoInterval<PlainDate>> intervals;
+    private DateInterval single;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.intervals = createIntervals(this.size, 1);
+        this.first = IntervalCollection.onDateAxis().plus(this.intervals);
+        this.second = IntervalCollection.onDateAxis().plus(createIntervals(this.size, 2));
+        this.single = (DateInterval) this.intervals.get(this.size / 2);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> plusList() {
+        return IntervalCollection.onDateAxis().plus(this.intervals);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> plusSingle() {
+        return this.first.plus(this.single);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> minus() {
+        return this.first.minus(this.second);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> intersect() {
+        return this.first.intersect(this.second);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> union() {
+        return this.first.union(this.second);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> xor() {
+        return this.first.xor(this.second);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withBlocks() {
+        return this.first.withBlocks();
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> withGaps() {
+        return this.first.withGaps();
+    }
+
+    static List<ChronoInterval<PlainDate>> createIntervals(
+        int count,
+        long seed
+    ) {
+
+        Random random = new Random(seed);
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>(count);
+        PlainDate start = PlainDate.of(2000, 1, 1);
+
+        for (int i = 0; i < count; i++) {
+            PlainDate s = start.plus(random.nextInt(count * 10), CalendarUnit.DAYS);
+            list.add(DateInterval.between(s, s.plus(random.nextInt(30), CalendarUnit.DAYS)));
+        }
+
+        return list;
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalSetBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.PlainDate;
+import net.time4j.range.DateIntervalSet;
+import net.time4j.range.IntervalCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the set operations of {@code DateIntervalSet} with those of
+ * {@code IntervalCollection}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalSetBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private IntervalCollection<PlainDate> first;
+    private IntervalCollection<PlainDate> second;
+    private DateIntervalSet firstSet;
+    private DateIntervalSet secondSet;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.first = IntervalCollection.onDateAxis().plus(IntervalCollectionBenchmark.createIntervals(this.size, 1));
+        this.second = IntervalCollection.onDateAxis().plus(IntervalCollectionBenchmark.createIntervals(this.size, 2));
+        this.firstSet = DateIntervalSet.from(this.first);
+        this.secondSet = DateIntervalSet.from(this.second);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> unionCollection() {
+        return this.first.union(this.second);
+    }
+
+    @Benchmark
+    public DateIntervalSet unionSet() {
+        return this.firstSet.union(this.secondSet);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> intersectCollection() {
+        return this.first.intersect(this.second);
+    }
+
+    @Benchmark
+    public DateIntervalSet intersectSet() {
+        return this.firstSet.intersect(this.secondSet);
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> xorCollection() {
+        return this.first.xor(this.second);
+    }
+
+    @Benchmark
+    public DateIntervalSet xorSet() {
+        return this.firstSet.xor(this.secondSet);
+    }
+
+    @Benchmark
+    public DateIntervalSet fromCollection() {
+        return DateIntervalSet.from(this.first);
+    }
+
+}
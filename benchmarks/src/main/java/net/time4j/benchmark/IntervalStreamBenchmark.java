@@ -0,0 +1,115 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalStreamBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Duration;
+import net.time4j.PlainDate;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IsoRecurrence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the iteration over the days of a date interval or over recurrent intervals
+ * by loops with sequential and parallel streams. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalStreamBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private DateInterval interval;
+    private IsoRecurrence<DateInterval> recurrence;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.interval = DateInterval.between(PlainDate.of(1900, 1, 1), PlainDate.of(2099, 12, 31));
+        this.recurrence = IsoRecurrence.of(10000, PlainDate.of(1900, 1, 1), Duration.of(1, CalendarUnit.WEEKS));
+
+    }
+
+    @Benchmark
+    public int daysByLoop() {
+        int count = 0;
+        PlainDate end = this.interval.getEnd().getTemporal();
+        for (PlainDate date = this.interval.getStart().getTemporal(); !date.isAfter(end); ) {
+            if (date.getDayOfMonth() == 13) {
+                count++;
+            }
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long daysBySequentialStream() {
+        return this.interval.streamDaily().filter(date -> date.getDayOfMonth() == 13).count();
+    }
+
+    @Benchmark
+    public long daysByParallelStream() {
+        return this.interval.streamDaily().parallel().filter(date -> date.getDayOfMonth() == 13).count();
+    }
+
+    @Benchmark
+    public int recurrenceByIterator() {
+        int count = 0;
+        Iterator<DateInterval> iter = this.recurrence.iterator();
+        while (iter.hasNext()) {
+            if (iter.next().getStart().getTemporal().getDayOfMonth() == 13) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long recurrenceByParallelStream() {
+        return this.recurrence.stream().parallel()
+            .filter(i -> i.getStart().getTemporal().getDayOfMonth() == 13).count();
+    }
+
+}
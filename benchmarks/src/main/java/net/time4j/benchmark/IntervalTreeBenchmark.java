@@ -0,0 +1,129 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalTreeBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.range.ChronoInterval;
+import net.time4j.range.IntervalCollection;
+import net.time4j.range.IntervalTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the incremental construction and stabbing queries of {@code IntervalTree}
+ * with those of {@code IntervalCollection}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalTreeBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private List<ChronoInterval<PlainDate>> intervals;
+    private IntervalCollection<PlainDate> collection;
+    private IntervalTree<PlainDate> tree;
+    private PlainDate[] probes;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.intervals = IntervalCollectionBenchmark.createIntervals(this.size, 1);
+        this.collection = IntervalCollection.onDateAxis().plus(this.intervals);
+        this.tree = IntervalTree.onDateAxis();
+        this.tree.addAll(this.intervals);
+        this.probes = new PlainDate[100];
+
+        for (int i = 0; i < this.probes.length; i++) {
+            this.probes[i] = PlainDate.of(2000, 1, 1).plus(i * this.size / 10, CalendarUnit.DAYS);
+        }
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> buildCollectionOneByOne() {
+        IntervalCollection<PlainDate> result = IntervalCollection.onDateAxis();
+        for (ChronoInterval<PlainDate> interval : this.intervals) {
+            result = result.plus(interval);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntervalTree<PlainDate> buildTreeOneByOne() {
+        IntervalTree<PlainDate> result = IntervalTree.onDateAxis();
+        for (ChronoInterval<PlainDate> interval : this.intervals) {
+            result.add(interval);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int stabCollection() {
+        int count = 0;
+        for (PlainDate probe : this.probes) {
+            List<ChronoInterval<PlainDate>> found = new ArrayList<>();
+            for (ChronoInterval<PlainDate> interval : this.collection.getIntervals()) {
+                if (interval.contains(probe)) {
+                    found.add(interval);
+                }
+            }
+            count += found.size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int stabTree() {
+        int count = 0;
+        for (PlainDate probe : this.probes) {
+            count += this.tree.findIntersections(probe).size();
+        }
+        return count;
+    }
+
+}
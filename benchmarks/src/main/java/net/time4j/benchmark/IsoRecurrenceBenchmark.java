@@ -0,0 +1,109 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IsoRecurrenceBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.benchmark;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Duration;
+import net.time4j.PlainDate;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IsoRecurrence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Compares the search for the recurrent interval containing a given date
+ * by iteration with the direct calculation via {@code IsoRecurrence.indexOf()}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IsoRecurrenceBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"P1W", "P1M"})
+    public String period;
+
+    private IsoRecurrence<DateInterval> recurrence;
+    private PlainDate[] probes;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp()
+        throws ParseException {
+
+        this.recurrence =
+            IsoRecurrence.of(0, PlainDate.of(2000, 1, 1), Duration.parseCalendarPeriod(this.period))
+                .withInfiniteCount();
+        this.probes = new PlainDate[100];
+        for (int i = 0; i < this.probes.length; i++) {
+            this.probes[i] = PlainDate.of(2000, 1, 1).plus(i * 73, CalendarUnit.DAYS);
+        }
+
+    }
+
+    @Benchmark
+    public long findByIteration() {
+        long sum = 0;
+        for (PlainDate probe : this.probes) {
+            Iterator<DateInterval> iter = this.recurrence.iterator();
+            for (int index = 0; ; index++) {
+                if (iter.next().contains(probe)) {
+                    sum += index;
+                    break;
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long findByIndexOf() {
+        long sum = 0;
+        for (PlainDate probe : this.probes) {
+            sum += this.recurrence.indexOf(probe);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LeapSecondBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures leap second lookups and the conversion of POSIX-timestamps to
+ * other time scales, both per element and in bulk. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeapSecondBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SIZE = 1000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final LeapSeconds ls = LeapSeconds.getInstance();
+    private final long recent = 1470000000L; // 2016-07-31
+    private final long historic = 400000000L; // 1982-09-04
+    private final long[] posixTimes = new long[SIZE];
+    private final long[] sortedTimes = new long[SIZE];
+    private final long[] elapsedTimes = new long[SIZE];
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void init() {
+        Random random = new Random(1L);
+        for (int i = 0; i < SIZE; i++) {
+            posixTimes[i] = 315964800L + (random.nextLong() & 0x3FFFFFFFL);
+        }
+        System.arraycopy(posixTimes, 0, sortedTimes, 0, SIZE);
+        Arrays.sort(sortedTimes);
+    }
+
+    @Benchmark
+    public long enhanceRecent() {
+        return this.ls.enhance(this.recent);
+    }
+
+    @Benchmark
+    public long enhanceHistoric() {
+        return this.ls.enhance(this.historic);
+    }
+
+    @Benchmark
+    public int getShiftRecent() {
+        return this.ls.getShift(this.recent);
+    }
+
+    @Benchmark
+    public long[] toUTCPerMoment() {
+        for (int i = 0; i < SIZE; i++) {
+            this.elapsedTimes[i] = Moment.of(this.posixTimes[i], TimeScale.POSIX).getElapsedTime(TimeScale.UTC);
+        }
+        return this.elapsedTimes;
+    }
+
+    @Benchmark
+    public long[] toUTCBatch() {
+        this.ls.toElapsedTimes(this.posixTimes, TimeScale.UTC, this.elapsedTimes);
+        return this.elapsedTimes;
+    }
+
+    @Benchmark
+    public long[] toUTCBatchSorted() {
+        this.ls.toElapsedTimes(this.sortedTimes, TimeScale.UTC, this.elapsedTimes);
+        return this.elapsedTimes;
+    }
+
+    @Benchmark
+    public long[] toGPSBatch() {
+        this.ls.toElapsedTimes(this.posixTimes, TimeScale.GPS, this.elapsedTimes);
+        return this.elapsedTimes;
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.SystemClock;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion of {@code Moment} to local timestamps and the
+ * offset lookup in historized and fixed timezones. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZoneBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Timezone newYork = Timezone.of("America/New_York");
+    private final Timezone berlin = Timezone.of("Europe/Berlin");
+    private final Moment recent = PlainTimestamp.of(2016, 7, 31, 17, 45, 30).atUTC();
+    private final Moment historic = PlainTimestamp.of(1950, 3, 1, 12, 0).atUTC();
+    private final Moment future = PlainTimestamp.of(2090, 11, 5, 6, 30).atUTC();
+    private final Moment current = SystemClock.INSTANCE.currentTime();
+    private final long[] posixTimes = createPosixTimes(10000);
+    private final int[] offsets = new int[10000];
+    private final int[] epochDays = new int[10000];
+    private final int[] secondsOfDay = new int[10000];
+    private final long[] resolved = new long[10000];
+    private final BitSet conflicts = new BitSet(10000);
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampByID() {
+        return this.recent.toZonalTimestamp("America/New_York");
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampByOffset() {
+        return this.recent.toZonalTimestamp(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2));
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetRecent() {
+        return this.newYork.getOffset(this.recent);
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetHistoric() {
+        return this.newYork.getOffset(this.historic);
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetCurrentNewYork() {
+        return this.newYork.getOffset(this.current);
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetCurrentBerlin() {
+        return this.berlin.getOffset(this.current);
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetFuture() {
+        return this.berlin.getOffset(this.future);
+    }
+
+    @Benchmark
+    public Moment atTimezone() {
+        return PlainTimestamp.of(2016, 3, 27, 2, 30).in(this.berlin);
+    }
+
+    @Benchmark
+    public int[] getOffsetsOneByOne() {
+        for (int i = 0; i < this.posixTimes.length; i++) {
+            Moment moment = Moment.of(this.posixTimes[i], TimeScale.POSIX);
+            this.offsets[i] = this.berlin.getOffset(moment).getIntegralAmount();
+        }
+        return this.offsets;
+    }
+
+    @Benchmark
+    public int[] getOffsetsBulk() {
+        this.berlin.getOffsets(this.posixTimes, this.offsets);
+        return this.offsets;
+    }
+
+    @Benchmark
+    public int[] toLocalFieldsBulk() {
+        this.berlin.toLocalFields(this.posixTimes, this.offsets, this.epochDays, this.secondsOfDay);
+        return this.secondsOfDay;
+    }
+
+    @Benchmark
+    public long[] toPosixTimesOneByOne() {
+        for (int i = 0; i < this.posixTimes.length; i++) {
+            PlainTimestamp tsp = Moment.of(this.posixTimes[i], TimeScale.POSIX).toZonalTimestamp(ZonalOffset.UTC);
+            this.resolved[i] = tsp.in(this.berlin).getPosixTime();
+        }
+        return this.resolved;
+    }
+
+    @Benchmark
+    public long[] toPosixTimesBulk() {
+        this.berlin.toPosixTimes(this.posixTimes, this.resolved, this.conflicts, null);
+        return this.resolved;
+    }
+
+    // sortierte Zeitstempel im Abstand von etwa 97 Minuten ab 2015
+    private static long[] createPosixTimes(int n) {
+        long start = PlainTimestamp.of(2015, 1, 1, 0, 0).atUTC().getPosixTime();
+        long[] result = new long[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = start + i * 5831L;
+        }
+        return result;
+    }
+
+}
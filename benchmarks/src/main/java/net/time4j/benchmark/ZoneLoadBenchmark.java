@@ -0,0 +1,95 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneLoadBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmark;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the first-use latency of a timezone, that is loading its transition history
+ * from the tzdb-provider of the JDK either by conversion of {@code java.time.zone.ZoneRules}
+ * or from a precompiled memory-mapped snapshot. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZoneLoadBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private Path snapshotFile;
+    private ZoneModelProvider converting;
+    private ZoneModelProvider mapping;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.snapshotFile = Files.createTempFile("time4j", ".snapshot");
+        Files.delete(this.snapshotFile);
+        System.clearProperty("net.time4j.tz.threeten.snapshot");
+        this.converting = new JdkZoneProviderSPI();
+        System.setProperty("net.time4j.tz.threeten.snapshot", this.snapshotFile.toString());
+        this.mapping = new JdkZoneProviderSPI();
+        System.clearProperty("net.time4j.tz.threeten.snapshot");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.snapshotFile);
+    }
+
+    @Benchmark
+    public TransitionHistory loadByConversion() {
+        return this.converting.load("America/New_York");
+    }
+
+    @Benchmark
+    public TransitionHistory loadFromSnapshot() {
+        return this.mapping.load("America/New_York");
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (package-info.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+/**
+ * <p>JMH benchmark suites for the hot paths of Time4J. </p>
+ *
+ * <p>The module is only built if the maven profile &quot;benchmark-profile&quot;
+ * is active. Example for running all suites and storing the results as JSON: </p>
+ *
+ * <pre>
+ *  mvn -Pbenchmark-profile install -DskipTests
+ *  java -jar benchmarks/target/benchmarks.jar -rf json -rff results.json
+ * </pre>
+ *
+ * <p>The folder &quot;benchmarks/results&quot; contains checked-in baseline results
+ * per release which can be compared with new measurements. </p>
+ *
+ * <p><strong>This package belongs to module &quot;benchmarks&quot;
+ * and is never deployed.</strong></p>
+ */
+/*[deutsch]
+ * <p>JMH-Messreihen f&uuml;r die kritischen Pfade von Time4J. </p>
+ *
+ * <p>Das Modul wird nur gebaut, wenn das Maven-Profil &quot;benchmark-profile&quot;
+ * aktiv ist. Beispiel f&uuml;r das Ausf&uuml;hren aller Messreihen mit Speicherung
+ * der Ergebnisse im JSON-Format: </p>
+ *
+ * <pre>
+ *  mvn -Pbenchmark-profile install -DskipTests
+ *  java -jar benchmarks/target/benchmarks.jar -rf json -rff results.json
+ * </pre>
+ *
+ * <p>Der Ordner &quot;benchmarks/results&quot; enth&auml;lt eingecheckte Basisergebnisse
+ * je Release, mit denen neue Messungen verglichen werden k&ouml;nnen. </p>
+ *
+ * <p><strong>Dieses Paket geh&ouml;rt zum &quot;benchmarks&quot;-Modul
+ * und wird nie ausgeliefert.</strong></p>
+ */
+package net.time4j.benchmark;
@@ -21,6 +21,7 @@
 
 package net.time4j;
 
+import net.time4j.base.GregorianMath;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.TimePoint;
 import net.time4j.engine.UnitRule;
@@ -596,11 +597,61 @@ public enum CalendarUnit
         @Override
         public long between(T start, T end) {
 
+            if ((start instanceof PlainDate) && (end instanceof PlainDate)) { // Optimierung
+                return between(this.unit, PlainDate.class.cast(start), PlainDate.class.cast(end));
+            }
+
             PlainDate d1 = start.get(PlainDate.CALENDAR_DATE);
             PlainDate d2 = end.get(PlainDate.CALENDAR_DATE);
+            long amount = between(this.unit, d1, d2);
+
+            if (
+                (amount != 0)
+                && start.contains(PlainTime.WALL_TIME)
+                && end.contains(PlainTime.WALL_TIME)
+            ) {
+                boolean needsTimeCorrection;
+
+                if (this.unit == DAYS) {
+                    needsTimeCorrection = true;
+                } else {
+                    needsTimeCorrection = isExactDistance(this.unit, d1, d2, amount);
+                }
+
+                if (needsTimeCorrection) {
+                    PlainTime t1 = start.get(PlainTime.WALL_TIME);
+                    PlainTime t2 = end.get(PlainTime.WALL_TIME);
+
+                    if ((amount > 0) && t1.isAfter(t2)) {
+                        amount--;
+                    } else if ((amount < 0) && t1.isBefore(t2)) {
+                        amount++;
+                    }
+                }
+            }
+
+            return amount;
+
+        }
+
+        /**
+         * <p>Bestimmt die Differenz zweier Datumsangaben in der angegebenen Einheit ohne
+         * Ber&uuml;cksichtigung einer Uhrzeit. </p>
+         *
+         * @param   unit    calendar unit
+         * @param   d1      starting date
+         * @param   d2      ending date
+         * @return  count of units (truncated)
+         */
+        static long between(
+            CalendarUnit unit,
+            PlainDate d1,
+            PlainDate d2
+        ) {
+
             long amount;
 
-            switch (this.unit) {
+            switch (unit) {
                 case MILLENNIA:
                     amount = monthDelta(d1, d2) / 12000;
                     break;
@@ -626,36 +677,65 @@ public enum CalendarUnit
                     amount = dayDelta(d1, d2);
                     break;
                 default:
-                    throw new UnsupportedOperationException(this.unit.name());
+                    throw new UnsupportedOperationException(unit.name());
             }
 
-            if (
-                (amount != 0)
-                && start.contains(PlainTime.WALL_TIME)
-                && end.contains(PlainTime.WALL_TIME)
-            ) {
-                boolean needsTimeCorrection;
+            return amount;
 
-                if (this.unit == DAYS) {
-                    needsTimeCorrection = true;
-                } else {
-                    PlainDate d = d1.plus(amount, this.unit);
-                    needsTimeCorrection = (d.compareByTime(d2) == 0);
-                }
+        }
 
-                if (needsTimeCorrection) {
-                    PlainTime t1 = start.get(PlainTime.WALL_TIME);
-                    PlainTime t2 = end.get(PlainTime.WALL_TIME);
+        /**
+         * <p>Entspricht {@code d1.plus(amount, unit).equals(d2)}, aber ohne Objekterzeugung. </p>
+         *
+         * @param   unit    calendar unit
+         * @param   d1      starting date
+         * @param   d2      ending date
+         * @param   amount  count of units between both dates as determined by {@code between()}
+         * @return  {@code true} if the distance is exactly given amount of units else {@code false}
+         */
+        static boolean isExactDistance(
+            CalendarUnit unit,
+            PlainDate d1,
+            PlainDate d2,
+            long amount
+        ) {
 
-                    if ((amount > 0) && t1.isAfter(t2)) {
-                        amount--;
-                    } else if ((amount < 0) && t1.isBefore(t2)) {
-                        amount++;
-                    }
-                }
+            long factor;
+
+            switch (unit) {
+                case MILLENNIA:
+                    factor = 12000;
+                    break;
+                case CENTURIES:
+                    factor = 1200;
+                    break;
+                case DECADES:
+                    factor = 120;
+                    break;
+                case YEARS:
+                    factor = 12;
+                    break;
+                case QUARTERS:
+                    factor = 3;
+                    break;
+                case MONTHS:
+                    factor = 1;
+                    break;
+                case WEEKS:
+                    return (dayDelta(d1, d2) == amount * 7);
+                case DAYS:
+                    return (dayDelta(d1, d2) == amount);
+                default:
+                    throw new UnsupportedOperationException(unit.name());
             }
 
-            return amount;
+            if (d2.getEpochMonths() - d1.getEpochMonths() != amount * factor) {
+                return false;
+            }
+
+            // Monatsende-Regel wie in PlainDate.doAdd() mit POLICY_PREVIOUS_VALID_DATE
+            int dom = Math.min(d1.getDayOfMonth(), GregorianMath.getLengthOfMonth(d2.getYear(), d2.getMonth()));
+            return (d2.getDayOfMonth() == dom);
 
         }
 
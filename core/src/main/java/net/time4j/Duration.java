@@ -1615,6 +1615,59 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    /**
+     * <p>Multiplies all partial amounts of this duration by given factor
+     * which can exceed the range of {@code int}. </p>
+     *
+     * <p>Otherwise this method behaves like {@link #multipliedBy(int)}. </p>
+     *
+     * @param   factor  multiplication factor
+     * @return  new duration with all amounts multiplied while this duration
+     *          remains unaffected
+     * @throws  ArithmeticException in case of long overflow
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Multipliziert alle enthaltenen Betr&auml;ge mit dem angegebenen
+     * Faktor, der den Wertebereich von {@code int} &uuml;berschreiten
+     * darf. </p>
+     *
+     * <p>Sonst verh&auml;lt sich diese Methode wie {@link #multipliedBy(int)}. </p>
+     *
+     * @param   factor  multiplication factor
+     * @return  new duration with all amounts multiplied while this duration
+     *          remains unaffected
+     * @throws  ArithmeticException in case of long overflow
+     * @since   4.18
+     */
+    public Duration<U> multipliedBy(long factor) {
+
+        if ((factor >= Integer.MIN_VALUE) && (factor <= Integer.MAX_VALUE)) {
+            return this.multipliedBy((int) factor);
+        } else if (this.isEmpty()) {
+            return this;
+        }
+
+        List<Item<U>> newItems = new ArrayList<>(this.count());
+        long scalar = ((factor < 0) ? MathUtils.safeNegate(factor) : factor);
+
+        for (int i = 0, n = this.count(); i < n; i++) {
+            Item<U> item = this.getTotalLength().get(i);
+            newItems.add(
+                Item.of(
+                    MathUtils.safeMultiply(item.getAmount(), scalar),
+                    item.getUnit()
+                )
+            );
+        }
+
+        return new Duration<>(
+            newItems,
+            ((factor < 0) ? !this.isNegative() : this.isNegative())
+        );
+
+    }
+
     /**
      * <p>Creates a duration as union of this instance and given timespan
      * where partial amounts of equal units will be summed up. </p>
@@ -0,0 +1,550 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EpochCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.UnixTime;
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+
+/**
+ * <p>Static conversions between primitive representations of global and local time
+ * which do not create any entities like {@code Moment} or {@code PlainTimestamp}. </p>
+ *
+ * <p>Supported representations are: </p>
+ *
+ * <ul>
+ *     <li>POSIX-seconds since [1970-01-01T00:00Z] without leap seconds, optionally
+ *     combined with a nanosecond fraction</li>
+ *     <li>epoch nanoseconds, that is POSIX-seconds multiplied by {@code 10^9} plus the
+ *     nanosecond fraction (covering the years 1678-2261)</li>
+ *     <li>local seconds since [1970-01-01T00:00] on the local timeline of any timezone
+ *     offset</li>
+ *     <li>packed local timestamps as decimal numbers in format {@code yyyyMMddHHmmss},
+ *     for example {@code 20160731174530L} for [2016-07-31T17:45:30]</li>
+ * </ul>
+ *
+ * <p>These methods are designed for aggregation kernels which only need numbers.
+ * Leap seconds are not supported. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Statische Umwandlungen zwischen primitiven Darstellungen der globalen und lokalen
+ * Zeit, die keine Entit&auml;ten wie {@code Moment} oder {@code PlainTimestamp}
+ * erzeugen. </p>
+ *
+ * <p>Unterst&uuml;tzte Darstellungen sind: </p>
+ *
+ * <ul>
+ *     <li>POSIX-Sekunden seit [1970-01-01T00:00Z] ohne Schaltsekunden, optional
+ *     kombiniert mit einem Nanosekundenbruchteil</li>
+ *     <li>Epochen-Nanosekunden, also POSIX-Sekunden multipliziert mit {@code 10^9}
+ *     plus Nanosekundenbruchteil (f&uuml;r die Jahre 1678-2261)</li>
+ *     <li>lokale Sekunden seit [1970-01-01T00:00] auf dem lokalen Zeitstrahl
+ *     einer beliebigen Zeitzonenverschiebung</li>
+ *     <li>gepackte lokale Zeitstempel als Dezimalzahlen im Format {@code yyyyMMddHHmmss},
+ *     zum Beispiel {@code 20160731174530L} f&uuml;r [2016-07-31T17:45:30]</li>
+ * </ul>
+ *
+ * <p>Diese Methoden sind f&uuml;r Aggregationsroutinen gedacht, die nur Zahlen
+ * brauchen. Schaltsekunden werden nicht unterst&uuml;tzt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+public final class EpochCodec {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final long MAX_OFFSET = 18 * 3600; // see ZonalOffset
+    private static final ThreadLocal<PosixTime> HOLDER = ThreadLocal.withInitial(PosixTime::new);
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EpochCodec() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Combines given POSIX-seconds and nanosecond fraction to epoch nanoseconds. </p>
+     *
+     * @param   posixTime       elapsed seconds since UNIX epoch without leap seconds
+     * @param   nanosecond      nanosecond fraction in range {@code 0-999999999}
+     * @return  nanoseconds since UNIX epoch
+     * @throws  IllegalArgumentException if the nanosecond is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Kombiniert die angegebenen POSIX-Sekunden und den Nanosekundenbruchteil
+     * zu Epochen-Nanosekunden. </p>
+     *
+     * @param   posixTime       elapsed seconds since UNIX epoch without leap seconds
+     * @param   nanosecond      nanosecond fraction in range {@code 0-999999999}
+     * @return  nanoseconds since UNIX epoch
+     * @throws  IllegalArgumentException if the nanosecond is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public static long toEpochNanos(
+        long posixTime,
+        int nanosecond
+    ) {
+
+        checkNanosecond(nanosecond);
+        return Math.addExact(Math.multiplyExact(posixTime, MRD), nanosecond);
+
+    }
+
+    /**
+     * <p>Extracts the POSIX-seconds from given epoch nanoseconds. </p>
+     *
+     * @param   epochNanos      nanoseconds since UNIX epoch
+     * @return  elapsed seconds since UNIX epoch without leap seconds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die POSIX-Sekunden aus den angegebenen Epochen-Nanosekunden. </p>
+     *
+     * @param   epochNanos      nanoseconds since UNIX epoch
+     * @return  elapsed seconds since UNIX epoch without leap seconds
+     */
+    public static long getPosixTime(long epochNanos) {
+
+        return Math.floorDiv(epochNanos, MRD);
+
+    }
+
+    /**
+     * <p>Extracts the nanosecond fraction from given epoch nanoseconds. </p>
+     *
+     * @param   epochNanos      nanoseconds since UNIX epoch
+     * @return  nanosecond fraction in range {@code 0-999999999}
+     */
+    /*[deutsch]
+     * <p>Ermittelt den Nanosekundenbruchteil aus den angegebenen Epochen-Nanosekunden. </p>
+     *
+     * @param   epochNanos      nanoseconds since UNIX epoch
+     * @return  nanosecond fraction in range {@code 0-999999999}
+     */
+    public static int getNanosecond(long epochNanos) {
+
+        return (int) Math.floorMod(epochNanos, MRD);
+
+    }
+
+    /**
+     * <p>Converts given POSIX-seconds to local seconds at given offset. </p>
+     *
+     * <p>A fractional part of the offset (only relevant for local mean times) is handled
+     * like in {@code Moment.toZonalTimestamp(offset)}, that is the local seconds
+     * are rounded down. </p>
+     *
+     * @param   posixTime       elapsed seconds since UNIX epoch without leap seconds
+     * @param   offset          timezone offset
+     * @return  local seconds since [1970-01-01T00:00]
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen POSIX-Sekunden zu lokalen Sekunden mit der angegebenen
+     * Verschiebung um. </p>
+     *
+     * <p>Ein Bruchteil der Verschiebung (nur f&uuml;r mittlere Ortszeiten relevant) wird wie in
+     * {@code Moment.toZonalTimestamp(offset)} behandelt, das hei&szlig;t, die lokalen
+     * Sekunden werden abgerundet. </p>
+     *
+     * @param   posixTime       elapsed seconds since UNIX epoch without leap seconds
+     * @param   offset          timezone offset
+     * @return  local seconds since [1970-01-01T00:00]
+     */
+    public static long toLocalSeconds(
+        long posixTime,
+        ZonalOffset offset
+    ) {
+
+        long localSeconds = posixTime + offset.getIntegralAmount();
+        return ((offset.getFractionalAmount() < 0) ? localSeconds - 1 : localSeconds);
+
+    }
+
+    /**
+     * <p>Converts given POSIX-seconds to local seconds in given timezone. </p>
+     *
+     * @param   posixTime       elapsed seconds since UNIX epoch without leap seconds
+     * @param   tz              timezone
+     * @return  local seconds since [1970-01-01T00:00]
+     * @see     Timezone#getOffset(UnixTime)
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen POSIX-Sekunden zu lokalen Sekunden in der angegebenen
+     * Zeitzone um. </p>
+     *
+     * @param   posixTime       elapsed seconds since UNIX epoch without leap seconds
+     * @param   tz              timezone
+     * @return  local seconds since [1970-01-01T00:00]
+     * @see     Timezone#getOffset(UnixTime)
+     */
+    public static long toLocalSeconds(
+        long posixTime,
+        Timezone tz
+    ) {
+
+        return toLocalSeconds(posixTime, getOffset(posixTime, tz));
+
+    }
+
+    /**
+     * <p>Converts given epoch nanoseconds to local nanoseconds since [1970-01-01T00:00]
+     * in given timezone. </p>
+     *
+     * @param   epochNanos      nanoseconds since UNIX epoch
+     * @param   tz              timezone
+     * @return  local nanoseconds since [1970-01-01T00:00]
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen Epochen-Nanosekunden zu lokalen Nanosekunden seit
+     * [1970-01-01T00:00] in der angegebenen Zeitzone um. </p>
+     *
+     * @param   epochNanos      nanoseconds since UNIX epoch
+     * @param   tz              timezone
+     * @return  local nanoseconds since [1970-01-01T00:00]
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public static long toLocalNanos(
+        long epochNanos,
+        Timezone tz
+    ) {
+
+        ZonalOffset offset = getOffset(Math.floorDiv(epochNanos, MRD), tz);
+        long shift = offset.getIntegralAmount() * (long) MRD + offset.getFractionalAmount();
+        return Math.addExact(epochNanos, shift);
+
+    }
+
+    /**
+     * <p>Converts given local seconds at given offset to POSIX-seconds. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @param   offset          timezone offset
+     * @return  elapsed seconds since UNIX epoch without leap seconds
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen lokalen Sekunden mit der angegebenen Verschiebung
+     * zu POSIX-Sekunden um. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @param   offset          timezone offset
+     * @return  elapsed seconds since UNIX epoch without leap seconds
+     */
+    public static long toPosixTime(
+        long localSeconds,
+        ZonalOffset offset
+    ) {
+
+        long posixTime = localSeconds - offset.getIntegralAmount();
+        return ((offset.getFractionalAmount() > 0) ? posixTime - 1 : posixTime);
+
+    }
+
+    /**
+     * <p>Converts given local seconds in given timezone to POSIX-seconds. </p>
+     *
+     * <p>Gaps and overlaps on the local timeline are resolved by the
+     * {@link Timezone#getStrategy() strategy} of given timezone, exactly as
+     * {@link PlainTimestamp#in(Timezone)} does. The standard strategy is evaluated
+     * without creating any entities. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @param   tz              timezone
+     * @return  elapsed seconds since UNIX epoch without leap seconds
+     * @throws  IllegalArgumentException if the strategy of given timezone rejects the local time
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen lokalen Sekunden in der angegebenen Zeitzone zu
+     * POSIX-Sekunden um. </p>
+     *
+     * <p>L&uuml;cken und &Uuml;berlappungen auf dem lokalen Zeitstrahl werden wie in
+     * {@link PlainTimestamp#in(Timezone)} durch die {@link Timezone#getStrategy() Strategie}
+     * der angegebenen Zeitzone aufgel&ouml;st. Die Standardstrategie wird ausgewertet, ohne
+     * Entit&auml;ten zu erzeugen. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @param   tz              timezone
+     * @return  elapsed seconds since UNIX epoch without leap seconds
+     * @throws  IllegalArgumentException if the strategy of given timezone rejects the local time
+     */
+    public static long toPosixTime(
+        long localSeconds,
+        Timezone tz
+    ) {
+
+        if (tz.isFixed()) {
+            return toPosixTime(localSeconds, getOffset(localSeconds, tz));
+        } else if (tz.getStrategy() == Timezone.DEFAULT_CONFLICT_STRATEGY) {
+            // Annahme: höchstens ein Übergang im Bereich aller möglichen Verschiebungen
+            ZonalOffset before = getOffset(localSeconds - MAX_OFFSET, tz);
+            ZonalOffset after = getOffset(localSeconds + MAX_OFFSET, tz);
+            long later = toPosixTime(localSeconds, after);
+
+            if (after.equals(getOffset(later, tz))) {
+                return later; // no transition or later offset in overlap
+            } else if (!before.equals(after)) {
+                long earlier = toPosixTime(localSeconds, before);
+
+                if (
+                    before.equals(getOffset(earlier, tz))
+                    || (after.getIntegralAmount() > before.getIntegralAmount())
+                ) {
+                    return earlier; // before transition or gap (push forward by the length of the gap)
+                }
+            }
+        }
+
+        return toTimestamp(localSeconds).in(tz).getPosixTime();
+
+    }
+
+    /**
+     * <p>Determines the date of given local seconds in the binary format of
+     * {@link GregorianMath#toPackedDate(long)}. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @return  packed date in binary format
+     * @see     GregorianMath#readYear(long)
+     * @see     GregorianMath#readMonth(long)
+     * @see     GregorianMath#readDayOfMonth(long)
+     */
+    /*[deutsch]
+     * <p>Ermittelt das Datum der angegebenen lokalen Sekunden im bin&auml;ren Format von
+     * {@link GregorianMath#toPackedDate(long)}. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @return  packed date in binary format
+     * @see     GregorianMath#readYear(long)
+     * @see     GregorianMath#readMonth(long)
+     * @see     GregorianMath#readDayOfMonth(long)
+     */
+    public static long toPackedDate(long localSeconds) {
+
+        long days = Math.floorDiv(localSeconds, 86400);
+        return GregorianMath.toPackedDate(EpochDays.MODIFIED_JULIAN_DATE.transform(days, EpochDays.UNIX));
+
+    }
+
+    /**
+     * <p>Determines the second of day of given local seconds. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @return  second of day in range {@code 0-86399}
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Sekunde des Tages der angegebenen lokalen Sekunden. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @return  second of day in range {@code 0-86399}
+     */
+    public static int getSecondOfDay(long localSeconds) {
+
+        return (int) Math.floorMod(localSeconds, 86400);
+
+    }
+
+    /**
+     * <p>Converts given local seconds to a decimal number in format {@code yyyyMMddHHmmss}. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @return  packed local timestamp, for example {@code 20160731174530L}
+     * @throws  IllegalArgumentException if the year is not in range {@code 0-9999}
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen lokalen Sekunden in eine Dezimalzahl im Format
+     * {@code yyyyMMddHHmmss} um. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00]
+     * @return  packed local timestamp, for example {@code 20160731174530L}
+     * @throws  IllegalArgumentException if the year is not in range {@code 0-9999}
+     */
+    public static long toPackedTimestamp(long localSeconds) {
+
+        long packedDate = toPackedDate(localSeconds);
+        int year = GregorianMath.readYear(packedDate);
+
+        if ((year < 0) || (year > 9999)) {
+            throw new IllegalArgumentException("Year out of range: " + year);
+        }
+
+        int secondOfDay = getSecondOfDay(localSeconds);
+        int hour = secondOfDay / 3600;
+        int minute = (secondOfDay / 60) % 60;
+        int second = secondOfDay % 60;
+
+        long date = year * 10000L + GregorianMath.readMonth(packedDate) * 100 + GregorianMath.readDayOfMonth(packedDate);
+        return date * 1000000L + hour * 10000 + minute * 100 + second;
+
+    }
+
+    /**
+     * <p>Converts given decimal number in format {@code yyyyMMddHHmmss} to local seconds. </p>
+     *
+     * @param   packedTimestamp     packed local timestamp, for example {@code 20160731174530L}
+     * @return  local seconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if any field is out of range
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebene Dezimalzahl im Format {@code yyyyMMddHHmmss} zu lokalen
+     * Sekunden um. </p>
+     *
+     * @param   packedTimestamp     packed local timestamp, for example {@code 20160731174530L}
+     * @return  local seconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if any field is out of range
+     */
+    public static long fromPackedTimestamp(long packedTimestamp) {
+
+        if ((packedTimestamp < 0) || (packedTimestamp > 99991231235959L)) {
+            throw new IllegalArgumentException("Packed timestamp out of range: " + packedTimestamp);
+        }
+
+        int time = (int) (packedTimestamp % 1000000);
+        int date = (int) (packedTimestamp / 1000000);
+
+        return toLocalSeconds(
+            date / 10000,
+            (date / 100) % 100,
+            date % 100,
+            time / 10000,
+            (time / 100) % 100,
+            time % 100);
+
+    }
+
+    /**
+     * <p>Converts given local fields to local seconds. </p>
+     *
+     * @param   year            proleptic iso year
+     * @param   month           gregorian month (1-12)
+     * @param   dayOfMonth      day of month (1-31)
+     * @param   hour            hour of day (0-23)
+     * @param   minute          minute of hour (0-59)
+     * @param   second          second of minute (0-59)
+     * @return  local seconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if any field is out of range
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen lokalen Felder zu lokalen Sekunden um. </p>
+     *
+     * @param   year            proleptic iso year
+     * @param   month           gregorian month (1-12)
+     * @param   dayOfMonth      day of month (1-31)
+     * @param   hour            hour of day (0-23)
+     * @param   minute          minute of hour (0-59)
+     * @param   second          second of minute (0-59)
+     * @return  local seconds since [1970-01-01T00:00]
+     * @throws  IllegalArgumentException if any field is out of range
+     */
+    public static long toLocalSeconds(
+        int year,
+        int month,
+        int dayOfMonth,
+        int hour,
+        int minute,
+        int second
+    ) {
+
+        if ((hour < 0) || (hour > 23) || (minute < 0) || (minute > 59) || (second < 0) || (second > 59)) {
+            throw new IllegalArgumentException(
+                "Time out of range: " + hour + ":" + minute + ":" + second);
+        }
+
+        long mjd = GregorianMath.toMJD(year, month, dayOfMonth);
+        long days = EpochDays.UNIX.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+        return days * 86400 + hour * 3600 + minute * 60 + second;
+
+    }
+
+    private static ZonalOffset getOffset(
+        long posixTime,
+        Timezone tz
+    ) {
+
+        PosixTime holder = HOLDER.get(); // kein Objekt je Abfrage
+        holder.posixTime = posixTime;
+        return tz.getOffset(holder);
+
+    }
+
+    private static PlainTimestamp toTimestamp(long localSeconds) {
+
+        int secondOfDay = getSecondOfDay(localSeconds);
+
+        return PlainTimestamp.of(
+            PlainDate.of(Math.floorDiv(localSeconds, 86400), EpochDays.UNIX),
+            PlainTime.of(secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60));
+
+    }
+
+    private static void checkNanosecond(int nanosecond) {
+
+        if ((nanosecond < 0) || (nanosecond >= MRD)) {
+            throw new IllegalArgumentException("Nanosecond out of range: " + nanosecond);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Ver&auml;nderlicher Zeitpunkt f&uuml;r Zeitzonenabfragen, der je Thread nur einmal
+     * angelegt und f&uuml;r alle Abfragen wiederverwendet wird. Die Zeitzone wertet ihn nur
+     * w&auml;hrend des Aufrufs von {@code getOffset()} aus und h&auml;lt keine Referenz. </p>
+     */
+    private static class PosixTime
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long posixTime;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posixTime;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+    }
+
+}
@@ -118,6 +118,11 @@ import java.util.Set;
  * <p>Furthermore, all elements of classes {@link Weekmodel}, {@link EpochDays} and
  * {@code ChronoHistory} are supported. </p>
  *
+ * <p>Applications which convert huge amounts of timestamps to dates can set the system property
+ * &quot;net.time4j.date.cache.range&quot; to a count of days. Then dates converted from
+ * moments or day numbers within this range around the current date at start of the
+ * application will be cached and shared. </p>
+ *
  * @author      Meno Hochschild
  * @doctags.concurrency {immutable}
  */
@@ -159,6 +164,11 @@ import java.util.Set;
  * <p>Dar&uuml;berhinaus sind alle Elemente der Klassen {@link Weekmodel}, {@link EpochDays}
  * und {@code ChronoHistory} nutzbar. </p>
  *
+ * <p>Anwendungen, die gro&szlig;e Mengen von Zeitstempeln in Datumsangaben umwandeln, k&ouml;nnen
+ * die System-Property &quot;net.time4j.date.cache.range&quot; auf eine Anzahl von Tagen setzen.
+ * Dann werden aus Momenten oder Tagesnummern erzeugte Datumsangaben in diesem Bereich um das
+ * aktuelle Datum beim Anwendungsstart zwischengespeichert und gemeinsam genutzt. </p>
+ *
  * @author      Meno Hochschild
  * @doctags.concurrency {immutable}
  */
@@ -642,6 +652,11 @@ public final class PlainDate
     private static final CalendarSystem<PlainDate> TRANSFORMER;
     private static final TimeAxis<IsoDateUnit, PlainDate> ENGINE;
 
+    // optionaler Cache von Datumsobjekten um das aktuelle Datum
+    private static final int MAX_CACHE_RANGE = 36525;
+    private static volatile DateCache dateCache =
+        DateCache.create(Integer.getInteger("net.time4j.date.cache.range", 0));
+
     static {
         Map<String, Object> constants = new HashMap<>();
         fill(constants, CALENDAR_DATE);
@@ -1553,16 +1568,60 @@ public final class PlainDate
             localSeconds++;
         }
 
-        long mjd =
-            EpochDays.MODIFIED_JULIAN_DATE.transform(
-                MathUtils.floorDivide(localSeconds, 86400),
-                EpochDays.UNIX);
+        return PlainDate.ofUTCDays(MathUtils.floorDivide(localSeconds, 86400) - 2 * 365);
+
+    }
+
+    /**
+     * <p>Liefert das Datum zu den angegebenen UTC-Tagen, eventuell aus dem Cache. </p>
+     *
+     * @param   utcDays     days since UTC epoch [1972-01-01]
+     * @return  new or cached calendar date
+     */
+    static PlainDate ofUTCDays(long utcDays) {
+
+        DateCache cache = dateCache;
+
+        if (cache != null) {
+            long index = utcDays - cache.start;
+
+            if ((index >= 0) && (index < cache.dates.length)) {
+                PlainDate date = cache.dates[(int) index];
+
+                if (date == null) { // harmloses Wettrennen, weil unveränderlich
+                    date = createFromUTCDays(utcDays);
+                    cache.dates[(int) index] = date;
+                }
+
+                return date;
+            }
+        }
+
+        return createFromUTCDays(utcDays);
+
+    }
+
+    /**
+     * <p>Ersetzt den Datums-Cache (Testunterst&uuml;tzung). </p>
+     *
+     * @param   range   count of days around the current date ({@code 0} switches the cache off)
+     */
+    static void setCacheRange(int range) {
+
+        dateCache = DateCache.create(range);
+
+    }
+
+    private static PlainDate createFromUTCDays(long utcDays) {
+
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(utcDays, EpochDays.UTC);
         long packedDate = GregorianMath.toPackedDate(mjd);
 
         return PlainDate.of(
             GregorianMath.readYear(packedDate),
             GregorianMath.readMonth(packedDate),
-            GregorianMath.readDayOfMonth(packedDate)
+            GregorianMath.readDayOfMonth(packedDate),
+            false
         );
 
     }
@@ -2151,6 +2210,46 @@ public final class PlainDate
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Datumsobjekte um das aktuelle Datum (Index = UTC-Tage - start). </p>
+     */
+    private static class DateCache {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long start;
+        private final PlainDate[] dates;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private DateCache(
+            long start,
+            int size
+        ) {
+            super();
+
+            this.start = start;
+            this.dates = new PlainDate[size];
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static DateCache create(int range) {
+
+            int r = Math.min(range, MAX_CACHE_RANGE);
+
+            if (r <= 0) {
+                return null;
+            }
+
+            long today = Math.floorDiv(System.currentTimeMillis(), 86400000L) - 2 * 365; // UTC-Tage
+            return new DateCache(today - r, 2 * r + 1);
+
+        }
+
+    }
+
     private static class Merger
         implements ChronoMerger<PlainDate> {
 
@@ -2532,17 +2631,7 @@ public final class PlainDate
                 return PlainDate.MAX;
             }
 
-            long mjd =
-                EpochDays.MODIFIED_JULIAN_DATE.transform(
-                    utcDays,
-                    EpochDays.UTC);
-            long packedDate = GregorianMath.toPackedDate(mjd);
-
-            return PlainDate.of(
-                GregorianMath.readYear(packedDate),
-                GregorianMath.readMonth(packedDate),
-                GregorianMath.readDayOfMonth(packedDate)
-            );
+            return PlainDate.ofUTCDays(utcDays);
 
         }
 
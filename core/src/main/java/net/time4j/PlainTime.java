@@ -1918,7 +1918,12 @@ public final class PlainTime
 
     }
 
-    private long getNanoOfDay() {
+    /**
+     * <p>Liefert die Nanosekunde des Tages. </p>
+     *
+     * @return  nano of day in range {@code 0-86400_000_000_000}
+     */
+    long getNanoOfDay() {
 
         return (
             this.nano
@@ -1929,6 +1934,17 @@ public final class PlainTime
 
     }
 
+    /**
+     * <p>Liefert die Sekunde des Tages. </p>
+     *
+     * @return  second of day in range {@code 0-86400}
+     */
+    int getSecondOfDay() {
+
+        return this.second + this.minute * 60 + this.hour * 3600;
+
+    }
+
     private boolean isFullHour() {
 
         return ((this.minute | this.second | this.nano) == 0);
@@ -1790,7 +1790,7 @@ public final class PlainTimestamp
             long delta;
 
             if (this.calendarUnit != null) {
-                delta = this.calendarUnit.between(start.date, end.date);
+                delta = CalendarUnit.Rule.between(this.calendarUnit, start.date, end.date);
 
                 if (delta != 0) {
                 	boolean needsTimeCorrection;
@@ -1798,8 +1798,8 @@ public final class PlainTimestamp
                 	if (this.calendarUnit == DAYS) {
                 		needsTimeCorrection = true;
                 	} else {
-                		PlainDate d = start.date.plus(delta, this.calendarUnit);
-                		needsTimeCorrection = (d.compareByTime(end.date) == 0);
+                		needsTimeCorrection =
+                		    CalendarUnit.Rule.isExactDistance(this.calendarUnit, start.date, end.date, delta);
                 	}
 
                 	if (needsTimeCorrection) {
@@ -1816,7 +1816,7 @@ public final class PlainTimestamp
             } else if (start.date.isAfter(end.date)) {
                 delta = -between(end, start);
             } else {
-                long days = start.date.until(end.date, DAYS);
+                long days = CalendarUnit.Rule.between(DAYS, start.date, end.date);
 
                 if (days == 0) {
                     return this.clockUnit.between(start.time, end.time);
@@ -1826,8 +1826,8 @@ public final class PlainTimestamp
                         MathUtils.safeAdd(
                             MathUtils.safeMultiply(days, 86400),
                             MathUtils.safeSubtract(
-                                end.time.get(SECOND_OF_DAY).longValue(),
-                                start.time.get(SECOND_OF_DAY).longValue()
+                                end.time.getSecondOfDay(),
+                                start.time.getSecondOfDay()
                             )
                         );
                     if (start.time.getNanosecond() > end.time.getNanosecond()) {
@@ -1839,8 +1839,8 @@ public final class PlainTimestamp
                         MathUtils.safeAdd(
                             MathUtils.safeMultiply(days, 86400L * MRD),
                             MathUtils.safeSubtract(
-                                end.time.get(NANO_OF_DAY).longValue(),
-                                start.time.get(NANO_OF_DAY).longValue()
+                                end.time.getNanoOfDay(),
+                                start.time.getNanoOfDay()
                             )
                         );
                 }
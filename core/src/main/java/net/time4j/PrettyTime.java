@@ -21,6 +21,7 @@
 
 package net.time4j;
 
+import net.time4j.base.BoundedCache;
 import net.time4j.base.MathUtils;
 import net.time4j.base.ResourceLoader;
 import net.time4j.base.TimeSource;
@@ -32,9 +33,14 @@ import net.time4j.format.PluralCategory;
 import net.time4j.format.PluralRules;
 import net.time4j.format.TemporalFormatter;
 import net.time4j.format.TextWidth;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.TransitionStrategy;
 import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
 
 import java.text.MessageFormat;
 import java.time.Instant;
@@ -47,8 +53,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import static net.time4j.CalendarUnit.*;
@@ -107,7 +111,7 @@ public final class PrettyTime {
 
     private static final int MIO = 1000000;
 
-    private static final ConcurrentMap<Locale, PrettyTime> LANGUAGE_MAP = new ConcurrentHashMap<>();
+    private static final BoundedCache<Locale, PrettyTime> LANGUAGE_MAP = BoundedCache.create("prettytime", 150);
     private static final IsoUnit[] STD_UNITS;
     private static final IsoUnit[] TSP_UNITS;
     private static final Set<IsoUnit> SUPPORTED_UNITS;
@@ -199,11 +203,7 @@ public final class PrettyTime {
                     SECONDS,
                     false,
                     false);
-            PrettyTime old = LANGUAGE_MAP.putIfAbsent(locale, ptime);
-
-            if (old != null) {
-                ptime = old;
-            }
+            ptime = LANGUAGE_MAP.putIfAbsent(locale, ptime);
         }
 
         return ptime;
@@ -1331,6 +1331,68 @@ public final class PrettyTime {
 
     }
 
+    /**
+     * <p>Creates a renderer which formats many time points relative to the current time of
+     * {@link #getReferenceClock()} in one pass. </p>
+     *
+     * <p>The reference clock is only queried once so all time points will be compared with
+     * the same snapshot. The renderer caches the formatted output of relative time in hours,
+     * minutes or seconds per amount and direction (past or future). Time points which are
+     * at least one day away are printed by the standard algorithm. The output is always equal
+     * to {@link #printRelative(UnixTime, Timezone, TimeUnit) printRelative(moment, tz, precision)}
+     * if the reference clock had yielded the snapshot. Example: </p>
+     *
+     * <pre>
+     *      PrettyTime.RelativeRenderer renderer =
+     *          PrettyTime.of(Locale.ENGLISH).relativeRenderer(Timezone.ofSystem(), TimeUnit.MINUTES);
+     *      String[] output = renderer.printAll(moments); // like &quot;5 minutes ago&quot;
+     * </pre>
+     *
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @return  new renderer based on a snapshot of the reference clock
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein Objekt, das viele Zeitpunkte in einem Durchgang relativ zur aktuellen Zeit
+     * der Referenzuhr {@link #getReferenceClock()} formatiert. </p>
+     *
+     * <p>Die Referenzuhr wird nur einmal abgefragt, so da&szlig; alle Zeitpunkte mit der gleichen
+     * Momentaufnahme verglichen werden. Die formatierten Ausgaben in Stunden, Minuten oder
+     * Sekunden werden je Betrag und Richtung (Vergangenheit oder Zukunft) zwischengespeichert.
+     * Zeitpunkte, die mindestens einen Tag entfernt sind, werden mit dem Standardalgorithmus
+     * ausgegeben. Die Ausgabe gleicht immer der von
+     * {@link #printRelative(UnixTime, Timezone, TimeUnit) printRelative(moment, tz, precision)},
+     * wenn die Referenzuhr die Momentaufnahme geliefert h&auml;tte. Beispiel: </p>
+     *
+     * <pre>
+     *      PrettyTime.RelativeRenderer renderer =
+     *          PrettyTime.of(Locale.GERMAN).relativeRenderer(Timezone.ofSystem(), TimeUnit.MINUTES);
+     *      String[] output = renderer.printAll(moments); // wie &quot;vor 5 Minuten&quot;
+     * </pre>
+     *
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @return  new renderer based on a snapshot of the reference clock
+     * @see     #printRelative(UnixTime, Timezone, TimeUnit)
+     * @since   4.18
+     */
+    public RelativeRenderer relativeRenderer(
+        Timezone tz,
+        TimeUnit precision
+    ) {
+
+        if (tz == null) {
+            throw new NullPointerException("Missing timezone.");
+        } else if (precision == null) {
+            throw new NullPointerException("Missing precision.");
+        }
+
+        return new RelativeRenderer(this, Moment.from(this.getReferenceClock().currentTime()), tz, precision);
+
+    }
+
     private String printRelativeSeconds(
         Moment t1,
         Moment t2,
@@ -1699,4 +1761,328 @@ public final class PrettyTime {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Formats many time points relative to a fixed snapshot of the reference clock. </p>
+     *
+     * @author  Meno Hochschild
+     * @since   4.18
+     * @see     PrettyTime#relativeRenderer(Timezone, TimeUnit)
+     * @doctags.concurrency {threadsafe}
+     */
+    /*[deutsch]
+     * <p>Formatiert viele Zeitpunkte relativ zu einer festen Momentaufnahme der Referenzuhr. </p>
+     *
+     * @author  Meno Hochschild
+     * @since   4.18
+     * @see     PrettyTime#relativeRenderer(Timezone, TimeUnit)
+     * @doctags.concurrency {threadsafe}
+     */
+    public static final class RelativeRenderer {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int UNIT_HOURS = 0;
+        private static final int UNIT_MINUTES = 1;
+        private static final int UNIT_SECONDS = 2;
+        private static final int BUCKET_SIZE = 60;
+
+        // maximale Länge einer Überlappung (alle Offset-Differenzen sind kleiner)
+        private static final long MAX_OVERLAP = 2 * 86400L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final PrettyTime pt;
+        private final Moment ref;
+        private final Timezone tz;
+        private final TimeUnit precision;
+        private final long refPosix;
+        private final int refNano;
+        private final long stableStart;
+        private final long stableEnd;
+        private final String emptyString;
+        private final String[] past; // gefüllt bei Bedarf, ein Datenrennen ist harmlos
+        private final String[] future;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private RelativeRenderer(
+            PrettyTime pt,
+            Moment ref,
+            Timezone tz,
+            TimeUnit precision
+        ) {
+            super();
+
+            this.pt = pt;
+            this.ref = ref;
+            this.tz = tz;
+            this.precision = precision;
+            this.refPosix = ref.getPosixTime();
+            this.refNano = ref.getNanosecond();
+            this.emptyString = pt.getEmptyRelativeString(precision);
+            this.past = new String[3 * BUCKET_SIZE];
+            this.future = new String[3 * BUCKET_SIZE];
+
+            // Intervall ohne Übergang, in dem sich die lokale Dauer aus der Differenz der Sekunden ergibt
+            long start = Long.MAX_VALUE;
+            long end = Long.MIN_VALUE;
+            TransitionStrategy strategy = tz.getStrategy();
+
+            if (
+                (strategy == Timezone.DEFAULT_CONFLICT_STRATEGY)
+                || (strategy == Timezone.STRICT_MODE)
+            ) {
+                TransitionHistory history = tz.getHistory();
+
+                if (history == null) {
+                    if (tz.isFixed()) {
+                        start = Long.MIN_VALUE;
+                        end = Long.MAX_VALUE;
+                    }
+                } else {
+                    ZonalTransition previous = history.findStartTransition(ref);
+                    ZonalTransition next = history.findNextTransition(ref);
+                    start = ((previous == null) ? Long.MIN_VALUE : previous.getPosixTime());
+                    end = ((next == null) ? Long.MAX_VALUE : next.getPosixTime() - MAX_OVERLAP);
+                }
+            }
+
+            if ((this.refPosix < start) || (this.refPosix > end) || ref.isLeapSecond()) {
+                start = Long.MAX_VALUE;
+                end = Long.MIN_VALUE;
+            }
+
+            this.stableStart = start;
+            this.stableEnd = end;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the snapshot of the reference clock. </p>
+         *
+         * @return  reference time
+         */
+        /*[deutsch]
+         * <p>Liefert die Momentaufnahme der Referenzuhr. </p>
+         *
+         * @return  reference time
+         */
+        public Moment getReference() {
+
+            return this.ref;
+
+        }
+
+        /**
+         * <p>Formats given time point relative to the snapshot of the reference clock. </p>
+         *
+         * @param   moment      relative time point
+         * @return  formatted output of relative time, either in past or in future
+         */
+        /*[deutsch]
+         * <p>Formatiert den angegebenen Zeitpunkt relativ zur Momentaufnahme der Referenzuhr. </p>
+         *
+         * @param   moment      relative time point
+         * @return  formatted output of relative time, either in past or in future
+         */
+        public String print(UnixTime moment) {
+
+            if ((moment instanceof Moment) && Moment.class.cast(moment).isLeapSecond()) {
+                return this.printSlow(Moment.class.cast(moment));
+            }
+
+            String s = this.printFast(moment.getPosixTime(), moment.getNanosecond());
+            return ((s == null) ? this.printSlow(Moment.from(moment)) : s);
+
+        }
+
+        /**
+         * <p>Formats all given time points relative to the snapshot of the reference clock. </p>
+         *
+         * @param   moments     relative time points
+         * @return  array of formatted output in same order
+         */
+        /*[deutsch]
+         * <p>Formatiert alle angegebenen Zeitpunkte relativ zur Momentaufnahme der Referenzuhr. </p>
+         *
+         * @param   moments     relative time points
+         * @return  array of formatted output in same order
+         */
+        public String[] printAll(UnixTime[] moments) {
+
+            String[] output = new String[moments.length];
+
+            for (int i = 0; i < moments.length; i++) {
+                output[i] = this.print(moments[i]);
+            }
+
+            return output;
+
+        }
+
+        /**
+         * <p>Formats all given posix times relative to the snapshot of the reference clock. </p>
+         *
+         * @param   posixTimes  relative time points as elapsed seconds since UNIX epoch (without leap seconds)
+         * @return  array of formatted output in same order
+         */
+        /*[deutsch]
+         * <p>Formatiert alle angegebenen POSIX-Zeiten relativ zur Momentaufnahme der Referenzuhr. </p>
+         *
+         * @param   posixTimes  relative time points as elapsed seconds since UNIX epoch (without leap seconds)
+         * @return  array of formatted output in same order
+         */
+        public String[] printAll(long[] posixTimes) {
+
+            String[] output = new String[posixTimes.length];
+
+            for (int i = 0; i < posixTimes.length; i++) {
+                String s = this.printFast(posixTimes[i], 0);
+
+                if (s == null) {
+                    s = this.printSlow(Moment.of(posixTimes[i], TimeScale.POSIX));
+                }
+
+                output[i] = s;
+            }
+
+            return output;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "RelativeRenderer[locale=" + this.pt.getLocale()
+                + ",reference=" + this.ref
+                + ",tz=" + this.tz.getID().canonical()
+                + ",precision=" + this.precision
+                + "]";
+
+        }
+
+        // null, wenn der Standardalgorithmus nötig ist
+        private String printFast(
+            long posix,
+            int nano
+        ) {
+
+            if ((posix < this.stableStart) || (posix > this.stableEnd)) {
+                return null;
+            }
+
+            // wie Moment.until(Moment, TimeUnit.SECONDS)
+            long delta = posix - this.refPosix;
+
+            if (delta < 0) {
+                if (nano > this.refNano) {
+                    delta++;
+                }
+            } else if (delta > 0) {
+                if (nano < this.refNano) {
+                    delta--;
+                }
+            }
+
+            long amount = Math.abs(delta);
+
+            if (amount >= 86400L) {
+                return null;
+            } else if (amount < 60L) {
+                if (this.precision.compareTo(TimeUnit.SECONDS) > 0) {
+                    return this.emptyString;
+                } else if (this.hasLeapSecondBetween(posix)) {
+                    return null;
+                } else if (delta == 0) {
+                    return UnitPatterns.of(this.pt.locale).getNowWord();
+                }
+                return this.lookup(UNIT_SECONDS, delta);
+            } else if (amount < 3600L) {
+                if (this.precision.compareTo(TimeUnit.MINUTES) > 0) {
+                    return this.emptyString;
+                }
+                return this.lookup(UNIT_MINUTES, delta / 60);
+            } else if (this.precision.compareTo(TimeUnit.HOURS) > 0) {
+                return this.emptyString;
+            }
+
+            return this.lookup(UNIT_HOURS, delta / 3600);
+
+        }
+
+        private String printSlow(Moment moment) {
+
+            long delta = this.ref.until(moment, TimeUnit.SECONDS);
+
+            if (
+                (this.precision.compareTo(TimeUnit.SECONDS) <= 0)
+                && (Math.abs(delta) < 60L)
+            ) {
+                return this.pt.printRelativeSeconds(this.ref, moment, delta);
+            }
+
+            return this.pt.printRelativeTime(this.ref, moment, this.tz, this.precision, null, null);
+
+        }
+
+        private boolean hasLeapSecondBetween(long posix) {
+
+            LeapSeconds ls = LeapSeconds.getInstance();
+
+            if (
+                !ls.isEnabled()
+                || (posix < START_1972)
+                || (this.refPosix < START_1972)
+            ) {
+                return false;
+            }
+
+            return (ls.enhance(posix) - ls.enhance(this.refPosix) != posix - this.refPosix);
+
+        }
+
+        private String lookup(
+            int unitIndex,
+            long signedAmount
+        ) {
+
+            String[] bucket = ((signedAmount < 0) ? this.past : this.future);
+            long amount = Math.abs(signedAmount);
+            int index = unitIndex * BUCKET_SIZE + (int) amount;
+            String s = bucket[index];
+
+            if (s == null) {
+                String pattern;
+
+                if (unitIndex == UNIT_HOURS) {
+                    pattern = (
+                        (signedAmount < 0)
+                        ? this.pt.getPastPattern(amount, ClockUnit.HOURS)
+                        : this.pt.getFuturePattern(amount, ClockUnit.HOURS));
+                } else if (unitIndex == UNIT_MINUTES) {
+                    pattern = (
+                        (signedAmount < 0)
+                        ? this.pt.getPastPattern(amount, ClockUnit.MINUTES)
+                        : this.pt.getFuturePattern(amount, ClockUnit.MINUTES));
+                } else {
+                    pattern = (
+                        (signedAmount < 0)
+                        ? this.pt.getPastPattern(amount, ClockUnit.SECONDS)
+                        : this.pt.getFuturePattern(amount, ClockUnit.SECONDS));
+                }
+
+                s = this.pt.format(pattern, amount);
+                bucket[index] = s;
+            }
+
+            return s;
+
+        }
+
+    }
+
 }
@@ -31,6 +31,7 @@ import net.time4j.tz.Timezone;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.concurrent.locks.LockSupport;
 
 
 /**
@@ -53,6 +54,16 @@ public final class SystemClock
     private static final int MIO = 1000000;
     private static final int MRD = MIO * 1000;
 
+    private static final int STD_MODE = 0;
+    private static final int MONOTONIC_MODE = 1;
+    private static final int PRECISE_MODE = 2;
+    private static final int COARSE_MODE = 3;
+
+    // kleinstes Aktualisierungsintervall einer groben Uhr in Mikrosekunden
+    private static final long MIN_COARSE_INTERVAL = 1000;
+
+    private static volatile SystemClock coarseClock = null;
+
     private static final TickProvider PROVIDER;
     private static final boolean MONOTON_MODE;
 
@@ -92,7 +103,7 @@ public final class SystemClock
      * f&uuml;r Zeitspr&uuml;nge und manuelle Verstellungen der Betriebssystem-Uhr empfindlich ist, so
      * da&szlig; keine Garantie f&uuml;r eine monoton ablaufende Zeit gegeben werden kann. </p>
      */
-    public static final SystemClock INSTANCE = new SystemClock(false, calibrate());
+    public static final SystemClock INSTANCE = new SystemClock(STD_MODE, calibrate(), null);
 
     /**
      * <p>Monotonic clock based on the best available clock of the underlying operating system. </p>
@@ -118,23 +129,50 @@ public final class SystemClock
      * @see     TickProvider#getNanos()
      * @since   3.2/4.1
      */
-    public static final SystemClock MONOTONIC = new SystemClock(true, calibrate());
+    public static final SystemClock MONOTONIC = new SystemClock(MONOTONIC_MODE, calibrate(), null);
+
+    /**
+     * <p>Non-monotonic clock which uses the full resolution of the OS clock as exposed by
+     * {@link Clock#systemUTC()}. </p>
+     *
+     * <p>In contrast to {@link #INSTANCE}, the moments of this clock can carry fractions of
+     * milliseconds (up to nanoseconds) if the platform supports it (Java 9 or later on most
+     * operating systems). This clock is neither affected by the system property
+     * &quot;net.time4j.systemclock.nanoTime&quot; nor by any calibration. </p>
+     *
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Nicht-monotone Uhr, die die volle Aufl&ouml;sung der Betriebssystem-Uhr nutzt, wie sie
+     * von {@link Clock#systemUTC()} bereitgestellt wird. </p>
+     *
+     * <p>Im Unterschied zu {@link #INSTANCE} k&ouml;nnen die Zeitpunkte dieser Uhr Bruchteile von
+     * Millisekunden (bis hin zu Nanosekunden) enthalten, wenn die Plattform das unterst&uuml;tzt
+     * (Java 9 oder sp&auml;ter auf den meisten Betriebssystemen). Diese Uhr wird weder von der
+     * System-Property &quot;net.time4j.systemclock.nanoTime&quot; noch von einer Eichung beeinflusst. </p>
+     *
+     * @since   4.18
+     */
+    public static final SystemClock PRECISE = new SystemClock(PRECISE_MODE, 0, null);
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private final boolean monotonic;
+    private final int mode;
     private final long offset;
+    private final Ticker ticker;
 
     //~ Konstruktoren -----------------------------------------------------
 
     private SystemClock(
-        boolean monotonic,
-        long offset
+        int mode,
+        long offset,
+        Ticker ticker
     ) {
         super();
 
-        this.monotonic = monotonic;
+        this.mode = (((mode == STD_MODE) && MONOTON_MODE) ? MONOTONIC_MODE : mode);
         this.offset = offset;
+        this.ticker = ticker;
 
     }
 
@@ -143,17 +181,83 @@ public final class SystemClock
     @Override
     public Moment currentTime() {
 
-        if (this.monotonic || MONOTON_MODE) {
-            long nanos = this.utcNanos();
-            return Moment.of(Math.floorDiv(nanos, MRD), (int) Math.floorMod(nanos, MRD), TimeScale.UTC);
-        } else {
-            long millis = System.currentTimeMillis();
-            int nanos = ((int) Math.floorMod(millis, 1000)) * MIO;
-            return Moment.of(Math.floorDiv(millis, 1000), nanos, TimeScale.POSIX);
+        switch (this.mode) {
+            case MONOTONIC_MODE:
+                long nanos = this.utcNanos();
+                return Moment.of(Math.floorDiv(nanos, MRD), (int) Math.floorMod(nanos, MRD), TimeScale.UTC);
+            case PRECISE_MODE:
+                Instant instant = Clock.systemUTC().instant();
+                return Moment.of(instant.getEpochSecond(), instant.getNano(), TimeScale.POSIX);
+            case COARSE_MODE:
+                return this.ticker.current;
+            default:
+                long millis = System.currentTimeMillis();
+                int fraction = ((int) Math.floorMod(millis, 1000)) * MIO;
+                return Moment.of(Math.floorDiv(millis, 1000), fraction, TimeScale.POSIX);
         }
 
     }
 
+    /**
+     * <p>Yields a coarse clock whose time is only updated by a background thread in given
+     * interval. </p>
+     *
+     * <p>Reading the current time of the returned clock is just a volatile read without any
+     * system call or object allocation so it is well suited for hot code paths where a
+     * precision of the update interval is good enough. The background thread is a single
+     * daemon thread which is started on first demand and samples {@link #PRECISE}. All
+     * callers share the same coarse clock which is updated in the finest interval requested
+     * so far. Intervals smaller than one millisecond are rounded up to one millisecond. </p>
+     *
+     * @param   intervalInMicros    update interval in microseconds
+     * @return  shared coarse clock
+     * @throws  IllegalArgumentException if given interval is not positive
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert eine grobe Uhr, deren Zeit nur von einem Hintergrund-Thread im angegebenen
+     * Intervall aktualisiert wird. </p>
+     *
+     * <p>Das Lesen der aktuellen Zeit der gelieferten Uhr ist nur ein volatile-Lesezugriff ohne
+     * Systemaufruf oder Objekterzeugung, daher eignet sie sich f&uuml;r zeitkritischen Code,
+     * in dem eine Genauigkeit in der Gr&ouml;&szlig;enordnung des Aktualisierungsintervalls
+     * ausreicht. Der Hintergrund-Thread ist ein einziger D&auml;mon-Thread, der bei erstem
+     * Bedarf gestartet wird und {@link #PRECISE} abfragt. Alle Aufrufer teilen sich dieselbe
+     * grobe Uhr, die im feinsten bisher angeforderten Intervall aktualisiert wird. Intervalle
+     * kleiner als eine Millisekunde werden auf eine Millisekunde aufgerundet. </p>
+     *
+     * @param   intervalInMicros    update interval in microseconds
+     * @return  shared coarse clock
+     * @throws  IllegalArgumentException if given interval is not positive
+     * @since   4.18
+     */
+    public static SystemClock coarse(long intervalInMicros) {
+
+        if (intervalInMicros <= 0) {
+            throw new IllegalArgumentException("Update interval must be positive: " + intervalInMicros);
+        }
+
+        long intervalInNanos = Math.multiplyExact(Math.max(intervalInMicros, MIN_COARSE_INTERVAL), 1000);
+        SystemClock clock = coarseClock;
+
+        if (clock == null) {
+            synchronized (SystemClock.class) {
+                clock = coarseClock;
+                if (clock == null) {
+                    Ticker ticker = new Ticker(intervalInNanos);
+                    clock = new SystemClock(COARSE_MODE, 0, ticker);
+                    ticker.start();
+                    coarseClock = clock;
+                    return clock;
+                }
+            }
+        }
+
+        clock.ticker.refine(intervalInNanos);
+        return clock;
+
+    }
+
     /**
      * <p>Yields the current time in milliseconds elapsed since
      * [1970-01-01T00:00:00,000Z]. </p>
@@ -170,12 +274,17 @@ public final class SystemClock
      */
     public long currentTimeInMillis() {
 
-        if (this.monotonic || MONOTON_MODE) {
-            long nanos = this.utcNanos();
-            long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MIO);
-        } else {
-            return System.currentTimeMillis();
+        switch (this.mode) {
+            case MONOTONIC_MODE:
+                long nanos = this.utcNanos();
+                long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
+                return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MIO);
+            case PRECISE_MODE:
+            case COARSE_MODE:
+                Moment moment = this.currentTime();
+                return Math.multiplyExact(moment.getPosixTime(), 1000) + moment.getNanosecond() / MIO;
+            default:
+                return System.currentTimeMillis();
         }
 
     }
@@ -210,12 +319,17 @@ public final class SystemClock
      */
     public long currentTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
-            long nanos = this.utcNanos();
-            long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, 1000);
-        } else {
-            return Math.multiplyExact(System.currentTimeMillis(), 1000);
+        switch (this.mode) {
+            case MONOTONIC_MODE:
+                long nanos = this.utcNanos();
+                long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
+                return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, 1000);
+            case PRECISE_MODE:
+            case COARSE_MODE:
+                Moment moment = this.currentTime();
+                return Math.multiplyExact(moment.getPosixTime(), MIO) + moment.getNanosecond() / 1000;
+            default:
+                return Math.multiplyExact(System.currentTimeMillis(), 1000);
         }
 
     }
@@ -238,12 +352,18 @@ public final class SystemClock
      */
     public long realTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
-            return Math.floorDiv(this.utcNanos(), 1000);
-        } else {
-            long millis = System.currentTimeMillis();
-            long utc = LeapSeconds.getInstance().enhance(Math.floorDiv(millis, 1000));
-            return Math.multiplyExact(utc, MIO) + Math.floorMod(millis, 1000) * 1000;
+        switch (this.mode) {
+            case MONOTONIC_MODE:
+                return Math.floorDiv(this.utcNanos(), 1000);
+            case PRECISE_MODE:
+            case COARSE_MODE:
+                Moment moment = this.currentTime();
+                long elapsed = LeapSeconds.getInstance().enhance(moment.getPosixTime());
+                return Math.multiplyExact(elapsed, MIO) + moment.getNanosecond() / 1000;
+            default:
+                long millis = System.currentTimeMillis();
+                long utc = LeapSeconds.getInstance().enhance(Math.floorDiv(millis, 1000));
+                return Math.multiplyExact(utc, MIO) + Math.floorMod(millis, 1000) * 1000;
         }
 
     }
@@ -407,7 +527,7 @@ public final class SystemClock
      */
     public SystemClock recalibrated() {
 
-        return new SystemClock(this.monotonic, calibrate());
+        return new SystemClock(this.mode, calibrate(), this.ticker);
 
     }
 
@@ -444,7 +564,7 @@ public final class SystemClock
         long instantNanos = Math.multiplyExact(utc, MRD) + time.getNanosecond(TimeScale.UTC);
         long newOffset = Math.subtractExact(instantNanos, compare);
 
-        return new SystemClock(this.monotonic, newOffset);
+        return new SystemClock(this.mode, newOffset, this.ticker);
 
     }
 
@@ -493,4 +613,67 @@ public final class SystemClock
 
     }
 
+    /**
+     * <p>Aktualisiert in einem D&auml;mon-Thread periodisch einen volatilen Zeitpunkt. </p>
+     */
+    private static class Ticker
+        implements Runnable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private volatile long intervalInNanos;
+        private volatile Moment current;
+        private Thread thread; // guarded by this
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Ticker(long intervalInNanos) {
+            super();
+
+            this.intervalInNanos = intervalInNanos;
+            this.current = PRECISE.currentTime();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void run() {
+
+            while (true) {
+                LockSupport.parkNanos(this.intervalInNanos);
+                this.current = PRECISE.currentTime();
+            }
+
+        }
+
+        synchronized void start() {
+
+            this.thread = new Thread(this, "Time4J-Ticker");
+            this.thread.setDaemon(true);
+            this.thread.start();
+
+        }
+
+        /**
+         * <p>Verk&uuml;rzt bei Bedarf das Aktualisierungsintervall. </p>
+         *
+         * @param   intervalInNanos     requested update interval
+         */
+        void refine(long intervalInNanos) {
+
+            if (intervalInNanos < this.intervalInNanos) {
+                synchronized (this) {
+                    if (intervalInNanos < this.intervalInNanos) {
+                        this.intervalInNanos = intervalInNanos;
+                        this.current = PRECISE.currentTime();
+                        LockSupport.unpark(this.thread); // beendet ein langes Warten sofort
+                    }
+                }
+            }
+
+        }
+
+    }
+
 }
@@ -21,6 +21,7 @@
 
 package net.time4j;
 
+import net.time4j.base.BoundedCache;
 import net.time4j.base.ResourceLoader;
 import net.time4j.format.PluralCategory;
 import net.time4j.format.RelativeTimeProvider;
@@ -33,8 +34,6 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -52,7 +51,7 @@ final class UnitPatterns {
     private static final int MIN_LIST_INDEX = 2;
     private static final int MAX_LIST_INDEX = 7;
 
-    private static final ConcurrentMap<Locale, UnitPatterns> CACHE = new ConcurrentHashMap<>();
+    private static final BoundedCache<Locale, UnitPatterns> CACHE = BoundedCache.create("unitpatterns", 150);
 
     private static final IsoUnit[] UNIT_IDS = {
         CalendarUnit.YEARS,
@@ -221,17 +220,7 @@ final class UnitPatterns {
             throw new NullPointerException("Missing language.");
         }
 
-        UnitPatterns p = CACHE.get(lang);
-
-        if (p == null) {
-            p = new UnitPatterns(lang);
-            UnitPatterns old = CACHE.putIfAbsent(lang, p);
-            if (old != null) {
-                p = old;
-            }
-        }
-
-        return p;
+        return CACHE.computeIfAbsent(lang, UnitPatterns::new);
 
     }
 
@@ -21,6 +21,7 @@
 
 package net.time4j;
 
+import net.time4j.base.BoundedCache;
 import net.time4j.base.GregorianDate;
 import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
@@ -53,9 +54,7 @@ import java.util.Collections;
 import java.util.GregorianCalendar;
 import java.util.HashSet;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static net.time4j.PlainDate.CALENDAR_DATE;
 import static net.time4j.PlainDate.WEEKDAY_IN_MONTH;
@@ -107,7 +106,7 @@ public final class Weekmodel
     private static final int BOUNDED_WEEK_OF_YEAR = 2;
     private static final int BOUNDED_WEEK_OF_MONTH = 3;
 
-    private static final Map<Locale, Weekmodel> CACHE = new ConcurrentHashMap<>();
+    private static final BoundedCache<Locale, Weekmodel> CACHE = BoundedCache.create("weekmodel", 150);
 
     /**
      * <p>Standard week rules as defined by ISO-8601. </p>
@@ -400,12 +399,7 @@ public final class Weekmodel
                 Weekday.valueOf(p.getEndOfWeekend(locale))
             );
 
-        if (CACHE.size() > 150) {
-            CACHE.clear(); // Größenbegrenzung
-        }
-
-        CACHE.put(locale, model);
-        return model;
+        return CACHE.putIfAbsent(locale, model);
 
     }
 
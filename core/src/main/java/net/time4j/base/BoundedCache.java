@@ -0,0 +1,553 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BoundedCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.base;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * <p>Size-bounded concurrent cache which is shared by all internal caches of Time4J for
+ * locale-dependent resources like week models, text resources or timezone names. </p>
+ *
+ * <p>Lookups of cached values never lock. Inserting a new value only synchronizes on the
+ * cache instance for the eviction step. If the cache exceeds its capacity then entries
+ * will be removed according to the second-chance-algorithm (approximated LRU), so there
+ * is no sudden cliff where the whole cache is cleared. The capacity of any cache can be
+ * configured by the system property &quot;net.time4j.cache.{name}.capacity&quot; or
+ * at runtime by {@link #setCapacity(int)}. </p>
+ *
+ * @param   <K> type of keys
+ * @param   <V> type of cached values
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Gr&ouml;&szlig;enbegrenzter nebenl&auml;ufiger Cache, der von allen internen Caches von Time4J
+ * f&uuml;r sprachabh&auml;ngige Ressourcen wie Wochenmodelle, Textressourcen oder Zeitzonennamen
+ * gemeinsam genutzt wird. </p>
+ *
+ * <p>Das Suchen von gespeicherten Werten sperrt nie. Das Einf&uuml;gen eines neuen Werts
+ * synchronisiert nur f&uuml;r das Entfernen von Eintr&auml;gen auf der Cache-Instanz. Wenn der Cache
+ * seine Kapazit&auml;t &uuml;berschreitet, werden Eintr&auml;ge gem&auml;&szlig; dem
+ * Second-Chance-Algorithmus (gen&auml;hertes LRU) entfernt, so da&szlig; der Cache nie schlagartig
+ * vollst&auml;ndig geleert wird. Die Kapazit&auml;t eines Cache kann mit der System-Property
+ * &quot;net.time4j.cache.{name}.capacity&quot; oder zur Laufzeit mit {@link #setCapacity(int)}
+ * konfiguriert werden. </p>
+ *
+ * @param   <K> type of keys
+ * @param   <V> type of cached values
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+public final class BoundedCache<K, V> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final List<BoundedCache<?, ?>> REGISTRY = new CopyOnWriteArrayList<>();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String name;
+    private final ConcurrentMap<K, Node<K, V>> map;
+    private final Deque<Node<K, V>> ring; // guarded by this
+    private volatile int capacity;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BoundedCache(
+        String name,
+        int capacity
+    ) {
+        super();
+
+        this.name = name;
+        this.map = new ConcurrentHashMap<>();
+        this.ring = new ArrayDeque<>();
+        this.capacity = capacity;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates and registers a new cache. </p>
+     *
+     * @param   <K> type of keys
+     * @param   <V> type of cached values
+     * @param   name                unique name of cache used for configuration and monitoring
+     * @param   defaultCapacity     maximum count of entries if not configured otherwise
+     * @return  new cache
+     * @throws  IllegalArgumentException if the capacity is negative
+     * @see     #getRegisteredCaches()
+     */
+    /*[deutsch]
+     * <p>Erzeugt und registriert einen neuen Cache. </p>
+     *
+     * @param   <K> type of keys
+     * @param   <V> type of cached values
+     * @param   name                unique name of cache used for configuration and monitoring
+     * @param   defaultCapacity     maximum count of entries if not configured otherwise
+     * @return  new cache
+     * @throws  IllegalArgumentException if the capacity is negative
+     * @see     #getRegisteredCaches()
+     */
+    public static <K, V> BoundedCache<K, V> create(
+        String name,
+        int defaultCapacity
+    ) {
+
+        int capacity = Integer.getInteger("net.time4j.cache." + name + ".capacity", defaultCapacity);
+        checkCapacity(capacity);
+        BoundedCache<K, V> cache = new BoundedCache<>(name, capacity);
+        REGISTRY.add(cache);
+        return cache;
+
+    }
+
+    /**
+     * <p>Creates a new cache which is not registered. </p>
+     *
+     * <p>Meant for caches with their own life cycle which are replaced at runtime,
+     * for example the timezone cache with a bounded policy. The capacity is not
+     * configurable by a system property. </p>
+     *
+     * @param   <K> type of keys
+     * @param   <V> type of cached values
+     * @param   name        name of cache
+     * @param   capacity    maximum count of entries
+     * @return  new cache
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Cache, der nicht registriert wird. </p>
+     *
+     * <p>F&uuml;r Caches mit eigenem Lebenszyklus, die zur Laufzeit ersetzt werden,
+     * zum Beispiel der Zeitzonen-Cache mit einer begrenzten Strategie. Die Kapazit&auml;t
+     * ist nicht per System-Property konfigurierbar. </p>
+     *
+     * @param   <K> type of keys
+     * @param   <V> type of cached values
+     * @param   name        name of cache
+     * @param   capacity    maximum count of entries
+     * @return  new cache
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    public static <K, V> BoundedCache<K, V> createUnregistered(
+        String name,
+        int capacity
+    ) {
+
+        checkCapacity(capacity);
+        return new BoundedCache<>(name, capacity);
+
+    }
+
+    /**
+     * <p>Yields all caches created so far, for example for monitoring purposes. </p>
+     *
+     * @return  unmodifiable list of caches in order of creation
+     */
+    /*[deutsch]
+     * <p>Liefert alle bisher erzeugten Caches, zum Beispiel f&uuml;r &Uuml;berwachungszwecke. </p>
+     *
+     * @return  unmodifiable list of caches in order of creation
+     */
+    public static List<BoundedCache<?, ?>> getRegisteredCaches() {
+
+        return Collections.unmodifiableList(REGISTRY);
+
+    }
+
+    /**
+     * <p>Looks up a cached value. </p>
+     *
+     * @param   key     lookup key
+     * @return  cached value or {@code null}
+     */
+    /*[deutsch]
+     * <p>Sucht einen gespeicherten Wert. </p>
+     *
+     * @param   key     lookup key
+     * @return  cached value or {@code null}
+     */
+    public V get(K key) {
+
+        Node<K, V> node = this.map.get(key);
+
+        if (node == null) {
+            this.misses.increment();
+            return null;
+        }
+
+        this.hits.increment();
+        return node.touch();
+
+    }
+
+    /**
+     * <p>Looks up a cached value and loads it by given function if absent. </p>
+     *
+     * <p>The loader runs outside of any lock so a slow load never blocks lookups of other
+     * keys, and the loader may even access this cache again. Threads which miss the same key
+     * at the same time might load it concurrently, but only the first stored value will be
+     * cached and returned to all of them. If the loader returns {@code null} then nothing
+     * will be cached. </p>
+     *
+     * @param   key     lookup key
+     * @param   loader  function for loading missing values
+     * @return  cached or loaded value
+     */
+    /*[deutsch]
+     * <p>Sucht einen gespeicherten Wert und l&auml;dt ihn mit Hilfe der angegebenen Funktion,
+     * wenn er fehlt. </p>
+     *
+     * <p>Die Ladefunktion l&auml;uft au&szlig;erhalb jeder Sperre, so da&szlig; ein langsames
+     * Laden nie die Suche nach anderen Schl&uuml;sseln blockiert, und sie darf sogar wieder auf
+     * diesen Cache zugreifen. Threads, die den gleichen Schl&uuml;ssel gleichzeitig nicht finden,
+     * laden ihn eventuell parallel, aber nur der zuerst gespeicherte Wert wird im Cache gehalten
+     * und an alle zur&uuml;ckgegeben. Liefert die Ladefunktion {@code null}, wird nichts
+     * gespeichert. </p>
+     *
+     * @param   key     lookup key
+     * @param   loader  function for loading missing values
+     * @return  cached or loaded value
+     */
+    public V computeIfAbsent(
+        K key,
+        Function<? super K, ? extends V> loader
+    ) {
+
+        Node<K, V> node = this.map.get(key);
+
+        if (node != null) {
+            this.hits.increment();
+            return node.touch();
+        }
+
+        this.misses.increment();
+        V value = loader.apply(key); // außerhalb der Map, die sonst ihre Bin-Sperre hält
+
+        if (value == null) {
+            return null;
+        }
+
+        return this.putIfAbsent(key, value);
+
+    }
+
+    /**
+     * <p>Stores given value unless there is already a cached value for given key. </p>
+     *
+     * @param   key     lookup key
+     * @param   value   value to be cached
+     * @return  the value which is finally cached (maybe stored by another thread)
+     */
+    /*[deutsch]
+     * <p>Speichert den angegebenen Wert, wenn zum Schl&uuml;ssel noch kein Wert vorhanden ist. </p>
+     *
+     * @param   key     lookup key
+     * @param   value   value to be cached
+     * @return  the value which is finally cached (maybe stored by another thread)
+     */
+    public V putIfAbsent(
+        K key,
+        V value
+    ) {
+
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> old = this.map.putIfAbsent(key, node);
+
+        if (old != null) {
+            return old.value;
+        }
+
+        this.loads.increment();
+        this.append(node);
+        return value;
+
+    }
+
+    /**
+     * <p>Removes all entries. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Eintr&auml;ge. </p>
+     */
+    public synchronized void clear() {
+
+        this.map.clear();
+        this.ring.clear();
+
+    }
+
+    /**
+     * <p>Yields the name of this cache. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert den Namen dieses Cache. </p>
+     *
+     * @return  String
+     */
+    public String getName() {
+
+        return this.name;
+
+    }
+
+    /**
+     * <p>Yields the maximum count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale Anzahl von Eintr&auml;gen. </p>
+     *
+     * @return  int
+     */
+    public int getCapacity() {
+
+        return this.capacity;
+
+    }
+
+    /**
+     * <p>Changes the maximum count of entries and removes superfluous entries immediately. </p>
+     *
+     * @param   capacity    new maximum count of entries ({@code 0} switches caching off)
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    /*[deutsch]
+     * <p>&Auml;ndert die maximale Anzahl von Eintr&auml;gen und entfernt &uuml;berz&auml;hlige
+     * Eintr&auml;ge sofort. </p>
+     *
+     * @param   capacity    new maximum count of entries ({@code 0} switches caching off)
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    public synchronized void setCapacity(int capacity) {
+
+        checkCapacity(capacity);
+        this.capacity = capacity;
+        this.evict();
+
+    }
+
+    /**
+     * <p>Yields the current count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.map.size();
+
+    }
+
+    /**
+     * <p>Yields the count of lookups which found a cached value. </p>
+     *
+     * @return  count of cache hits
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Suchvorg&auml;nge, die einen gespeicherten Wert gefunden haben. </p>
+     *
+     * @return  count of cache hits
+     */
+    public long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    /**
+     * <p>Yields the count of lookups which did not find a cached value. </p>
+     *
+     * @return  count of cache misses
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Suchvorg&auml;nge, die keinen gespeicherten Wert gefunden haben. </p>
+     *
+     * @return  count of cache misses
+     */
+    public long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    /**
+     * <p>Yields the count of stored values. </p>
+     *
+     * @return  count of loaded values
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der gespeicherten Werte. </p>
+     *
+     * @return  count of loaded values
+     */
+    public long getLoadCount() {
+
+        return this.loads.sum();
+
+    }
+
+    /**
+     * <p>Yields the count of entries removed due to the capacity limit. </p>
+     *
+     * @return  count of evictions
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der wegen der Kapazit&auml;tsgrenze entfernten Eintr&auml;ge. </p>
+     *
+     * @return  count of evictions
+     */
+    public long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    /**
+     * <p>Yields the ratio of hits to all lookups. </p>
+     *
+     * @return  hit rate in range {@code 0.0-1.0} ({@code 1.0} if there was no lookup yet)
+     */
+    /*[deutsch]
+     * <p>Liefert das Verh&auml;ltnis der Treffer zu allen Suchvorg&auml;ngen. </p>
+     *
+     * @return  hit rate in range {@code 0.0-1.0} ({@code 1.0} if there was no lookup yet)
+     */
+    public double getHitRate() {
+
+        long h = this.hits.sum();
+        long total = h + this.misses.sum();
+        return ((total == 0) ? 1.0 : ((double) h) / total);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "BoundedCache[name=" + this.name
+            + ",size=" + this.size()
+            + ",capacity=" + this.capacity
+            + ",hits=" + this.getHitCount()
+            + ",misses=" + this.getMissCount()
+            + ",loads=" + this.getLoadCount()
+            + ",evictions=" + this.getEvictionCount()
+            + "]";
+
+    }
+
+    private synchronized void append(Node<K, V> node) {
+
+        this.ring.addLast(node);
+        this.evict();
+
+    }
+
+    // guarded by this
+    private void evict() {
+
+        while (this.map.size() > this.capacity) {
+            Node<K, V> candidate = this.ring.pollFirst();
+
+            if (candidate == null) {
+                break; // eingefügt, aber noch nicht im Ring
+            } else if (candidate.used) {
+                candidate.used = false;
+                this.ring.addLast(candidate);
+            } else if (this.map.remove(candidate.key, candidate)) {
+                this.evictions.increment();
+            }
+        }
+
+    }
+
+    private static void checkCapacity(int capacity) {
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + capacity);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Node<K, V> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final K key;
+        private final V value;
+        private volatile boolean used;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Node(
+            K key,
+            V value
+        ) {
+            super();
+
+            this.key = key;
+            this.value = value;
+            this.used = false;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        V touch() {
+
+            if (!this.used) {
+                this.used = true; // vermeidet unnötige Schreibzugriffe auf gemeinsame Cache-Zeilen
+            }
+
+            return this.value;
+
+        }
+
+    }
+
+}
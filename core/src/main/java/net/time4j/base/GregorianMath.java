@@ -56,6 +56,45 @@ public final class GregorianMath {
     // Tage zwischen [0000-03-01] und [1970-01-01] minus MJD-Epoche
     private static final int OFFSET = 719468 - 40587;
 
+    // Tabelle der Jahresanfänge (MJD) für schnelle Umrechnungen im häufig genutzten Jahresbereich
+    private static final int TABLE_MIN_YEAR;
+    private static final long[] YEAR_STARTS;
+    private static final byte[][] MONTH_OF_DAY = new byte[2][366];
+    private static final byte[][] DAY_OF_DAY = new byte[2][366];
+    private static final int[][] DAYS_BEFORE_MONTH = new int[2][13];
+
+    static {
+        int min = Integer.getInteger("net.time4j.base.year.table.min", 1900);
+        int max = Integer.getInteger("net.time4j.base.year.table.max", 2200);
+
+        if ((min < 1) || (max > 9999) || (min > max)) { // deaktiviert
+            min = 1;
+            max = 0;
+        }
+
+        long[] starts = new long[max - min + 2];
+
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = toMJD(min + i, 1, 1);
+        }
+
+        for (int leap = 0; leap < 2; leap++) {
+            int doy = 0;
+            for (int m = 1; m <= 12; m++) {
+                DAYS_BEFORE_MONTH[leap][m] = doy;
+                int len = ((m == 2) ? 28 + leap : getLengthOfMonth(1970, m));
+                for (int d = 1; d <= len; d++) {
+                    MONTH_OF_DAY[leap][doy] = (byte) m;
+                    DAY_OF_DAY[leap][doy] = (byte) d;
+                    doy++;
+                }
+            }
+        }
+
+        TABLE_MIN_YEAR = min;
+        YEAR_STARTS = starts;
+    }
+
     //~ Konstruktoren -----------------------------------------------------
 
     private GregorianMath() {
@@ -375,16 +414,33 @@ public final class GregorianMath {
      */
     public static long toPackedDate(long mjd) {
 
+        long[] starts = YEAR_STARTS;
+        int n = ((starts == null) ? 0 : starts.length - 1); // null während der Klasseninitialisierung
+
+        if ((n > 0) && (mjd >= starts[0]) && (mjd < starts[n])) {
+            int i = (int) (((mjd - starts[0]) * 400) / 146097); // Schätzung, höchstens um eins daneben
+
+            if (i >= n) {
+                i = n - 1;
+            }
+
+            if (starts[i] > mjd) {
+                i--;
+            } else if (starts[i + 1] <= mjd) {
+                i++;
+            }
+
+            int doy = (int) (mjd - starts[i]);
+            int leap = ((starts[i + 1] - starts[i] == 366) ? 1 : 0);
+            return (((long) (TABLE_MIN_YEAR + i)) << 32) | (MONTH_OF_DAY[leap][doy] << 16) | DAY_OF_DAY[leap][doy];
+        }
+
         long y;
         int m;
         int d;
 
         long days = Math.addExact(mjd, OFFSET);
 
-        // TODO: Optimierung der Performance im Jahresbereich 1901-2099
-        //       mit vereinfachtem Schaltjahresalgorithmus
-        // if (days >= year1901 && days < year2100) { ... }
-
         long q400 = Math.floorDiv(days, 146097);
         int r400 = (int) Math.floorMod(days, 146097);
 
@@ -470,7 +526,6 @@ public final class GregorianMath {
      * @return  days since [1858-11-17] (modified julian date)
      * @throws  IllegalArgumentException if any argument is out of range
      */
-    // TODO: Optimierung der Performance mit Jahres-Array im Bereich 1901-2099
     public static long toMJD(
         int year,
         int month,
@@ -479,6 +534,14 @@ public final class GregorianMath {
 
         checkDate(year, month, dayOfMonth);
 
+        long[] starts = YEAR_STARTS;
+        int index = year - TABLE_MIN_YEAR;
+
+        if ((starts != null) && (index >= 0) && (index < starts.length - 1)) {
+            int leap = (isLeapYear(year) ? 1 : 0);
+            return starts[index] + DAYS_BEFORE_MONTH[leap][month] + dayOfMonth - 1;
+        }
+
         long y = year;
         int m = month;
 
@@ -0,0 +1,257 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (Instrumentation.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.base;
+
+
+/**
+ * <p>Central registration point for an optional {@link InstrumentationListener}. </p>
+ *
+ * <p>Instrumentation is disabled by default. As long as no listener is installed, the instrumented
+ * code paths only read one volatile field and neither measure time nor construct any keys. Example
+ * for logging slow timezone loads: </p>
+ *
+ * <pre>
+ *  Instrumentation.setListener(
+ *      (operation, key, nanos, outcome) -&gt; {
+ *          if (nanos &gt; 1_000_000L) {
+ *              System.out.println(operation + &quot;: &quot; + key + &quot; (&quot; + outcome + &quot;) &quot; + nanos + &quot;ns&quot;);
+ *          }
+ *      }
+ *  );
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Zentrale Registrierungsstelle f&uuml;r einen optionalen {@link InstrumentationListener}. </p>
+ *
+ * <p>Die Instrumentierung ist standardm&auml;&szlig;ig ausgeschaltet. Solange kein Beobachter
+ * installiert ist, lesen die instrumentierten Abl&auml;ufe nur ein volatiles Feld und messen weder
+ * Zeit noch konstruieren sie irgendwelche Schl&uuml;ssel. Beispiel f&uuml;r die Protokollierung
+ * von langsamen Zeitzonenladevorg&auml;ngen: </p>
+ *
+ * <pre>
+ *  Instrumentation.setListener(
+ *      (operation, key, nanos, outcome) -&gt; {
+ *          if (nanos &gt; 1_000_000L) {
+ *              System.out.println(operation + &quot;: &quot; + key + &quot; (&quot; + outcome + &quot;) &quot; + nanos + &quot;ns&quot;);
+ *          }
+ *      }
+ *  );
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+public final class Instrumentation {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static volatile InstrumentationListener listener = null;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private Instrumentation() {
+        // keine Instanzierung
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the installed listener. </p>
+     *
+     * <p>Instrumented code paths call this method once at the beginning and only measure
+     * time if the result is not {@code null}. </p>
+     *
+     * @return  current listener or {@code null} if instrumentation is disabled
+     */
+    /*[deutsch]
+     * <p>Liefert den installierten Beobachter. </p>
+     *
+     * <p>Instrumentierte Abl&auml;ufe rufen diese Methode einmal zu Beginn auf und messen nur dann
+     * Zeit, wenn das Ergebnis nicht {@code null} ist. </p>
+     *
+     * @return  current listener or {@code null} if instrumentation is disabled
+     */
+    public static InstrumentationListener getListener() {
+
+        return listener;
+
+    }
+
+    /**
+     * <p>Installs given listener and replaces any previous one. </p>
+     *
+     * @param   newListener     new listener or {@code null} in order to disable instrumentation
+     */
+    /*[deutsch]
+     * <p>Installiert den angegebenen Beobachter und ersetzt einen eventuell vorhandenen. </p>
+     *
+     * @param   newListener     new listener or {@code null} in order to disable instrumentation
+     */
+    public static void setListener(InstrumentationListener newListener) {
+
+        listener = newListener;
+
+    }
+
+    /**
+     * <p>Queries if any listener is installed. </p>
+     *
+     * @return  {@code true} if instrumentation is enabled else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob ein Beobachter installiert ist. </p>
+     *
+     * @return  {@code true} if instrumentation is enabled else {@code false}
+     */
+    public static boolean isEnabled() {
+
+        return (listener != null);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Kind of instrumented operation. </p>
+     */
+    /*[deutsch]
+     * <p>Art der instrumentierten Operation. </p>
+     */
+    public enum Operation {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        /**
+         * <p>Lookup of a timezone by its identifier including the loading by a zone model provider. </p>
+         *
+         * <p>The key is the canonical timezone identifier. </p>
+         */
+        /*[deutsch]
+         * <p>Suche einer Zeitzone zu ihrer Kennung einschlie&szlig;lich des Ladens durch einen
+         * Zeitzonenmodell-Provider. </p>
+         *
+         * <p>Der Schl&uuml;ssel ist die kanonische Zeitzonenkennung. </p>
+         */
+        ZONE_LOADING,
+
+        /**
+         * <p>Loading of an i18n-resource bundle. </p>
+         *
+         * <p>The key is the name of the property resource. </p>
+         */
+        /*[deutsch]
+         * <p>Laden einer i18n-Ressource. </p>
+         *
+         * <p>Der Schl&uuml;ssel ist der Name der Property-Ressource. </p>
+         */
+        RESOURCE_LOADING,
+
+        /**
+         * <p>Lookup or construction of calendar texts. </p>
+         *
+         * <p>The key consists of calendar type and locale, for example &quot;iso8601:de&quot;. </p>
+         */
+        /*[deutsch]
+         * <p>Suche oder Konstruktion von Kalendertexten. </p>
+         *
+         * <p>Der Schl&uuml;ssel besteht aus Kalendertyp und Sprache, zum Beispiel &quot;iso8601:de&quot;. </p>
+         */
+        CALENDAR_TEXT,
+
+        /**
+         * <p>Build of a format object. </p>
+         *
+         * <p>The key consists of the chronological type and the locale, for example
+         * &quot;net.time4j.PlainDate:de_DE&quot;. The elapsed time covers the final build step
+         * and the compilation of all format patterns added to the builder while a listener was
+         * installed, but not any time spent by the caller between these steps. </p>
+         */
+        /*[deutsch]
+         * <p>Erzeugung eines Formatobjekts. </p>
+         *
+         * <p>Der Schl&uuml;ssel besteht aus dem chronologischen Typ und der Sprache, zum Beispiel
+         * &quot;net.time4j.PlainDate:de_DE&quot;. Die verstrichene Zeit umfa&szlig;t den
+         * abschlie&szlig;enden Build-Schritt und die &Uuml;bersetzung aller Formatmuster, die dem
+         * Builder bei installiertem Listener hinzugef&uuml;gt wurden, aber keine Zeit, die der
+         * Aufrufer zwischen diesen Schritten verbringt. </p>
+         */
+        FORMATTER_BUILD
+
+    }
+
+    /**
+     * <p>Outcome of a cache lookup. </p>
+     */
+    /*[deutsch]
+     * <p>Ergebnis einer Cache-Suche. </p>
+     */
+    public enum CacheOutcome {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        /**
+         * <p>The result was found in the cache. </p>
+         */
+        /*[deutsch]
+         * <p>Das Ergebnis wurde im Cache gefunden. </p>
+         */
+        HIT,
+
+        /**
+         * <p>The result was not found in the cache and had to be loaded or constructed. </p>
+         */
+        /*[deutsch]
+         * <p>Das Ergebnis wurde nicht im Cache gefunden und mu&szlig;te geladen oder konstruiert
+         * werden. </p>
+         */
+        MISS,
+
+        /**
+         * <p>No result could be found or loaded, for example because of an unknown
+         * identifier. </p>
+         *
+         * @since   4.18
+         */
+        /*[deutsch]
+         * <p>Es konnte kein Ergebnis gefunden oder geladen werden, zum Beispiel wegen einer
+         * unbekannten ID. </p>
+         *
+         * @since   4.18
+         */
+        NOT_FOUND,
+
+        /**
+         * <p>The operation does not use any cache. </p>
+         */
+        /*[deutsch]
+         * <p>Die Operation benutzt keinen Cache. </p>
+         */
+        NOT_CACHED
+
+    }
+
+}
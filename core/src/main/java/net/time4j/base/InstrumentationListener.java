@@ -0,0 +1,81 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (InstrumentationListener.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.base;
+
+
+/**
+ * <p>Callback for the instrumentation of slow paths inside Time4J. </p>
+ *
+ * <p>A listener can be installed by {@link Instrumentation#setListener(InstrumentationListener)}.
+ * It will then be informed about the loading of timezones, the loading of i18n-resource bundles,
+ * the construction of calendar texts and the build of format objects. A typical implementation
+ * forwards the events to a profiler, a metrics registry or to custom Java-Flight-Recorder-events. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     Instrumentation
+ * @doctags.spec    All implementations must be thread-safe, fast and must not throw any exception.
+ */
+/*[deutsch]
+ * <p>R&uuml;ckruf f&uuml;r die Instrumentierung von langsamen Abl&auml;ufen innerhalb von Time4J. </p>
+ *
+ * <p>Ein Beobachter kann mit {@link Instrumentation#setListener(InstrumentationListener)} installiert
+ * werden. Er wird dann &uuml;ber das Laden von Zeitzonen, das Laden von i18n-Ressourcen, die
+ * Konstruktion von Kalendertexten und die Erzeugung von Formatobjekten informiert. Eine typische
+ * Implementierung leitet die Ereignisse an einen Profiler, ein Metrik-Register oder an eigene
+ * Java-Flight-Recorder-Ereignisse weiter. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     Instrumentation
+ * @doctags.spec    All implementations must be thread-safe, fast and must not throw any exception.
+ */
+public interface InstrumentationListener {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Is called after an instrumented operation has been completed. </p>
+     *
+     * @param   operation   kind of operation
+     * @param   key         key of the loaded or constructed object (timezone id, resource name,
+     *                      calendar type and locale or chronology type and locale)
+     * @param   nanos       elapsed time in nanoseconds
+     * @param   outcome     outcome of the cache lookup
+     */
+    /*[deutsch]
+     * <p>Wird nach Abschlu&szlig; einer instrumentierten Operation aufgerufen. </p>
+     *
+     * @param   operation   kind of operation
+     * @param   key         key of the loaded or constructed object (timezone id, resource name,
+     *                      calendar type and locale or chronology type and locale)
+     * @param   nanos       elapsed time in nanoseconds
+     * @param   outcome     outcome of the cache lookup
+     */
+    void completed(
+        Instrumentation.Operation operation,
+        String key,
+        long nanos,
+        Instrumentation.CacheOutcome outcome
+    );
+
+}
@@ -226,6 +226,23 @@ public abstract class AbstractMetric<U extends ChronoUnit, P extends AbstractDur
             negative = true;
         }
 
+        if (this.sortedUnits.size() == 1) { // Optimierung: direkte Berechnung ohne Schleife und Normalisierung
+            U single = this.sortedUnits.get(0);
+            long delta = t1.until(t2, single);
+            List<TimeSpan.Item<U>> items = new ArrayList<>(1);
+
+            if (delta > 0) {
+                items.add(this.resolve(TimeSpan.Item.of(delta, single)));
+            } else if (delta < 0) {
+                throw new IllegalStateException(
+                    "Implementation error: "
+                    + "Cannot compute timespan "
+                    + "due to illegal negative timespan amounts.");
+            }
+
+            return this.createTimeSpan(items, negative);
+        }
+
         List<TimeSpan.Item<U>> resultList = new ArrayList<>(10);
         TimeAxis<? super U, T> engine = start.getChronology();
         U unit = null;
@@ -21,6 +21,9 @@
 
 package net.time4j.format;
 
+import net.time4j.base.BoundedCache;
+import net.time4j.base.Instrumentation;
+import net.time4j.base.InstrumentationListener;
 import net.time4j.base.ResourceLoader;
 import net.time4j.engine.CalendarEra;
 import net.time4j.engine.ChronoElement;
@@ -49,8 +52,6 @@ import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -206,7 +207,7 @@ public final class CalendarText {
     private static final TextProvider JDK_PROVIDER = new JDKTextProvider();
     private static final TextProvider ROOT_PROVIDER = new FallbackProvider();
 
-    private static final ConcurrentMap<String, CalendarText> CACHE = new ConcurrentHashMap<>();
+    private static final BoundedCache<String, CalendarText> CACHE = BoundedCache.create("calendartext", 150);
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -411,6 +412,9 @@ public final class CalendarText {
             throw new NullPointerException("Missing calendar type.");
         }
 
+        InstrumentationListener listener = Instrumentation.getListener();
+        long t0 = ((listener == null) ? 0L : System.nanoTime());
+
         StringBuilder sb = new StringBuilder();
         sb.append(calendarType);
         sb.append(':');
@@ -423,6 +427,7 @@ public final class CalendarText {
         String key = sb.toString();
 
         CalendarText instance = CACHE.get(key);
+        boolean hit = (instance != null);
 
         if (instance == null) {
             TextProvider p = null;
@@ -458,12 +463,15 @@ public final class CalendarText {
                 }
             }
 
-            instance = new CalendarText(calendarType, locale, p);
-            CalendarText old = CACHE.putIfAbsent(key, instance);
+            instance = CACHE.putIfAbsent(key, new CalendarText(calendarType, locale, p));
+        }
 
-            if (old != null) {
-                instance = old;
-            }
+        if (listener != null) {
+            listener.completed(
+                Instrumentation.Operation.CALENDAR_TEXT,
+                key,
+                System.nanoTime() - t0,
+                (hit ? Instrumentation.CacheOutcome.HIT : Instrumentation.CacheOutcome.MISS));
         }
 
         return instance;
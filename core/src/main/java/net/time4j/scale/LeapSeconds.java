@@ -172,17 +172,20 @@ public final class LeapSeconds
             "net.time4j.scale.leapseconds.path",
             "data/leapseconds.data");
 
-    private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final Table EMPTY_TABLE = new Table(new ExtendedLSE[0], false);
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
+    private static final int LINEAR_PROBES = 4;
+    private static final long UTC_GPS_DELTA = ((1980 - 1972) * 365 + 2 + 5) * 86400 + 9;
+    private static final long POSIX_GPS_DELTA = UNIX_OFFSET + UTC_GPS_DELTA - 9;
 
     //~ Instanzvariablen --------------------------------------------------
 
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final Table tableFinal;
+    private volatile Table tableVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -211,8 +214,8 @@ public final class LeapSeconds
         ) {
             this.provider = null;
             this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
+            this.tableFinal = EMPTY_TABLE;
+            this.tableVolatile = EMPTY_TABLE;
             this.supportsNegativeLS = false;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
@@ -242,8 +245,6 @@ public final class LeapSeconds
                 this.list = new CopyOnWriteArrayList<>(sortedLS);
             }
 
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -262,6 +263,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.tableFinal = new Table(this.initReverse(), this.supportsNegativeLS);
+            this.tableVolatile = this.tableFinal;
         }
 
     }
@@ -350,7 +354,7 @@ public final class LeapSeconds
      */
     public int getCount() {
 
-        return this.getEventsInDescendingOrder().length;
+        return this.getTable().events.length;
 
     }
 
@@ -479,7 +483,7 @@ public final class LeapSeconds
     @Override
     public Iterator<LeapSecondEvent> iterator() {
 
-        final LeapSecondEvent[] events = this.getEventsInDescendingOrder();
+        final LeapSecondEvent[] events = this.getTable().events;
         return Collections.unmodifiableList(Arrays.asList(events)).iterator();
 
     }
@@ -515,20 +519,25 @@ public final class LeapSeconds
 
         // Schaltsekundenereignisse gibt es erst seit Juni 1972
         if (year >= 1972) {
-
-            ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-            for (int i = 0; i < events.length; i++) {
-                ExtendedLSE event = events[i];
-                GregorianDate lsDate = event.getDate();
-
-                // Ist es der Umstellungstag?
-                if (
-                    (year == lsDate.getYear())
-                    && (date.getMonth() == lsDate.getMonth())
-                    && (date.getDayOfMonth() == lsDate.getDayOfMonth())
-                ) {
-                    return event.getShift();
+            Table table = this.getTable();
+            int[] dates = table.dates;
+            int key = toKey(year, date.getMonth(), date.getDayOfMonth());
+
+            if ((dates.length > 0) && (key <= dates[0])) {
+                int low = 0;
+                int high = dates.length - 1;
+
+                while (low <= high) {
+                    int middle = (low + high) >>> 1;
+                    int test = dates[middle];
+
+                    if (test == key) {
+                        return table.shifts[middle];
+                    } else if (test > key) { // absteigend sortiert
+                        low = middle + 1;
+                    } else {
+                        high = middle - 1;
+                    }
                 }
             }
         }
@@ -561,19 +570,18 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        Table table = this.getTable();
+        long[] utcs = table.utcs;
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        if ((utcs.length == 0) || (utc > utcs[0])) {
+            return 0; // schneller Pfad für aktuelle Zeitpunkte
+        }
 
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
-            }
+        int i = searchBelow(utcs, utc) - 1; // letztes Ereignis mit utc <= event.utc()
+        long start = utcs[i] - table.shifts[i];
+
+        if (utc > start) { // Schaltbereich
+            return (int) (utc - start);
         }
 
         return 0;
@@ -599,20 +607,15 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
+        Table table = this.getTable();
+        long[] utcs = table.utcs;
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
+        if ((utcs.length == 0) || (utc >= utcs[0])) {
+            return null;
         }
 
-        return result;
+        int i = searchBelow(utcs, utc + 1) - 1; // letztes Ereignis mit utc < event.utc()
+        return table.events[i];
 
     }
 
@@ -652,19 +655,7 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
-            }
-        }
-
-        return epochTime;
+        return this.getTable().enhance(epochTime);
 
     }
 
@@ -701,24 +692,7 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-                ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
-                break;
-            }
-        }
-
-        return utc + UNIX_OFFSET;
+        return this.getTable().strip(utc) + UNIX_OFFSET;
 
     }
 
@@ -746,19 +720,196 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        Table table = this.getTable();
+        long[] utcs = table.utcs;
+
+        if ((utcs.length == 0) || (utc > utcs[0])) {
+            return false;
+        }
+
+        int i = searchBelow(utcs, utc) - 1;
+        return ((utcs[i] == utc) && (table.shifts[i] == 1));
+
+    }
+
+    /**
+     * <p>Converts an array of POSIX-timestamps to elapsed seconds on given time scale. </p>
+     *
+     * <p>This bulk method is equivalent to calling
+     * {@code Moment.of(posixTimes[i], TimeScale.POSIX).getElapsedTime(scale)} for every
+     * element but much faster because the leap second table is only fetched once per call
+     * and no {@code Moment}-objects are created. The target array may be identical to the
+     * source array. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   scale           target time scale
+     * @param   elapsedTimes    array to be filled with elapsed seconds on given scale
+     * @throws  IllegalArgumentException if the target array is too short or if any timestamp
+     *          is before the start of given scale (TAI: 1972-01-01, GPS: 1980-01-06)
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     net.time4j.Moment#getElapsedTime(TimeScale)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von POSIX-Zeitstempeln zu verstrichenen Sekunden auf der
+     * angegebenen Zeitskala. </p>
+     *
+     * <p>Diese Massenmethode ist &auml;quivalent zum Aufruf von
+     * {@code Moment.of(posixTimes[i], TimeScale.POSIX).getElapsedTime(scale)} f&uuml;r jedes
+     * Element, aber viel schneller, weil die Schaltsekundentabelle nur einmal pro Aufruf
+     * geholt wird und keine {@code Moment}-Objekte erzeugt werden. Das Ziel-Array darf mit
+     * dem Quell-Array identisch sein. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   scale           target time scale
+     * @param   elapsedTimes    array to be filled with elapsed seconds on given scale
+     * @throws  IllegalArgumentException if the target array is too short or if any timestamp
+     *          is before the start of given scale (TAI: 1972-01-01, GPS: 1980-01-06)
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     net.time4j.Moment#getElapsedTime(TimeScale)
+     * @since   4.18
+     */
+    public void toElapsedTimes(
+        long[] posixTimes,
+        TimeScale scale,
+        long[] elapsedTimes
+    ) {
+
+        int n = posixTimes.length;
+        checkLength(n, elapsedTimes);
+
+        if (scale == TimeScale.POSIX) {
+            System.arraycopy(posixTimes, 0, elapsedTimes, 0, n);
+            return;
+        }
+
+        Table table = this.getTable();
+        int index = 0;
+        long gpsShift = (this.isEnabled() ? -UTC_GPS_DELTA : 9 - UTC_GPS_DELTA);
 
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
+        for (int i = 0; i < n; i++) {
+            long unixTime = posixTimes[i];
+            long utc = unixTime - UNIX_OFFSET;
+
+            if (unixTime > 0) {
+                index = table.rawIndex(utc, index);
+                utc = table.enhance(utc, index);
+            }
 
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
+            switch (scale) {
+                case UTC:
+                    elapsedTimes[i] = utc;
+                    break;
+                case TAI:
+                    if (utc < 0) {
+                        throw new IllegalArgumentException(
+                            "TAI not supported before 1972-01-01: " + unixTime + " (index=" + i + ")");
+                    }
+                    elapsedTimes[i] = utc + 10;
+                    break;
+                case GPS:
+                    if (unixTime < POSIX_GPS_DELTA) {
+                        throw new IllegalArgumentException(
+                            "GPS not supported before 1980-01-06: " + unixTime + " (index=" + i + ")");
+                    }
+                    elapsedTimes[i] = utc + gpsShift;
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Not yet implemented: " + scale);
             }
         }
 
-        return false;
+    }
+
+    /**
+     * <p>Converts an array of elapsed seconds on given time scale to POSIX-timestamps. </p>
+     *
+     * <p>This bulk method is equivalent to calling
+     * {@code Moment.of(elapsedTimes[i], scale).getPosixTime()} for every element but much
+     * faster. The target array may be identical to the source array. A leap second will
+     * be mapped to the POSIX-timestamp of the preceding second. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   scale           source time scale
+     * @param   posixTimes      array to be filled with elapsed seconds since UNIX epoch without leap seconds
+     * @throws  IllegalArgumentException if the target array is too short or if any timestamp
+     *          is before the start of given scale (TAI: 1972-01-01, GPS: 1980-01-06)
+     * @throws  IllegalStateException if leap seconds are not enabled and given scale is not POSIX
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     net.time4j.Moment#of(long, TimeScale)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von verstrichenen Sekunden auf der angegebenen Zeitskala zu
+     * POSIX-Zeitstempeln. </p>
+     *
+     * <p>Diese Massenmethode ist &auml;quivalent zum Aufruf von
+     * {@code Moment.of(elapsedTimes[i], scale).getPosixTime()} f&uuml;r jedes Element, aber
+     * viel schneller. Das Ziel-Array darf mit dem Quell-Array identisch sein. Eine
+     * Schaltsekunde wird auf den POSIX-Zeitstempel der vorangehenden Sekunde abgebildet. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   scale           source time scale
+     * @param   posixTimes      array to be filled with elapsed seconds since UNIX epoch without leap seconds
+     * @throws  IllegalArgumentException if the target array is too short or if any timestamp
+     *          is before the start of given scale (TAI: 1972-01-01, GPS: 1980-01-06)
+     * @throws  IllegalStateException if leap seconds are not enabled and given scale is not POSIX
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     net.time4j.Moment#of(long, TimeScale)
+     * @since   4.18
+     */
+    public void toPosixTimes(
+        long[] elapsedTimes,
+        TimeScale scale,
+        long[] posixTimes
+    ) {
+
+        int n = elapsedTimes.length;
+        checkLength(n, posixTimes);
+
+        if (scale == TimeScale.POSIX) {
+            System.arraycopy(elapsedTimes, 0, posixTimes, 0, n);
+            return;
+        } else if (!this.isEnabled()) {
+            throw new IllegalStateException("Leap seconds are not supported by configuration.");
+        }
+
+        Table table = this.getTable();
+        int index = 0;
+
+        for (int i = 0; i < n; i++) {
+            long elapsed = elapsedTimes[i];
+            long utc;
+
+            switch (scale) {
+                case UTC:
+                    utc = elapsed;
+                    break;
+                case TAI:
+                    utc = Math.subtractExact(elapsed, 10);
+                    if (utc < 0) {
+                        throw new IllegalArgumentException(
+                            "TAI not supported before 1972-01-01: " + elapsed + " (index=" + i + ")");
+                    }
+                    break;
+                case GPS:
+                    utc = Math.addExact(elapsed, UTC_GPS_DELTA);
+                    if (utc < UTC_GPS_DELTA) {
+                        throw new IllegalArgumentException(
+                            "GPS not supported before 1980-01-06: " + elapsed + " (index=" + i + ")");
+                    }
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Not yet implemented: " + scale);
+            }
+
+            if (utc > 0) {
+                index = table.limitIndex(utc, index);
+                utc = table.strip(utc, index);
+            }
+
+            posixTimes[i] = utc + UNIX_OFFSET;
+        }
 
     }
 
@@ -907,7 +1058,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.tableVolatile.events[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -932,20 +1083,90 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            this.tableVolatile = new Table(this.initReverse(), this.supportsNegativeLS);
         }
 
     }
 
     // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
-    private ExtendedLSE[] getEventsInDescendingOrder() {
+    private Table getTable() {
 
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
+            return this.tableFinal;
         } else {
-            return this.reverseVolatile;
+            return this.tableVolatile;
+        }
+
+    }
+
+    // wie searchBelow(long[], long), prüft aber zuerst den angegebenen Index
+    private static int searchBelow(
+        long[] values,
+        long key,
+        int hint
+    ) {
+
+        if (
+            (hint < values.length)
+            && (values[hint] < key)
+            && ((hint == 0) || (values[hint - 1] >= key))
+        ) {
+            return hint;
         }
 
+        return searchBelow(values, key);
+
+    }
+
+    // liefert den ersten Index mit values[i] < key in einem absteigend sortierten Array,
+    // zuerst linear über die jüngsten Einträge, weil meistens aktuelle Werte gesucht werden
+    private static int searchBelow(
+        long[] values,
+        long key
+    ) {
+
+        int high = values.length;
+        int low = Math.min(LINEAR_PROBES, high);
+
+        for (int i = 0; i < low; i++) {
+            if (values[i] < key) {
+                return i;
+            }
+        }
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (values[middle] < key) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    private static void checkLength(
+        int n,
+        long[] target
+    ) {
+
+        if (target.length < n) {
+            throw new IllegalArgumentException("Target array too short: " + target.length + " < " + n);
+        }
+
+    }
+
+    private static int toKey(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return (year * 10000) + (month * 100) + dayOfMonth;
+
     }
 
     private static void extend(SortedSet<ExtendedLSE> sortedColl) {
@@ -1017,6 +1238,119 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unver&auml;nderliche Suchtabelle mit parallelen primitiven Arrays in zeitlich
+     * absteigender Reihenfolge (das neueste Ereignis zuerst). </p>
+     *
+     * <p>Zeitpunkte nach dem letzten Ereignis werden mit nur einem Vergleich aufgel&ouml;st,
+     * &auml;ltere Zeitpunkte per bin&auml;rer Suche. </p>
+     */
+    private static class Table {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] events;
+        private final long[] raws;
+        private final long[] utcs;
+        private final long[] stripLimits;
+        private final int[] shifts;
+        private final int[] dates;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Table(
+            ExtendedLSE[] events,
+            boolean supportsNegativeLS
+        ) {
+            super();
+
+            int n = events.length;
+            this.events = events;
+            this.raws = new long[n];
+            this.utcs = new long[n];
+            this.stripLimits = new long[n];
+            this.shifts = new int[n];
+            this.dates = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = events[i];
+                GregorianDate date = lse.getDate();
+                int shift = lse.getShift();
+                this.raws[i] = lse.raw();
+                this.utcs[i] = lse.utc();
+                this.shifts[i] = shift;
+                this.dates[i] = toKey(date.getYear(), date.getMonth(), date.getDayOfMonth());
+                this.stripLimits[i] = (
+                    (supportsNegativeLS && (shift < 0))
+                    ? lse.utc()
+                    : lse.utc() - shift);
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // epochTime: UNIX-Zeit minus UNIX_OFFSET, positive UNIX-Zeit vorausgesetzt
+        long enhance(long epochTime) {
+
+            return this.enhance(epochTime, this.rawIndex(epochTime, 0));
+
+        }
+
+        // hint: zuletzt gefundener Index, Treffer ersparen die Suche (sortierte Massendaten)
+        int rawIndex(
+            long epochTime,
+            int hint
+        ) {
+
+            return searchBelow(this.raws, epochTime, hint);
+
+        }
+
+        long enhance(
+            long epochTime,
+            int index
+        ) {
+
+            if (index < this.raws.length) {
+                return Math.addExact(epochTime, this.utcs[index] - this.raws[index]);
+            }
+
+            return epochTime;
+
+        }
+
+        // utc: positive UTC-Zeit, Ergebnis ohne UNIX_OFFSET
+        long strip(long utc) {
+
+            return this.strip(utc, this.limitIndex(utc, 0));
+
+        }
+
+        int limitIndex(
+            long utc,
+            int hint
+        ) {
+
+            return searchBelow(this.stripLimits, utc, hint);
+
+        }
+
+        long strip(
+            long utc,
+            int index
+        ) {
+
+            if (index < this.stripLimits.length) {
+                return Math.addExact(utc, this.raws[index] - this.utcs[index]);
+            }
+
+            return utc;
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
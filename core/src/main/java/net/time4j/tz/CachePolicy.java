@@ -0,0 +1,318 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CachePolicy.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+
+/**
+ * <p>Describes how the internal timezone cache keeps loaded timezones. </p>
+ *
+ * <p>Two basic strategies are available: </p>
+ *
+ * <ul>
+ *     <li>{@link #softReferences(int) Soft references} (default) keep all loaded zones
+ *     as long as the garbage collector does not need the memory. Only a minimum count of
+ *     recently loaded zones is strongly referenced. Under memory pressure zones might
+ *     be loaded again. </li>
+ *     <li>A {@link #bounded(int) bounded} cache keeps zones strongly referenced up to
+ *     a maximum size and evicts zones which were not used recently (approximated LRU
+ *     by second-chance algorithm, hits are lock-free). </li>
+ * </ul>
+ *
+ * <p>Additionally every policy can {@link #pin(TZID...) pin} some timezones which are
+ * loaded immediately when the policy is installed and never evicted. Example: </p>
+ *
+ * <pre>
+ *  Timezone.Cache.setPolicy(
+ *      CachePolicy.bounded(100).pin(EUROPE.BERLIN, AMERICA.NEW_YORK));
+ *  CacheStatistics stats = Timezone.Cache.getStatistics();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     Timezone.Cache#setPolicy(CachePolicy)
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Beschreibt, wie der interne Zeitzonen-Cache geladene Zeitzonen h&auml;lt. </p>
+ *
+ * <p>Zwei grundlegende Strategien stehen zur Verf&uuml;gung: </p>
+ *
+ * <ul>
+ *     <li>{@link #softReferences(int) Weiche Referenzen} (Standard) halten alle geladenen
+ *     Zeitzonen solange, wie der Garbage-Collector den Speicher nicht braucht. Nur eine
+ *     Mindestanzahl von zuletzt geladenen Zeitzonen wird stark referenziert. Unter
+ *     Speicherdruck werden Zeitzonen eventuell erneut geladen. </li>
+ *     <li>Ein {@link #bounded(int) begrenzter} Cache h&auml;lt Zeitzonen bis zu einer
+ *     maximalen Gr&ouml;&szlig;e stark referenziert und entfernt Zeitzonen, die in letzter
+ *     Zeit nicht benutzt wurden (gen&auml;hertes LRU mit Hilfe des Second-Chance-Algorithmus,
+ *     Treffer sind sperrfrei). </li>
+ * </ul>
+ *
+ * <p>Zus&auml;tzlich kann jede Strategie einige Zeitzonen {@link #pin(TZID...) festhalten},
+ * die sofort beim Installieren der Strategie geladen und nie entfernt werden. Beispiel: </p>
+ *
+ * <pre>
+ *  Timezone.Cache.setPolicy(
+ *      CachePolicy.bounded(100).pin(EUROPE.BERLIN, AMERICA.NEW_YORK));
+ *  CacheStatistics stats = Timezone.Cache.getStatistics();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     Timezone.Cache#setPolicy(CachePolicy)
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+public final class CachePolicy {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final boolean bounded;
+    private final int size;
+    private final Set<String> pinned;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CachePolicy(
+        boolean bounded,
+        int size,
+        Set<String> pinned
+    ) {
+        super();
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative timezone cache size: " + size);
+        }
+
+        this.bounded = bounded;
+        this.size = size;
+        this.pinned = Collections.unmodifiableSet(pinned);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a policy based on soft references with given minimum count of strongly
+     * referenced recently loaded zones. </p>
+     *
+     * <p>This is the default behaviour with a minimum size of {@code 10}. </p>
+     *
+     * @param   minimumCacheSize    count of recently loaded zones which are strongly referenced
+     * @return  new cache policy
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Strategie auf Basis weicher Referenzen mit der angegebenen Mindestanzahl
+     * von zuletzt geladenen stark referenzierten Zeitzonen. </p>
+     *
+     * <p>Das ist das Standardverhalten mit einer Mindestgr&ouml;&szlig;e von {@code 10}. </p>
+     *
+     * @param   minimumCacheSize    count of recently loaded zones which are strongly referenced
+     * @return  new cache policy
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    public static CachePolicy softReferences(int minimumCacheSize) {
+
+        return new CachePolicy(false, minimumCacheSize, Collections.emptySet());
+
+    }
+
+    /**
+     * <p>Creates a policy with strong references and given maximum size. </p>
+     *
+     * @param   maximumCacheSize    maximum count of cached zones (without pinned zones)
+     * @return  new cache policy
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Strategie mit starken Referenzen und der angegebenen maximalen
+     * Gr&ouml;&szlig;e. </p>
+     *
+     * @param   maximumCacheSize    maximum count of cached zones (without pinned zones)
+     * @return  new cache policy
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    public static CachePolicy bounded(int maximumCacheSize) {
+
+        return new CachePolicy(true, maximumCacheSize, Collections.emptySet());
+
+    }
+
+    /**
+     * <p>Yields a copy of this policy which additionally pins given timezones. </p>
+     *
+     * <p>Pinned zones are cached by their canonical identifier. </p>
+     *
+     * @param   tzids       timezone identifiers to be pinned
+     * @return  changed copy of this policy
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieser Strategie, die zus&auml;tzlich die angegebenen Zeitzonen
+     * festh&auml;lt. </p>
+     *
+     * <p>Festgehaltene Zeitzonen werden unter ihrem kanonischen Namen gespeichert. </p>
+     *
+     * @param   tzids       timezone identifiers to be pinned
+     * @return  changed copy of this policy
+     */
+    public CachePolicy pin(TZID... tzids) {
+
+        Set<String> ids = new LinkedHashSet<>();
+
+        for (TZID tzid : tzids) {
+            if (!(tzid instanceof ZonalOffset)) {
+                ids.add(tzid.canonical());
+            }
+        }
+
+        return this.pin(ids);
+
+    }
+
+    /**
+     * <p>Is this policy based on a bounded cache with strong references? </p>
+     *
+     * @return  {@code true} if bounded else {@code false} for soft references
+     */
+    /*[deutsch]
+     * <p>Basiert diese Strategie auf einem begrenzten Cache mit starken Referenzen? </p>
+     *
+     * @return  {@code true} if bounded else {@code false} for soft references
+     */
+    public boolean isBounded() {
+
+        return this.bounded;
+
+    }
+
+    /**
+     * <p>Yields the maximum size of a bounded cache or the minimum size of strongly
+     * referenced zones in case of soft references. </p>
+     *
+     * @return  non-negative size
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale Gr&ouml;&szlig;e eines begrenzten Cache oder die
+     * Mindestanzahl stark referenzierter Zeitzonen im Fall weicher Referenzen. </p>
+     *
+     * @return  non-negative size
+     */
+    public int getSize() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Yields the canonical identifiers of all pinned zones. </p>
+     *
+     * @return  unmodifiable set of identifiers
+     */
+    /*[deutsch]
+     * <p>Liefert die kanonischen Namen aller festgehaltenen Zeitzonen. </p>
+     *
+     * @return  unmodifiable set of identifiers
+     */
+    public Set<String> getPinnedIDs() {
+
+        return this.pinned;
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof CachePolicy) {
+            CachePolicy that = (CachePolicy) obj;
+            return (
+                (this.bounded == that.bounded)
+                && (this.size == that.size)
+                && this.pinned.equals(that.pinned)
+            );
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return (this.bounded ? 31 : 17) * this.size + this.pinned.hashCode();
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("CachePolicy[");
+        sb.append(this.bounded ? "bounded=" : "soft=");
+        sb.append(this.size);
+        sb.append(",pinned=");
+        sb.append(this.pinned);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Liefert eine Kopie dieser Strategie, die zus&auml;tzlich die angegebenen kanonischen
+     * Zeitzonennamen festh&auml;lt. </p>
+     *
+     * @param   ids         canonical timezone identifiers
+     * @return  changed copy of this policy
+     */
+    CachePolicy pin(Set<String> ids) {
+
+        if (ids.isEmpty()) {
+            return this;
+        }
+
+        Set<String> union = new LinkedHashSet<>(this.pinned);
+        union.addAll(ids);
+        return new CachePolicy(this.bounded, this.size, union);
+
+    }
+
+    /**
+     * <p>Erzeugt einen neuen leeren Cache gem&auml;&szlig; dieser Strategie. </p>
+     *
+     * @return  new timezone cache
+     */
+    ZoneCache createCache() {
+
+        if (this.bounded) {
+            return new ZoneCache.Bounded(this);
+        } else {
+            return new ZoneCache.Soft(this);
+        }
+
+    }
+
+}
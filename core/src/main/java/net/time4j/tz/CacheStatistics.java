@@ -0,0 +1,256 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CacheStatistics.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+
+/**
+ * <p>Snapshot of the counters of the internal timezone cache. </p>
+ *
+ * <p>All counters refer to the currently installed {@link CachePolicy} and start with
+ * zero when a new policy is installed. The counters are updated without locking so
+ * a snapshot taken under concurrent access is not necessarily consistent across
+ * different counters. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Timezone.Cache#getStatistics()
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Momentaufnahme der Z&auml;hler des internen Zeitzonen-Cache. </p>
+ *
+ * <p>Alle Z&auml;hler beziehen sich auf die aktuell installierte {@link CachePolicy} und
+ * beginnen mit null, wenn eine neue Strategie installiert wird. Die Z&auml;hler werden
+ * ohne Sperren aktualisiert, so da&szlig; eine Momentaufnahme unter nebenl&auml;ufigem
+ * Zugriff nicht notwendig &uuml;ber verschiedene Z&auml;hler hinweg konsistent ist. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Timezone.Cache#getStatistics()
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+public final class CacheStatistics {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long hits;
+    private final long misses;
+    private final long notFound;
+    private final long loads;
+    private final long loadTime;
+    private final long evictions;
+    private final int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    CacheStatistics(
+        long hits,
+        long misses,
+        long notFound,
+        long loads,
+        long loadTime,
+        long evictions,
+        int size
+    ) {
+        super();
+
+        this.hits = hits;
+        this.misses = misses;
+        this.notFound = notFound;
+        this.loads = loads;
+        this.loadTime = loadTime;
+        this.evictions = evictions;
+        this.size = size;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of lookups which found a cached timezone. </p>
+     *
+     * @return  count of cache hits
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Suchvorg&auml;nge, die eine Zeitzone im Cache gefunden
+     * haben. </p>
+     *
+     * @return  count of cache hits
+     */
+    public long getHitCount() {
+
+        return this.hits;
+
+    }
+
+    /**
+     * <p>Yields the count of lookups which did not find a cached timezone but could
+     * load it. </p>
+     *
+     * <p>Invalid or unknown timezone identifiers are not counted as misses but
+     * separately, see {@link #getNotFoundCount()}. </p>
+     *
+     * @return  count of cache misses
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Suchvorg&auml;nge, die keine Zeitzone im Cache gefunden,
+     * sie aber laden konnten. </p>
+     *
+     * <p>Ung&uuml;ltige oder unbekannte Zeitzonen-IDs z&auml;hlen nicht als Fehlversuche,
+     * sondern separat, siehe {@link #getNotFoundCount()}. </p>
+     *
+     * @return  count of cache misses
+     */
+    public long getMissCount() {
+
+        return this.misses;
+
+    }
+
+    /**
+     * <p>Yields the count of lookups with invalid or unknown timezone identifiers. </p>
+     *
+     * @return  count of lookups which found no timezone at all
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Suchvorg&auml;nge mit ung&uuml;ltigen oder unbekannten
+     * Zeitzonen-IDs. </p>
+     *
+     * @return  count of lookups which found no timezone at all
+     */
+    public long getNotFoundCount() {
+
+        return this.notFound;
+
+    }
+
+    /**
+     * <p>Yields the count of attempts to load a timezone from its provider. </p>
+     *
+     * @return  count of loads
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Versuche, eine Zeitzone von ihrem Provider zu laden. </p>
+     *
+     * @return  count of loads
+     */
+    public long getLoadCount() {
+
+        return this.loads;
+
+    }
+
+    /**
+     * <p>Yields the total time spent for loading timezones in nanoseconds. </p>
+     *
+     * @return  accumulated load time in nanoseconds
+     */
+    /*[deutsch]
+     * <p>Liefert die gesamte Zeit in Nanosekunden, die f&uuml;r das Laden von Zeitzonen
+     * gebraucht wurde. </p>
+     *
+     * @return  accumulated load time in nanoseconds
+     */
+    public long getTotalLoadTime() {
+
+        return this.loadTime;
+
+    }
+
+    /**
+     * <p>Yields the count of timezones which were removed from the cache because of
+     * its size limit or cleared soft references. </p>
+     *
+     * @return  count of evictions
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Zeitzonen, die wegen der Gr&ouml;&szlig;enbegrenzung oder
+     * entfernter weicher Referenzen aus dem Cache gel&ouml;scht wurden. </p>
+     *
+     * @return  count of evictions
+     */
+    public long getEvictionCount() {
+
+        return this.evictions;
+
+    }
+
+    /**
+     * <p>Yields the count of cached timezones including pinned zones. </p>
+     *
+     * @return  current size of cache
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Zeitzonen im Cache einschlie&szlig;lich festgehaltener
+     * Zeitzonen. </p>
+     *
+     * @return  current size of cache
+     */
+    public int getSize() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Yields the ratio of hits to all lookups of valid timezone identifiers
+     * (hits plus misses). </p>
+     *
+     * @return  hit rate between {@code 0.0} and {@code 1.0} (inclusive), {@code 1.0} if there was no lookup
+     */
+    /*[deutsch]
+     * <p>Liefert das Verh&auml;ltnis der Treffer zu allen Suchvorg&auml;ngen mit
+     * g&uuml;ltigen Zeitzonen-IDs (Treffer plus Fehlversuche). </p>
+     *
+     * @return  hit rate between {@code 0.0} and {@code 1.0} (inclusive), {@code 1.0} if there was no lookup
+     */
+    public double getHitRate() {
+
+        long total = this.hits + this.misses;
+        return ((total == 0) ? 1.0 : ((double) this.hits) / total);
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("CacheStatistics[hits=");
+        sb.append(this.hits);
+        sb.append(",misses=");
+        sb.append(this.misses);
+        sb.append(",not-found=");
+        sb.append(this.notFound);
+        sb.append(",loads=");
+        sb.append(this.loads);
+        sb.append(",load-time=");
+        sb.append(this.loadTime);
+        sb.append("ns,evictions=");
+        sb.append(this.evictions);
+        sb.append(",size=");
+        sb.append(this.size);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+}
@@ -118,13 +118,7 @@ final class HistorizedTimezone
     @Override
     public ZonalOffset getOffset(UnixTime ut) {
 
-        ZonalTransition t = this.history.findStartTransition(ut);
-
-        return (
-            (t == null)
-            ? this.history.getInitialOffset()
-            : ZonalOffset.ofTotalSeconds(t.getTotalOffset())
-        );
+        return this.history.getOffset(ut);
 
     }
 
@@ -28,6 +28,7 @@ import net.time4j.base.WallTime;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -245,6 +246,22 @@ final class SingleOffsetTimezone
 
     }
 
+    @Override
+    public void getTotalOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        if (totalOffsets.length < posixTimes.length) {
+            throw new IllegalArgumentException(
+                "Target array too short: " + totalOffsets.length + " < " + posixTimes.length);
+        }
+
+        // die Verschiebung hat nie einen Sekundenbruchteil (im Konstruktor abgerundet)
+        Arrays.fill(totalOffsets, 0, posixTimes.length, this.offset.getIntegralAmount());
+
+    }
+
     @Override
     public boolean equals(Object obj) {
 
@@ -22,21 +22,21 @@
 package net.time4j.tz;
 
 import net.time4j.base.GregorianDate;
+import net.time4j.base.Instrumentation;
+import net.time4j.base.InstrumentationListener;
 import net.time4j.base.ResourceLoader;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -172,7 +172,7 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys = null;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
-    private static int softLimit = 11;
+    private static volatile ZoneCache cache = CachePolicy.softReferences(10).createCache();
 
     private static final String NAME_JUT = "java.util.TimeZone";
     private static final String NAME_TZDB = "TZDB";
@@ -181,19 +181,13 @@ public abstract class Timezone
     private static final Map<String, TZID> PREDEFINED;
     private static final ZoneModelProvider PLATFORM_PROVIDER;
     private static final ZoneModelProvider DEFAULT_PROVIDER;
-    private static final ConcurrentMap<String, NamedReference> CACHE;
-    private static final ReferenceQueue<Timezone> QUEUE;
-    private static final LinkedList<Timezone> LAST_USED;
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
     private static final ZoneNameProvider NAME_PROVIDER;
 
     private static final Timezone SYSTEM_TZ_ORIGINAL;
 
     static {
-        CACHE = new ConcurrentHashMap<>();
         PROVIDERS = new ConcurrentHashMap<>();
-        QUEUE = new ReferenceQueue<>();
-        LAST_USED = new LinkedList<>(); // strong references
 
         List<Class<? extends TZID>> areas;
 
@@ -711,6 +705,243 @@ public abstract class Timezone
      */
     public abstract ZonalOffset getOffset(UnixTime ut);
 
+    /**
+     * <p>Determines the total offsets for an array of POSIX timestamps in one pass. </p>
+     *
+     * <p>This bulk method is equivalent to calling {@code getOffset(ut)} for every element and
+     * storing the offset in full seconds. An offset with fractional seconds is rounded down
+     * (floor) like the offset of a {@link #of(TZID) fixed timezone}, so that adding the offset
+     * to the POSIX time yields the local second. If the timezone has a {@link #getHistory() history} then the offsets
+     * are determined by {@link TransitionHistory#getTotalOffsets(long[], int[])} which is
+     * fastest for sorted input. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @throws  IllegalArgumentException if the target array is too short
+     * @see     #getOffset(UnixTime)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Gesamtverschiebungen f&uuml;r ein Array von POSIX-Zeitstempeln in einem
+     * Durchgang. </p>
+     *
+     * <p>Diese Massenmethode ist &auml;quivalent zum Aufruf von {@code getOffset(ut)} f&uuml;r
+     * jedes Element, wobei die Verschiebung in vollen Sekunden gespeichert wird. Eine Verschiebung
+     * mit Sekundenbruchteil wird wie bei einer {@link #of(TZID) festen Zeitzone} abgerundet, so
+     * da&szlig; die Addition zur POSIX-Zeit die lokale Sekunde ergibt. Wenn die Zeitzone eine
+     * {@link #getHistory() Historie} hat, werden die Verschiebungen mit Hilfe von
+     * {@link TransitionHistory#getTotalOffsets(long[], int[])} bestimmt, was f&uuml;r sortierte
+     * Eingaben am schnellsten ist. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @throws  IllegalArgumentException if the target array is too short
+     * @see     #getOffset(UnixTime)
+     * @since   4.18
+     */
+    public void getOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        TransitionHistory history = this.getHistory();
+
+        if (history != null) {
+            history.getTotalOffsets(posixTimes, totalOffsets);
+            return;
+        }
+
+        checkLength(posixTimes.length, totalOffsets);
+        MutableUnixTime ut = new MutableUnixTime();
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            ut.posixTime = posixTimes[i];
+            totalOffsets[i] = floorSeconds(this.getOffset(ut));
+        }
+
+    }
+
+    /**
+     * <p>Converts an array of POSIX timestamps to local fields in one pass. </p>
+     *
+     * <p>For every element, the total offset, the local epoch day (count of days since
+     * 1970-01-01) and the local second of day will be stored in the target arrays at the
+     * same index. The arrays for the local fields are optional and can be {@code null}.
+     * Example for grouping events by local hour: </p>
+     *
+     * <pre>
+     *  Timezone tz = Timezone.of(&quot;Europe/Berlin&quot;);
+     *  int n = posixTimes.length;
+     *  int[] offsets = new int[n];
+     *  int[] days = new int[n];
+     *  int[] seconds = new int[n];
+     *  tz.toLocalFields(posixTimes, offsets, days, seconds);
+     *  int hourOfDay = seconds[0] / 3600;
+     * </pre>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @param   localEpochDays  array to be filled with local days since UNIX epoch (optional)
+     * @param   secondsOfDay    array to be filled with local seconds of day in range 0-86399 (optional)
+     * @throws  IllegalArgumentException if any target array is too short
+     * @throws  ArithmeticException if any local epoch day does not fit into an int
+     * @see     #getOffsets(long[], int[])
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von POSIX-Zeitstempeln in einem Durchgang zu lokalen Feldern. </p>
+     *
+     * <p>F&uuml;r jedes Element werden die Gesamtverschiebung, der lokale Epochentag (Anzahl der
+     * Tage seit 1970-01-01) und die lokale Sekunde des Tages in den Ziel-Arrays unter dem gleichen
+     * Index gespeichert. Die Arrays f&uuml;r die lokalen Felder sind optional und d&uuml;rfen
+     * {@code null} sein. Beispiel f&uuml;r die Gruppierung von Ereignissen nach lokaler Stunde: </p>
+     *
+     * <pre>
+     *  Timezone tz = Timezone.of(&quot;Europe/Berlin&quot;);
+     *  int n = posixTimes.length;
+     *  int[] offsets = new int[n];
+     *  int[] days = new int[n];
+     *  int[] seconds = new int[n];
+     *  tz.toLocalFields(posixTimes, offsets, days, seconds);
+     *  int hourOfDay = seconds[0] / 3600;
+     * </pre>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @param   localEpochDays  array to be filled with local days since UNIX epoch (optional)
+     * @param   secondsOfDay    array to be filled with local seconds of day in range 0-86399 (optional)
+     * @throws  IllegalArgumentException if any target array is too short
+     * @throws  ArithmeticException if any local epoch day does not fit into an int
+     * @see     #getOffsets(long[], int[])
+     * @since   4.18
+     */
+    public void toLocalFields(
+        long[] posixTimes,
+        int[] totalOffsets,
+        int[] localEpochDays,
+        int[] secondsOfDay
+    ) {
+
+        int n = posixTimes.length;
+
+        if (localEpochDays != null) {
+            checkLength(n, localEpochDays);
+        }
+
+        if (secondsOfDay != null) {
+            checkLength(n, secondsOfDay);
+        }
+
+        this.getOffsets(posixTimes, totalOffsets);
+
+        if ((localEpochDays == null) && (secondsOfDay == null)) {
+            return;
+        }
+
+        for (int i = 0; i < n; i++) {
+            long localSecs = posixTimes[i] + totalOffsets[i];
+            long days = Math.floorDiv(localSecs, 86400);
+
+            if (localEpochDays != null) {
+                localEpochDays[i] = Math.toIntExact(days);
+            }
+
+            if (secondsOfDay != null) {
+                secondsOfDay[i] = (int) (localSecs - days * 86400);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Converts an array of local timestamps to POSIX timestamps in one pass using the
+     * {@link #getStrategy() transition strategy} of this timezone. </p>
+     *
+     * <p>The local timestamps are given as local seconds since [1970-01-01T00:00] in this
+     * timezone, that is the epoch day multiplied by 86400 plus the second of day. Every element
+     * is resolved as if {@code getStrategy().resolve(date, time, this)} had been called. Local
+     * timestamps in gaps or overlaps on the local timeline will be reported in the optional
+     * bit sets by setting the bit with the same index (all other bits in the range of input
+     * are cleared). Example for loading local data from a legacy system: </p>
+     *
+     * <pre>
+     *  Timezone tz = Timezone.of(&quot;Europe/Berlin&quot;).with(GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET));
+     *  long[] posixTimes = new long[localSeconds.length];
+     *  BitSet gaps = new BitSet(localSeconds.length);
+     *  int conflicts = tz.toPosixTimes(localSeconds, posixTimes, gaps, null);
+     * </pre>
+     *
+     * <p>If the strategy is a combination of {@link GapResolver} and {@link OverlapResolver}
+     * and this timezone has a {@link #getHistory() history} then the transitions are only searched
+     * if the local timestamp leaves the range of the previous element so that sorted input
+     * is resolved without creating objects per element. Overlaps can only be detected if this
+     * timezone has a history. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00] in this timezone
+     * @param   posixTimes      array to be filled with elapsed seconds since UNIX epoch
+     * @param   gaps            bit set for marking local timestamps in gaps (optional)
+     * @param   overlaps        bit set for marking local timestamps in overlaps (optional)
+     * @return  count of local timestamps which are in gaps or overlaps
+     * @throws  IllegalArgumentException if the target array is too short or if any local
+     *          timestamp is invalid in strict mode
+     * @throws  UnsupportedOperationException if the strategy requires a history which is not available
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @see     #toLocalFields(long[], int[], int[], int[])
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Konvertiert ein Array von lokalen Zeitstempeln in einem Durchgang zu POSIX-Zeitstempeln,
+     * indem die {@link #getStrategy() &Uuml;bergangsstrategie} dieser Zeitzone benutzt wird. </p>
+     *
+     * <p>Die lokalen Zeitstempel werden als lokale Sekunden seit [1970-01-01T00:00] in dieser
+     * Zeitzone angegeben, also der Epochentag multipliziert mit 86400 plus die Sekunde des Tages.
+     * Jedes Element wird so aufgel&ouml;st, als ob {@code getStrategy().resolve(date, time, this)}
+     * aufgerufen worden w&auml;re. Lokale Zeitstempel in L&uuml;cken oder &Uuml;berlappungen
+     * auf dem lokalen Zeitstrahl werden in den optionalen Bit-Mengen durch Setzen des Bits mit
+     * dem gleichen Index gemeldet (alle anderen Bits im Bereich der Eingabe werden
+     * gel&ouml;scht). Beispiel f&uuml;r das Laden von lokalen Daten aus einem Altsystem: </p>
+     *
+     * <pre>
+     *  Timezone tz = Timezone.of(&quot;Europe/Berlin&quot;).with(GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET));
+     *  long[] posixTimes = new long[localSeconds.length];
+     *  BitSet gaps = new BitSet(localSeconds.length);
+     *  int conflicts = tz.toPosixTimes(localSeconds, posixTimes, gaps, null);
+     * </pre>
+     *
+     * <p>Wenn die Strategie eine Kombination aus {@link GapResolver} und {@link OverlapResolver}
+     * ist und diese Zeitzone eine {@link #getHistory() Historie} hat, werden die &Uuml;berg&auml;nge
+     * nur dann gesucht, wenn der lokale Zeitstempel den Bereich des vorherigen Elements verl&auml;&szlig;t,
+     * so da&szlig; sortierte Eingaben ohne Objekterzeugung je Element aufgel&ouml;st werden.
+     * &Uuml;berlappungen k&ouml;nnen nur erkannt werden, wenn diese Zeitzone eine Historie hat. </p>
+     *
+     * @param   localSeconds    local seconds since [1970-01-01T00:00] in this timezone
+     * @param   posixTimes      array to be filled with elapsed seconds since UNIX epoch
+     * @param   gaps            bit set for marking local timestamps in gaps (optional)
+     * @param   overlaps        bit set for marking local timestamps in overlaps (optional)
+     * @return  count of local timestamps which are in gaps or overlaps
+     * @throws  IllegalArgumentException if the target array is too short or if any local
+     *          timestamp is invalid in strict mode
+     * @throws  UnsupportedOperationException if the strategy requires a history which is not available
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @see     #toLocalFields(long[], int[], int[], int[])
+     * @since   4.18
+     */
+    public int toPosixTimes(
+        long[] localSeconds,
+        long[] posixTimes,
+        BitSet gaps,
+        BitSet overlaps
+    ) {
+
+        if (posixTimes.length < localSeconds.length) {
+            throw new IllegalArgumentException(
+                "Target array too short: " + posixTimes.length + " < " + localSeconds.length);
+        }
+
+        return TransitionResolver.resolve(this, localSeconds, posixTimes, gaps, overlaps);
+
+    }
+
     /**
      * <p>Calculates the standard offset for given global timestamp. </p>
      *
@@ -1274,18 +1505,21 @@ public abstract class Timezone
         boolean wantsException
     ) {
 
-        // Suche im Cache
-        Timezone tz = null;
-        NamedReference sref = CACHE.get(zoneID);
+        InstrumentationListener listener = Instrumentation.getListener();
+        long t0 = ((listener == null) ? 0L : System.nanoTime());
 
-        if (sref != null) {
-            tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
-            }
-        }
+        // Suche im Cache
+        ZoneCache zc = cache;
+        Timezone tz = zc.get(zoneID);
 
         if (tz != null) {
+            if (listener != null) {
+                listener.completed(
+                    Instrumentation.Operation.ZONE_LOADING,
+                    zoneID,
+                    System.nanoTime() - t0,
+                    Instrumentation.CacheOutcome.HIT);
+            }
             return tz;
         }
 
@@ -1302,6 +1536,7 @@ public abstract class Timezone
         }
 
         if (zoneKey.isEmpty()) {
+            notFound(zc, listener, zoneID, t0);
             if (wantsException) {
                 throw new IllegalArgumentException("Timezone key is empty.");
             } else {
@@ -1319,6 +1554,7 @@ public abstract class Timezone
             provider = PROVIDERS.get(providerName);
 
             if (provider == null) {
+                notFound(zc, listener, zoneID, t0);
                 if (wantsException) {
                     String msg;
                     if (providerName.equals(NAME_TZDB)) {
@@ -1349,6 +1585,8 @@ public abstract class Timezone
             }
         }
 
+        long start = System.nanoTime();
+
         // java.util.TimeZone hat keine öffentliche Historie
         if (provider == PLATFORM_PROVIDER) {
             PlatformTimezone test = new PlatformTimezone(resolved, zoneKey);
@@ -1373,8 +1611,11 @@ public abstract class Timezone
             }
         }
 
+        zc.recordLoad(System.nanoTime() - start);
+
         // Ungültige ID?
         if (tz == null) {
+            notFound(zc, listener, zoneID, t0);
             if (wantsException) {
                 throw new IllegalArgumentException("Unknown timezone: " + zoneID);
             } else {
@@ -1382,32 +1623,42 @@ public abstract class Timezone
             }
         }
 
+        zc.recordMiss();
+
+        if (listener != null) {
+            listener.completed(
+                Instrumentation.Operation.ZONE_LOADING,
+                zoneID,
+                System.nanoTime() - t0,
+                (cacheActive ? Instrumentation.CacheOutcome.MISS : Instrumentation.CacheOutcome.NOT_CACHED));
+        }
+
         // bei Bedarf im Cache speichern
         if (cacheActive) {
-            NamedReference oldRef =
-                CACHE.putIfAbsent(
-                    zoneID,
-                    new NamedReference(tz, QUEUE)
-                );
+            tz = zc.put(zoneID, tz);
+        }
 
-            if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
+        return tz;
 
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
-                    }
-                }
-            } else {
-                Timezone oldZone = oldRef.get();
+    }
 
-                if (oldZone != null) {
-                    tz = oldZone;
-                }
-            }
-        }
+    // zählt eine ungültige oder unbekannte Zeitzonen-ID
+    private static void notFound(
+        ZoneCache zc,
+        InstrumentationListener listener,
+        String zoneID,
+        long t0
+    ) {
 
-        return tz;
+        zc.recordNotFound();
+
+        if (listener != null) {
+            listener.completed(
+                Instrumentation.Operation.ZONE_LOADING,
+                zoneID,
+                System.nanoTime() - t0,
+                Instrumentation.CacheOutcome.NOT_FOUND);
+        }
 
     }
 
@@ -1531,6 +1782,40 @@ public abstract class Timezone
 
     }
 
+    /**
+     * <p>Liefert die Verschiebung in vollen Sekunden, bei einem
+     * Sekundenbruchteil abgerundet (wie bei festen Verschiebungen). </p>
+     *
+     * <p>Der integrale Teil allein w&uuml;rde negative Verschiebungen mit
+     * Sekundenbruchteil zur Null hin runden und so die lokale Zeit um eine
+     * Sekunde verf&auml;lschen. </p>
+     *
+     * @param   offset  zonal offset
+     * @return  total offset in seconds rounded down
+     */
+    static int floorSeconds(ZonalOffset offset) {
+
+        int total = offset.getIntegralAmount();
+
+        if (offset.getFractionalAmount() < 0) {
+            total--;
+        }
+
+        return total;
+
+    }
+
+    private static void checkLength(
+        int n,
+        int[] target
+    ) {
+
+        if (target.length < n) {
+            throw new IllegalArgumentException("Target array too short: " + target.length + " < " + n);
+        }
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     /**
@@ -1567,18 +1852,16 @@ public abstract class Timezone
          */
         public static void refresh() {
 
-            synchronized (Timezone.class) {
-                while (QUEUE.poll() != null) {}
-                LAST_USED.clear();
-            }
-
+            ZoneCache zc = cache;
             zonalKeys = new ZonalKeys();
-            CACHE.clear();
+            zc.clear();
 
             if (ALLOW_SYSTEM_TZ_OVERRIDE) {
                 currentSystemTZ = Timezone.getDefaultTZ();
             }
 
+            loadPinned(zc);
+
         }
 
         /**
@@ -1604,7 +1887,7 @@ public abstract class Timezone
             cacheActive = active;
 
             if (!active) {
-                CACHE.clear();
+                cache.clear();
             }
 
         }
@@ -1612,56 +1895,134 @@ public abstract class Timezone
         /**
          * <p>Updates the size of the internal timezone cache. </p>
          *
+         * <p>If the current policy is based on soft references then only the count of
+         * strongly referenced zones will be changed, and the cached zones and the
+         * statistics are kept. Otherwise this method is equivalent to
+         * {@code setPolicy(CachePolicy.softReferences(minimumCacheSize))} but keeps the
+         * pinned zones of the current policy. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #setPolicy(CachePolicy)
          */
         /*[deutsch]
          * <p>Konfiguriert die Gr&ouml;&szlig;e des internen Cache neu. </p>
          *
+         * <p>Basiert die aktuelle Strategie auf weichen Referenzen, wird nur die Anzahl
+         * der stark referenzierten Zeitzonen ge&auml;ndert, und die gespeicherten Zeitzonen
+         * und die Statistik bleiben erhalten. Sonst ist diese Methode &auml;quivalent zu
+         * {@code setPolicy(CachePolicy.softReferences(minimumCacheSize))}, beh&auml;lt aber
+         * die festgehaltenen Zeitzonen der aktuellen Strategie bei. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #setPolicy(CachePolicy)
          */
         public static void setMinimumCacheSize(int minimumCacheSize) {
 
-            if (minimumCacheSize < 0) {
-                throw new IllegalArgumentException(
-                    "Negative timezone cache size: " + minimumCacheSize);
-            }
+            CachePolicy policy = CachePolicy.softReferences(minimumCacheSize); // validates the size
+            ZoneCache zc;
 
-            NamedReference ref;
+            synchronized (Cache.class) {
+                zc = cache;
 
-            while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+                if (zc instanceof ZoneCache.Soft) {
+                    ((ZoneCache.Soft) zc).resize(minimumCacheSize);
+                    return;
+                }
             }
 
-            synchronized (Timezone.class) {
-                softLimit = minimumCacheSize + 1;
-                int n = LAST_USED.size() - minimumCacheSize;
+            setPolicy(policy.pin(zc.getPolicy().getPinnedIDs()));
 
-                for (int i = 0; i < n; i++) {
-                    LAST_USED.removeLast();
-                }
+        }
+
+        /**
+         * <p>Installs a new cache policy. </p>
+         *
+         * <p>The previously cached zones will be discarded and the statistics start again
+         * with zero. Pinned zones are loaded immediately (unknown identifiers are ignored). </p>
+         *
+         * @param   policy      new cache policy
+         * @see     #getStatistics()
+         * @since   4.18
+         */
+        /*[deutsch]
+         * <p>Installiert eine neue Cache-Strategie. </p>
+         *
+         * <p>Die bisher gespeicherten Zeitzonen werden verworfen, und die Statistik beginnt
+         * wieder mit null. Festgehaltene Zeitzonen werden sofort geladen (unbekannte Namen
+         * werden ignoriert). </p>
+         *
+         * @param   policy      new cache policy
+         * @see     #getStatistics()
+         * @since   4.18
+         */
+        public static void setPolicy(CachePolicy policy) {
+
+            ZoneCache zc = policy.createCache();
+            ZoneCache old;
+
+            synchronized (Cache.class) {
+                old = cache;
+                cache = zc;
             }
 
+            old.clear();
+            loadPinned(zc);
+
         }
 
-    }
+        /**
+         * <p>Yields the current cache policy. </p>
+         *
+         * @return  CachePolicy
+         * @since   4.18
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Cache-Strategie. </p>
+         *
+         * @return  CachePolicy
+         * @since   4.18
+         */
+        public static CachePolicy getPolicy() {
 
-    private static class NamedReference
-        extends SoftReference<Timezone> {
+            return cache.getPolicy();
 
-        //~ Instanzvariablen ----------------------------------------------
+        }
 
-        private final String tzid;
+        /**
+         * <p>Yields a snapshot of the counters of the internal timezone cache. </p>
+         *
+         * <p>Hits and misses refer to all lookups of timezones by identifier (fixed offsets
+         * excluded), loads are counted when the cache misses and a timezone model provider is
+         * queried. </p>
+         *
+         * @return  CacheStatistics
+         * @since   4.18
+         */
+        /*[deutsch]
+         * <p>Liefert eine Momentaufnahme der Z&auml;hler des internen Zeitzonen-Cache. </p>
+         *
+         * <p>Treffer und Fehlversuche beziehen sich auf alle Suchvorg&auml;nge von Zeitzonen
+         * per Name (ohne feste Verschiebungen), und Ladevorg&auml;nge werden gez&auml;hlt, wenn
+         * der Cache nichts findet und ein Zeitzonen-Provider abgefragt wird. </p>
+         *
+         * @return  CacheStatistics
+         * @since   4.18
+         */
+        public static CacheStatistics getStatistics() {
 
-        //~ Konstruktoren -------------------------------------------------
+            return cache.getStatistics();
 
-        NamedReference(
-            Timezone tz,
-            ReferenceQueue<Timezone> queue
-        ) {
-            super(tz, queue);
-            this.tzid = tz.getID().canonical();
+        }
+
+        private static void loadPinned(ZoneCache zc) {
+
+            if (cacheActive) {
+                for (String id : zc.getPolicy().getPinnedIDs()) {
+                    Timezone.getTZ(null, id, false);
+                }
+            }
 
         }
 
@@ -1727,6 +2088,32 @@ public abstract class Timezone
 
     }
 
+    // wiederverwendbarer Zeitpunkt für Massenabfragen ohne Objekterzeugung je Element
+    private static class MutableUnixTime
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long posixTime;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posixTime;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+    }
+
     private static class ZonalKeys {
 
         //~ Instanzvariablen ----------------------------------------------
@@ -399,4 +399,102 @@ public interface TransitionHistory {
         return this.getConflictTransition(localDate, localTime);
     }
 
+    /**
+     * <p>Queries the total offset which is valid at given global timestamp. </p>
+     *
+     * <p>Equivalent to the total offset of {@link #findStartTransition(UnixTime)} or to the
+     * {@link #getInitialOffset() initial offset} if there is no such transition. Implementations
+     * can override this method in order to avoid the creation of transition objects. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  total offset valid at given timestamp
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die zur angegebenen Referenzzeit g&uuml;ltige Gesamtverschiebung. </p>
+     *
+     * <p>&Auml;quivalent zur Gesamtverschiebung von {@link #findStartTransition(UnixTime)} oder
+     * zur {@link #getInitialOffset() initialen Verschiebung}, wenn es keinen solchen &Uuml;bergang
+     * gibt. Implementierungen k&ouml;nnen diese Methode &uuml;berschreiben, um die Erzeugung von
+     * &Uuml;bergangsobjekten zu vermeiden. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  total offset valid at given timestamp
+     * @since   4.18
+     */
+    default ZonalOffset getOffset(UnixTime ut) {
+        ZonalTransition t = this.findStartTransition(ut);
+        return ((t == null) ? this.getInitialOffset() : ZonalOffset.ofTotalSeconds(t.getTotalOffset()));
+    }
+
+    /**
+     * <p>Determines the total offsets for an array of POSIX timestamps in one pass. </p>
+     *
+     * <p>This bulk method is equivalent to calling {@link #getOffset(UnixTime)} for every
+     * element and storing the result in full seconds (rounded down if there is any fractional
+     * part as in {@link Timezone#getOffsets(long[], int[])}). The input need not be sorted,
+     * but sorted input is fastest because the interval between two transitions which was
+     * found for the previous element is reused for all following elements inside it, so
+     * transitions are only searched once per interval and no objects are created per element. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @throws  IllegalArgumentException if the target array is too short
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Gesamtverschiebungen f&uuml;r ein Array von POSIX-Zeitstempeln in einem
+     * Durchgang. </p>
+     *
+     * <p>Diese Massenmethode ist &auml;quivalent zum Aufruf von {@link #getOffset(UnixTime)}
+     * f&uuml;r jedes Element, wobei das Ergebnis in vollen Sekunden gespeichert wird (bei einem
+     * Sekundenbruchteil abgerundet wie in {@link Timezone#getOffsets(long[], int[])}). Die
+     * Eingabe mu&szlig; nicht sortiert sein, aber sortierte Eingaben sind am schnellsten, weil
+     * das f&uuml;r das vorherige Element gefundene Intervall zwischen zwei &Uuml;berg&auml;ngen
+     * f&uuml;r alle folgenden Elemente darin wiederverwendet wird. &Uuml;berg&auml;nge werden
+     * so nur einmal je Intervall gesucht, und es werden keine Objekte je Element erzeugt. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @throws  IllegalArgumentException if the target array is too short
+     * @since   4.18
+     */
+    default void getTotalOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+        if (totalOffsets.length < posixTimes.length) {
+            throw new IllegalArgumentException(
+                "Target array too short: " + totalOffsets.length + " < " + posixTimes.length);
+        }
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        int offset = 0;
+        for (int i = 0; i < posixTimes.length; i++) {
+            final long t = posixTimes[i];
+            if ((t < start) || (t >= end)) {
+                UnixTime ut =
+                    new UnixTime() {
+                        @Override
+                        public long getPosixTime() {
+                            return t;
+                        }
+                        @Override
+                        public int getNanosecond() {
+                            return 0;
+                        }
+                    };
+                ZonalTransition previous = this.findStartTransition(ut);
+                ZonalTransition next = this.findNextTransition(ut);
+                start = ((previous == null) ? Long.MIN_VALUE : previous.getPosixTime());
+                end = ((next == null) ? Long.MAX_VALUE : next.getPosixTime());
+                offset = (
+                    (previous == null)
+                    ? Timezone.floorSeconds(this.getInitialOffset())
+                    : previous.getTotalOffset());
+            }
+            totalOffsets[i] = offset;
+        }
+    }
+
 }
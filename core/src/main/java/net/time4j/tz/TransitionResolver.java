@@ -24,12 +24,14 @@ package net.time4j.tz;
 import net.time4j.base.GregorianDate;
 import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
+import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
 
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
@@ -267,6 +269,44 @@ final class TransitionResolver
 
     }
 
+    // called by Timezone.toPosixTimes()
+    static int resolve(
+        Timezone tz,
+        long[] localSecs,
+        long[] posixTimes,
+        BitSet gaps,
+        BitSet overlaps
+    ) {
+
+        TransitionStrategy strategy = tz.getStrategy();
+        TransitionHistory history = tz.getHistory();
+
+        if ((history != null) && (strategy instanceof TransitionResolver)) {
+            TransitionResolver resolver = (TransitionResolver) strategy;
+            return resolver.resolve(tz, history, localSecs, posixTimes, gaps, overlaps);
+        }
+
+        LocalTimestamp tsp = new LocalTimestamp();
+        int count = 0;
+
+        for (int i = 0; i < localSecs.length; i++) {
+            tsp.setLocalSeconds(localSecs[i]);
+            boolean gap = tz.isInvalid(tsp, tsp);
+            boolean overlap = false;
+
+            if (!gap && (history != null)) {
+                ZonalTransition conflict = history.findConflictTransition(tsp, tsp);
+                overlap = ((conflict != null) && conflict.isOverlap());
+            }
+
+            posixTimes[i] = strategy.resolve(tsp, tsp, tz);
+            count += mark(i, gap, overlap, gaps, overlaps);
+        }
+
+        return count;
+
+    }
+
     // Benutzt in der Serialisierung
     int getKey() {
 
@@ -294,6 +334,81 @@ final class TransitionResolver
 
     }
 
+    // Massenauflösung, bei der Übergänge nur beim Verlassen des aktuellen lokalen Segments gesucht werden
+    private int resolve(
+        Timezone tz,
+        TransitionHistory history,
+        long[] localSecs,
+        long[] posixTimes,
+        BitSet gaps,
+        BitSet overlaps
+    ) {
+
+        LocalSegment segment = new LocalSegment();
+        int count = 0;
+
+        for (int i = 0; i < localSecs.length; i++) {
+            long localSeconds = localSecs[i];
+
+            if (!segment.contains(localSeconds)) {
+                segment.search(history, localSeconds);
+            }
+
+            int previous = segment.previousOffset;
+            int total = segment.totalOffset;
+            boolean gap = (previous < total);
+            boolean overlap = (previous > total);
+
+            if (gap) {
+                switch (this.gapResolver) {
+                    case PUSH_FORWARD:
+                        posixTimes[i] = localSeconds - previous;
+                        break;
+                    case NEXT_VALID_TIME:
+                        posixTimes[i] = segment.transition;
+                        break;
+                    case ABORT:
+                        LocalTimestamp tsp = new LocalTimestamp();
+                        tsp.setLocalSeconds(localSeconds);
+                        throwInvalidException(tsp, tsp, tz);
+                        break;
+                    default:
+                        String msg = this.gapResolver.name();
+                        throw new UnsupportedOperationException(msg);
+                }
+            } else if (overlap && (this.overlapResolver == OverlapResolver.EARLIER_OFFSET)) {
+                posixTimes[i] = localSeconds - previous;
+            } else {
+                posixTimes[i] = localSeconds - total;
+            }
+
+            count += mark(i, gap, overlap, gaps, overlaps);
+        }
+
+        return count;
+
+    }
+
+    private static int mark(
+        int index,
+        boolean gap,
+        boolean overlap,
+        BitSet gaps,
+        BitSet overlaps
+    ) {
+
+        if (gaps != null) {
+            gaps.set(index, gap);
+        }
+
+        if (overlaps != null) {
+            overlaps.set(index, overlap);
+        }
+
+        return ((gap || overlap) ? 1 : 0);
+
+    }
+
     private static void throwInvalidException(
         GregorianDate date,
         WallTime time,
@@ -345,4 +460,224 @@ final class TransitionResolver
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Bereich auf dem lokalen Zeitstrahl, in dem entweder genau ein Offset g&uuml;ltig ist
+     * oder der ganz in einer L&uuml;cke oder &Uuml;berlappung liegt. </p>
+     *
+     * <p>Die Instanz dient gleichzeitig als ver&auml;nderliche Suchzeit f&uuml;r die Historie,
+     * damit bei der Suche keine Hilfsobjekte entstehen. </p>
+     */
+    private static class LocalSegment
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long start = Long.MAX_VALUE; // inklusive
+        private long end = Long.MIN_VALUE; // exklusive
+        private long transition;
+        private int previousOffset;
+        private int totalOffset;
+        private long posixTime;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posixTime;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+        boolean contains(long localSecs) {
+
+            return ((this.start <= localSecs) && (localSecs < this.end));
+
+        }
+
+        // Suche über die Intervalle zwischen zwei Übergängen auf dem globalen Zeitstrahl, die
+        // sich nur in eine Richtung bewegt und deshalb immer terminiert
+        void search(
+            TransitionHistory history,
+            long localSecs
+        ) {
+
+            long posix = localSecs - this.totalOffset;
+
+            while (true) {
+                this.posixTime = posix;
+                ZonalTransition first = history.findStartTransition(this);
+                ZonalTransition next = history.findNextTransition(this);
+                int offset = (
+                    (first == null)
+                    ? history.getInitialOffset().getIntegralAmount()
+                    : first.getTotalOffset());
+                long lower = Long.MIN_VALUE;
+                long upper = Long.MAX_VALUE;
+
+                if (first != null) {
+                    long t = first.getPosixTime();
+                    int previous = first.getPreviousOffset();
+                    lower = t + Math.max(previous, offset);
+                    if (localSecs < lower) {
+                        if (localSecs >= t + Math.min(previous, offset)) {
+                            this.set(t + Math.min(previous, offset), lower, t, previous, offset);
+                            return;
+                        }
+                        posix = t - 1;
+                        continue;
+                    }
+                }
+
+                if (next != null) {
+                    long t = next.getPosixTime();
+                    int following = next.getTotalOffset();
+                    upper = t + Math.min(offset, following);
+                    if (localSecs >= upper) {
+                        if (localSecs < t + Math.max(offset, following)) {
+                            this.set(upper, t + Math.max(offset, following), t, offset, following);
+                            return;
+                        }
+                        posix = t;
+                        continue;
+                    }
+                }
+
+                this.set(lower, upper, 0, offset, offset);
+                return;
+            }
+
+        }
+
+        private void set(
+            long start,
+            long end,
+            long transition,
+            int previousOffset,
+            int totalOffset
+        ) {
+
+            this.start = start;
+            this.end = end;
+            this.transition = transition;
+            this.previousOffset = previousOffset;
+            this.totalOffset = totalOffset;
+
+        }
+
+    }
+
+    /**
+     * <p>Ver&auml;nderlicher lokaler Zeitstempel ohne Nanosekunden, der aus lokalen Sekunden
+     * seit [1970-01-01T00:00] berechnet wird. </p>
+     */
+    private static class LocalTimestamp
+        implements GregorianDate, WallTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private int year;
+        private int month;
+        private int dayOfMonth;
+        private int secondOfDay;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getYear() {
+
+            return this.year;
+
+        }
+
+        @Override
+        public int getMonth() {
+
+            return this.month;
+
+        }
+
+        @Override
+        public int getDayOfMonth() {
+
+            return this.dayOfMonth;
+
+        }
+
+        @Override
+        public int getHour() {
+
+            return this.secondOfDay / 3600;
+
+        }
+
+        @Override
+        public int getMinute() {
+
+            return (this.secondOfDay / 60) % 60;
+
+        }
+
+        @Override
+        public int getSecond() {
+
+            return this.secondOfDay % 60;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder(20);
+            sb.append(this.year);
+            append(sb.append('-'), this.month);
+            append(sb.append('-'), this.dayOfMonth);
+            append(sb.append('T'), this.getHour());
+            append(sb.append(':'), this.getMinute());
+            append(sb.append(':'), this.getSecond());
+            return sb.toString();
+
+        }
+
+        void setLocalSeconds(long localSecs) {
+
+            long days = Math.floorDiv(localSecs, 86400);
+            long packedDate = GregorianMath.toPackedDate(days + 40587L);
+            this.year = GregorianMath.readYear(packedDate);
+            this.month = GregorianMath.readMonth(packedDate);
+            this.dayOfMonth = GregorianMath.readDayOfMonth(packedDate);
+            this.secondOfDay = (int) (localSecs - days * 86400);
+
+        }
+
+        private static void append(
+            StringBuilder sb,
+            int value
+        ) {
+
+            if (value < 10) {
+                sb.append('0');
+            }
+
+            sb.append(value);
+
+        }
+
+    }
+
 }
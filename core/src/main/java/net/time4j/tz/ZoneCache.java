@@ -0,0 +1,479 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import net.time4j.base.BoundedCache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Interner Zeitzonen-Cache gem&auml;&szlig; einer {@link CachePolicy}. </p>
+ *
+ * <p>Treffer kommen immer ohne Sperren aus. Nur das Einf&uuml;gen nach dem Laden einer
+ * Zeitzone synchronisiert auf der jeweiligen Cache-Instanz. Festgehaltene Zeitzonen
+ * werden getrennt gespeichert und nie entfernt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+abstract class ZoneCache {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private volatile CachePolicy policy;
+    private final Set<String> pinnedIDs;
+    private final ConcurrentMap<String, Timezone> pinnedZones;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    ZoneCache(CachePolicy policy) {
+        super();
+
+        this.policy = policy;
+        this.pinnedIDs = policy.getPinnedIDs();
+        this.pinnedZones = new ConcurrentHashMap<>();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Sucht eine Zeitzone im Cache und z&auml;hlt die Treffer. </p>
+     *
+     * <p>Ein Fehlversuch wird erst nach dem Laden gez&auml;hlt, weil erst dann feststeht,
+     * ob es die Zeitzone &uuml;berhaupt gibt (siehe {@link #recordMiss()} und
+     * {@link #recordNotFound()}). </p>
+     *
+     * @param   zoneID      timezone identifier
+     * @return  cached timezone or {@code null}
+     */
+    final Timezone get(String zoneID) {
+
+        Timezone tz = (this.pinnedIDs.isEmpty() ? null : this.pinnedZones.get(zoneID));
+
+        if (tz == null) {
+            tz = this.lookup(zoneID);
+        }
+
+        if (tz != null) {
+            this.hits.increment();
+        }
+
+        return tz;
+
+    }
+
+    /**
+     * <p>Speichert eine geladene Zeitzone, falls nicht schon vorhanden. </p>
+     *
+     * @param   zoneID      timezone identifier
+     * @param   tz          loaded timezone
+     * @return  the timezone which is finally cached (maybe loaded by another thread)
+     */
+    final Timezone put(
+        String zoneID,
+        Timezone tz
+    ) {
+
+        if (this.pinnedIDs.contains(zoneID)) {
+            Timezone old = this.pinnedZones.putIfAbsent(zoneID, tz);
+            return ((old == null) ? tz : old);
+        }
+
+        return this.store(zoneID, tz);
+
+    }
+
+    /**
+     * <p>Registriert einen Ladevorgang. </p>
+     *
+     * @param   nanos       elapsed time of loading in nanoseconds
+     */
+    final void recordLoad(long nanos) {
+
+        this.loads.increment();
+        this.loadTime.add(nanos);
+
+    }
+
+    /**
+     * <p>Z&auml;hlt eine nicht im Cache gefundene, aber erfolgreich geladene Zeitzone. </p>
+     */
+    final void recordMiss() {
+
+        this.misses.increment();
+
+    }
+
+    /**
+     * <p>Z&auml;hlt eine ung&uuml;ltige oder unbekannte Zeitzonen-ID. </p>
+     */
+    final void recordNotFound() {
+
+        this.notFound.increment();
+
+    }
+
+    /**
+     * <p>Entfernt alle Zeitzonen einschlie&szlig;lich der festgehaltenen Zeitzonen. </p>
+     */
+    final void clear() {
+
+        this.pinnedZones.clear();
+        this.evictAll();
+
+    }
+
+    /**
+     * <p>Liefert die zugrundeliegende Strategie. </p>
+     *
+     * @return  CachePolicy
+     */
+    final CachePolicy getPolicy() {
+
+        return this.policy;
+
+    }
+
+    /**
+     * <p>Ersetzt die zugrundeliegende Strategie durch eine mit denselben festgehaltenen
+     * Zeitzonen. </p>
+     *
+     * @param   policy      changed cache policy
+     */
+    final void updatePolicy(CachePolicy policy) {
+
+        this.policy = policy;
+
+    }
+
+    /**
+     * <p>Erzeugt eine Momentaufnahme der Z&auml;hler. </p>
+     *
+     * @return  statistics
+     */
+    final CacheStatistics getStatistics() {
+
+        return new CacheStatistics(
+            this.hits.sum(),
+            this.misses.sum(),
+            this.notFound.sum(),
+            this.loads.sum(),
+            this.loadTime.sum(),
+            this.getEvictionCount(),
+            this.pinnedZones.size() + this.size());
+
+    }
+
+    /**
+     * <p>Z&auml;hlt eine entfernte Zeitzone. </p>
+     */
+    final void recordEviction() {
+
+        this.evictions.increment();
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der entfernten Zeitzonen. </p>
+     *
+     * @return  count of evictions
+     */
+    long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    /**
+     * <p>Sucht eine nicht festgehaltene Zeitzone. </p>
+     *
+     * @param   zoneID      timezone identifier
+     * @return  cached timezone or {@code null}
+     */
+    abstract Timezone lookup(String zoneID);
+
+    /**
+     * <p>Speichert eine nicht festgehaltene Zeitzone. </p>
+     *
+     * @param   zoneID      timezone identifier
+     * @param   tz          loaded timezone
+     * @return  the timezone which is finally cached
+     */
+    abstract Timezone store(
+        String zoneID,
+        Timezone tz
+    );
+
+    /**
+     * <p>Entfernt alle nicht festgehaltenen Zeitzonen. </p>
+     */
+    abstract void evictAll();
+
+    /**
+     * <p>Liefert die Anzahl der nicht festgehaltenen Zeitzonen. </p>
+     *
+     * @return  count of cached zones
+     */
+    abstract int size();
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Bisheriges Verhalten: weiche Referenzen plus eine Liste der zuletzt geladenen
+     * Zeitzonen mit starken Referenzen. </p>
+     */
+    static final class Soft
+        extends ZoneCache {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ConcurrentMap<String, NamedReference> map;
+        private final ReferenceQueue<Timezone> queue;
+        private final LinkedList<Timezone> lastUsed; // strong references
+        private int minimumSize; // guarded by this
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Soft(CachePolicy policy) {
+            super(policy);
+
+            this.map = new ConcurrentHashMap<>();
+            this.queue = new ReferenceQueue<>();
+            this.lastUsed = new LinkedList<>();
+            this.minimumSize = policy.getSize();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        Timezone lookup(String zoneID) {
+
+            NamedReference ref = this.map.get(zoneID);
+
+            if (ref == null) {
+                return null;
+            }
+
+            Timezone tz = ref.get();
+
+            if ((tz == null) && this.map.remove(zoneID, ref)) {
+                this.recordEviction();
+            }
+
+            return tz;
+
+        }
+
+        @Override
+        Timezone store(
+            String zoneID,
+            Timezone tz
+        ) {
+
+            this.expunge();
+            NamedReference ref = new NamedReference(zoneID, tz, this.queue);
+
+            while (true) {
+                NamedReference old = this.map.putIfAbsent(zoneID, ref);
+
+                if (old == null) {
+                    synchronized (this) {
+                        this.lastUsed.addFirst(tz);
+
+                        while (this.lastUsed.size() > this.minimumSize) {
+                            this.lastUsed.removeLast();
+                        }
+                    }
+                    return tz;
+                }
+
+                Timezone oldZone = old.get();
+
+                if (oldZone != null) {
+                    return oldZone;
+                } else if (this.map.replace(zoneID, old, ref)) {
+                    this.recordEviction();
+                    return tz;
+                }
+            }
+
+        }
+
+        /**
+         * <p>&Auml;ndert die Anzahl der stark referenzierten Zeitzonen, ohne gespeicherte
+         * Zeitzonen oder die Statistik zu verwerfen. </p>
+         *
+         * @param   minimumSize     new count of strongly referenced zones
+         */
+        void resize(int minimumSize) {
+
+            CachePolicy changed =
+                CachePolicy.softReferences(minimumSize).pin(this.getPolicy().getPinnedIDs());
+
+            synchronized (this) {
+                this.minimumSize = minimumSize;
+
+                while (this.lastUsed.size() > minimumSize) {
+                    this.lastUsed.removeLast();
+                }
+            }
+
+            this.updatePolicy(changed);
+
+        }
+
+        @Override
+        void evictAll() {
+
+            synchronized (this) {
+                while (this.queue.poll() != null) {}
+                this.lastUsed.clear();
+            }
+
+            this.map.clear();
+
+        }
+
+        @Override
+        int size() {
+
+            this.expunge();
+            return this.map.size();
+
+        }
+
+        private void expunge() {
+
+            NamedReference ref;
+
+            while ((ref = (NamedReference) this.queue.poll()) != null) {
+                if (this.map.remove(ref.zoneID, ref)) {
+                    this.recordEviction();
+                }
+            }
+
+        }
+
+    }
+
+    /**
+     * <p>Begrenzter Cache mit starken Referenzen, der an {@link BoundedCache} delegiert.
+     * Zeitzonen werden nach dem Second-Chance-Algorithmus (gen&auml;hertes LRU) entfernt,
+     * so da&szlig; ein Treffer keine Sperre braucht. </p>
+     */
+    static final class Bounded
+        extends ZoneCache {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final BoundedCache<String, Timezone> delegate;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Bounded(CachePolicy policy) {
+            super(policy);
+
+            this.delegate = BoundedCache.createUnregistered("timezones", policy.getSize());
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        Timezone lookup(String zoneID) {
+
+            return this.delegate.get(zoneID);
+
+        }
+
+        @Override
+        Timezone store(
+            String zoneID,
+            Timezone tz
+        ) {
+
+            return this.delegate.putIfAbsent(zoneID, tz);
+
+        }
+
+        @Override
+        void evictAll() {
+
+            this.delegate.clear();
+
+        }
+
+        @Override
+        int size() {
+
+            return this.delegate.size();
+
+        }
+
+        @Override
+        long getEvictionCount() {
+
+            return super.getEvictionCount() + this.delegate.getEvictionCount();
+
+        }
+
+    }
+
+    private static class NamedReference
+        extends SoftReference<Timezone> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String zoneID;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        NamedReference(
+            String zoneID,
+            Timezone tz,
+            ReferenceQueue<Timezone> queue
+        ) {
+            super(tz, queue);
+
+            this.zoneID = zoneID;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,200 @@
+package net.time4j;
+
+import net.time4j.base.BoundedCache;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BoundedCacheTest {
+
+    @Test
+    public void computeIfAbsent() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.compute", 10);
+        assertThat(cache.get(1), nullValue());
+        assertThat(cache.computeIfAbsent(1, String::valueOf), is("1"));
+        assertThat(cache.computeIfAbsent(1, k -> "x"), is("1"));
+        assertThat(cache.get(1), is("1"));
+        assertThat(cache.size(), is(1));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(2L));
+        assertThat(cache.getLoadCount(), is(1L));
+        assertThat(cache.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void reentrantLoader() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.reentrant", 10);
+        String value = cache.computeIfAbsent(1, k -> cache.computeIfAbsent(k + 1, String::valueOf) + "!");
+        assertThat(value, is("2!"));
+        assertThat(cache.get(1), is("2!"));
+        assertThat(cache.get(2), is("2"));
+    }
+
+    @Test
+    public void putIfAbsent() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.put", 10);
+        assertThat(cache.putIfAbsent(1, "a"), is("a"));
+        assertThat(cache.putIfAbsent(1, "b"), is("a"));
+        assertThat(cache.get(1), is("a"));
+    }
+
+    @Test
+    public void nullNotCached() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.null", 10);
+        assertThat(cache.computeIfAbsent(1, k -> null), nullValue());
+        assertThat(cache.size(), is(0));
+        assertThat(cache.getLoadCount(), is(0L));
+    }
+
+    @Test
+    public void evictionWithSecondChance() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.evict", 3);
+        for (int i = 1; i <= 3; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        cache.get(1); // second chance for first entry
+        cache.computeIfAbsent(4, String::valueOf);
+        assertThat(cache.size(), is(3));
+        assertThat(cache.getEvictionCount(), is(1L));
+        assertThat(cache.get(1), is("1"));
+        assertThat(cache.get(2), nullValue());
+        assertThat(cache.get(3), is("3"));
+        assertThat(cache.get(4), is("4"));
+    }
+
+    @Test
+    public void neverExceedsCapacity() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.bounded", 25);
+        for (int i = 0; i < 1000; i++) {
+            cache.computeIfAbsent(i % 100, String::valueOf);
+            cache.get(i % 7);
+            assertThat(cache.size() <= 25, is(true));
+        }
+        assertThat(cache.getEvictionCount(), is(cache.getLoadCount() - 25));
+    }
+
+    @Test
+    public void setCapacity() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.capacity", 10);
+        for (int i = 0; i < 10; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        cache.setCapacity(4);
+        assertThat(cache.getCapacity(), is(4));
+        assertThat(cache.size(), is(4));
+        cache.setCapacity(0);
+        assertThat(cache.computeIfAbsent(1, String::valueOf), is("1"));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void setNegativeCapacity() {
+        BoundedCache.create("test.negative", 10).setCapacity(-1);
+    }
+
+    @Test
+    public void capacityBySystemProperty() {
+        System.setProperty("net.time4j.cache.test.property.capacity", "7");
+        try {
+            assertThat(BoundedCache.create("test.property", 10).getCapacity(), is(7));
+        } finally {
+            System.clearProperty("net.time4j.cache.test.property.capacity");
+        }
+    }
+
+    @Test
+    public void clear() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.clear", 10);
+        cache.computeIfAbsent(1, String::valueOf);
+        cache.clear();
+        assertThat(cache.size(), is(0));
+        assertThat(cache.get(1), nullValue());
+    }
+
+    @Test
+    public void unregistered() {
+        BoundedCache<Integer, String> cache = BoundedCache.createUnregistered("test.unregistered", 2);
+        assertThat(BoundedCache.getRegisteredCaches().contains(cache), is(false));
+        cache.putIfAbsent(1, "1");
+        cache.putIfAbsent(2, "2");
+        cache.putIfAbsent(3, "3");
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void registry() {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.registry", 10);
+        assertThat(BoundedCache.getRegisteredCaches().contains(cache), is(true));
+        Weekmodel.of(Locale.US);
+        boolean found = false;
+        for (BoundedCache<?, ?> c : BoundedCache.getRegisteredCaches()) {
+            if (c.getName().equals("weekmodel")) {
+                found = true;
+            }
+        }
+        assertThat(found, is(true));
+    }
+
+    @Test
+    public void concurrentLoadingStoresOnce() throws Exception {
+        BoundedCache<Integer, String> cache = BoundedCache.create("test.concurrent", 50);
+        AtomicInteger counter = new AtomicInteger();
+        String[] first = new String[40];
+        AtomicInteger mismatches = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < 8; t++) {
+                futures[t] = executor.submit(
+                    () -> {
+                        start.await();
+                        for (int i = 0; i < 1000; i++) {
+                            String value =
+                                cache.computeIfAbsent(
+                                    i % 40,
+                                    k -> {
+                                        counter.incrementAndGet();
+                                        return new String(String.valueOf(k));
+                                    });
+                            synchronized (first) {
+                                if (first[i % 40] == null) {
+                                    first[i % 40] = value;
+                                } else if (first[i % 40] != value) {
+                                    mismatches.incrementAndGet();
+                                }
+                            }
+                        }
+                        return null;
+                    });
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(counter.get() >= 40, is(true));
+        assertThat(mismatches.get(), is(0)); // all threads see the same stored value
+        assertThat(cache.getLoadCount(), is(40L));
+        assertThat(cache.size(), is(40));
+        assertThat(cache.getHitCount() + cache.getMissCount(), is(8000L));
+    }
+
+}
@@ -15,10 +15,13 @@ import org.junit.runners.Suite.SuiteClasses;
     {
         TestInitialization.class,
         AxisElementTest.class,
+        BoundedCacheTest.class,
         CompareZonalDateTimeTest.class,
         ComponentElementTest.class,
         DateSuite.class,
         DurationSuite.class,
+        EpochCodecTest.class,
+        InstrumentationTest.class,
         JDBCAdapterTest.class,
         MinMaxTest.class,
         NumberSuite.class,
@@ -28,7 +28,8 @@ import org.junit.runners.Suite.SuiteClasses;
         StdYearRangeArithmeticTest.class,
         WeekdayValueTest.class,
         WeekmodelTest.class,
-        YearMonthArithmeticTest.class
+        YearMonthArithmeticTest.class,
+        YearTableTest.class
     }
 )
 public class DateSuite {
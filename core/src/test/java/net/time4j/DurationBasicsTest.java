@@ -659,6 +659,25 @@ public class DurationBasicsTest {
             is(datePeriod));
     }
 
+    @Test
+    public void multipliedByLong() {
+        Duration<ClockUnit> timePeriod = Duration.of(3, NANOS);
+        assertThat(
+            timePeriod.multipliedBy(3_000_000_000L).toString(),
+            is("PT9,000000000S"));
+        assertThat(
+            timePeriod.multipliedBy(-3_000_000_000L).toString(),
+            is("-PT9,000000000S"));
+        assertThat(
+            timePeriod.multipliedBy(2L),
+            is(timePeriod.multipliedBy(2)));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void multipliedByLongOverflow() {
+        Duration.of(3, NANOS).multipliedBy(Long.MAX_VALUE / 2);
+    }
+
     @Test
     public void union() {
         Duration<CalendarUnit> datePeriod =
@@ -0,0 +1,127 @@
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EpochCodecTest {
+
+    @Test
+    public void epochNanos() {
+        long nanos = EpochCodec.toEpochNanos(-1L, 123456789);
+        assertThat(nanos, is(-876543211L));
+        assertThat(EpochCodec.getPosixTime(nanos), is(-1L));
+        assertThat(EpochCodec.getNanosecond(nanos), is(123456789));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void epochNanosWithInvalidFraction() {
+        EpochCodec.toEpochNanos(0L, 1000000000);
+    }
+
+    @Test
+    public void packedTimestamp() {
+        long local = EpochCodec.fromPackedTimestamp(20160731174530L);
+        assertThat(local, is(PlainTimestamp.of(2016, 7, 31, 17, 45, 30).atUTC().getPosixTime()));
+        assertThat(EpochCodec.toPackedTimestamp(local), is(20160731174530L));
+        assertThat(EpochCodec.toPackedTimestamp(-1L), is(19691231235959L));
+        assertThat(EpochCodec.getSecondOfDay(-1L), is(86399));
+        long packedDate = EpochCodec.toPackedDate(local);
+        assertThat(GregorianMath.readYear(packedDate), is(2016));
+        assertThat(GregorianMath.readMonth(packedDate), is(7));
+        assertThat(GregorianMath.readDayOfMonth(packedDate), is(31));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void packedTimestampWithInvalidDay() {
+        EpochCodec.fromPackedTimestamp(20150229000000L);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void packedTimestampWithInvalidMinute() {
+        EpochCodec.fromPackedTimestamp(20150228006000L);
+    }
+
+    @Test
+    public void localSecondsWithFractionalOffset() {
+        for (String longitude : new String[] {"13.4041", "-74.0059"}) {
+            ZonalOffset lmt = ZonalOffset.atLongitude(new BigDecimal(longitude));
+            Moment m = Moment.of(1000000000L, TimeScale.POSIX);
+            PlainTimestamp tsp = m.toZonalTimestamp(lmt);
+            long local = EpochCodec.toLocalSeconds(m.getPosixTime(), lmt);
+            assertThat(local, is(tsp.with(PlainTime.NANO_OF_SECOND, 0).atUTC().getPosixTime()));
+            assertThat(EpochCodec.toPosixTime(local, lmt), is(tsp.with(PlainTime.NANO_OF_SECOND, 0).at(lmt).getPosixTime()));
+        }
+    }
+
+    @Test
+    public void toLocalSecondsInTimezone() {
+        for (String id : new String[] {"Europe/Berlin", "America/New_York", "Australia/Sydney"}) {
+            Timezone tz = Timezone.of(id);
+            long start = PlainTimestamp.of(2015, 1, 1, 0, 0).atUTC().getPosixTime();
+            for (long t = start; t < start + 366 * 86400L; t += 1800 + 7) {
+                Moment m = Moment.of(t, TimeScale.POSIX);
+                long expected = m.toZonalTimestamp(tz.getID()).atUTC().getPosixTime();
+                assertThat(id + "/" + t, EpochCodec.toLocalSeconds(t, tz), is(expected));
+                long nanos = EpochCodec.toEpochNanos(t, 500);
+                assertThat(EpochCodec.toLocalNanos(nanos, tz), is(EpochCodec.toEpochNanos(expected, 500)));
+            }
+        }
+    }
+
+    @Test
+    public void toPosixTimeInTimezone() {
+        for (String id : new String[] {"Europe/Berlin", "America/New_York", "Australia/Sydney"}) {
+            Timezone tz = Timezone.of(id);
+            Timezone other = tz.with(Timezone.STRICT_MODE);
+            long start = PlainTimestamp.of(2015, 1, 1, 0, 0).atUTC().getPosixTime();
+            for (long local = start; local < start + 366 * 86400L; local += 900) {
+                PlainTimestamp tsp = Moment.of(local, TimeScale.POSIX).toZonalTimestamp(ZonalOffset.UTC);
+                assertThat(id + "/" + tsp, EpochCodec.toPosixTime(local, tz), is(tsp.in(tz).getPosixTime()));
+                assertThat(id + "/" + tsp, strictPosixTime(local, other), is(strictPosixTime(tsp, other)));
+            }
+        }
+    }
+
+    @Test
+    public void toPosixTimeInFixedTimezone() {
+        ZonalOffset offset = ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5);
+        assertThat(EpochCodec.toPosixTime(0L, Timezone.of(offset)), is(18000L));
+        assertThat(EpochCodec.toLocalSeconds(18000L, Timezone.of(offset)), is(0L));
+    }
+
+    private static Long strictPosixTime(
+        long local,
+        Timezone tz
+    ) {
+        try {
+            return EpochCodec.toPosixTime(local, tz);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static Long strictPosixTime(
+        PlainTimestamp tsp,
+        Timezone tz
+    ) {
+        try {
+            return tsp.in(tz).getPosixTime();
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+}
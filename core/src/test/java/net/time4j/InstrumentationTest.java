@@ -0,0 +1,85 @@
+package net.time4j;
+
+import net.time4j.base.Instrumentation;
+import net.time4j.format.CalendarText;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class InstrumentationTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    @After
+    public void disable() {
+        Instrumentation.setListener(null);
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertThat(Instrumentation.isEnabled(), is(false));
+        assertThat(Instrumentation.getListener() == null, is(true));
+    }
+
+    @Test
+    public void zoneLoading() {
+        this.enable();
+        Timezone.Cache.refresh();
+        this.events.clear();
+        Timezone.of("America/Chicago");
+        Timezone.of("America/Chicago");
+        assertThat(this.events.contains("ZONE_LOADING|America/Chicago|MISS"), is(true));
+        assertThat(this.events.get(this.events.size() - 1), is("ZONE_LOADING|America/Chicago|HIT"));
+    }
+
+    @Test
+    public void zoneNotFound() {
+        this.enable();
+        assertThat(Timezone.of("Europe/Atlantis", ZonalOffset.UTC), is(Timezone.of(ZonalOffset.UTC)));
+        assertThat(this.events.size(), is(1));
+        assertThat(this.events.get(0), is("ZONE_LOADING|Europe/Atlantis|NOT_FOUND"));
+    }
+
+    @Test
+    public void calendarText() {
+        this.enable();
+        CalendarText.clearCache();
+        CalendarText.getInstance("iso8601", Locale.FRENCH);
+        CalendarText.getInstance("iso8601", Locale.FRENCH);
+        assertThat(this.events.size(), is(2));
+        assertThat(this.events.get(0), is("CALENDAR_TEXT|iso8601:fr|MISS"));
+        assertThat(this.events.get(1), is("CALENDAR_TEXT|iso8601:fr|HIT"));
+    }
+
+    @Test
+    public void noEventsAfterDisabling() {
+        this.enable();
+        Instrumentation.setListener(null);
+        Timezone.of("Europe/Paris");
+        CalendarText.getInstance("iso8601", Locale.ITALIAN);
+        assertThat(this.events.isEmpty(), is(true));
+    }
+
+    private void enable() {
+        Instrumentation.setListener(
+            (operation, key, nanos, outcome) -> {
+                assertThat(nanos >= 0, is(true));
+                this.events.add(operation + "|" + key + "|" + outcome);
+            }
+        );
+        assertThat(Instrumentation.isEnabled(), is(true));
+    }
+
+}
@@ -76,6 +76,59 @@ public class SystemClockTest {
         );
     }
 
+    @Test
+    public void precise() {
+        SystemClock clock = SystemClock.PRECISE;
+        Moment m = clock.currentTime();
+        assertThat(
+            Math.abs(m.until(SystemClock.INSTANCE.currentTime(), TimeUnit.SECONDS)) < 1,
+            is(true));
+        long micros = clock.currentTimeInMicros();
+        assertThat(
+            Math.abs(micros / 1000 - System.currentTimeMillis()) < 1000,
+            is(true));
+        long utc = clock.realTimeInMicros() / 1000000;
+        long unix = clock.currentTimeInMicros() / 1000000;
+        assertThat(
+            Math.abs(LeapSeconds.getInstance().strip(utc) - unix) <= 1,
+            is(true));
+    }
+
+    @Test
+    public void coarse() throws InterruptedException {
+        SystemClock clock = SystemClock.coarse(1000);
+        assertThat(clock == SystemClock.coarse(1000), is(true));
+        Moment m1 = clock.currentTime();
+        assertThat(
+            Math.abs(m1.until(SystemClock.INSTANCE.currentTime(), TimeUnit.SECONDS)) < 1,
+            is(true));
+        Thread.sleep(20);
+        Moment m2 = clock.currentTime();
+        assertThat(m2.isAfter(m1), is(true));
+        assertThat(
+            Math.abs(clock.currentTimeInMillis() / 1000 - clock.currentTime().getPosixTime()) <= 1,
+            is(true));
+    }
+
+    @Test
+    public void coarseClockIsShared() throws InterruptedException {
+        SystemClock clock = SystemClock.coarse(1000);
+        assertThat(SystemClock.coarse(50_000) == clock, is(true));
+        assertThat(SystemClock.coarse(1) == clock, is(true));
+        long threads = Thread.getAllStackTraces().keySet().stream()
+            .filter(t -> t.getName().startsWith("Time4J-Ticker"))
+            .count();
+        assertThat(threads, is(1L));
+        Moment m1 = clock.currentTime();
+        Thread.sleep(20);
+        assertThat(clock.currentTime().isAfter(m1), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void coarseWithInvalidInterval() {
+        SystemClock.coarse(0);
+    }
+
     @Test
     public void platformView() {
         System.out.println(SystemClock.inPlatformView().now());
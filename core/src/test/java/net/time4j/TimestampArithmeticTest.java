@@ -4,6 +4,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.Random;
+
 import static net.time4j.CalendarUnit.DAYS;
 import static net.time4j.CalendarUnit.MONTHS;
 import static net.time4j.ClockUnit.HOURS;
@@ -310,4 +312,49 @@ public class TimestampArithmeticTest {
             is(29 * 86400L * 1000 - 2));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void untilConsistentWithPlus() {
+        Random random = new Random(2016);
+        IsoUnit[] units = {
+            CalendarUnit.YEARS, CalendarUnit.QUARTERS, MONTHS, CalendarUnit.WEEKS, DAYS,
+            HOURS, MINUTES, ClockUnit.SECONDS, MILLIS
+        };
+        PlainTimestamp base = PlainTimestamp.of(2012, 1, 31, 12, 45);
+        for (int i = 0; i < 2000; i++) {
+            PlainTimestamp t1 = base.plus(random.nextInt(2000) - 1000, DAYS).plus(random.nextInt(86400), ClockUnit.SECONDS);
+            PlainTimestamp t2 = t1.plus(random.nextInt(800) - 400, DAYS).plus(random.nextInt(86400) - 43200, ClockUnit.SECONDS);
+            for (IsoUnit unit : units) {
+                long amount = t1.until(t2, unit);
+                PlainTimestamp lower = t1.plus(amount, unit);
+                PlainTimestamp upper = t1.plus(amount + Long.signum(t1.until(t2, ClockUnit.NANOS)), unit);
+                if (t1.isBefore(t2)) {
+                    assertThat(!lower.isAfter(t2) && upper.isAfter(t2), is(true));
+                } else if (t1.isAfter(t2)) {
+                    assertThat(!lower.isBefore(t2) && upper.isBefore(t2), is(true));
+                }
+                Duration<IsoUnit> duration = Duration.in(unit).between(t1, t2);
+                assertThat(duration.getPartialAmount(unit) * (duration.isNegative() ? -1 : 1), is(amount));
+            }
+        }
+    }
+
+    @Test
+    public void untilMonthsAtEndOfMonth() {
+        assertThat(
+            PlainTimestamp.of(2012, 1, 31, 12, 45).until(PlainTimestamp.of(2012, 2, 29, 12, 46), MONTHS),
+            is(0L));
+        assertThat(
+            PlainTimestamp.of(2012, 1, 29, 12, 45).until(PlainTimestamp.of(2012, 2, 29, 12, 44), MONTHS),
+            is(0L));
+        assertThat(
+            PlainTimestamp.of(2012, 1, 29, 12, 45).until(PlainTimestamp.of(2012, 2, 29, 12, 45), MONTHS),
+            is(1L));
+        assertThat(
+            PlainTimestamp.of(2012, 2, 29, 12, 45).until(PlainTimestamp.of(2012, 1, 31, 12, 46), MONTHS),
+            is(0L));
+        assertThat(
+            PlainTimestamp.of(2012, 2, 29, 12, 45).until(PlainTimestamp.of(2012, 1, 29, 12, 45), MONTHS),
+            is(-1L));
+    }
+
+}
@@ -0,0 +1,74 @@
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class YearTableTest {
+
+    @Test
+    public void toPackedDate() {
+        LocalDate end = LocalDate.of(2301, 1, 1);
+        for (LocalDate ld = LocalDate.of(1799, 12, 1); ld.isBefore(end); ld = ld.plusDays(1)) {
+            long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ld.toEpochDay(), EpochDays.UNIX);
+            long packed = GregorianMath.toPackedDate(mjd);
+            assertThat(ld.toString(), GregorianMath.readYear(packed), is(ld.getYear()));
+            assertThat(ld.toString(), GregorianMath.readMonth(packed), is(ld.getMonthValue()));
+            assertThat(ld.toString(), GregorianMath.readDayOfMonth(packed), is(ld.getDayOfMonth()));
+            assertThat(
+                ld.toString(),
+                GregorianMath.toMJD(ld.getYear(), ld.getMonthValue(), ld.getDayOfMonth()),
+                is(mjd));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void toMJDWithInvalidDate() {
+        GregorianMath.toMJD(2100, 2, 29);
+    }
+
+    @Test
+    public void dateCacheOff() {
+        PlainDate.setCacheRange(0);
+        try {
+            PlainDate d1 = SystemClock.currentMoment().toZonalTimestamp(ZonalOffset.UTC).getCalendarDate();
+            PlainDate d2 = PlainDate.of(d1.getDaysSinceEpochUTC(), EpochDays.UTC);
+            assertThat(d2, is(d1));
+            assertThat(d2, not(sameInstance(d1)));
+        } finally {
+            PlainDate.setCacheRange(Integer.getInteger("net.time4j.date.cache.range", 0));
+        }
+    }
+
+    @Test
+    public void dateCacheOn() {
+        PlainDate.setCacheRange(400);
+        try {
+            Moment now = SystemClock.currentMoment();
+            PlainDate d1 = now.toZonalTimestamp(ZonalOffset.UTC).getCalendarDate();
+            PlainDate d2 = PlainDate.of(d1.getDaysSinceEpochUTC(), EpochDays.UTC);
+            assertThat(d2, sameInstance(d1));
+            PlainDate d3 = Moment.of(now.getPosixTime() + 86400 * 100, TimeScale.POSIX)
+                .toZonalTimestamp(ZonalOffset.UTC).getCalendarDate();
+            assertThat(PlainDate.of(d3.getDaysSinceEpochUTC(), EpochDays.UTC), sameInstance(d3));
+            PlainDate outside = PlainDate.of(d1.getDaysSinceEpochUTC() + 1000, EpochDays.UTC);
+            assertThat(PlainDate.of(outside.getDaysSinceEpochUTC(), EpochDays.UTC), not(sameInstance(outside)));
+        } finally {
+            PlainDate.setCacheRange(Integer.getInteger("net.time4j.date.cache.range", 0));
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package net.time4j.scale;
 
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.base.GregorianDate;
 
@@ -267,6 +268,80 @@ public class LeapSecondTest {
             is(expected));
     }
 
+    @Test
+    public void toElapsedTimes() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        long[] posix = samplePosixTimes();
+        for (TimeScale scale : TimeScale.values()) {
+            long[] elapsed = new long[posix.length];
+            instance.toElapsedTimes(posix, scale, elapsed);
+            for (int i = 0; i < posix.length; i++) {
+                assertThat(
+                    scale + "/" + posix[i],
+                    elapsed[i],
+                    is(Moment.of(posix[i], TimeScale.POSIX).getElapsedTime(scale)));
+            }
+        }
+    }
+
+    @Test
+    public void toPosixTimes() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        long[] posix = samplePosixTimes();
+        for (TimeScale scale : TimeScale.values()) {
+            long[] elapsed = new long[posix.length];
+            for (int i = 0; i < posix.length; i++) {
+                elapsed[i] = Moment.of(posix[i], TimeScale.POSIX).getElapsedTime(scale);
+            }
+            elapsed[0] = elapsed[1] + 1; // leap second 2012-06-30T23:59:60Z
+            long[] result = new long[posix.length];
+            instance.toPosixTimes(elapsed, scale, result);
+            for (int i = 0; i < posix.length; i++) {
+                assertThat(
+                    scale + "/" + elapsed[i],
+                    result[i],
+                    is(Moment.of(elapsed[i], scale).getPosixTime()));
+            }
+        }
+    }
+
+    @Test
+    public void toElapsedTimesInPlace() {
+        long[] data = {0L, 1341100799L, 1341100800L};
+        LeapSeconds.getInstance().toElapsedTimes(data, TimeScale.UTC, data);
+        assertThat(data[0], is((long) -UTC_OFFSET)); // 1970-01-01 before UTC-epoch
+        assertThat(data[1], is(UTC_2012_06_30_LS - 1));
+        assertThat(data[2], is(UTC_2012_06_30_LS + 1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void toElapsedTimesBeforeGPS() {
+        long[] posix = {315964800L, 315964799L};
+        LeapSeconds.getInstance().toElapsedTimes(posix, TimeScale.GPS, new long[2]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void toPosixTimesTargetTooShort() {
+        LeapSeconds.getInstance().toPosixTimes(new long[3], TimeScale.UTC, new long[2]);
+    }
+
+    private static long[] samplePosixTimes() {
+        long[] posix = new long[3000];
+        posix[0] = 1341100799L; // second before leap second
+        posix[1] = 1341100799L;
+        posix[2] = 1341100800L;
+        posix[3] = 315964800L; // GPS-epoch
+        posix[4] = 315964801L;
+        posix[5] = 1341100800L + NLS_OFFSET - 2; // around negative leap second
+        posix[6] = 1341100800L + NLS_OFFSET - 1;
+        posix[7] = 1341100800L + NLS_OFFSET;
+        long step = (1341100800L + NLS_OFFSET + 86400L * 365 - 315964800L) / (posix.length - 8);
+        for (int i = 8; i < posix.length; i++) {
+            posix[i] = 315964800L + (i - 8) * step + (i % 7);
+        }
+        return posix;
+    }
+
     private static PlainDate toPlainDate(GregorianDate date) {
         return PlainDate.of(
             date.getYear(), date.getMonth(), date.getDayOfMonth());
@@ -8,6 +8,7 @@ import net.time4j.base.GregorianDate;
 import net.time4j.scale.TimeScale;
 
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -322,6 +323,37 @@ public class PlatformTimezoneTest {
         assertThat(Timezone.ofSystem().getID().canonical(), not(zoneID));
     }
 
+    @Test
+    public void toPosixTimesWithoutHistory() {
+        Timezone tz = loadFromPlatform("Europe/Berlin");
+        PlainTimestamp[] input = {
+            PlainTimestamp.of(2016, 3, 27, 1, 59, 59),
+            PlainTimestamp.of(2016, 3, 27, 2, 30),
+            PlainTimestamp.of(2016, 3, 27, 3, 0),
+            PlainTimestamp.of(2016, 10, 30, 2, 30)
+        };
+        long[] localSeconds = new long[input.length];
+        for (int i = 0; i < input.length; i++) {
+            localSeconds[i] = input[i].atUTC().getPosixTime();
+        }
+        long[] posixTimes = new long[input.length];
+        BitSet gaps = new BitSet();
+        BitSet overlaps = new BitSet();
+        assertThat(tz.toPosixTimes(localSeconds, posixTimes, gaps, overlaps), is(1));
+        for (int i = 0; i < input.length; i++) {
+            assertThat(posixTimes[i], is(input[i].in(tz).getPosixTime()));
+        }
+        assertThat(gaps.toString(), is("{1}"));
+        assertThat(overlaps.isEmpty(), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void toPosixTimesWithoutHistoryStrict() {
+        Timezone tz = loadFromPlatform("Europe/Berlin").with(Timezone.STRICT_MODE);
+        long[] localSeconds = {PlainTimestamp.of(2016, 3, 27, 2, 30).atUTC().getPosixTime()};
+        tz.toPosixTimes(localSeconds, new long[1], null, null);
+    }
+
     private static Timezone loadFromPlatform(String tzid) {
         return new PlatformTimezone(Timezone.of(tzid).getID(), tzid);
     }
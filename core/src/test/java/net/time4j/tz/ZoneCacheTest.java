@@ -0,0 +1,172 @@
+package net.time4j.tz;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneCacheTest {
+
+    @After
+    public void restoreDefaultPolicy() {
+        Timezone.Cache.setPolicy(CachePolicy.softReferences(10));
+    }
+
+    @Test
+    public void defaultPolicy() {
+        assertThat(Timezone.Cache.getPolicy(), is(CachePolicy.softReferences(10)));
+        assertThat(Timezone.Cache.getPolicy().isBounded(), is(false));
+        assertThat(Timezone.Cache.getPolicy().getPinnedIDs().isEmpty(), is(true));
+    }
+
+    @Test
+    public void hitsMissesAndLoads() {
+        Timezone.Cache.setPolicy(CachePolicy.bounded(5));
+        Timezone tz = Timezone.of("Europe/Berlin");
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz));
+        CacheStatistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getHitCount(), is(2L));
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getLoadCount(), is(1L));
+        assertThat(stats.getTotalLoadTime() >= 0, is(true));
+        assertThat(stats.getSize(), is(1));
+        assertThat(stats.getHitRate(), is(2.0 / 3));
+    }
+
+    @Test
+    public void unknownZonesAreNotCountedAsMisses() {
+        Timezone.Cache.setPolicy(CachePolicy.bounded(5));
+        assertThat(Timezone.of("Europe/Atlantis", ZonalOffset.UTC), is(Timezone.of(ZonalOffset.UTC)));
+        try {
+            Timezone.of("Europe/Atlantis");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        Timezone.of("Europe/Berlin");
+        CacheStatistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getHitCount(), is(0L));
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getNotFoundCount(), is(2L));
+        assertThat(stats.getHitRate(), is(0.0));
+        assertThat(stats.getSize(), is(1));
+    }
+
+    @Test
+    public void boundedEvictsLeastRecentlyUsed() {
+        Timezone.Cache.setPolicy(CachePolicy.bounded(2));
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Timezone.of("Europe/Paris");
+        Timezone.of("Europe/Berlin"); // marks Berlin as used
+        Timezone.of("Europe/London"); // evicts Paris
+        CacheStatistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getEvictionCount(), is(1L));
+        assertThat(stats.getSize(), is(2));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        assertThat(Timezone.Cache.getStatistics().getLoadCount(), is(3L));
+        Timezone.of("Europe/Paris");
+        assertThat(Timezone.Cache.getStatistics().getLoadCount(), is(4L));
+    }
+
+    @Test
+    public void pinnedZonesArePreloadedAndNeverEvicted() {
+        Timezone.Cache.setPolicy(CachePolicy.bounded(0).pin(new TestID("Asia/Tokyo")));
+        CacheStatistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getLoadCount(), is(1L));
+        assertThat(stats.getSize(), is(1));
+        Timezone tokyo = Timezone.of("Asia/Tokyo");
+        for (int i = 0; i < 3; i++) {
+            Timezone.of("Europe/Berlin");
+            assertThat(Timezone.of("Asia/Tokyo"), sameInstance(tokyo));
+        }
+        stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getLoadCount(), is(4L));
+        assertThat(stats.getEvictionCount(), is(3L));
+        assertThat(stats.getSize(), is(1));
+    }
+
+    @Test
+    public void refreshReloadsPinnedZones() {
+        Timezone.Cache.setPolicy(CachePolicy.softReferences(3).pin(new TestID("Asia/Tokyo")));
+        Timezone tokyo = Timezone.of("Asia/Tokyo");
+        Timezone.Cache.refresh();
+        long loads = Timezone.Cache.getStatistics().getLoadCount();
+        assertThat(loads >= 2, is(true));
+        Timezone reloaded = Timezone.of("Asia/Tokyo");
+        assertThat(reloaded, not(sameInstance(tokyo)));
+        assertThat(reloaded, is(tokyo));
+        assertThat(Timezone.Cache.getStatistics().getLoadCount(), is(loads));
+    }
+
+    @Test
+    public void setMinimumCacheSizeKeepsPinnedZones() {
+        Timezone.Cache.setPolicy(CachePolicy.bounded(5).pin(new TestID("Asia/Tokyo")));
+        Timezone.Cache.setMinimumCacheSize(7);
+        assertThat(
+            Timezone.Cache.getPolicy(),
+            is(CachePolicy.softReferences(7).pin(new TestID("Asia/Tokyo"))));
+        assertThat(Timezone.Cache.getPolicy().getPinnedIDs(), is(Collections.singleton("Asia/Tokyo")));
+    }
+
+    @Test
+    public void setMinimumCacheSizeKeepsCachedZonesAndStatistics() {
+        Timezone.Cache.setPolicy(CachePolicy.softReferences(5).pin(new TestID("Asia/Tokyo")));
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Timezone.of("Europe/Paris");
+        CacheStatistics before = Timezone.Cache.getStatistics();
+        Timezone.Cache.setMinimumCacheSize(1);
+        assertThat(
+            Timezone.Cache.getPolicy(),
+            is(CachePolicy.softReferences(1).pin(new TestID("Asia/Tokyo"))));
+        CacheStatistics after = Timezone.Cache.getStatistics();
+        assertThat(after.getLoadCount(), is(before.getLoadCount()));
+        assertThat(after.getMissCount(), is(before.getMissCount()));
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin)); // strongly referenced by test
+        assertThat(Timezone.Cache.getStatistics().getLoadCount(), is(before.getLoadCount()));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void setNegativeMinimumCacheSize() {
+        Timezone.Cache.setMinimumCacheSize(-1);
+    }
+
+    @Test
+    public void softReferencesReuseZones() {
+        Timezone.Cache.setPolicy(CachePolicy.softReferences(0));
+        Timezone tz = Timezone.of("Europe/Berlin");
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(tz)); // strongly referenced by test
+        assertThat(Timezone.Cache.getStatistics().getHitCount(), is(1L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeSize() {
+        CachePolicy.bounded(-1);
+    }
+
+    private static class TestID
+        implements TZID {
+
+        private final String id;
+
+        TestID(String id) {
+            super();
+            this.id = id;
+        }
+
+        @Override
+        public String canonical() {
+            return this.id;
+        }
+
+    }
+
+}
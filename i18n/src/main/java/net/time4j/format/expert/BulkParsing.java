@@ -0,0 +1,611 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BulkParsing.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.base.UnixTime;
+import net.time4j.engine.CalendarDate;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.EpochDays;
+
+import java.nio.CharBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * <p>Gemeinsame Implementierung der spaltenorientierten Massen-Interpretation von
+ * {@code ChronoFormatter} und {@code MultiFormatParser}. </p>
+ *
+ * <p>Pro Aufruf (oder pro St&uuml;ck bei paralleler Verarbeitung) wird nur ein
+ * {@code ParseLog} angelegt und f&uuml;r alle Datens&auml;tze wiederverwendet. Die
+ * Ergebnisse werden sofort in primitive Felder des Aufrufers geschrieben. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+final class BulkParsing {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BulkParsing() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Pr&uuml;ft, ob die angegebene Chronologie Kalenderdaten beschreibt. </p>
+     *
+     * @param   chronology  chronology of a formatter
+     * @throws  IllegalStateException if not applicable
+     */
+    static void checkCalendarDate(Chronology<?> chronology) {
+
+        if (!CalendarDate.class.isAssignableFrom(chronology.getChronoType())) {
+            throw new IllegalStateException("Not a calendar date: " + chronology.getChronoType().getName());
+        }
+
+    }
+
+    /**
+     * <p>Pr&uuml;ft, ob die angegebene Chronologie Zeitpunkte auf der UTC-Zeitachse beschreibt. </p>
+     *
+     * @param   chronology  chronology of a formatter
+     * @throws  IllegalStateException if not applicable
+     */
+    static void checkUnixTime(Chronology<?> chronology) {
+
+        if (!UnixTime.class.isAssignableFrom(chronology.getChronoType())) {
+            throw new IllegalStateException("Not a global timestamp: " + chronology.getChronoType().getName());
+        }
+
+    }
+
+    /**
+     * <p>Interpretiert eine Liste von Datens&auml;tzen zu Epochentagen (UNIX). </p>
+     *
+     * @param   parser      parser for single records
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days relative to 1970-01-01
+     * @param   errors      output bitmap of erraneous records
+     * @return  count of processed records
+     */
+    static int toEpochDays(
+        RecordParser<?> parser,
+        List<? extends CharSequence> records,
+        long[] epochDays,
+        BitSet errors
+    ) {
+
+        checkCapacity(records.size(), epochDays.length);
+        return process(parser, records, (result, index) -> storeEpochDay(result, index, epochDays), errors);
+
+    }
+
+    /**
+     * <p>Interpretiert eine Liste von Datens&auml;tzen parallel zu Epochentagen (UNIX). </p>
+     *
+     * @param   factory     creates a parser for single records per chunk
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days relative to 1970-01-01
+     * @param   errors      output bitmap of erraneous records
+     * @param   pool        fork-join-pool which executes the chunks
+     * @return  count of processed records
+     */
+    static int toEpochDays(
+        Supplier<RecordParser<?>> factory,
+        List<? extends CharSequence> records,
+        long[] epochDays,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        checkCapacity(records.size(), epochDays.length);
+        return process(factory, records, (result, index) -> storeEpochDay(result, index, epochDays), errors, pool);
+
+    }
+
+    /**
+     * <p>Interpretiert durch Trennzeichen abgegrenzte Datens&auml;tze zu Epochentagen (UNIX). </p>
+     *
+     * @param   parser      parser for single records
+     * @param   buffer      buffer of delimited records
+     * @param   delimiter   record separator
+     * @param   endOfInput  parse a final record without delimiter?
+     * @param   epochDays   output array for epoch days relative to 1970-01-01
+     * @param   errors      output bitmap of erraneous records
+     * @return  count of processed records
+     */
+    static int toEpochDays(
+        RecordParser<?> parser,
+        CharBuffer buffer,
+        char delimiter,
+        boolean endOfInput,
+        long[] epochDays,
+        BitSet errors
+    ) {
+
+        Store store = (result, index) -> storeEpochDay(result, index, epochDays);
+        return process(parser, buffer, delimiter, endOfInput, epochDays.length, store, errors);
+
+    }
+
+    /**
+     * <p>Interpretiert eine Liste von Datens&auml;tzen zu POSIX-Sekunden und Nanosekunden. </p>
+     *
+     * @param   parser          parser for single records
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for elapsed seconds since UNIX epoch
+     * @param   nanos           output array for nanosecond fractions
+     * @param   errors          output bitmap of erraneous records
+     * @return  count of processed records
+     */
+    static int toPosixTime(
+        RecordParser<?> parser,
+        List<? extends CharSequence> records,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors
+    ) {
+
+        checkCapacity(records.size(), Math.min(posixSeconds.length, nanos.length));
+        Store store = (result, index) -> storePosixTime(result, index, posixSeconds, nanos);
+        return process(parser, records, store, errors);
+
+    }
+
+    /**
+     * <p>Interpretiert eine Liste von Datens&auml;tzen parallel zu POSIX-Sekunden und
+     * Nanosekunden. </p>
+     *
+     * @param   factory         creates a parser for single records per chunk
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for elapsed seconds since UNIX epoch
+     * @param   nanos           output array for nanosecond fractions
+     * @param   errors          output bitmap of erraneous records
+     * @param   pool            fork-join-pool which executes the chunks
+     * @return  count of processed records
+     */
+    static int toPosixTime(
+        Supplier<RecordParser<?>> factory,
+        List<? extends CharSequence> records,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        checkCapacity(records.size(), Math.min(posixSeconds.length, nanos.length));
+        Store store = (result, index) -> storePosixTime(result, index, posixSeconds, nanos);
+        return process(factory, records, store, errors, pool);
+
+    }
+
+    /**
+     * <p>Interpretiert durch Trennzeichen abgegrenzte Datens&auml;tze zu POSIX-Sekunden und
+     * Nanosekunden. </p>
+     *
+     * @param   parser          parser for single records
+     * @param   buffer          buffer of delimited records
+     * @param   delimiter       record separator
+     * @param   endOfInput      parse a final record without delimiter?
+     * @param   posixSeconds    output array for elapsed seconds since UNIX epoch
+     * @param   nanos           output array for nanosecond fractions
+     * @param   errors          output bitmap of erraneous records
+     * @return  count of processed records
+     */
+    static int toPosixTime(
+        RecordParser<?> parser,
+        CharBuffer buffer,
+        char delimiter,
+        boolean endOfInput,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors
+    ) {
+
+        Store store = (result, index) -> storePosixTime(result, index, posixSeconds, nanos);
+        return process(
+            parser, buffer, delimiter, endOfInput, Math.min(posixSeconds.length, nanos.length), store, errors);
+
+    }
+
+    /**
+     * <p>Interpretiert einen Strom von Texten elementweise. </p>
+     *
+     * <p>Der Ergebnisstrom &uuml;bernimmt die Eigenschaften des Eingabestroms (parallel oder
+     * sequentiell, geordnet oder ungeordnet). Jedes Element erh&auml;lt ein eigenes Log, die
+     * Rohdaten werden &uuml;ber die thread-lokalen Zwischenspeicher der Formatierer
+     * wiederverwendet. </p>
+     *
+     * @param   <T>         generic type of parse result
+     * @param   factory     creates a parser for single records per element
+     * @param   texts       stream of texts to be parsed
+     * @return  stream of parse results
+     * @throws  ChronoException in terminal operation if any text cannot be parsed
+     */
+    static <T> Stream<T> parseAll(
+        Supplier<RecordParser<T>> factory,
+        Stream<? extends CharSequence> texts
+    ) {
+
+        return texts.map(
+            text -> {
+                ParseLog status = new ParseLog();
+                T result = factory.get().parse(text, status);
+                if (result == null) {
+                    String reason = (status.isError() ? status.getErrorMessage() : "Empty text.");
+                    throw new ChronoException("Cannot parse: \"" + text + "\" (" + reason + ")");
+                }
+                return result;
+            }
+        );
+
+    }
+
+    private static int process(
+        RecordParser<?> parser,
+        List<? extends CharSequence> records,
+        Store store,
+        BitSet errors
+    ) {
+
+        int n = records.size();
+        ParseLog status = new ParseLog();
+
+        for (int i = 0; i < n; i++) {
+            if (store.store(parser.parse(records.get(i), status), i)) {
+                errors.clear(i);
+            } else {
+                errors.set(i);
+            }
+        }
+
+        return n;
+
+    }
+
+    private static int process(
+        RecordParser<?> parser,
+        CharBuffer buffer,
+        char delimiter,
+        boolean endOfInput,
+        int capacity,
+        Store store,
+        BitSet errors
+    ) {
+
+        Record record = new Record(buffer, delimiter, endOfInput);
+        ParseLog status = new ParseLog();
+        int count = 0;
+
+        while ((count < capacity) && record.next()) {
+            if (store.store(parser.parse(record, status), count)) {
+                errors.clear(count);
+            } else {
+                errors.set(count);
+            }
+            count++;
+        }
+
+        return count;
+
+    }
+
+    private static int process(
+        Supplier<RecordParser<?>> factory,
+        List<? extends CharSequence> records,
+        Store store,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        int n = records.size();
+        long[] words = new long[(n + 63) >>> 6];
+        pool.invoke(new Chunk(factory, records, 0, n, store, words));
+        errors.clear(0, n);
+        errors.or(BitSet.valueOf(words));
+        return n;
+
+    }
+
+    private static boolean storeEpochDay(
+        Object result,
+        int index,
+        long[] epochDays
+    ) {
+
+        if (result == null) {
+            epochDays[index] = 0;
+            return false;
+        }
+
+        long utcDays = CalendarDate.class.cast(result).getDaysSinceEpochUTC();
+        epochDays[index] = EpochDays.UNIX.transform(utcDays, EpochDays.UTC);
+        return true;
+
+    }
+
+    private static boolean storePosixTime(
+        Object result,
+        int index,
+        long[] posixSeconds,
+        int[] nanos
+    ) {
+
+        if (result == null) {
+            posixSeconds[index] = 0;
+            nanos[index] = 0;
+            return false;
+        }
+
+        UnixTime ut = UnixTime.class.cast(result);
+        posixSeconds[index] = ut.getPosixTime();
+        nanos[index] = ut.getNanosecond();
+        return true;
+
+    }
+
+    private static void checkCapacity(
+        int count,
+        int capacity
+    ) {
+
+        if (capacity < count) {
+            throw new IllegalArgumentException(
+                "Output arrays too small: " + capacity + " < " + count);
+        }
+
+    }
+
+    /**
+     * <p>Ist der angegebene Text das interne Fenster auf einen Pufferdatensatz? </p>
+     *
+     * <p>Das Fenster bleibt stabil, bis das zugeh&ouml;rige Log zur&uuml;ckgesetzt wird. </p>
+     *
+     * @param   text    parsed text
+     * @return  {@code true} if given text is a record view of a character buffer
+     */
+    static boolean isRecord(CharSequence text) {
+
+        return (text instanceof Record);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Interpretiert einen einzelnen Datensatz mit wiederverwendetem Log. </p>
+     *
+     * @param   <T> generic type of chronological entity
+     */
+    @FunctionalInterface
+    interface RecordParser<T> {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Interpretiert den angegebenen Datensatz vollst&auml;ndig. </p>
+         *
+         * @param   text    record to be parsed
+         * @param   status  reusable parse log (will be reset first)
+         * @return  result or {@code null} in case of any error
+         */
+        T parse(
+            CharSequence text,
+            ParseLog status
+        );
+
+    }
+
+    // speichert ein Ergebnis (null im Fehlerfall) am angegebenen Index
+    @FunctionalInterface
+    private interface Store {
+
+        //~ Methoden ------------------------------------------------------
+
+        boolean store(
+            Object result,
+            int index
+        );
+
+    }
+
+    /**
+     * <p>Teilt den Indexbereich rekursiv in St&uuml;cke auf. Die Grenzen liegen immer auf
+     * Vielfachen von 64, so da&szlig; jedes St&uuml;ck exklusiv eigene Fehler-Worte
+     * beschreibt und keine Synchronisierung n&ouml;tig ist. </p>
+     */
+    private static final class Chunk
+        extends RecursiveAction {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int CHUNK_SIZE = 1024; // multiple of 64
+        private static final long serialVersionUID = 1L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final transient Supplier<RecordParser<?>> factory;
+        private final transient List<? extends CharSequence> records;
+        private final int start;
+        private final int end;
+        private final transient Store store;
+        private final long[] words;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Chunk(
+            Supplier<RecordParser<?>> factory,
+            List<? extends CharSequence> records,
+            int start,
+            int end,
+            Store store,
+            long[] words
+        ) {
+            super();
+
+            this.factory = factory;
+            this.records = records;
+            this.start = start;
+            this.end = end;
+            this.store = store;
+            this.words = words;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected void compute() {
+
+            int len = this.end - this.start;
+
+            if (len <= CHUNK_SIZE) {
+                RecordParser<?> parser = this.factory.get();
+                ParseLog status = new ParseLog();
+                for (int i = this.start; i < this.end; i++) {
+                    if (!this.store.store(parser.parse(this.records.get(i), status), i)) {
+                        this.words[i >>> 6] |= (1L << i);
+                    }
+                }
+            } else {
+                int mid = this.start + ((len >>> 1) & ~63);
+                invokeAll(
+                    new Chunk(this.factory, this.records, this.start, mid, this.store, this.words),
+                    new Chunk(this.factory, this.records, mid, this.end, this.store, this.words));
+            }
+
+        }
+
+    }
+
+    /**
+     * <p>Wiederverwendbare Sicht auf den aktuellen Datensatz eines Puffers. </p>
+     */
+    private static final class Record
+        implements CharSequence {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final CharBuffer buffer;
+        private final char delimiter;
+        private final boolean endOfInput;
+        private int start;
+        private int end;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Record(
+            CharBuffer buffer,
+            char delimiter,
+            boolean endOfInput
+        ) {
+            super();
+
+            this.buffer = buffer;
+            this.delimiter = delimiter;
+            this.endOfInput = endOfInput;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // springt zum nächsten Datensatz und konsumiert ihn samt Trennzeichen, ein unvollständiger
+        // Rest ohne Trennzeichen bleibt bis zum Eingabeende unkonsumiert (Position am Datensatzanfang)
+        boolean next() {
+
+            CharBuffer cb = this.buffer;
+            int pos = cb.position();
+            int limit = cb.limit();
+
+            if (pos >= limit) {
+                return false;
+            }
+
+            int index = pos;
+
+            while ((index < limit) && (cb.get(index) != this.delimiter)) {
+                index++;
+            }
+
+            if ((index == limit) && !this.endOfInput) {
+                return false;
+            }
+
+            this.start = pos;
+            this.end = index;
+            cb.position((index < limit) ? index + 1 : limit);
+            return true;
+
+        }
+
+        @Override
+        public int length() {
+
+            return this.end - this.start;
+
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if ((index < 0) || (index >= this.end - this.start)) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+
+            return this.buffer.get(this.start + index);
+
+        }
+
+        @Override
+        public CharSequence subSequence(
+            int start,
+            int end
+        ) {
+
+            return this.toString().subSequence(start, end);
+
+        }
+
+        @Override
+        public String toString() {
+
+            int len = this.end - this.start;
+            char[] chars = new char[len];
+
+            for (int i = 0; i < len; i++) {
+                chars[i] = this.buffer.get(this.start + i);
+            }
+
+            return new String(chars);
+
+        }
+
+    }
+
+}
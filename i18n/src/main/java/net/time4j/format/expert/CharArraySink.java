@@ -0,0 +1,176 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CharArraySink.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+
+/**
+ * <p>Reusable text sink which writes into a caller-supplied character array. </p>
+ *
+ * <p>Every thread holds its own instance so that repeated printing into arrays
+ * does not create any garbage. Nested usage on the same thread falls back to
+ * a fresh instance. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+final class CharArraySink
+    implements Appendable, CharSequence {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final ThreadLocal<CharArraySink> CURRENT = ThreadLocal.withInitial(CharArraySink::new);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private char[] buffer;
+    private int offset;
+    private int pos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CharArraySink() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Obtains a sink for given target array. </p>
+     *
+     * @param   buffer  target array
+     * @param   offset  start index in target array
+     * @return  sink which must be released after usage
+     */
+    static CharArraySink acquire(
+        char[] buffer,
+        int offset
+    ) {
+
+        CharArraySink sink = CURRENT.get();
+
+        if (sink.buffer != null) {
+            sink = new CharArraySink(); // nested usage
+        }
+
+        sink.buffer = buffer;
+        sink.offset = offset;
+        sink.pos = offset;
+        return sink;
+
+    }
+
+    /**
+     * <p>Releases this sink so that the target array is no longer referenced. </p>
+     */
+    void release() {
+
+        this.buffer = null;
+
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) {
+
+        return this.append(csq, 0, csq.length());
+
+    }
+
+    @Override
+    public Appendable append(
+        CharSequence csq,
+        int start,
+        int end
+    ) {
+
+        int n = end - start;
+
+        if (this.pos + n > this.buffer.length) {
+            throw new IndexOutOfBoundsException(this.overflow());
+        }
+
+        for (int i = start; i < end; i++) {
+            this.buffer[this.pos++] = csq.charAt(i);
+        }
+
+        return this;
+
+    }
+
+    @Override
+    public Appendable append(char c) {
+
+        if (this.pos >= this.buffer.length) {
+            throw new IndexOutOfBoundsException(this.overflow());
+        }
+
+        this.buffer[this.pos++] = c;
+        return this;
+
+    }
+
+    @Override
+    public int length() {
+
+        return this.pos - this.offset;
+
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if ((index < 0) || (index >= this.length())) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+        return this.buffer[this.offset + index];
+
+    }
+
+    @Override
+    public CharSequence subSequence(
+        int start,
+        int end
+    ) {
+
+        if ((start < 0) || (end > this.length()) || (start > end)) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + start + ", " + end + ")");
+        }
+
+        return new String(this.buffer, this.offset + start, end - start);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return new String(this.buffer, this.offset, this.length());
+
+    }
+
+    private String overflow() {
+
+        return "Character array too small: " + this.buffer.length;
+
+    }
+
+}
@@ -28,6 +28,8 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.base.Instrumentation;
+import net.time4j.base.InstrumentationListener;
 import net.time4j.base.TimeSource;
 import net.time4j.base.UnixTime;
 import net.time4j.engine.AttributeKey;
@@ -70,6 +72,7 @@ import net.time4j.tz.TransitionStrategy;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.CharBuffer;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.text.DateFormat;
@@ -81,6 +84,7 @@ import java.time.ZoneId;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
@@ -91,8 +95,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static net.time4j.format.CalendarText.ISO_CALENDAR_TYPE;
 
@@ -149,8 +155,9 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
     private final boolean needsExtensions;
     private final int countOfElements;
     private final Leniency leniency;
-    private final boolean indexable;
     private final boolean trailing;
+    private final SlotTable slotTable;
+    private final CompiledParser<T> compiledParser;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -183,7 +190,6 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         boolean nh = false;
         boolean dp = false;
         int co = 0;
-        boolean ix = true;
 
         for (FormatStep step : steps) {
             if ((fp == null) && step.getProcessor() instanceof FractionProcessor) {
@@ -195,9 +201,6 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             ChronoElement<?> element = step.getProcessor().getElement();
             if (element != null) {
                 co++;
-                if (ix && !ParsedValues.isIndexed(element)) {
-                    ix = false;
-                }
                 if (element instanceof HistorizedElement) {
                     nh = true;
                 } else if (!dp && element.name().endsWith("_DAY_PERIOD")) {
@@ -210,7 +213,6 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         this.hasOptionals = ho;
         this.needsHistorization = nh;
         this.countOfElements = co;
-        this.indexable = ix;
 
         Class<?> chronoType = chronology.getChronoType();
 
@@ -230,6 +232,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
         this.trailing = this.globalAttributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
         this.steps = this.freeze(steps);
+        this.slotTable = this.createSlotTable();
+        this.compiledParser = this.compile();
 
     }
 
@@ -277,7 +281,6 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         // update extension elements and historizable elements
         int len = old.steps.size();
         List<FormatStep> copy = new ArrayList<>(old.steps);
-        boolean ix = old.indexable;
 
         for (int i = 0; i < len; i++) {
             FormatStep step = copy.get(i);
@@ -298,7 +301,6 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                             if (e.name().equals(element.name())) {
                                 if (e != element) {
                                     copy.set(i, step.updateElement(e));
-                                    ix = false;
                                 }
                                 break;
                             }
@@ -311,7 +313,6 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
             // update historizable elements
             if (history != null) {
-                ix = false;
                 ChronoElement<?> replacement = null;
                 if (element == PlainDate.YEAR) {
                     replacement = history.yearOfEra();
@@ -331,9 +332,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             }
         }
 
-        this.indexable = ix;
         this.trailing = this.globalAttributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
         this.steps = this.freeze(copy);
+        this.slotTable = this.createSlotTable();
+        this.compiledParser = this.compile();
 
     }
 
@@ -365,7 +367,6 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         this.trailing = formatter.trailing;
 
         Map<ChronoElement<?>, Object> map = new HashMap<>(formatter.defaults);
-        boolean ix = formatter.indexable;
 
         for (ChronoElement<?> element : defaultMap.keySet()) {
             Object replacement = defaultMap.get(element);
@@ -373,13 +374,13 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                 map.remove(element);
             } else {
                 map.put(element, replacement);
-                ix = ix && ParsedValues.isIndexed(element);
             }
         }
 
         this.defaults = Collections.unmodifiableMap(map);
-        this.indexable = ix;
         this.steps = this.freeze(formatter.steps);
+        this.slotTable = this.createSlotTable();
+        this.compiledParser = this.compile();
 
     }
 
@@ -602,7 +603,64 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         Appendable buffer
     ) throws IOException {
 
-        this.print(formattable, buffer, this.globalAttributes);
+        ChronoDisplay display = this.display(formattable, this.globalAttributes);
+        this.print(display, buffer, this.globalAttributes, false);
+
+    }
+
+    /**
+     * <p>Prints given chronological entity into given character array
+     * starting at given offset. </p>
+     *
+     * <p>This method is designed for high-volume output (for example logging)
+     * and creates neither an intermediate string nor any element positions.
+     * Callers can reuse the same array for many calls. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target character array
+     * @param   offset          start index in target array
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the array is too small or the offset is out of range
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt in das angegebene Zeichen-Array ab
+     * dem angegebenen Index. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r Massenausgaben (zum Beispiel Logging) gedacht
+     * und erzeugt weder eine Zwischenzeichenkette noch irgendwelche Elementpositionen.
+     * Aufrufer k&ouml;nnen dasselbe Array f&uuml;r viele Aufrufe wiederverwenden. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target character array
+     * @param   offset          start index in target array
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the array is too small or the offset is out of range
+     * @since   4.18
+     */
+    public int formatToArray(
+        T formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        if ((offset < 0) || (offset > buffer.length)) {
+            throw new IndexOutOfBoundsException("Offset out of range: " + offset);
+        }
+
+        CharArraySink sink = CharArraySink.acquire(buffer, offset);
+
+        try {
+            ChronoDisplay display = this.display(formattable, this.globalAttributes);
+            this.print(display, sink, this.globalAttributes, false);
+            return sink.length();
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        } finally {
+            sink.release();
+        }
 
     }
 
@@ -791,7 +849,18 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
     @Override
     public T parse(CharSequence text) throws ParseException {
 
-        return ChronoParser.super.parse(text);
+        ParseLog status = new ParseLog();
+        T result = this.parse(text, status, this.globalAttributes);
+        this.recycle(status);
+
+        if (result == null) {
+            throw new ParseException(
+                status.getErrorMessage(),
+                status.getErrorIndex()
+            );
+        }
+
+        return result;
 
     }
 
@@ -817,7 +886,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         ParsePosition position
     ) {
 
-        return this.parse(text, new ParseLog(position), this.globalAttributes);
+        ParseLog status = new ParseLog(position);
+        T result = this.parse(text, status, this.globalAttributes);
+        this.recycle(status);
+        return result;
 
     }
 
@@ -881,6 +953,11 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             attrs = new MergedAttributes(attributes, this.globalAttributes);
             leniency = attrs.get(Attributes.LENIENCY, Leniency.SMART);
             quickPath = false;
+        } else if (this.compiledParser != null) {
+            T result = this.compiledParser.parse(text, status);
+            if (result != null) {
+                return result;
+            }
         }
 
         T result;
@@ -1012,7 +1089,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
     ) {
 
         if (offset >= text.length()) {
-            return new ParsedValues(0, false);
+            return new ParsedValues(0);
         }
 
         // Phase 1: elementweise Interpretation und Sammeln der Elementwerte
@@ -1030,7 +1107,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         }
 
         if ((parsed == null) || status.isError()) {
-            return new ParsedValues(0, false);
+            return new ParsedValues(0);
         }
 
         // Phase 2: Anreicherung mit Default-Werten
@@ -1044,6 +1121,381 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Interpretes all given records as calendar dates and stores their epoch days
+     * relative to the UNIX epoch [1970-01-01] in given array. </p>
+     *
+     * <p>This bulk method is designed for loading big amounts of data, for example columns
+     * of CSV files. It creates only one internal parse log for all records and reuses the
+     * parse state instead of one object graph per record. Every record must be parsed
+     * completely (unless trailing characters are allowed by the format attributes). </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if parsing failed
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     net.time4j.engine.EpochDays#UNIX
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze als Kalenderdaten und speichert deren
+     * Epochentage relativ zur UNIX-Epoche [1970-01-01] im angegebenen Array. </p>
+     *
+     * <p>Diese Massenmethode ist f&uuml;r das Laden gro&szlig;er Datenmengen gedacht, zum
+     * Beispiel von Spalten aus CSV-Dateien. Sie legt f&uuml;r alle Datens&auml;tze nur ein
+     * internes Log an und verwendet den Interpretationszustand wieder, statt je Datensatz
+     * einen Objektgraphen zu erzeugen. Jeder Datensatz mu&szlig; vollst&auml;ndig interpretiert
+     * werden (es sei denn, die Formatattribute erlauben nachfolgende Zeichen). </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if parsing failed
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     net.time4j.engine.EpochDays#UNIX
+     * @since   4.18
+     */
+    public int parseToEpochDays(
+        List<? extends CharSequence> records,
+        long[] epochDays,
+        BitSet errors
+    ) {
+
+        BulkParsing.checkCalendarDate(this.chronology);
+        return BulkParsing.toEpochDays(this::parseRecord, records, epochDays, errors);
+
+    }
+
+    /**
+     * <p>Interpretes the delimited records of given buffer as calendar dates and stores their
+     * epoch days relative to the UNIX epoch [1970-01-01] in given array. </p>
+     *
+     * <p>Parsing starts at the current buffer position and stops at the buffer limit or if the
+     * output array is full. The buffer position will be set behind the last processed record
+     * (including its delimiter) so callers can continue with remaining records later. A final
+     * delimiter at the end of the buffer does not count as start of an empty record. </p>
+     *
+     * <p>A final record without delimiter might continue in the next buffer fill, so it is only
+     * parsed if {@code endOfInput} is {@code true}. Otherwise it stays unconsumed, and callers
+     * should compact the buffer before reading more chars. </p>
+     *
+     * @param   buffer      character buffer with delimited records
+     * @param   delimiter   record separator (for example a line feed)
+     * @param   endOfInput  does the buffer contain the last chars of input (then a final record
+     *                      without delimiter will be parsed, too)?
+     * @param   epochDays   output array for epoch days
+     * @param   errors      output bitmap whose bit at any record index is set if parsing failed
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse calendar dates
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die durch Trennzeichen abgegrenzten Datens&auml;tze des angegebenen Puffers
+     * als Kalenderdaten und speichert deren Epochentage relativ zur UNIX-Epoche [1970-01-01]
+     * im angegebenen Array. </p>
+     *
+     * <p>Die Interpretation beginnt an der aktuellen Pufferposition und endet am Pufferlimit oder
+     * wenn das Ausgabe-Array voll ist. Die Pufferposition wird hinter den zuletzt verarbeiteten
+     * Datensatz (samt Trennzeichen) gesetzt, so da&szlig; Aufrufer sp&auml;ter mit den restlichen
+     * Datens&auml;tzen fortfahren k&ouml;nnen. Ein abschlie&szlig;endes Trennzeichen am Pufferende
+     * leitet keinen leeren Datensatz ein. </p>
+     *
+     * <p>Ein letzter Datensatz ohne Trennzeichen kann sich in der n&auml;chsten Pufferf&uuml;llung
+     * fortsetzen und wird deshalb nur interpretiert, wenn {@code endOfInput} gleich {@code true}
+     * ist. Sonst bleibt er unkonsumiert, und Aufrufer sollten den Puffer vor dem Lesen weiterer
+     * Zeichen kompaktieren. </p>
+     *
+     * @param   buffer      character buffer with delimited records
+     * @param   delimiter   record separator (for example a line feed)
+     * @param   endOfInput  does the buffer contain the last chars of input (then a final record
+     *                      without delimiter will be parsed, too)?
+     * @param   epochDays   output array for epoch days
+     * @param   errors      output bitmap whose bit at any record index is set if parsing failed
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse calendar dates
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @since   4.18
+     */
+    public int parseToEpochDays(
+        CharBuffer buffer,
+        char delimiter,
+        boolean endOfInput,
+        long[] epochDays,
+        BitSet errors
+    ) {
+
+        BulkParsing.checkCalendarDate(this.chronology);
+        return BulkParsing.toEpochDays(this::parseRecord, buffer, delimiter, endOfInput, epochDays, errors);
+
+    }
+
+    /**
+     * <p>Interpretes all given records as global timestamps and stores their elapsed POSIX
+     * seconds since the UNIX epoch [1970-01-01T00:00Z] and their nanosecond fractions in
+     * given arrays. </p>
+     *
+     * <p>Leap seconds are not counted, see {@link UnixTime}. The same remarks about reusing
+     * the parse state apply as in {@link #parseToEpochDays(List, long[], BitSet)}. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if parsing failed
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze als globale Zeitstempel und speichert die
+     * seit der UNIX-Epoche [1970-01-01T00:00Z] verstrichenen POSIX-Sekunden und deren
+     * Nanosekundenbruchteile in den angegebenen Arrays. </p>
+     *
+     * <p>Schaltsekunden werden nicht gez&auml;hlt, siehe {@link UnixTime}. Zur Wiederverwendung
+     * des Interpretationszustands gilt das gleiche wie in
+     * {@link #parseToEpochDays(List, long[], BitSet)}. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if parsing failed
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @since   4.18
+     */
+    public int parseToPosixTime(
+        List<? extends CharSequence> records,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors
+    ) {
+
+        BulkParsing.checkUnixTime(this.chronology);
+        return BulkParsing.toPosixTime(this::parseRecord, records, posixSeconds, nanos, errors);
+
+    }
+
+    /**
+     * <p>Interpretes the delimited records of given buffer as global timestamps and stores their
+     * elapsed POSIX seconds since the UNIX epoch [1970-01-01T00:00Z] and their nanosecond fractions
+     * in given arrays. </p>
+     *
+     * <p>The buffer will be consumed in the same way as described in
+     * {@link #parseToEpochDays(CharBuffer, char, boolean, long[], BitSet)}. </p>
+     *
+     * @param   buffer          character buffer with delimited records
+     * @param   delimiter       record separator (for example a line feed)
+     * @param   endOfInput      does the buffer contain the last chars of input (then a final record
+     *                          without delimiter will be parsed, too)?
+     * @param   posixSeconds    output array for POSIX seconds
+     * @param   nanos           output array for nanosecond fractions
+     * @param   errors          output bitmap whose bit at any record index is set if parsing failed
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse instances of {@code UnixTime}
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die durch Trennzeichen abgegrenzten Datens&auml;tze des angegebenen Puffers
+     * als globale Zeitstempel und speichert die seit der UNIX-Epoche [1970-01-01T00:00Z]
+     * verstrichenen POSIX-Sekunden und deren Nanosekundenbruchteile in den angegebenen Arrays. </p>
+     *
+     * <p>Der Puffer wird genauso wie in {@link #parseToEpochDays(CharBuffer, char, boolean, long[], BitSet)}
+     * beschrieben konsumiert. </p>
+     *
+     * @param   buffer          character buffer with delimited records
+     * @param   delimiter       record separator (for example a line feed)
+     * @param   endOfInput      does the buffer contain the last chars of input (then a final record
+     *                          without delimiter will be parsed, too)?
+     * @param   posixSeconds    output array for POSIX seconds
+     * @param   nanos           output array for nanosecond fractions
+     * @param   errors          output bitmap whose bit at any record index is set if parsing failed
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse instances of {@code UnixTime}
+     * @since   4.18
+     */
+    public int parseToPosixTime(
+        CharBuffer buffer,
+        char delimiter,
+        boolean endOfInput,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors
+    ) {
+
+        BulkParsing.checkUnixTime(this.chronology);
+        return BulkParsing.toPosixTime(this::parseRecord, buffer, delimiter, endOfInput, posixSeconds, nanos, errors);
+
+    }
+
+    /**
+     * <p>Interpretes all given records concurrently as calendar dates and stores their epoch
+     * days relative to the UNIX epoch [1970-01-01] in given array. </p>
+     *
+     * <p>The list of records will be split into chunks of about thousand records which are
+     * parsed in given fork-join-pool. This is safe because formatters are immutable. Every
+     * chunk uses its own parse log and writes its results directly at the index of the
+     * record so the output is always ordered like the input. The list should offer fast
+     * random access. Otherwise this method works like
+     * {@link #parseToEpochDays(List, long[], BitSet)}. </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if parsing failed
+     *                      (the associated array value is then set to zero) else cleared
+     * @param   pool        fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     java.util.concurrent.ForkJoinPool#commonPool()
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze nebenl&auml;ufig als Kalenderdaten und
+     * speichert deren Epochentage relativ zur UNIX-Epoche [1970-01-01] im angegebenen Array. </p>
+     *
+     * <p>Die Liste der Datens&auml;tze wird in St&uuml;cke von etwa tausend Datens&auml;tzen
+     * aufgeteilt, die im angegebenen Fork-Join-Pool interpretiert werden. Das ist sicher, weil
+     * Formatierer unver&auml;nderlich sind. Jedes St&uuml;ck verwendet ein eigenes Log und
+     * schreibt seine Ergebnisse direkt an den Index des Datensatzes, so da&szlig; die Ausgabe
+     * immer wie die Eingabe geordnet ist. Die Liste sollte schnellen wahlfreien Zugriff bieten.
+     * Ansonsten arbeitet diese Methode wie {@link #parseToEpochDays(List, long[], BitSet)}. </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if parsing failed
+     *                      (the associated array value is then set to zero) else cleared
+     * @param   pool        fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     java.util.concurrent.ForkJoinPool#commonPool()
+     * @since   4.18
+     */
+    public int parseToEpochDays(
+        List<? extends CharSequence> records,
+        long[] epochDays,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        BulkParsing.checkCalendarDate(this.chronology);
+        return BulkParsing.toEpochDays(() -> this::parseRecord, records, epochDays, errors, pool);
+
+    }
+
+    /**
+     * <p>Interpretes all given records concurrently as global timestamps and stores their
+     * elapsed POSIX seconds since the UNIX epoch [1970-01-01T00:00Z] and their nanosecond
+     * fractions in given arrays. </p>
+     *
+     * <p>The records will be split into chunks as described in
+     * {@link #parseToEpochDays(List, long[], BitSet, ForkJoinPool)}. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if parsing failed
+     *                          (the associated array values are then set to zero) else cleared
+     * @param   pool            fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze nebenl&auml;ufig als globale Zeitstempel
+     * und speichert die seit der UNIX-Epoche [1970-01-01T00:00Z] verstrichenen POSIX-Sekunden
+     * und deren Nanosekundenbruchteile in den angegebenen Arrays. </p>
+     *
+     * <p>Die Datens&auml;tze werden wie in {@link #parseToEpochDays(List, long[], BitSet, ForkJoinPool)}
+     * beschrieben in St&uuml;cke aufgeteilt. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if parsing failed
+     *                          (the associated array values are then set to zero) else cleared
+     * @param   pool            fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if this formatter does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @since   4.18
+     */
+    public int parseToPosixTime(
+        List<? extends CharSequence> records,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        BulkParsing.checkUnixTime(this.chronology);
+        return BulkParsing.toPosixTime(() -> this::parseRecord, records, posixSeconds, nanos, errors, pool);
+
+    }
+
+    /**
+     * <p>Maps given stream of texts to a stream of parsed results. </p>
+     *
+     * <p>The result stream inherits the characteristics of the input stream. If the input
+     * stream is parallel then parsing will be done concurrently, and if the input stream
+     * is unordered (see {@link Stream#unordered()}) then results can be delivered in any
+     * order which might reduce the overhead of terminal operations like
+     * {@code forEach} or {@code collect}. The parse state will be reused per thread. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *  List&lt;PlainDate&gt; dates =
+     *      formatter.parseAll(lines.parallelStream()).collect(Collectors.toList());
+     * </pre>
+     *
+     * @param   texts       stream of texts to be parsed
+     * @return  lazy stream of parsed results
+     * @throws  ChronoException in the terminal operation if any text cannot be parsed
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bildet den angegebenen Strom von Texten auf einen Strom von Interpretationsergebnissen
+     * ab. </p>
+     *
+     * <p>Der Ergebnisstrom erbt die Eigenschaften des Eingabestroms. Ist der Eingabestrom
+     * parallel, wird nebenl&auml;ufig interpretiert, und ist der Eingabestrom ungeordnet (siehe
+     * {@link Stream#unordered()}), k&ouml;nnen die Ergebnisse in beliebiger Reihenfolge geliefert
+     * werden, was den Aufwand von Endoperationen wie {@code forEach} oder {@code collect}
+     * verringern kann. Der Interpretationszustand wird pro Thread wiederverwendet. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *  List&lt;PlainDate&gt; dates =
+     *      formatter.parseAll(lines.parallelStream()).collect(Collectors.toList());
+     * </pre>
+     *
+     * @param   texts       stream of texts to be parsed
+     * @return  lazy stream of parsed results
+     * @throws  ChronoException in the terminal operation if any text cannot be parsed
+     * @since   4.18
+     */
+    public Stream<T> parseAll(Stream<? extends CharSequence> texts) {
+
+        return BulkParsing.parseAll(() -> this::parseRecord, texts);
+
+    }
+
     /**
      * <p>Creates a copy of this formatter with given locale. </p>
      *
@@ -2851,7 +3303,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParsedValues values = (
+            (this.slotTable == null)
+            ? new ParsedValues(countOfElements)
+            : this.slotTable.acquire());
         values.setPosition(status.getPosition());
         Deque<ParsedValues> data = null;
 
@@ -2877,7 +3332,10 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
                 // Start einer optionalen Sektion: Stack erweitern
                 while (level > previous) {
-                    values = new ParsedValues(countOfElements >>> 1, this.indexable);
+                    values = (
+                        (this.slotTable == null)
+                        ? new ParsedValues(countOfElements >>> 1)
+                        : new ParsedValues(this.slotTable));
                     values.setPosition(status.getPosition());
                     data.push(values);
                     level--;
@@ -3072,6 +3530,95 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
 
     }
 
+    // fast path for fixed-width numerical formats, see CompiledParser
+    private CompiledParser<T> compile() {
+
+        if (
+            (this.overrideHandler != null)
+            || (this.slotTable == null)
+            || this.hasOptionals
+            || this.needsHistorization
+            || !this.defaults.isEmpty()
+        ) {
+            return null;
+        }
+
+        return CompiledParser.compile(this.chronology, this.steps, this.globalAttributes, this.slotTable);
+
+    }
+
+    // dichte Indizierung aller Elemente, die beim Parsen auftreten können, siehe ParsedValues
+    private SlotTable createSlotTable() {
+
+        List<ChronoElement<?>> elements = new ArrayList<>();
+
+        for (FormatStep step : this.steps) {
+            ChronoElement<?> element = step.getProcessor().getElement();
+            if (element != null) {
+                elements.add(element);
+                if (element == PlainDate.MONTH_OF_YEAR) {
+                    elements.add(PlainDate.MONTH_AS_NUMBER); // see TextProcessor
+                }
+            }
+        }
+
+        elements.addAll(this.defaults.keySet());
+        elements.add(TimezoneElement.TIMEZONE_ID);
+        elements.add(TimezoneElement.TIMEZONE_OFFSET);
+
+        if (this.fracproc != null) {
+            elements.add(FractionalElement.FRACTION);
+        }
+
+        if (this.overrideHandler != null) {
+            elements.add(Moment.axis().element());
+        } else {
+            Chronology<?> preparser = this.chronology.preparser();
+            if (preparser instanceof TimeAxis) {
+                elements.add(TimeAxis.class.cast(preparser).element());
+            }
+        }
+
+        return SlotTable.of(elements);
+
+    }
+
+    /**
+     * <p>Interpretiert einen Datensatz der Massenverarbeitung mit einem internen,
+     * wiederverwendeten Log. </p>
+     *
+     * @param   text    record to be parsed
+     * @param   status  internal parse log which will be reset first
+     * @return  result or {@code null} in case of any error
+     */
+    T parseRecord(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        status.reset();
+
+        if (text.length() == 0) {
+            return null;
+        }
+
+        T result = this.parse(text, status, this.globalAttributes);
+        this.recycle(status);
+        return (status.isError() ? null : result);
+
+    }
+
+    // gibt die Rohdaten eines internen Logs zur Wiederverwendung frei
+    private void recycle(ParseLog status) {
+
+        ParsedValues values = status.getRawValuesIfPresent();
+
+        if ((values != null) && (this.slotTable != null)) {
+            this.slotTable.release(values);
+        }
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     /**
@@ -3118,6 +3665,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         private boolean prolepticGregorian;
         private DayPeriod dayPeriod;
         private Map<ChronoElement<?>, Object> defaultMap;
+        private long patternNanos;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -3153,6 +3701,7 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             this.prolepticGregorian = false;
             this.dayPeriod = null;
             this.defaultMap = new HashMap<>();
+            this.patternNanos = 0L;
 
         }
 
@@ -4382,6 +4931,25 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
             PatternType patternType
         ) {
 
+            if (Instrumentation.getListener() == null) {
+                return this.compilePattern(formatPattern, patternType);
+            }
+
+            long start = System.nanoTime();
+
+            try {
+                return this.compilePattern(formatPattern, patternType);
+            } finally {
+                this.patternNanos += (System.nanoTime() - start); // reported by build()
+            }
+
+        }
+
+        private Builder<T> compilePattern(
+            String formatPattern,
+            PatternType patternType
+        ) {
+
             if (patternType == null) {
                 throw new NullPointerException("Missing pattern type.");
             }
@@ -5864,6 +6432,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
          */
         public ChronoFormatter<T> build(Attributes attributes) {
 
+            InstrumentationListener listener = Instrumentation.getListener();
+            long start = ((listener == null) ? 0L : System.nanoTime());
             Map<Integer, FormatStep> m = null;
 
             for (int index = 0, len = this.steps.size(); index < len; index++) {
@@ -5913,6 +6483,14 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
                 formatter = new ChronoFormatter<>(formatter, as);
             }
 
+            if (listener != null) {
+                listener.completed(
+                    Instrumentation.Operation.FORMATTER_BUILD,
+                    this.chronology.getChronoType().getName() + ":" + this.locale,
+                    System.nanoTime() - start + this.patternNanos,
+                    Instrumentation.CacheOutcome.NOT_CACHED);
+            }
+
             return formatter;
 
         }
@@ -0,0 +1,835 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledParser.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.AttributeKey;
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.Chronology;
+import net.time4j.format.Attributes;
+import net.time4j.format.DisplayMode;
+import net.time4j.format.Leniency;
+import net.time4j.format.NumberSystem;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionStrategy;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * <p>Kompilierter Parser f&uuml;r Formate, die nur aus numerischen Feldern fester oder
+ * begrenzter Breite, Literalen, Sekundenbruchteilen und Zeitzonen-Offsets bestehen. </p>
+ *
+ * <p>Ein solches Format wird beim Erzeugen des {@code ChronoFormatter} in eine flache
+ * Liste von Operationen &uuml;bersetzt, die in einem einzigen Durchlauf direkt primitive
+ * Felder f&uuml;llen und das Ergebnis ohne {@code ParsedValues}, ohne {@code ChronoMerger}
+ * und ohne Konsistenzpr&uuml;fung erzeugen. Der kompilierte Parser ist nur f&uuml;r den
+ * Normalfall gedacht: Sobald die Eingabe irgendwie ungew&ouml;hnlich ist (Vorzeichen,
+ * Werte au&szlig;erhalb des Standardbereichs wie die Stunde 24 oder eine Schaltsekunde,
+ * Gro&szlig;-/Kleinschreibung, fehlende Ziffern, ung&uuml;ltige Datumsangaben), liefert
+ * er {@code null}, und der Aufrufer f&auml;llt auf den generischen Parser zur&uuml;ck.
+ * Deshalb bleiben Fehlermeldungen und Nachsichtigkeitsregeln unver&auml;ndert. </p>
+ *
+ * <p>Die Rohdaten (siehe {@link ParseLog#getRawValues()}) werden nach einem erfolgreichen
+ * Lauf erst bei Bedarf durch einen erneuten Lauf &uuml;ber den interpretierten Abschnitt
+ * erzeugt. Bei einem {@code String} oder dem internen Fenster beim Massen-Parsen ist das der
+ * Originaltext. Bei anderen, m&ouml;glicherweise ver&auml;nderlichen Texten wie einem
+ * {@code StringBuilder} kopiert das {@code ParseLog} den Abschnitt schon beim erfolgreichen
+ * Lauf mittels {@code subSequence()}, so da&szlig; sp&auml;tere &Auml;nderungen des Texts die
+ * Rohdaten nicht beeinflussen. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+final class CompiledParser<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int NUMBER = 0;
+    private static final int LITERAL_CHAR = 1;
+    private static final int LITERAL_TEXT = 2;
+    private static final int FRACTION = 3;
+    private static final int OFFSET = 4;
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY_OF_MONTH = 2;
+    private static final int DAY_OF_YEAR = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int SECOND = 6;
+    private static final int NANO = 7;
+    private static final int TZ_OFFSET = 8;
+
+    private static final int DATE_FIELDS = (1 << YEAR) | (1 << MONTH) | (1 << DAY_OF_MONTH) | (1 << DAY_OF_YEAR);
+    private static final int TIME_FIELDS = (1 << HOUR) | (1 << MINUTE) | (1 << SECOND) | (1 << NANO);
+
+    private static final int TYPE_DATE = 0;
+    private static final int TYPE_TIME = 1;
+    private static final int TYPE_TIMESTAMP = 2;
+    private static final int TYPE_MOMENT = 3;
+
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Op[] ops;
+    private final int type;
+    private final int fields;
+    private final TZID tzid;
+    private final TransitionStrategy strategy;
+    private final boolean trailing;
+    private final SlotTable slotTable;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledParser(
+        Op[] ops,
+        int type,
+        int fields,
+        TZID tzid,
+        TransitionStrategy strategy,
+        boolean trailing,
+        SlotTable slotTable
+    ) {
+        super();
+
+        this.ops = ops;
+        this.type = type;
+        this.fields = fields;
+        this.tzid = tzid;
+        this.strategy = strategy;
+        this.trailing = trailing;
+        this.slotTable = slotTable;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Versucht, die angegebenen (eingefrorenen) Formatschritte zu kompilieren. </p>
+     *
+     * @param   <T>             generic type of chronological entity
+     * @param   chronology      chronology of formatter
+     * @param   steps           frozen format steps
+     * @param   attributes      global format attributes
+     * @param   slotTable       element slots of formatter
+     * @return  compiled parser or {@code null} if the steps are not suitable
+     */
+    static <T> CompiledParser<T> compile(
+        Chronology<?> chronology,
+        List<FormatStep> steps,
+        AttributeQuery attributes,
+        SlotTable slotTable
+    ) {
+
+        int type;
+
+        if (chronology == PlainDate.axis()) {
+            type = TYPE_DATE;
+        } else if (chronology == PlainTime.axis()) {
+            type = TYPE_TIME;
+        } else if (chronology == PlainTimestamp.axis()) {
+            type = TYPE_TIMESTAMP;
+        } else if (chronology == Moment.axis()) {
+            type = TYPE_MOMENT;
+        } else {
+            return null;
+        }
+
+        if (attributes.get(Attributes.LENIENCY, Leniency.SMART).isLax()) {
+            return null;
+        }
+
+        Op[] ops = new Op[steps.size()];
+        int fields = 0;
+
+        for (int i = 0; i < ops.length; i++) {
+            FormatStep step = steps.get(i);
+            AttributeQuery aq = step.getQuickAttributes();
+
+            if (
+                (aq == null)
+                || (step.getLevel() > 0)
+                || step.isPadded()
+                || step.isNewOrBlockStarted()
+                || (step.skipTrailingOrBlocks() != -1)
+            ) {
+                return null;
+            }
+
+            Op op = compile(step.getProcessor(), aq);
+
+            if (op == null) {
+                return null;
+            } else if (op.field >= 0) {
+                int bit = (1 << op.field);
+                if ((fields & bit) != 0) {
+                    return null; // ambivalent values are left to the generic parser
+                }
+                fields |= bit;
+            }
+
+            ops[i] = op;
+        }
+
+        boolean dateFields = ((fields & DATE_FIELDS) != 0);
+        boolean timeFields = ((fields & TIME_FIELDS) != 0);
+        boolean completeDate = (
+            has(fields, YEAR)
+            && (
+                (has(fields, MONTH) && has(fields, DAY_OF_MONTH) && !has(fields, DAY_OF_YEAR))
+                || (has(fields, DAY_OF_YEAR) && !has(fields, MONTH) && !has(fields, DAY_OF_MONTH))));
+        boolean completeTime = (
+            has(fields, HOUR)
+            && has(fields, MINUTE)
+            && (has(fields, SECOND) || !has(fields, NANO)));
+        boolean offset = has(fields, TZ_OFFSET);
+
+        TZID tzid = null;
+        TransitionStrategy strategy = null;
+
+        switch (type) {
+            case TYPE_DATE:
+                if (!completeDate || timeFields || offset) {
+                    return null;
+                }
+                break;
+            case TYPE_TIME:
+                if (!completeTime || dateFields || offset) {
+                    return null;
+                }
+                break;
+            case TYPE_TIMESTAMP:
+                if (!completeDate || !completeTime || offset) {
+                    return null;
+                }
+                break;
+            default:
+                if (!completeDate || !completeTime) {
+                    return null;
+                } else if (attributes.contains(Attributes.TIMEZONE_ID)) {
+                    tzid = attributes.get(Attributes.TIMEZONE_ID);
+                } else if (!offset) {
+                    return null;
+                }
+                if (attributes.contains(Attributes.TRANSITION_STRATEGY)) {
+                    strategy = attributes.get(Attributes.TRANSITION_STRATEGY);
+                }
+        }
+
+        boolean trailing = attributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
+        return new CompiledParser<>(ops, type, fields, tzid, strategy, trailing, slotTable);
+
+    }
+
+    /**
+     * <p>Interpretiert den Text ab der aktuellen Position im Log. </p>
+     *
+     * <p>Im Erfolgsfall wird die Position im Log aktualisiert, sonst bleibt das Log
+     * unver&auml;ndert, damit der generische Parser den Text erneut verarbeiten kann. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   status  parser information
+     * @return  result or {@code null} if the generic parser has to take over
+     */
+    T parse(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        int start = status.getPosition();
+        T result = this.parse(text, start, status, null);
+
+        if (result != null) {
+            status.setDeferredRawValues(this, text, start);
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Erzeugt die Rohdaten eines vorherigen erfolgreichen Laufs. </p>
+     *
+     * @param   text    parsed text
+     * @param   start   start position
+     * @return  parsed values as if produced by the generic parser
+     */
+    ParsedValues toRawValues(
+        CharSequence text,
+        int start
+    ) {
+
+        ParsedValues values = new ParsedValues(this.slotTable);
+        this.parse(text, start, null, values);
+        values.setNoAmbivalentCheck();
+        return values;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private T parse(
+        CharSequence text,
+        int start,
+        ParseLog status,
+        ParsedValues sink
+    ) {
+
+        int len = text.length();
+
+        if (start >= len) {
+            return null; // the generic parser throws IndexOutOfBoundsException
+        }
+
+        int pos = start;
+        int year = 0;
+        int month = 0;
+        int dayOfMonth = 0;
+        int dayOfYear = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int offset = NO_OFFSET;
+
+        for (Op op : this.ops) {
+            switch (op.kind) {
+                case NUMBER: {
+                    char zero = op.zeroDigit;
+                    int maxDigits = op.maxDigits;
+
+                    if (op.reserved > 0) {
+                        int digitCount = 0;
+                        for (int i = pos; i < len; i++) {
+                            int digit = text.charAt(i) - zero;
+                            if ((digit >= 0) && (digit <= 9)) {
+                                digitCount++;
+                            } else {
+                                break;
+                            }
+                        }
+                        maxDigits = Math.min(maxDigits, digitCount - op.reserved);
+                    }
+
+                    int minPos = pos + op.minDigits;
+                    int maxPos = Math.min(len, pos + maxDigits);
+                    int value = 0;
+                    int i = pos;
+
+                    while (i < maxPos) {
+                        int digit = text.charAt(i) - zero;
+                        if ((digit >= 0) && (digit <= 9)) {
+                            value = value * 10 + digit;
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+
+                    if ((i < minPos) || (op.bigNumberCheck && (i > minPos))) {
+                        return null;
+                    }
+
+                    pos = i;
+
+                    switch (op.field) {
+                        case YEAR:
+                            year = value;
+                            break;
+                        case MONTH:
+                            if ((value < 1) || (value > 12)) {
+                                return null;
+                            }
+                            month = value;
+                            break;
+                        case DAY_OF_MONTH:
+                            if ((value < 1) || (value > 31)) {
+                                return null;
+                            }
+                            dayOfMonth = value;
+                            break;
+                        case DAY_OF_YEAR:
+                            if ((value < 1) || (value > 366)) {
+                                return null;
+                            }
+                            dayOfYear = value;
+                            break;
+                        case HOUR:
+                            if (value > 23) {
+                                return null;
+                            }
+                            hour = value;
+                            break;
+                        case MINUTE:
+                            if (value > 59) {
+                                return null;
+                            }
+                            minute = value;
+                            break;
+                        default: // SECOND
+                            if (value > 59) {
+                                return null;
+                            }
+                            second = value;
+                    }
+
+                    if (sink != null) {
+                        sink.put(op.element, value);
+                    }
+                    break;
+                }
+                case LITERAL_CHAR: {
+                    if (pos >= len) {
+                        return null;
+                    }
+                    char c = text.charAt(pos);
+                    if ((c != op.literal) && (c != op.alternative)) {
+                        return null;
+                    }
+                    pos++;
+                    break;
+                }
+                case LITERAL_TEXT: {
+                    String expected = op.text;
+                    int n = expected.length();
+                    if (pos + n > len) {
+                        return null;
+                    }
+                    for (int i = 0; i < n; i++) {
+                        if (text.charAt(pos + i) != expected.charAt(i)) {
+                            return null;
+                        }
+                    }
+                    pos += n;
+                    if ((pos < len) && LiteralProcessor.isBidi(text.charAt(pos))) {
+                        return null; // the generic parser would silently skip bidi marks
+                    }
+                    break;
+                }
+                case FRACTION: {
+                    if (pos >= len) {
+                        return null;
+                    }
+                    if (op.literal != '\u0000') {
+                        char c = text.charAt(pos);
+                        if ((c != op.literal) && (c != op.alternative)) {
+                            return null;
+                        }
+                        pos++;
+                    }
+
+                    char zero = op.zeroDigit;
+                    int maxPos = Math.min(len, pos + op.maxDigits);
+                    int value = 0;
+                    int i = pos;
+
+                    while (i < maxPos) {
+                        int digit = text.charAt(i) - zero;
+                        if ((digit >= 0) && (digit <= 9)) {
+                            value = value * 10 + digit;
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+
+                    int count = i - pos;
+
+                    if (count < op.minDigits) {
+                        return null;
+                    }
+
+                    nano = value * POWERS_OF_TEN[9 - count];
+                    pos = i;
+
+                    if (sink != null) {
+                        sink.put(op.element, nano);
+                    }
+                    break;
+                }
+                default: { // OFFSET
+                    int zl = ((op.text == null) ? -1 : op.text.length());
+
+                    if ((zl > 0) && (pos + zl <= len) && subSequenceEquals(text, pos, op.text)) {
+                        offset = 0;
+                        pos += zl;
+                    } else {
+                        if (pos + 5 + (op.extended ? 1 : 0) > len) {
+                            return null;
+                        }
+
+                        char c = text.charAt(pos);
+                        int sign;
+
+                        if (c == '+') {
+                            sign = 1;
+                        } else if (c == '-') {
+                            sign = -1;
+                        } else {
+                            return null;
+                        }
+
+                        int hours = twoDigits(text, pos + 1);
+                        pos += 3;
+
+                        if (op.extended) {
+                            if (text.charAt(pos) != ':') {
+                                return null;
+                            }
+                            pos++;
+                        }
+
+                        int minutes = twoDigits(text, pos);
+                        pos += 2;
+
+                        offset = hours * 3600 + minutes * 60;
+
+                        if ((hours < 0) || (minutes < 0) || (minutes > 59) || (offset > 18 * 3600)) {
+                            return null;
+                        } else if (op.longPrecision && (pos < len)) {
+                            char next = text.charAt(pos);
+                            if (op.extended ? (next == ':') : ((next >= '0') && (next <= '9'))) {
+                                return null; // seconds part left to the generic parser
+                            }
+                        }
+
+                        offset *= sign;
+                    }
+
+                    if (sink != null) {
+                        sink.put(TimezoneElement.TIMEZONE_OFFSET, ZonalOffset.ofTotalSeconds(offset));
+                    }
+                }
+            }
+        }
+
+        if ((pos < len) && !this.trailing) {
+            return null;
+        }
+
+        PlainDate date = null;
+        PlainTime time = null;
+
+        if (this.type != TYPE_TIME) {
+            if ((this.fields & (1 << DAY_OF_YEAR)) != 0) {
+                if (dayOfYear > (GregorianMath.isLeapYear(year) ? 366 : 365)) {
+                    return null;
+                }
+                date = PlainDate.of(year, dayOfYear);
+            } else {
+                if (dayOfMonth > GregorianMath.getLengthOfMonth(year, month)) {
+                    return null;
+                }
+                date = PlainDate.of(year, month, dayOfMonth);
+            }
+        }
+
+        if (this.type != TYPE_DATE) {
+            time = PlainTime.of(hour, minute, second, nano);
+        }
+
+        Object result;
+
+        switch (this.type) {
+            case TYPE_DATE:
+                result = date;
+                break;
+            case TYPE_TIME:
+                result = time;
+                break;
+            case TYPE_TIMESTAMP:
+                result = PlainTimestamp.of(date, time);
+                break;
+            default:
+                PlainTimestamp tsp = PlainTimestamp.of(date, time);
+                if (sink != null) {
+                    sink.put(PlainTimestamp.axis().element(), tsp);
+                }
+                if (offset != NO_OFFSET) {
+                    result = tsp.at(ZonalOffset.ofTotalSeconds(offset));
+                } else if (this.tzid instanceof ZonalOffset) {
+                    result = tsp.at((ZonalOffset) this.tzid);
+                } else if (this.strategy != null) {
+                    result = tsp.in(Timezone.of(this.tzid).with(this.strategy));
+                } else {
+                    result = tsp.inTimezone(this.tzid);
+                }
+        }
+
+        if (status != null) {
+            status.setPosition(pos);
+        }
+
+        return (T) result;
+
+    }
+
+    private static Op compile(
+        FormatProcessor<?> processor,
+        AttributeQuery attributes
+    ) {
+
+        if (processor instanceof NumberProcessor) {
+            NumberProcessor<?> np = (NumberProcessor<?>) processor;
+            ChronoElement<?> element = np.getElement();
+            int field;
+
+            if (element == PlainDate.YEAR) {
+                field = YEAR;
+            } else if (element == PlainDate.MONTH_AS_NUMBER) {
+                field = MONTH;
+            } else if (element == PlainDate.DAY_OF_MONTH) {
+                field = DAY_OF_MONTH;
+            } else if (element == PlainDate.DAY_OF_YEAR) {
+                field = DAY_OF_YEAR;
+            } else if ((element == PlainTime.DIGITAL_HOUR_OF_DAY) || (element == PlainTime.ISO_HOUR)) {
+                field = HOUR;
+            } else if (element == PlainTime.MINUTE_OF_HOUR) {
+                field = MINUTE;
+            } else if (element == PlainTime.SECOND_OF_MINUTE) {
+                field = SECOND;
+            } else {
+                return null;
+            }
+
+            int maxDigits = np.getMaxDigits();
+
+            if (
+                (np.getNumberSystem() != NumberSystem.ARABIC)
+                || (np.getProtectedLength() > 0)
+                || (maxDigits > 9)
+                || (np.getLeniency().isLax())
+                || ((np.getSignPolicy() == SignPolicy.SHOW_ALWAYS) && np.getLeniency().isStrict())
+            ) {
+                return null;
+            }
+
+            Op op = new Op(NUMBER, field, element);
+            op.minDigits = np.getMinDigits();
+            op.maxDigits = maxDigits;
+            op.reserved = (np.isFixedWidth() ? 0 : np.getReserved());
+            op.zeroDigit = np.getZeroDigit();
+            op.bigNumberCheck = (
+                (np.getSignPolicy() == SignPolicy.SHOW_WHEN_BIG_NUMBER)
+                && np.getLeniency().isStrict());
+            return op;
+        } else if (processor instanceof LiteralProcessor) {
+            LiteralProcessor lp = (LiteralProcessor) processor;
+
+            if (lp.getMulti() != null) {
+                String text = lp.getMulti();
+                if (text.length() == 1) {
+                    Op op = new Op(LITERAL_CHAR, -1, null);
+                    op.literal = text.charAt(0);
+                    op.alternative = op.literal;
+                    return op;
+                }
+                for (int i = 0; i < text.length(); i++) {
+                    if (LiteralProcessor.isBidi(text.charAt(i))) {
+                        return null;
+                    }
+                }
+                Op op = new Op(LITERAL_TEXT, -1, null);
+                op.text = text;
+                return op;
+            }
+
+            Op op = new Op(LITERAL_CHAR, -1, null);
+
+            if (lp.getAttribute() == null) {
+                op.literal = lp.getSingle();
+                op.alternative = lp.getAlternative();
+            } else if (!resolveLiteral(lp.getAttribute(), attributes, op)) {
+                return null;
+            }
+
+            return op;
+        } else if (processor instanceof FractionProcessor) {
+            FractionProcessor fp = (FractionProcessor) processor;
+
+            if (
+                (fp.getElement() != PlainTime.NANO_OF_SECOND)
+                || fp.getLeniency().isLax()
+                || (fp.getMinDigits() == 0)
+            ) {
+                return null;
+            }
+
+            Op op = new Op(FRACTION, NANO, fp.getElement());
+            op.minDigits = fp.getMinDigits();
+            op.maxDigits = fp.getMaxDigits();
+            op.zeroDigit = fp.getZeroDigit();
+
+            if (fp.hasDecimalSeparator() && !resolveLiteral(Attributes.DECIMAL_SEPARATOR, attributes, op)) {
+                return null;
+            }
+
+            return op;
+        } else if (processor instanceof TimezoneOffsetProcessor) {
+            TimezoneOffsetProcessor tp = (TimezoneOffsetProcessor) processor;
+            DisplayMode precision = tp.getPrecision();
+            List<String> zeroOffsets = tp.getZeroOffsets();
+
+            if (
+                ((precision != DisplayMode.MEDIUM) && (precision != DisplayMode.LONG))
+                || tp.getLeniency().isLax()
+                || (zeroOffsets.size() > 1)
+            ) {
+                return null;
+            }
+
+            Op op = new Op(OFFSET, TZ_OFFSET, TimezoneElement.TIMEZONE_OFFSET);
+            op.extended = tp.isExtended();
+            op.longPrecision = (precision == DisplayMode.LONG);
+
+            if (!zeroOffsets.isEmpty()) {
+                op.text = zeroOffsets.get(0); // exact match only, other spellings are left to the generic parser
+            }
+
+            return op;
+        }
+
+        return null;
+
+    }
+
+    private static boolean has(
+        int fields,
+        int field
+    ) {
+
+        return ((fields & (1 << field)) != 0);
+
+    }
+
+    private static boolean resolveLiteral(
+        AttributeKey<Character> attribute,
+        AttributeQuery attributes,
+        Op op
+    ) {
+
+        char literal = attributes.get(attribute, Character.valueOf('\u0000')).charValue();
+
+        if (literal == '\u0000') {
+            return false;
+        }
+
+        char alternative = literal;
+
+        if (
+            Attributes.DECIMAL_SEPARATOR.name().equals(attribute.name())
+            && Locale.ROOT.equals(attributes.get(Attributes.LANGUAGE, Locale.ROOT))
+        ) { // Spezialfall: ISO-8601
+            alternative = ((literal == ',') ? '.' : ((literal == '.') ? ',' : literal));
+        }
+
+        op.literal = literal;
+        op.alternative = alternative;
+        return true;
+
+    }
+
+    private static boolean subSequenceEquals(
+        CharSequence text,
+        int pos,
+        String expected
+    ) {
+
+        for (int i = 0, n = expected.length(); i < n; i++) {
+            if (text.charAt(pos + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    private static int twoDigits(
+        CharSequence text,
+        int pos
+    ) {
+
+        int d1 = text.charAt(pos) - '0';
+        int d2 = text.charAt(pos + 1) - '0';
+
+        if ((d1 < 0) || (d1 > 9) || (d2 < 0) || (d2 > 9)) {
+            return -1;
+        }
+
+        return d1 * 10 + d2;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Op {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int kind;
+        private final int field;
+        private final ChronoElement<?> element;
+
+        private int minDigits;
+        private int maxDigits;
+        private int reserved;
+        private char zeroDigit;
+        private boolean bigNumberCheck;
+        private char literal;
+        private char alternative;
+        private String text;
+        private boolean extended;
+        private boolean longPrecision;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Op(
+            int kind,
+            int field,
+            ChronoElement<?> element
+        ) {
+            super();
+
+            this.kind = kind;
+            this.field = field;
+            this.element = element;
+
+        }
+
+    }
+
+}
@@ -396,6 +396,30 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Liefert die vollst&auml;ndigen Attribute dieses Schritts (nur nach {@code quickPath()}). </p>
+     *
+     * @return  global and sectional attributes or {@code null} if not yet frozen
+     * @since   4.18
+     */
+    AttributeQuery getQuickAttributes() {
+
+        return this.fullAttrs;
+
+    }
+
+    /**
+     * <p>Werden F&uuml;llzeichen verarbeitet? </p>
+     *
+     * @return  boolean
+     * @since   4.18
+     */
+    boolean isPadded() {
+
+        return ((this.padLeft != 0) || (this.padRight != 0));
+
+    }
+
     /**
      * <p>Finaler Schritt nach dem <i>build</i> des Formatierers oder bei Attribut&auml;nderungen. </p>
      *
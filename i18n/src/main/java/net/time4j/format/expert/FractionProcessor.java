@@ -144,25 +144,25 @@ final class FractionProcessor
         boolean quickPath
     ) throws IOException {
 
-        BigDecimal value = toDecimal(formattable.get(this.element));
-        BigDecimal min = toDecimal(formattable.getMinimum(this.element));
-        BigDecimal max = toDecimal(formattable.getMaximum(this.element));
+        // long arithmetic equivalent to BigDecimal-division with scale 9 and rounding mode FLOOR
+        long value = formattable.getInt(this.element);
+        long min = formattable.getMinimum(this.element).longValue();
+        long max = formattable.getMaximum(this.element).longValue();
 
-        if (value.compareTo(max) > 0) {
+        if (value > max) {
             value = max;
         }
 
-        BigDecimal fraction =
-            value.subtract(min).divide(
-                max.subtract(min).add(BigDecimal.ONE),
-                9,
-                RoundingMode.FLOOR);
+        long fraction = Math.floorDiv((value - min) * 1_000_000_000L, max - min + 1);
+        int scale = 0;
 
-        fraction = (
-            (fraction.compareTo(BigDecimal.ZERO) == 0)
-            ? BigDecimal.ZERO
-            : fraction.stripTrailingZeros()
-        );
+        if (fraction != 0) {
+            scale = 9;
+            while ((fraction % 10) == 0) {
+                fraction /= 10;
+                scale--;
+            }
+        }
 
         char zeroChar = (
             quickPath
@@ -176,7 +176,7 @@ final class FractionProcessor
             start = ((CharSequence) buffer).length();
         }
 
-        if (fraction.scale() == 0) {
+        if (scale == 0) {
             // scale ist 0, wenn value das Minimum ist
             if (this.minDigits > 0) {
                 if (this.hasDecimalSeparator()) {
@@ -206,17 +206,29 @@ final class FractionProcessor
                 printed++;
             }
 
-            int outputScale =
-                Math.min(
-                    Math.max(fraction.scale(), this.minDigits),
-                    this.maxDigits);
-            fraction = fraction.setScale(outputScale, RoundingMode.FLOOR);
-            String digits = fraction.toPlainString();
-            int diff = zeroChar - '0';
-
-            for (int i = 2, n = digits.length(); i < n; i++) {
-                char c = (char) (digits.charAt(i) + diff);
-                buffer.append(c);
+            int outputScale = Math.min(Math.max(scale, this.minDigits), this.maxDigits);
+
+            if (outputScale > scale) {
+                for (int i = scale; i < outputScale; i++) {
+                    fraction *= 10;
+                }
+            } else {
+                for (int i = outputScale; i < scale; i++) {
+                    fraction /= 10;
+                }
+            }
+
+            long divisor = 1;
+
+            for (int i = 1; i < outputScale; i++) {
+                divisor *= 10;
+            }
+
+            for (int i = 0; i < outputScale; i++) {
+                int digit = (int) (fraction / divisor);
+                buffer.append((char) (zeroChar + digit));
+                fraction -= digit * divisor;
+                divisor /= 10;
                 printed++;
             }
         }
@@ -458,6 +470,38 @@ final class FractionProcessor
 
     }
 
+    // Abfragen für CompiledParser (nur nach quickPath() sinnvoll)
+
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
+    boolean isFixedWidth() {
+
+        return this.fixedWidth;
+
+    }
+
+    char getZeroDigit() {
+
+        return this.zeroDigit;
+
+    }
+
+    Leniency getLeniency() {
+
+        return this.lenientMode;
+
+    }
+
     private int getRealValue(
         BigDecimal fraction,
         int min,
@@ -480,13 +524,7 @@ final class FractionProcessor
 
     }
 
-    private static BigDecimal toDecimal(Number num) {
-
-        return BigDecimal.valueOf(num.longValue());
-
-    }
-
-    private boolean hasDecimalSeparator() {
+    boolean hasDecimalSeparator() {
 
         return (this.decimalSeparator != null);
 
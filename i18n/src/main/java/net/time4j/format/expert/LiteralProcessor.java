@@ -381,6 +381,32 @@ final class LiteralProcessor
 
     }
 
+    // Abfragen für CompiledParser (nur nach quickPath() sinnvoll)
+
+    char getSingle() {
+
+        return this.single;
+
+    }
+
+    char getAlternative() {
+
+        return this.alt;
+
+    }
+
+    String getMulti() {
+
+        return this.multi;
+
+    }
+
+    AttributeKey<Character> getAttribute() {
+
+        return this.attribute;
+
+    }
+
     // also used by LocalizedGMTProcessor
     static int subSequenceEquals(
         CharSequence test,
@@ -441,7 +467,8 @@ final class LiteralProcessor
 
     }
 
-    private static boolean isBidi(char c) {
+    // also used by CompiledParser
+    static boolean isBidi(char c) {
 
         return ((c == '\u200E') || (c == '\u200F') || (c == '\u061C')); // LRM, RLM, ALM
 
@@ -25,9 +25,13 @@ import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoEntity;
 
 import java.lang.reflect.Array;
+import java.nio.CharBuffer;
 import java.text.ParseException;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 
 /**
@@ -309,4 +313,398 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Interpretes all given records as calendar dates and stores their epoch days
+     * relative to the UNIX epoch [1970-01-01] in given array. </p>
+     *
+     * <p>In contrast to single parsing, the format which matched the previous record will
+     * be tried first for the next record because bulk data usually come in one format
+     * for long sequences of records. Hence users should avoid formats which can both
+     * parse the same text with different results. All parse state will be reused. </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if no format matched
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     ChronoFormatter#parseToEpochDays(List, long[], BitSet)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze als Kalenderdaten und speichert deren
+     * Epochentage relativ zur UNIX-Epoche [1970-01-01] im angegebenen Array. </p>
+     *
+     * <p>Im Unterschied zur einzelnen Interpretation wird das Format, das den vorherigen
+     * Datensatz erkannt hat, f&uuml;r den n&auml;chsten Datensatz zuerst probiert, weil
+     * Massendaten gew&ouml;hnlich &uuml;ber lange Strecken in einem Format vorliegen. Anwender
+     * sollten deshalb keine Formate kombinieren, die den gleichen Text mit verschiedenen
+     * Ergebnissen interpretieren k&ouml;nnen. Der gesamte Interpretationszustand wird
+     * wiederverwendet. </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if no format matched
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     ChronoFormatter#parseToEpochDays(List, long[], BitSet)
+     * @since   4.18
+     */
+    public int parseToEpochDays(
+        List<? extends CharSequence> records,
+        long[] epochDays,
+        BitSet errors
+    ) {
+
+        for (ChronoFormatter<T> parser : this.parsers) {
+            BulkParsing.checkCalendarDate(parser.getChronology());
+        }
+
+        return BulkParsing.toEpochDays(new LastMatch<>(this.parsers), records, epochDays, errors);
+
+    }
+
+    /**
+     * <p>Interpretes the delimited records of given buffer as calendar dates and stores their
+     * epoch days relative to the UNIX epoch [1970-01-01] in given array. </p>
+     *
+     * @param   buffer      character buffer with delimited records
+     * @param   delimiter   record separator (for example a line feed)
+     * @param   endOfInput  does the buffer contain the last chars of input (then a final record
+     *                      without delimiter will be parsed, too)?
+     * @param   epochDays   output array for epoch days
+     * @param   errors      output bitmap whose bit at any record index is set if no format matched
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse calendar dates
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToEpochDays(CharBuffer, char, boolean, long[], BitSet)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die durch Trennzeichen abgegrenzten Datens&auml;tze des angegebenen Puffers
+     * als Kalenderdaten und speichert deren Epochentage relativ zur UNIX-Epoche [1970-01-01]
+     * im angegebenen Array. </p>
+     *
+     * @param   buffer      character buffer with delimited records
+     * @param   delimiter   record separator (for example a line feed)
+     * @param   endOfInput  does the buffer contain the last chars of input (then a final record
+     *                      without delimiter will be parsed, too)?
+     * @param   epochDays   output array for epoch days
+     * @param   errors      output bitmap whose bit at any record index is set if no format matched
+     *                      (the associated array value is then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse calendar dates
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToEpochDays(CharBuffer, char, boolean, long[], BitSet)
+     * @since   4.18
+     */
+    public int parseToEpochDays(
+        CharBuffer buffer,
+        char delimiter,
+        boolean endOfInput,
+        long[] epochDays,
+        BitSet errors
+    ) {
+
+        for (ChronoFormatter<T> parser : this.parsers) {
+            BulkParsing.checkCalendarDate(parser.getChronology());
+        }
+
+        return BulkParsing.toEpochDays(new LastMatch<>(this.parsers), buffer, delimiter, endOfInput, epochDays, errors);
+
+    }
+
+    /**
+     * <p>Interpretes all given records as global timestamps and stores their elapsed POSIX
+     * seconds since the UNIX epoch [1970-01-01T00:00Z] and their nanosecond fractions in
+     * given arrays. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if no format matched
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToPosixTime(List, long[], int[], BitSet)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze als globale Zeitstempel und speichert die
+     * seit der UNIX-Epoche [1970-01-01T00:00Z] verstrichenen POSIX-Sekunden und deren
+     * Nanosekundenbruchteile in den angegebenen Arrays. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if no format matched
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToPosixTime(List, long[], int[], BitSet)
+     * @since   4.18
+     */
+    public int parseToPosixTime(
+        List<? extends CharSequence> records,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors
+    ) {
+
+        for (ChronoFormatter<T> parser : this.parsers) {
+            BulkParsing.checkUnixTime(parser.getChronology());
+        }
+
+        return BulkParsing.toPosixTime(new LastMatch<>(this.parsers), records, posixSeconds, nanos, errors);
+
+    }
+
+    /**
+     * <p>Interpretes the delimited records of given buffer as global timestamps and stores their
+     * elapsed POSIX seconds since the UNIX epoch [1970-01-01T00:00Z] and their nanosecond fractions
+     * in given arrays. </p>
+     *
+     * @param   buffer          character buffer with delimited records
+     * @param   delimiter       record separator (for example a line feed)
+     * @param   endOfInput      does the buffer contain the last chars of input (then a final record
+     *                          without delimiter will be parsed, too)?
+     * @param   posixSeconds    output array for POSIX seconds
+     * @param   nanos           output array for nanosecond fractions
+     * @param   errors          output bitmap whose bit at any record index is set if no format matched
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse instances of {@code UnixTime}
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToPosixTime(CharBuffer, char, boolean, long[], int[], BitSet)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die durch Trennzeichen abgegrenzten Datens&auml;tze des angegebenen Puffers
+     * als globale Zeitstempel und speichert die seit der UNIX-Epoche [1970-01-01T00:00Z]
+     * verstrichenen POSIX-Sekunden und deren Nanosekundenbruchteile in den angegebenen Arrays. </p>
+     *
+     * @param   buffer          character buffer with delimited records
+     * @param   delimiter       record separator (for example a line feed)
+     * @param   endOfInput      does the buffer contain the last chars of input (then a final record
+     *                          without delimiter will be parsed, too)?
+     * @param   posixSeconds    output array for POSIX seconds
+     * @param   nanos           output array for nanosecond fractions
+     * @param   errors          output bitmap whose bit at any record index is set if no format matched
+     *                          (the associated array values are then set to zero) else cleared
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse instances of {@code UnixTime}
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToPosixTime(CharBuffer, char, boolean, long[], int[], BitSet)
+     * @since   4.18
+     */
+    public int parseToPosixTime(
+        CharBuffer buffer,
+        char delimiter,
+        boolean endOfInput,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors
+    ) {
+
+        for (ChronoFormatter<T> parser : this.parsers) {
+            BulkParsing.checkUnixTime(parser.getChronology());
+        }
+
+        return BulkParsing.toPosixTime(
+            new LastMatch<>(this.parsers), buffer, delimiter, endOfInput, posixSeconds, nanos, errors);
+
+    }
+
+    /**
+     * <p>Interpretes all given records concurrently as calendar dates and stores their epoch
+     * days relative to the UNIX epoch [1970-01-01] in given array. </p>
+     *
+     * <p>Every chunk of records remembers the last matching format on its own. </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if no format matched
+     *                      (the associated array value is then set to zero) else cleared
+     * @param   pool        fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToEpochDays(List, long[], BitSet, ForkJoinPool)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze nebenl&auml;ufig als Kalenderdaten und
+     * speichert deren Epochentage relativ zur UNIX-Epoche [1970-01-01] im angegebenen Array. </p>
+     *
+     * <p>Jedes St&uuml;ck von Datens&auml;tzen merkt sich das zuletzt passende Format
+     * eigenst&auml;ndig. </p>
+     *
+     * @param   records     list of texts to be parsed
+     * @param   epochDays   output array for epoch days (at least as long as the list of records)
+     * @param   errors      output bitmap whose bit at any record index is set if no format matched
+     *                      (the associated array value is then set to zero) else cleared
+     * @param   pool        fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse calendar dates
+     * @throws  IllegalArgumentException if the output array is too small
+     * @see     #parseToEpochDays(List, long[], BitSet)
+     * @see     ChronoFormatter#parseToEpochDays(List, long[], BitSet, ForkJoinPool)
+     * @since   4.18
+     */
+    public int parseToEpochDays(
+        List<? extends CharSequence> records,
+        long[] epochDays,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        for (ChronoFormatter<T> parser : this.parsers) {
+            BulkParsing.checkCalendarDate(parser.getChronology());
+        }
+
+        return BulkParsing.toEpochDays(() -> new LastMatch<>(this.parsers), records, epochDays, errors, pool);
+
+    }
+
+    /**
+     * <p>Interpretes all given records concurrently as global timestamps and stores their
+     * elapsed POSIX seconds since the UNIX epoch [1970-01-01T00:00Z] and their nanosecond
+     * fractions in given arrays. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if no format matched
+     *                          (the associated array values are then set to zero) else cleared
+     * @param   pool            fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @see     #parseToEpochDays(List, long[], BitSet, ForkJoinPool)
+     * @see     ChronoFormatter#parseToPosixTime(List, long[], int[], BitSet, ForkJoinPool)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Datens&auml;tze nebenl&auml;ufig als globale Zeitstempel
+     * und speichert die seit der UNIX-Epoche [1970-01-01T00:00Z] verstrichenen POSIX-Sekunden
+     * und deren Nanosekundenbruchteile in den angegebenen Arrays. </p>
+     *
+     * @param   records         list of texts to be parsed
+     * @param   posixSeconds    output array for POSIX seconds (at least as long as the list of records)
+     * @param   nanos           output array for nanosecond fractions (at least as long as the list of records)
+     * @param   errors          output bitmap whose bit at any record index is set if no format matched
+     *                          (the associated array values are then set to zero) else cleared
+     * @param   pool            fork-join-pool which executes the chunks (for example the common pool)
+     * @return  count of processed records
+     * @throws  IllegalStateException if any format does not parse instances of {@code UnixTime}
+     * @throws  IllegalArgumentException if any output array is too small
+     * @see     #parseToEpochDays(List, long[], BitSet, ForkJoinPool)
+     * @see     ChronoFormatter#parseToPosixTime(List, long[], int[], BitSet, ForkJoinPool)
+     * @since   4.18
+     */
+    public int parseToPosixTime(
+        List<? extends CharSequence> records,
+        long[] posixSeconds,
+        int[] nanos,
+        BitSet errors,
+        ForkJoinPool pool
+    ) {
+
+        for (ChronoFormatter<T> parser : this.parsers) {
+            BulkParsing.checkUnixTime(parser.getChronology());
+        }
+
+        return BulkParsing.toPosixTime(
+            () -> new LastMatch<>(this.parsers), records, posixSeconds, nanos, errors, pool);
+
+    }
+
+    /**
+     * <p>Maps given stream of texts to a stream of parsed results. </p>
+     *
+     * <p>Every text is parsed like in {@link #parse(CharSequence, ParseLog)} so the
+     * formats are always tried in original order. The result stream inherits the
+     * characteristics (parallel, ordered) of the input stream. </p>
+     *
+     * @param   texts       stream of texts to be parsed
+     * @return  lazy stream of parsed results
+     * @throws  net.time4j.engine.ChronoException in the terminal operation if any text cannot be parsed
+     * @see     ChronoFormatter#parseAll(Stream)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bildet den angegebenen Strom von Texten auf einen Strom von Interpretationsergebnissen
+     * ab. </p>
+     *
+     * <p>Jeder Text wird wie in {@link #parse(CharSequence, ParseLog)} interpretiert, so
+     * da&szlig; die Formate immer in der urspr&uuml;nglichen Reihenfolge probiert werden. Der
+     * Ergebnisstrom erbt die Eigenschaften (parallel, geordnet) des Eingabestroms. </p>
+     *
+     * @param   texts       stream of texts to be parsed
+     * @return  lazy stream of parsed results
+     * @throws  net.time4j.engine.ChronoException in the terminal operation if any text cannot be parsed
+     * @see     ChronoFormatter#parseAll(Stream)
+     * @since   4.18
+     */
+    public Stream<T> parseAll(Stream<? extends CharSequence> texts) {
+
+        return BulkParsing.parseAll(() -> new LastMatch<>(this.parsers), texts);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // probiert zuerst das Format, das den vorherigen Datensatz erkannt hat
+    private static class LastMatch<T extends ChronoEntity<T>>
+        implements BulkParsing.RecordParser<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoFormatter<T>[] parsers;
+        private int last = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        LastMatch(ChronoFormatter<T>[] parsers) {
+            super();
+
+            this.parsers = parsers;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public T parse(
+            CharSequence text,
+            ParseLog status
+        ) {
+
+            int last = this.last;
+
+            for (int k = 0, n = this.parsers.length; k < n; k++) {
+                int i = ((k == 0) ? last : ((k <= last) ? k - 1 : k));
+                T result = this.parsers[i].parseRecord(text, status);
+
+                if (result != null) {
+                    this.last = i;
+                    return result;
+                }
+            }
+
+            return null;
+
+        }
+
+    }
+
 }
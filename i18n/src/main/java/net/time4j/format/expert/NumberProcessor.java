@@ -46,6 +46,12 @@ import java.util.Set;
 class NumberProcessor<V>
     implements FormatProcessor<V> {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final ChronoElement<V> element;
@@ -185,12 +191,13 @@ class NumberProcessor<V>
         } else {
             Class<V> type = this.element.getType();
             boolean negative = false;
-            String digits;
+            String digits = null;
+            int numeral = 0;
 
             if (type == Integer.class) {
                 int v = formattable.getInt((ChronoElement<Integer>) this.element);
                 negative = (v < 0);
-                digits = toNumeral(numsys, v);
+                numeral = v;
             } else if (type == Long.class) {
                 V value = formattable.get(this.element);
                 long v = Long.class.cast(value).longValue();
@@ -218,13 +225,23 @@ class NumberProcessor<V>
                             "Enum broken: " + value + " / " + type.getName());
                     }
                 }
-                digits = toNumeral(numsys, v);
+                numeral = v;
             } else {
                 throw new IllegalArgumentException("Not formattable: " + this.element);
             }
 
-            if (numsys == NumberSystem.ARABIC) {
-                if (zeroChar != '0') {
+            // arabic int-values will be printed digit by digit without any intermediate string
+            boolean direct = ((digits == null) && (numsys == NumberSystem.ARABIC) && (numeral != Integer.MIN_VALUE));
+            int count;
+
+            if (direct) {
+                numeral = Math.abs(numeral);
+                count = countOfDigits(numeral);
+            } else {
+                if (digits == null) {
+                    digits = toNumeral(numsys, numeral);
+                }
+                if ((numsys == NumberSystem.ARABIC) && (zeroChar != '0')) {
                     int diff = zeroChar - '0';
                     char[] characters = digits.toCharArray();
 
@@ -234,12 +251,15 @@ class NumberProcessor<V>
 
                     digits = new String(characters);
                 }
-                if (digits.length() > this.maxDigits) {
-                    throw new IllegalArgumentException(
-                        "Element " + this.element.name()
-                            + " cannot be printed as the formatted value " + digits
-                            + " exceeds the maximum width of " + this.maxDigits + ".");
-                }
+                count = digits.length();
+            }
+
+            if ((numsys == NumberSystem.ARABIC) && (count > this.maxDigits)) {
+                throw new IllegalArgumentException(
+                    "Element " + this.element.name()
+                        + " cannot be printed as the formatted value "
+                        + (direct ? Integer.toString(numeral) : digits)
+                        + " exceeds the maximum width of " + this.maxDigits + ".");
             }
 
             if (negative) {
@@ -257,7 +277,7 @@ class NumberProcessor<V>
                         printed++;
                         break;
                     case SHOW_WHEN_BIG_NUMBER:
-                        if (digits.length() > this.minDigits) {
+                        if (count > this.minDigits) {
                             buffer.append('+');
                             printed++;
                         }
@@ -268,14 +288,19 @@ class NumberProcessor<V>
             }
 
             if (numsys == NumberSystem.ARABIC) {
-                for (int i = 0, n = this.minDigits - digits.length(); i < n; i++) {
+                for (int i = 0, n = this.minDigits - count; i < n; i++) {
                     buffer.append(zeroChar);
                     printed++;
                 }
             }
 
-            buffer.append(digits);
-            printed += digits.length();
+            if (direct) {
+                appendDigits(buffer, numeral, count, zeroChar);
+            } else {
+                buffer.append(digits);
+            }
+
+            printed += count;
         }
 
         if (
@@ -640,6 +665,62 @@ class NumberProcessor<V>
 
     }
 
+    // Abfragen für CompiledParser (nur nach quickPath() sinnvoll)
+
+    boolean isFixedWidth() {
+
+        return this.fixedWidth;
+
+    }
+
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
+    SignPolicy getSignPolicy() {
+
+        return this.signPolicy;
+
+    }
+
+    int getReserved() {
+
+        return this.reserved;
+
+    }
+
+    char getZeroDigit() {
+
+        return this.zeroDigit;
+
+    }
+
+    NumberSystem getNumberSystem() {
+
+        return this.numberSystem;
+
+    }
+
+    Leniency getLeniency() {
+
+        return this.lenientMode;
+
+    }
+
+    int getProtectedLength() {
+
+        return this.protectedLength;
+
+    }
+
     private int getScale(NumberSystem numsys) {
 
         if (numsys == NumberSystem.ARABIC) {
@@ -663,6 +744,37 @@ class NumberProcessor<V>
 
     }
 
+    private static int countOfDigits(int value) {
+
+        int count = 1;
+
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+
+        return count;
+
+    }
+
+    private static void appendDigits(
+        Appendable buffer,
+        int value,
+        int count,
+        char zeroChar
+    ) throws IOException {
+
+        int divisor = POWERS_OF_TEN[count - 1];
+
+        while (divisor > 0) {
+            int digit = value / divisor;
+            buffer.append((char) (zeroChar + digit));
+            value -= digit * divisor;
+            divisor /= 10;
+        }
+
+    }
+
     private NumberSystem getNumberSystem(AttributeQuery attrs) {
 
         NumberSystem defaultNumberSystem = NumberSystem.ARABIC;
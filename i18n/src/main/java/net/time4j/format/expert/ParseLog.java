@@ -55,6 +55,9 @@ public class ParseLog {
     private ParsePosition pp;
     private String errorMessage;
     private ParsedValues rawValues;
+    private CompiledParser<?> deferredParser;
+    private CharSequence deferredText;
+    private int deferredStart;
     private Boolean daylightSaving;
     private boolean warning;
 
@@ -214,8 +217,8 @@ public class ParseLog {
      */
     public ChronoEntity<?> getRawValues() {
 
-        if (this.rawValues == null) {
-            this.rawValues = new ParsedValues(0, false);
+        if (this.getRawValues0() == null) {
+            this.rawValues = new ParsedValues(0);
         }
 
         return this.rawValues;
@@ -242,7 +245,7 @@ public class ParseLog {
         if (this.warning) {
             sb.append(", warning-active");
         }
-        if (this.rawValues != null) {
+        if (this.getRawValues0() != null) {
             sb.append(", raw-values=");
             sb.append(this.rawValues);
         }
@@ -366,6 +369,8 @@ public class ParseLog {
         this.errorMessage = "";
         this.warning = false;
         this.rawValues = null;
+        this.deferredParser = null;
+        this.deferredText = null;
         this.daylightSaving = null;
 
     }
@@ -377,6 +382,25 @@ public class ParseLog {
      */
     ParsedValues getRawValues0() {
 
+        if (this.deferredParser != null) {
+            this.rawValues = this.deferredParser.toRawValues(this.deferredText, this.deferredStart);
+            this.deferredParser = null;
+            this.deferredText = null;
+        }
+
+        return this.rawValues;
+
+    }
+
+    /**
+     * <p>Liefert die vorhandenen Rohdaten, ohne verz&ouml;gerte Rohdaten
+     * des kompilierten Parsers zu erzeugen. </p>
+     *
+     * @return  parsed values or {@code null}
+     * @since   4.18
+     */
+    ParsedValues getRawValuesIfPresent() {
+
         return this.rawValues;
 
     }
@@ -399,6 +423,42 @@ public class ParseLog {
     void setRawValues(ParsedValues rawValues) {
 
         this.rawValues = rawValues;
+        this.deferredParser = null;
+        this.deferredText = null;
+
+    }
+
+    /**
+     * <p>Merkt sich einen erfolgreichen Lauf des kompilierten Parsers, dessen Rohdaten
+     * erst bei Bedarf erzeugt werden. </p>
+     *
+     * <p>Ein {@code String} ist unver&auml;nderlich, und das interne Fenster beim Massen-Parsen
+     * bleibt bis zum n&auml;chsten {@code reset()} stabil. Andere Texte wie ein
+     * {@code StringBuilder} k&ouml;nnen sich bis zur Abfrage &auml;ndern, so da&szlig; nur
+     * der interpretierte Abschnitt kopiert wird. Der Parser l&auml;uft hier nicht erneut, denn
+     * der Abschnitt liefert beim verz&ouml;gerten Lauf die gleichen Rohdaten. </p>
+     *
+     * @param   parser  compiled parser
+     * @param   text    parsed text
+     * @param   start   start position
+     * @since   4.18
+     */
+    void setDeferredRawValues(
+        CompiledParser<?> parser,
+        CharSequence text,
+        int start
+    ) {
+
+        this.rawValues = null;
+        this.deferredParser = parser;
+
+        if ((text instanceof String) || BulkParsing.isRecord(text)) {
+            this.deferredText = text;
+            this.deferredStart = start;
+        } else {
+            this.deferredText = text.subSequence(start, this.getPosition()).toString();
+            this.deferredStart = 0;
+        }
 
     }
 
@@ -21,8 +21,6 @@
 
 package net.time4j.format.expert;
 
-import net.time4j.PlainDate;
-import net.time4j.PlainTime;
 import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.ChronoException;
@@ -33,8 +31,8 @@ import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -44,6 +42,10 @@ import java.util.Set;
  * <p>Definiert eine aktualisierbare Wertquelle mit chronologischen Elementen,
  * denen beliebige Werte ohne weitere Validierung zugeordnet sind. </p>
  *
+ * <p>Im Slot-Modus werden alle Elemente des Formatierers &uuml;ber den
+ * vorab berechneten Index einer {@link SlotTable} gespeichert, numerische
+ * Werte primitiv. Nur unbekannte Elemente landen dann in einer Map. </p>
+ *
  * @author  Meno Hochschild
  * @since   3.0
  * @doctags.concurrency {mutable}
@@ -56,34 +58,23 @@ class ParsedValues
     private static final float LOAD_FACTOR = 0.75f;
     private static final int INT_PHI = 0x9E3779B9;
 
-    private static final Set<ChronoElement<?>> INDEXED_ELEMENTS;
-
-    static {
-        Set<ChronoElement<?>> set = new HashSet<>();
-        set.add(PlainDate.YEAR);
-        set.add(PlainDate.MONTH_AS_NUMBER);
-        set.add(PlainDate.DAY_OF_MONTH);
-        set.add(PlainTime.DIGITAL_HOUR_OF_DAY);
-        set.add(PlainTime.MINUTE_OF_HOUR);
-        set.add(PlainTime.SECOND_OF_MINUTE);
-        set.add(PlainTime.NANO_OF_SECOND);
-        INDEXED_ELEMENTS = Collections.unmodifiableSet(set);
-    }
-
     //~ Instanzvariablen --------------------------------------------------
 
     // standard mode
     private Object[] keys;
     private Object[] values;
-
-    // index mode
-    private Map<ChronoElement<?>, Object> map;
-
-    private int[] ints; // index mode => date elements (year, month, day-of-month)
-    private int len; // index mode => hour-of-day
-    private int mask; // index mode => minute-of-hour
-    private int threshold; // index mode => second-of-minute
-    private int count; // index mode => nano-of-second
+    private int[] ints;
+    private int len;
+    private int mask;
+    private int threshold;
+    private int count;
+
+    // slot mode
+    private final SlotTable table;
+    private long present; // bitmask of occupied slots
+    private long[] nums; // values of integer or long elements
+    private Object[] objs; // values of other elements
+    private Map<ChronoElement<?>, Object> map; // elements not registered in slot table
 
     private boolean duplicateKeysAllowed = false;
     private int position = -1;
@@ -94,35 +85,33 @@ class ParsedValues
      * Standard-Konstruktor.
      *
      * @param   expectedCountOfElements     How many elements to be expected?
-     * @param   indexable                   Are only indexable elements used?
      */
-    ParsedValues(
-        int expectedCountOfElements,
-        boolean indexable
-    ) {
+    ParsedValues(int expectedCountOfElements) {
         super();
 
-        if (indexable) {
-            this.len = Integer.MIN_VALUE;
-            this.mask = Integer.MIN_VALUE;
-            this.threshold = Integer.MIN_VALUE;
-            this.count = Integer.MIN_VALUE;
-            this.keys = null;
-            this.values = null;
-            this.ints = new int[3];
-            for (int i = 0; i < 3; i++) {
-                this.ints[i] = Integer.MIN_VALUE;
-            }
-        } else {
-            this.len = arraySize(expectedCountOfElements);
-            this.mask = this.len - 1;
-            this.threshold = maxFill(this.len);
-            this.keys = new Object[this.len];
-            this.values = null;
-            this.ints = new int[this.len];
-            this.count = 0;
-        }
+        this.table = null;
+        this.len = arraySize(expectedCountOfElements);
+        this.mask = this.len - 1;
+        this.threshold = maxFill(this.len);
+        this.keys = new Object[this.len];
+        this.values = null;
+        this.ints = new int[this.len];
+        this.count = 0;
+
+    }
+
+    /**
+     * Konstruktor f&uuml;r den Slot-Modus.
+     *
+     * @param   table       element slots of formatter
+     */
+    ParsedValues(SlotTable table) {
+        super();
 
+        this.table = table;
+        this.present = 0L;
+        this.nums = new long[table.size()];
+        this.objs = (table.hasObjects() ? new Object[table.size()] : null);
         this.map = null;
 
     }
@@ -136,29 +125,16 @@ class ParsedValues
             return false;
         }
 
-        Object[] keys = this.keys;
-
-        if (keys == null) {
-            if (element == PlainDate.YEAR) {
-                return (this.ints[0] != Integer.MIN_VALUE);
-            } else if (element == PlainDate.MONTH_AS_NUMBER) {
-                return (this.ints[1] != Integer.MIN_VALUE);
-            } else if (element == PlainDate.DAY_OF_MONTH) {
-                return (this.ints[2] != Integer.MIN_VALUE);
-            } else if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
-                return (this.len != Integer.MIN_VALUE);
-            } else if (element == PlainTime.MINUTE_OF_HOUR) {
-                return (this.mask != Integer.MIN_VALUE);
-            } else if (element == PlainTime.SECOND_OF_MINUTE) {
-                return (this.threshold != Integer.MIN_VALUE);
-            } else if (element == PlainTime.NANO_OF_SECOND) {
-                return (this.count != Integer.MIN_VALUE);
-            } else {
-                Map<ChronoElement<?>, Object> m = this.map;
-                return ((m != null) && m.containsKey(element));
+        if (this.table != null) {
+            int slot = this.table.indexOf(element);
+            if (slot >= 0) {
+                return ((this.present & (1L << slot)) != 0);
             }
+            Map<ChronoElement<?>, Object> m = this.map;
+            return ((m != null) && m.containsKey(element));
         }
 
+        Object[] keys = this.keys;
         Object current;
         int pos;
 
@@ -196,18 +172,29 @@ class ParsedValues
             }
         }
 
-        Object[] keys = this.keys;
+        if (this.table != null) {
+            int slot = this.table.indexOf(element);
 
-        if (keys == null) {
-            Map<ChronoElement<?>, Object> m = this.map;
+            if (slot >= 0) {
+                if ((this.present & (1L << slot)) != 0) {
+                    if (this.table.isNumerical(slot)) {
+                        return type.cast(Long.valueOf(this.nums[slot]));
+                    } else {
+                        return type.cast(this.objs[slot]);
+                    }
+                }
+            } else {
+                Map<ChronoElement<?>, Object> m = this.map;
 
-            if ((m != null) && m.containsKey(element)) {
-                return element.getType().cast(m.get(element));
+                if ((m != null) && m.containsKey(element)) {
+                    return type.cast(m.get(element));
+                }
             }
 
             throw new ChronoException("No value found for: " + element.name());
         }
 
+        Object[] keys = this.keys;
         Object current;
         int pos;
 
@@ -320,8 +307,12 @@ class ParsedValues
     @Override
     public int hashCode() {
 
-        if (this.keys == null) {
-            return Arrays.hashCode(this.ints) + 3 * this.len + 7 * this.mask + 11 * this.threshold + 31 * this.count;
+        if (this.table != null) {
+            int h = 0;
+            for (ChronoElement<?> element : this.getRegisteredElements()) {
+                h += (element.hashCode() ^ this.get(element).hashCode());
+            }
+            return h;
         }
 
         return Arrays.hashCode(this.keys);
@@ -358,28 +349,12 @@ class ParsedValues
     @Override
     public Set<ChronoElement<?>> getRegisteredElements() {
 
-        if (this.keys == null) {
-            Set<ChronoElement<?>> set = new HashSet<>();
-            if (this.ints[0] != Integer.MIN_VALUE) {
-                set.add(PlainDate.YEAR);
-            }
-            if (this.ints[1] != Integer.MIN_VALUE) {
-                set.add(PlainDate.MONTH_AS_NUMBER);
-            }
-            if (this.ints[2] != Integer.MIN_VALUE) {
-                set.add(PlainDate.DAY_OF_MONTH);
-            }
-            if (this.len != Integer.MIN_VALUE) {
-                set.add(PlainTime.DIGITAL_HOUR_OF_DAY);
-            }
-            if (this.mask != Integer.MIN_VALUE) {
-                set.add(PlainTime.MINUTE_OF_HOUR);
-            }
-            if (this.threshold != Integer.MIN_VALUE) {
-                set.add(PlainTime.SECOND_OF_MINUTE);
-            }
-            if (this.count != Integer.MIN_VALUE) {
-                set.add(PlainTime.NANO_OF_SECOND);
+        if (this.table != null) {
+            Set<ChronoElement<?>> set = new LinkedHashSet<>();
+            for (int slot = 0, n = this.table.size(); slot < n; slot++) {
+                if ((this.present & (1L << slot)) != 0) {
+                    set.add(this.table.getElement(slot));
+                }
             }
             if (this.map != null) {
                 set.addAll(this.map.keySet());
@@ -452,22 +427,8 @@ class ParsedValues
     // gets the count of stored values
     int size() {
 
-        if (this.keys == null) {
-            int total = ((this.len == Integer.MIN_VALUE) ? 0 : 1);
-            if (this.mask != Integer.MIN_VALUE){
-                total++;
-            }
-            if (this.threshold != Integer.MIN_VALUE) {
-                total++;
-            }
-            if (this.count != Integer.MIN_VALUE) {
-                total++;
-            }
-            for (int i = 0; i < 3; i++) {
-                if (this.ints[i] != Integer.MIN_VALUE) {
-                    total++;
-                }
-            }
+        if (this.table != null) {
+            int total = Long.bitCount(this.present);
             if (this.map != null) {
                 total += this.map.size();
             }
@@ -478,57 +439,25 @@ class ParsedValues
 
     }
 
-    // used by ChronoFormatter in order to determine the indexable-flag
-    static boolean isIndexed(ChronoElement<?> element) {
+    // used by SlotTable in order to check the owner before recycling
+    SlotTable getSlotTable() {
 
-        return INDEXED_ELEMENTS.contains(element);
+        return this.table;
 
     }
 
     // only used in ChronoFormatter.parseElements()
     void putAll(ParsedValues other) {
 
-        if (this.keys == null) {
-            int v = other.len;
-            if (v != Integer.MIN_VALUE) {
-                if ((this.len == Integer.MIN_VALUE) || this.duplicateKeysAllowed || (this.len == v)) {
-                    this.len = v;
-                } else {
-                    throw new AmbivalentValueException(PlainTime.DIGITAL_HOUR_OF_DAY);
-                }
-            }
-            v = other.mask;
-            if (v != Integer.MIN_VALUE) {
-                if ((this.mask == Integer.MIN_VALUE) || this.duplicateKeysAllowed || (this.mask == v)) {
-                    this.mask = v;
-                } else {
-                    throw new AmbivalentValueException(PlainTime.MINUTE_OF_HOUR);
-                }
-            }
-            v = other.threshold;
-            if (v != Integer.MIN_VALUE) {
-                if ((this.threshold == Integer.MIN_VALUE) || this.duplicateKeysAllowed || (this.threshold == v)) {
-                    this.threshold = v;
-                } else {
-                    throw new AmbivalentValueException(PlainTime.SECOND_OF_MINUTE);
-                }
-            }
-            v = other.count;
-            if (v != Integer.MIN_VALUE) {
-                if ((this.count == Integer.MIN_VALUE) || this.duplicateKeysAllowed || (this.count == v)) {
-                    this.count = v;
+        if ((this.table != null) && (other.table == this.table)) {
+            long bits = other.present;
+            while (bits != 0) {
+                int slot = Long.numberOfTrailingZeros(bits);
+                bits &= (bits - 1);
+                if (this.table.isNumerical(slot)) {
+                    this.putSlot(slot, other.nums[slot]);
                 } else {
-                    throw new AmbivalentValueException(PlainTime.NANO_OF_SECOND);
-                }
-            }
-            for (int i = 0; i < 3; i++) {
-                v = other.ints[i];
-                if (v != Integer.MIN_VALUE) {
-                    if ((this.ints[i] == Integer.MIN_VALUE) || this.duplicateKeysAllowed || (this.ints[i] == v)) {
-                        this.ints[i] = v;
-                    } else {
-                        throw new AmbivalentValueException(getIndexedElement(i));
-                    }
+                    this.putSlot(slot, other.objs[slot]);
                 }
             }
             Map<ChronoElement<?>, Object> m = other.map;
@@ -538,6 +467,11 @@ class ParsedValues
                 }
             }
             return;
+        } else if (other.table != null) {
+            for (ChronoElement<?> e : other.getRegisteredElements()) {
+                this.put(e, other.get(e));
+            }
+            return;
         }
 
         Object[] elements = other.keys;
@@ -559,70 +493,30 @@ class ParsedValues
     // called by format processors
     void put(ChronoElement<?> element, int v) {
 
-        int pos;
-        Object current;
-        Object[] keys = this.keys;
-
-        if (keys == null) {
-            if (element == PlainDate.YEAR) {
-                if (this.duplicateKeysAllowed || (this.ints[0] == Integer.MIN_VALUE) || (this.ints[0] == v)) {
-                    this.ints[0] = v;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
-            } else if (element == PlainDate.MONTH_AS_NUMBER) {
-                if (this.duplicateKeysAllowed || (this.ints[1] == Integer.MIN_VALUE) || (this.ints[1] == v)) {
-                    this.ints[1] = v;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
-            } else if (element == PlainDate.DAY_OF_MONTH) {
-                if (this.duplicateKeysAllowed || (this.ints[2] == Integer.MIN_VALUE) || (this.ints[2] == v)) {
-                    this.ints[2] = v;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
-            } else if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
-                if (this.duplicateKeysAllowed || (this.len == Integer.MIN_VALUE) || (this.len == v)) {
-                    this.len = v;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
-            } else if (element == PlainTime.MINUTE_OF_HOUR) {
-                if (this.duplicateKeysAllowed || (this.mask == Integer.MIN_VALUE) || (this.mask == v)) {
-                    this.mask = v;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
-            } else if (element == PlainTime.SECOND_OF_MINUTE) {
-                if (this.duplicateKeysAllowed || (this.threshold == Integer.MIN_VALUE) || (this.threshold == v)) {
-                    this.threshold = v;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
-            } else if (element == PlainTime.NANO_OF_SECOND) {
-                if (this.duplicateKeysAllowed || (this.count == Integer.MIN_VALUE) || (this.count == v)) {
-                    this.count = v;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
+        if (this.table != null) {
+            int slot = this.table.indexOf(element);
+            if (slot >= 0) {
+                this.putSlot(slot, v);
+                return;
+            }
+            Map<ChronoElement<?>, Object> m = this.map;
+            if (m == null) {
+                m = new HashMap<>();
+                this.map = m;
+            }
+            Object newValue = Integer.valueOf(v);
+            if (this.duplicateKeysAllowed || !m.containsKey(element) || newValue.equals(m.get(element))) {
+                m.put(element, newValue);
+                return;
             } else {
-                Map<ChronoElement<?>, Object> m = this.map;
-                if (m == null) {
-                    m = new HashMap<>();
-                    this.map = m;
-                }
-                Object newValue = Integer.valueOf(v);
-                if (this.duplicateKeysAllowed || !m.containsKey(element) || newValue.equals(m.get(element))) {
-                    m.put(element, newValue);
-                    return;
-                } else {
-                    throw new AmbivalentValueException(element);
-                }
+                throw new AmbivalentValueException(element);
             }
-            return;
         }
 
+        int pos;
+        Object current;
+        Object[] keys = this.keys;
+
         if (!((current = keys[pos = (mix(element.hashCode()) & this.mask)]) == null)) {
             if (current.equals(element)) {
                 if (this.duplicateKeysAllowed || (this.ints[pos] == v)) {
@@ -664,11 +558,16 @@ class ParsedValues
             return;
         }
 
-        int pos;
-        Object current;
-        Object[] keys = this.keys;
-
-        if (keys == null) {
+        if (this.table != null) {
+            int slot = this.table.indexOf(element);
+            if (slot >= 0) {
+                if (this.table.isNumerical(slot)) {
+                    this.putSlot(slot, Long.class.cast(v).longValue());
+                } else {
+                    this.putSlot(slot, v);
+                }
+                return;
+            }
             Map<ChronoElement<?>, Object> m = this.map;
             if (m == null) {
                 m = new HashMap<>();
@@ -682,6 +581,10 @@ class ParsedValues
             }
         }
 
+        int pos;
+        Object current;
+        Object[] keys = this.keys;
+
         if (this.values == null) {
             this.values = new Object[this.len];
         }
@@ -719,42 +622,78 @@ class ParsedValues
     // called in context of erraneous or-block
     void reset() {
 
-        if (this.keys == null) {
-            this.len = Integer.MIN_VALUE;
-            this.mask = Integer.MIN_VALUE;
-            this.threshold = Integer.MIN_VALUE;
-            this.count = Integer.MIN_VALUE;
-            for (int i = 0; i < 3; i++) {
-                this.ints[i] = Integer.MIN_VALUE;
+        if (this.table != null) {
+            this.present = 0L;
+            if (this.objs != null) {
+                Arrays.fill(this.objs, null);
             }
             this.map = null;
         } else {
             this.keys = new Object[this.keys.length];
+            this.count = 0;
         }
 
-        this.count = 0;
+    }
+
+    // called by SlotTable before reusing this instance for another parsing run
+    void recycle() {
+
+        this.reset();
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
+    private void putSlot(
+        int slot,
+        long v
+    ) {
+
+        long bit = (1L << slot);
+
+        if (
+            ((this.present & bit) == 0)
+            || this.duplicateKeysAllowed
+            || (this.nums[slot] == v)
+        ) {
+            this.nums[slot] = v;
+            this.present |= bit;
+        } else {
+            throw new AmbivalentValueException(this.table.getElement(slot));
+        }
+
+    }
+
+    private void putSlot(
+        int slot,
+        Object v
+    ) {
+
+        long bit = (1L << slot);
+
+        if (
+            ((this.present & bit) == 0)
+            || this.duplicateKeysAllowed
+            || v.equals(this.objs[slot])
+        ) {
+            this.objs[slot] = v;
+            this.present |= bit;
+        } else {
+            throw new AmbivalentValueException(this.table.getElement(slot));
+        }
 
     }
 
     private int getInt0(ChronoElement<?> element) {
 
-        Object[] keys = this.keys;
+        if (this.table != null) {
+            int slot = this.table.indexOf(element);
 
-        if (keys == null) {
-            if (element == PlainDate.YEAR) {
-                return this.ints[0];
-            } else if (element == PlainDate.MONTH_AS_NUMBER) {
-                return this.ints[1];
-            } else if (element == PlainDate.DAY_OF_MONTH) {
-                return this.ints[2];
-            } else if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
-                return this.len;
-            } else if (element == PlainTime.MINUTE_OF_HOUR) {
-                return this.mask;
-            } else if (element == PlainTime.SECOND_OF_MINUTE) {
-                return this.threshold;
-            } else if (element == PlainTime.NANO_OF_SECOND) {
-                return this.count;
+            if (slot >= 0) {
+                return (
+                    ((this.present & (1L << slot)) == 0)
+                    ? Integer.MIN_VALUE
+                    : (int) this.nums[slot]);
             }
 
             Map<ChronoElement<?>, Object> m = this.map;
@@ -766,6 +705,7 @@ class ParsedValues
             return Integer.MIN_VALUE;
         }
 
+        Object[] keys = this.keys;
         Object current;
         int pos;
 
@@ -788,35 +728,22 @@ class ParsedValues
 
     }
 
-    private void remove(Object element) {
+    private void remove(ChronoElement<?> element) {
 
-        Object[] keys = this.keys;
-
-        if (keys == null) {
-            if (element == PlainDate.YEAR) {
-                this.ints[0] = Integer.MIN_VALUE;
-            } else if (element == PlainDate.MONTH_AS_NUMBER) {
-                this.ints[1] = Integer.MIN_VALUE;
-            } else if (element == PlainDate.DAY_OF_MONTH) {
-                this.ints[2] = Integer.MIN_VALUE;
-            } else if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
-                this.len = Integer.MIN_VALUE;
-            } else if (element == PlainTime.MINUTE_OF_HOUR) {
-                this.mask = Integer.MIN_VALUE;
-            } else if (element == PlainTime.SECOND_OF_MINUTE) {
-                this.threshold = Integer.MIN_VALUE;
-            } else if (element == PlainTime.NANO_OF_SECOND) {
-                this.count = Integer.MIN_VALUE;
-            } else {
-                Map<ChronoElement<?>, Object> m = this.map;
-                if (m != null) {
-                    //noinspection SuspiciousMethodCalls
-                    m.remove(element);
+        if (this.table != null) {
+            int slot = this.table.indexOf(element);
+            if (slot >= 0) {
+                this.present &= ~(1L << slot);
+                if (this.objs != null) {
+                    this.objs[slot] = null;
                 }
+            } else if (this.map != null) {
+                this.map.remove(element);
             }
             return;
         }
 
+        Object[] keys = this.keys;
         Object current;
         int pos;
 
@@ -938,28 +865,6 @@ class ParsedValues
 
     }
 
-    private static ChronoElement<Integer> getIndexedElement(int index) {
-        switch (index) {
-            case 0:
-                return PlainDate.YEAR;
-            case 1:
-                return PlainDate.MONTH_AS_NUMBER;
-            case 2:
-                return PlainDate.DAY_OF_MONTH;
-            case 3:
-                return PlainTime.DIGITAL_HOUR_OF_DAY;
-            case 4:
-                return PlainTime.MINUTE_OF_HOUR;
-            case 5:
-                return PlainTime.SECOND_OF_MINUTE;
-            case 6:
-                return PlainTime.NANO_OF_SECOND;
-            default:
-                throw new IllegalStateException("No element index: " + index);
-        }
-
-    }
-
     //~ Innere Klassen ----------------------------------------------------
 
     private class KeyIterator
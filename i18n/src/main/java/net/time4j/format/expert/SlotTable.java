@@ -0,0 +1,243 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SlotTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.engine.ChronoElement;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+
+/**
+ * <p>Ordnet allen Elementen eines Formatierers beim Erzeugen einen festen
+ * Index (Slot) zu, so da&szlig; {@code ParsedValues} die interpretierten
+ * Werte in Feldern statt in einer Hash-Tabelle speichern kann. </p>
+ *
+ * <p>Au&szlig;erdem wird je Thread eine {@code ParsedValues}-Instanz zur
+ * Wiederverwendung vorgehalten, solange die Rohdaten nicht an den Anwender
+ * gelangen. Der Zwischenspeicher ist statisch und wird &uuml;ber die Tabelle
+ * validiert, so da&szlig; ein Thread h&ouml;chstens eine Instanz festh&auml;lt,
+ * egal wie viele Formatierer es gibt. Ein thread-lokaler Speicher je Tabelle
+ * w&uuml;rde dagegen je Formatierer und Pool-Thread einen Eintrag binden, dessen
+ * Wert &uuml;ber {@code ParsedValues} wiederum die eigene Tabelle referenziert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+final class SlotTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Maximum count of slots (limited by the bitmask of {@code ParsedValues}).
+     */
+    static final int MAX_SLOTS = 64;
+
+    private static final int INT_PHI = 0x9E3779B9;
+
+    private static final ThreadLocal<ParsedValues> CACHE = new ThreadLocal<>();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoElement<?>[] elements;
+    private final boolean[] numerical;
+    private final Object[] keys;
+    private final int[] slots;
+    private final int mask;
+    private final boolean objects;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SlotTable(Set<ChronoElement<?>> set) {
+        super();
+
+        int n = set.size();
+        int len = 2;
+
+        while (len < n * 2) {
+            len <<= 1;
+        }
+
+        this.elements = new ChronoElement<?>[n];
+        this.numerical = new boolean[n];
+        this.keys = new Object[len];
+        this.slots = new int[len];
+        this.mask = len - 1;
+
+        boolean obj = false;
+        int slot = 0;
+
+        for (ChronoElement<?> element : set) {
+            Class<?> type = element.getType();
+            this.elements[slot] = element;
+            this.numerical[slot] = ((type == Integer.class) || (type == Long.class));
+            obj = obj || !this.numerical[slot];
+
+            int pos = mix(element.hashCode()) & this.mask;
+            while (this.keys[pos] != null) {
+                pos = (pos + 1) & this.mask;
+            }
+            this.keys[pos] = element;
+            this.slots[pos] = slot;
+            slot++;
+        }
+
+        this.objects = obj;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine neue Slot-Tabelle. </p>
+     *
+     * @param   elements    all elements of a formatter (duplicates allowed)
+     * @return  new slot table or {@code null} if there are too many elements
+     */
+    static SlotTable of(Collection<ChronoElement<?>> elements) {
+
+        Set<ChronoElement<?>> set = new LinkedHashSet<>(elements);
+
+        if (set.size() > MAX_SLOTS) {
+            return null;
+        }
+
+        return new SlotTable(set);
+
+    }
+
+    /**
+     * <p>Ermittelt den Slot des angegebenen Elements. </p>
+     *
+     * @param   element     chronological element
+     * @return  slot index or {@code -1} if not registered
+     */
+    int indexOf(ChronoElement<?> element) {
+
+        Object[] keys = this.keys;
+        int pos = mix(element.hashCode()) & this.mask;
+        Object current;
+
+        while ((current = keys[pos]) != null) {
+            if ((current == element) || current.equals(element)) {
+                return this.slots[pos];
+            }
+            pos = (pos + 1) & this.mask;
+        }
+
+        return -1;
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der Slots. </p>
+     *
+     * @return  count of slots
+     */
+    int size() {
+
+        return this.elements.length;
+
+    }
+
+    /**
+     * <p>Liefert das Element zum angegebenen Slot. </p>
+     *
+     * @param   slot    slot index
+     * @return  chronological element
+     */
+    ChronoElement<?> getElement(int slot) {
+
+        return this.elements[slot];
+
+    }
+
+    /**
+     * <p>Werden die Werte des angegebenen Slots primitiv gespeichert? </p>
+     *
+     * @param   slot    slot index
+     * @return  {@code true} if the element type is {@code Integer} or {@code Long}
+     */
+    boolean isNumerical(int slot) {
+
+        return this.numerical[slot];
+
+    }
+
+    /**
+     * <p>Gibt es Slots f&uuml;r Objekt-Werte? </p>
+     *
+     * @return  {@code true} if any element is not numerical
+     */
+    boolean hasObjects() {
+
+        return this.objects;
+
+    }
+
+    /**
+     * <p>Liefert eine leere {@code ParsedValues}-Instanz, m&ouml;glichst aus
+     * dem thread-lokalen Zwischenspeicher. </p>
+     *
+     * @return  empty parsed values bound to this table
+     */
+    ParsedValues acquire() {
+
+        ParsedValues values = CACHE.get();
+
+        if ((values == null) || (values.getSlotTable() != this)) {
+            return new ParsedValues(this);
+        }
+
+        CACHE.set(null);
+        values.recycle();
+        return values;
+
+    }
+
+    /**
+     * <p>Gibt die angegebenen Rohdaten zur Wiederverwendung im aktuellen
+     * Thread frei. </p>
+     *
+     * <p>Darf nur aufgerufen werden, wenn die Rohdaten nicht mehr referenziert
+     * werden (also nicht bei einem vom Anwender mitgegebenen {@code ParseLog}). </p>
+     *
+     * @param   values      parsed values which are no longer used
+     */
+    void release(ParsedValues values) {
+
+        if (values.getSlotTable() == this) {
+            CACHE.set(values);
+        }
+
+    }
+
+    private static int mix(int x) {
+
+        int h = x * INT_PHI;
+        return h ^ (h >>> 16);
+
+    }
+
+}
@@ -21,6 +21,7 @@
 
 package net.time4j.format.expert;
 
+import net.time4j.base.BoundedCache;
 import net.time4j.base.UnixTime;
 import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
@@ -41,8 +42,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -56,9 +55,8 @@ final class TimezoneNameProcessor
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ABBREVIATIONS = new ConcurrentHashMap<>();
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ZONENAMES = new ConcurrentHashMap<>();
-    private static final int MAX = 25; // maximum size of cache
+    private static final BoundedCache<Locale, TZNames> CACHE_ABBREVIATIONS = BoundedCache.create("tznames.short", 25);
+    private static final BoundedCache<Locale, TZNames> CACHE_ZONENAMES = BoundedCache.create("tznames.long", 25);
     private static final String DEFAULT_PROVIDER = "DEFAULT";
 
     //~ Instanzvariablen --------------------------------------------------
@@ -243,28 +241,13 @@ final class TimezoneNameProcessor
         }
 
         // Zeitzonennamen im Cache suchen und ggf. Cache füllen
-        ConcurrentMap<Locale, TZNames> cache = (
+        BoundedCache<Locale, TZNames> cache = (
             this.abbreviated
             ? CACHE_ABBREVIATIONS
             : CACHE_ZONENAMES);
 
-        TZNames tzNames = cache.get(lang);
-
-        if (tzNames == null) {
-            Map<String, List<TZID>> stdNames =
-                this.getTimezoneNameMap(lang, false);
-            Map<String, List<TZID>> dstNames =
-                this.getTimezoneNameMap(lang, true);
-            tzNames = new TZNames(stdNames, dstNames);
-
-            if (cache.size() < MAX) {
-                TZNames tmp = cache.putIfAbsent(lang, tzNames);
-
-                if (tmp != null) {
-                    tzNames = tmp;
-                }
-            }
-        }
+        // Laden ohne Sperre, bei parallelem Laden wird nur der zuerst gespeicherte Wert verwendet
+        TZNames tzNames = cache.computeIfAbsent(lang, this::createNames);
 
         // Zeitzonen-IDs bestimmen
         int[] lenbuf = new int[2];
@@ -415,6 +398,16 @@ final class TimezoneNameProcessor
 
     }
 
+    private TZNames createNames(Locale lang) {
+
+        Map<String, List<TZID>> stdNames =
+            this.getTimezoneNameMap(lang, false);
+        Map<String, List<TZID>> dstNames =
+            this.getTimezoneNameMap(lang, true);
+        return new TZNames(stdNames, dstNames);
+
+    }
+
     private Map<String, List<TZID>> getTimezoneNameMap(
         Locale locale,
         boolean daylightSaving
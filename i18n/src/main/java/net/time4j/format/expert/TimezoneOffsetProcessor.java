@@ -523,6 +523,32 @@ final class TimezoneOffsetProcessor
 
     }
 
+    // Abfragen für CompiledParser (nur nach quickPath() sinnvoll)
+
+    DisplayMode getPrecision() {
+
+        return this.precision;
+
+    }
+
+    boolean isExtended() {
+
+        return this.extended;
+
+    }
+
+    List<String> getZeroOffsets() {
+
+        return this.zeroOffsets;
+
+    }
+
+    Leniency getLeniency() {
+
+        return this.lenientMode;
+
+    }
+
     private static ZonalOffset getOffset(
         ChronoDisplay formattable,
         AttributeQuery attributes
@@ -21,6 +21,8 @@
 
 package net.time4j.i18n;
 
+import net.time4j.base.Instrumentation;
+import net.time4j.base.InstrumentationListener;
 import net.time4j.base.ResourceLoader;
 
 import java.io.BufferedReader;
@@ -97,6 +99,8 @@ public class UTF8ResourceControl
 
         if (format.equals(FORMAT_ID)) {
 
+            InstrumentationListener listener = Instrumentation.getListener();
+            long t0 = ((listener == null) ? 0L : System.nanoTime());
             ResourceBundle bundle = null;
 
             String bundleName =
@@ -131,6 +135,14 @@ public class UTF8ResourceControl
                 }
             }
 
+            if (listener != null) {
+                listener.completed(
+                    Instrumentation.Operation.RESOURCE_LOADING,
+                    resourceName,
+                    System.nanoTime() - t0,
+                    Instrumentation.CacheOutcome.MISS);
+            }
+
             return bundle;
 
         } else {
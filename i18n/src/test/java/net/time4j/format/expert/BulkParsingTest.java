@@ -0,0 +1,299 @@
+package net.time4j.format.expert;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.Attributes;
+import net.time4j.tz.ZonalOffset;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BulkParsingTest {
+
+    private static final ChronoFormatter<PlainDate> ISO_DATE =
+        ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+    private static final ChronoFormatter<PlainDate> TEXT_DATE =
+        ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+    private static final ChronoFormatter<Moment> ISO_MOMENT =
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+
+    @Test
+    public void epochDaysOfList() {
+        List<String> records = Arrays.asList("1970-01-01", "2016-02-29", "2016-02-30", "", "1969-12-31");
+        long[] days = new long[5];
+        BitSet errors = new BitSet();
+        errors.set(0);
+        assertThat(ISO_DATE.parseToEpochDays(records, days, errors), is(5));
+        assertThat(days[0], is(0L));
+        assertThat(days[1], is(PlainDate.of(2016, 2, 29).get(EpochDays.UNIX)));
+        assertThat(days[2], is(0L));
+        assertThat(days[3], is(0L));
+        assertThat(days[4], is(-1L));
+        assertThat(errors.toString(), is("{2, 3}"));
+    }
+
+    @Test
+    public void epochDaysWithGenericParser() {
+        List<String> records = Arrays.asList("29. Februar 2016", "1. Januar 1970", "32. Januar 1970", "1. März 2016");
+        long[] days = new long[4];
+        BitSet errors = new BitSet();
+        TEXT_DATE.parseToEpochDays(records, days, errors);
+        assertThat(days[0], is(PlainDate.of(2016, 2, 29).get(EpochDays.UNIX)));
+        assertThat(days[1], is(0L));
+        assertThat(days[3], is(PlainDate.of(2016, 3, 1).get(EpochDays.UNIX)));
+        assertThat(errors.toString(), is("{2}"));
+    }
+
+    @Test
+    public void epochDaysOfBuffer() {
+        CharBuffer buffer = CharBuffer.wrap("xx\n2016-02-29\n1970-01-02\nbad\n\n2000-01-01\n1999-12-31\n");
+        buffer.position(3);
+        long[] days = new long[4];
+        BitSet errors = new BitSet();
+        assertThat(ISO_DATE.parseToEpochDays(buffer, '\n', false, days, errors), is(4));
+        assertThat(days[0], is(PlainDate.of(2016, 2, 29).get(EpochDays.UNIX)));
+        assertThat(days[1], is(1L));
+        assertThat(errors.toString(), is("{2, 3}"));
+        assertThat(buffer.position(), is(30));
+        errors.clear();
+        assertThat(ISO_DATE.parseToEpochDays(buffer, '\n', false, days, errors), is(2));
+        assertThat(days[0], is(PlainDate.of(2000, 1, 1).get(EpochDays.UNIX)));
+        assertThat(days[1], is(PlainDate.of(1999, 12, 31).get(EpochDays.UNIX)));
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(buffer.hasRemaining(), is(false));
+        assertThat(ISO_DATE.parseToEpochDays(buffer, '\n', false, days, errors), is(0));
+    }
+
+    @Test
+    public void bufferWithoutFinalDelimiter() {
+        CharBuffer buffer = CharBuffer.wrap("2016-02-29;2016-03-01");
+        long[] days = new long[10];
+        BitSet errors = new BitSet();
+        assertThat(ISO_DATE.parseToEpochDays(buffer, ';', false, days, errors), is(1));
+        assertThat(buffer.position(), is(11));
+        assertThat(ISO_DATE.parseToEpochDays(buffer, ';', true, days, errors), is(1));
+        assertThat(days[0], is(PlainDate.of(2016, 3, 1).get(EpochDays.UNIX)));
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void recordSplitAcrossBufferFills() {
+        String input = "2016-02-29\n2016-03-01\n2016-03-02";
+        CharBuffer buffer = CharBuffer.allocate(16);
+        long[] days = new long[10];
+        BitSet errors = new BitSet();
+        buffer.put(input, 0, 16).flip(); // second record is cut after "2016-"
+        assertThat(ISO_DATE.parseToEpochDays(buffer, '\n', false, days, errors), is(1));
+        assertThat(buffer.position(), is(11));
+        buffer.compact();
+        buffer.put(input, 16, 27).flip(); // completes second record and cuts the third one
+        assertThat(ISO_DATE.parseToEpochDays(buffer, '\n', false, days, errors), is(1));
+        assertThat(days[0], is(PlainDate.of(2016, 3, 1).get(EpochDays.UNIX)));
+        assertThat(errors.isEmpty(), is(true));
+        buffer.compact();
+        buffer.put(input, 27, input.length()).flip();
+        assertThat(ISO_DATE.parseToEpochDays(buffer, '\n', true, days, errors), is(1));
+        assertThat(days[0], is(PlainDate.of(2016, 3, 2).get(EpochDays.UNIX)));
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void posixTime() {
+        List<String> records =
+            Arrays.asList("2016-02-29T17:45:30.123+05:30", "1970-01-01T00:00:00.000Z", "2016-02-29T17:45:30Z");
+        long[] secs = new long[3];
+        int[] nanos = new int[3];
+        BitSet errors = new BitSet();
+        assertThat(ISO_MOMENT.parseToPosixTime(records, secs, nanos, errors), is(3));
+        Moment expected = PlainTimestamp.of(2016, 2, 29, 12, 15, 30).atUTC();
+        assertThat(secs[0], is(expected.getPosixTime()));
+        assertThat(nanos[0], is(123_000_000));
+        assertThat(secs[1], is(0L));
+        assertThat(nanos[1], is(0));
+        assertThat(errors.toString(), is("{2}"));
+    }
+
+    @Test
+    public void posixTimeOfBuffer() {
+        CharBuffer buffer = CharBuffer.wrap("2016-02-29T17:45:30.123Z\r\n1970-01-01T00:00:01.999Z\r\n");
+        long[] secs = new long[3];
+        int[] nanos = new int[3];
+        BitSet errors = new BitSet();
+        ChronoFormatter<Moment> f = ISO_MOMENT.with(Attributes.TRAILING_CHARACTERS, true);
+        assertThat(f.parseToPosixTime(buffer, '\n', false, secs, nanos, errors), is(2));
+        assertThat(secs[1], is(1L));
+        assertThat(nanos[1], is(999_000_000));
+        assertThat(errors.isEmpty(), is(true));
+    }
+
+    @Test
+    public void multiFormatRemembersLastMatch() {
+        MultiFormatParser<PlainDate> mfp =
+            MultiFormatParser.of(
+                TEXT_DATE,
+                ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT),
+                ISO_DATE);
+        List<String> records =
+            Arrays.asList("2016-02-29", "2016-03-01", "29. Februar 2016", "01.03.2016", "2016/03/01", "2016-03-02");
+        long[] days = new long[6];
+        BitSet errors = new BitSet();
+        assertThat(mfp.parseToEpochDays(records, days, errors), is(6));
+        long d = PlainDate.of(2016, 2, 29).get(EpochDays.UNIX);
+        assertThat(days[0], is(d));
+        assertThat(days[1], is(d + 1));
+        assertThat(days[2], is(d));
+        assertThat(days[3], is(d + 1));
+        assertThat(days[5], is(d + 2));
+        assertThat(errors.toString(), is("{4}"));
+    }
+
+    @Test
+    public void multiFormatPosixTimeOfBuffer() {
+        MultiFormatParser<Moment> mfp =
+            MultiFormatParser.of(
+                ISO_MOMENT,
+                ChronoFormatter.ofMomentPattern("uuuuMMddHHmmss", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC));
+        CharBuffer buffer = CharBuffer.wrap("19700101000010,1970-01-01T00:00:20.500Z,x");
+        long[] secs = new long[3];
+        int[] nanos = new int[3];
+        BitSet errors = new BitSet();
+        assertThat(mfp.parseToPosixTime(buffer, ',', true, secs, nanos, errors), is(3));
+        assertThat(secs[0], is(10L));
+        assertThat(secs[1], is(20L));
+        assertThat(nanos[1], is(500_000_000));
+        assertThat(errors.toString(), is("{2}"));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void epochDaysOfWallTime() {
+        ChronoFormatter.ofTimePattern("HH:mm", PatternType.CLDR, Locale.ROOT).parseToEpochDays(
+            Arrays.asList("17:45"), new long[1], new BitSet());
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void posixTimeOfCalendarDate() {
+        ISO_DATE.parseToPosixTime(Arrays.asList("2016-02-29"), new long[1], new int[1], new BitSet());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void outputArrayTooSmall() {
+        ISO_DATE.parseToEpochDays(Arrays.asList("2016-02-29", "2016-03-01"), new long[1], new BitSet());
+    }
+
+    @Test
+    public void sameResultsAsSingleParsing() {
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("17:45", new ParseLog()), is(PlainTime.of(17, 45)));
+        String[] texts = {"2016-02-29", "2016-13-01", "2016-02-29x", "+12345-01-01", "0000-01-01"};
+        long[] days = new long[texts.length];
+        BitSet errors = new BitSet();
+        ISO_DATE.parseToEpochDays(Arrays.asList(texts), days, errors);
+        for (int i = 0; i < texts.length; i++) {
+            PlainDate date = ISO_DATE.parse(texts[i], new ParseLog());
+            assertThat(texts[i], errors.get(i), is(date == null));
+            if (date != null) {
+                assertThat(days[i], is(date.get(EpochDays.UNIX)));
+            }
+        }
+    }
+
+    @Test
+    public void parallelEpochDays() {
+        PlainDate start = PlainDate.of(1970, 1, 1);
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            records.add((i % 777 == 5) ? "bad" : ISO_DATE.format(start.plus(i, CalendarUnit.DAYS)));
+        }
+        long[] days = new long[5000];
+        BitSet errors = new BitSet();
+        errors.set(6000); // outside of range, must be kept
+        errors.set(0); // must be cleared
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThat(ISO_DATE.parseToEpochDays(records, days, errors, pool), is(5000));
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < 5000; i++) {
+            boolean bad = (i % 777 == 5);
+            assertThat(errors.get(i), is(bad));
+            assertThat(days[i], is(bad ? 0L : i));
+        }
+        assertThat(errors.get(6000), is(true));
+        assertThat(errors.cardinality(), is(8));
+    }
+
+    @Test
+    public void parallelPosixTimeWithMultiFormat() {
+        MultiFormatParser<Moment> mfp =
+            MultiFormatParser.of(
+                ISO_MOMENT,
+                ChronoFormatter.ofMomentPattern("uuuuMMddHHmmss", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC));
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            records.add((i < 1500) ? "19700101000010" : "1970-01-01T00:00:20.500Z");
+        }
+        records.set(2999, "x");
+        long[] secs = new long[3000];
+        int[] nanos = new int[3000];
+        BitSet errors = new BitSet();
+        assertThat(mfp.parseToPosixTime(records, secs, nanos, errors, ForkJoinPool.commonPool()), is(3000));
+        assertThat(secs[1499], is(10L));
+        assertThat(secs[1500], is(20L));
+        assertThat(nanos[1500], is(500_000_000));
+        assertThat(secs[2999], is(0L));
+        assertThat(errors.toString(), is("{2999}"));
+    }
+
+    @Test
+    public void parseAllOrdered() {
+        List<String> texts = new ArrayList<>();
+        List<PlainDate> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            PlainDate date = PlainDate.of(2016, 1, 1).plus(i, CalendarUnit.DAYS);
+            texts.add(ISO_DATE.format(date));
+            expected.add(date);
+        }
+        assertThat(ISO_DATE.parseAll(texts.parallelStream()).collect(Collectors.toList()), is(expected));
+        assertThat(ISO_DATE.parseAll(texts.stream()).collect(Collectors.toList()), is(expected));
+        assertThat(
+            ISO_DATE.parseAll(texts.parallelStream().unordered()).mapToLong(d -> d.get(EpochDays.UNIX)).sum(),
+            is(expected.stream().mapToLong(d -> d.get(EpochDays.UNIX)).sum()));
+    }
+
+    @Test
+    public void parseAllMultiFormat() {
+        MultiFormatParser<PlainDate> mfp = MultiFormatParser.of(TEXT_DATE, ISO_DATE);
+        assertThat(
+            mfp.parseAll(Arrays.asList("2016-02-29", "1. März 2016").stream()).collect(Collectors.toList()),
+            is(Arrays.asList(PlainDate.of(2016, 2, 29), PlainDate.of(2016, 3, 1))));
+    }
+
+    @Test(expected=ChronoException.class)
+    public void parseAllWithError() {
+        ISO_DATE.parseAll(Arrays.asList("2016-02-29", "2016-02-30").parallelStream()).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,233 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.format.Attributes;
+import net.time4j.format.Leniency;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.Locale;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompiledParserTest {
+
+    private static final String[] DATES = {
+        "2016-02-29", "2015-02-29", "2016-13-01", "2016-00-10", "2016-1-10", "2016-01-1", "2016-01-01x",
+        "+12345-01-01", "12345-01-01", "-2016-01-01", "2016/01/01", "2016-01-32", "0000-01-01", ""
+    };
+
+    private static final String[] TIMESTAMPS = {
+        "2016-02-29T17:45:30.123Z", "2016-02-29T17:45:30.123+05:30", "2016-02-29T17:45:30.123-08:00",
+        "2016-02-29T17:45:30.123z", "2016-02-29T24:00:00.000Z", "2016-02-29T17:60:30.123Z",
+        "2016-02-29T17:45:60.000Z", "2016-02-29T17:45:30.12Z", "2016-02-29T17:45:30.1234Z",
+        "2016-02-29T17:45:30.123+19:00", "2016-02-29T17:45:30.123+0530", "2016-02-29T17:45:30.123+05",
+        "2016-02-29T17:45:30.123+05:30:15", "2016-02-29T17:45:30.123", "2016-02-29T7:45:30.123Z"
+    };
+
+    @Test
+    public void calendarDate() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        for (String text : DATES) {
+            assertSameBehaviour(f, text);
+        }
+        assertThat(f.parse("2016-02-29", new ParseLog()), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void calendarDateStrictAndLenient() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        for (String text : DATES) {
+            assertSameBehaviour(f.with(Leniency.STRICT), text);
+            assertSameBehaviour(f.with(Leniency.LAX), text);
+        }
+    }
+
+    @Test
+    public void isoFormats() {
+        for (String text : DATES) {
+            assertSameBehaviour(Iso8601Format.EXTENDED_CALENDAR_DATE, text);
+            assertSameBehaviour(Iso8601Format.BASIC_CALENDAR_DATE, text.replace("-", ""));
+        }
+        assertThat(Iso8601Format.BASIC_CALENDAR_DATE.parse("20160229", new ParseLog()), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void adjacentDigits() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuuMMdd", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("1234567890228", new ParseLog()), is(PlainDate.of(123456789, 2, 28)));
+        assertSameBehaviour(f, "1234567890228");
+        assertSameBehaviour(f, "20160229");
+        assertSameBehaviour(f, "2016022");
+    }
+
+    @Test
+    public void ordinalDate() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-DDD", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("2016-366", new ParseLog()), is(PlainDate.of(2016, 366)));
+        assertSameBehaviour(f, "2016-366");
+        assertSameBehaviour(f, "2015-366");
+        assertSameBehaviour(f, "2015-000");
+    }
+
+    @Test
+    public void wallTime() {
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("17:45:30.123", new ParseLog()), is(PlainTime.of(17, 45, 30, 123_000_000)));
+        String[] texts = {"17:45:30.123", "24:00:00.000", "17:45", "17:45:30", "17:45:30,123", "7:45:30.123"};
+        for (String text : texts) {
+            assertSameBehaviour(f, text);
+        }
+    }
+
+    @Test
+    public void timestampWithDecimalSeparator() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.setUp(PlainTimestamp.class, Locale.ROOT)
+                .addPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR)
+                .addFraction(PlainTime.NANO_OF_SECOND, 3, 9, true)
+                .build();
+        assertThat(
+            f.parse("2016-02-29 17:45:30,123456", new ParseLog()),
+            is(PlainTimestamp.of(2016, 2, 29, 17, 45, 30).plus(123456, net.time4j.ClockUnit.MICROS)));
+        String[] texts = {"2016-02-29 17:45:30.123", "2016-02-29 17:45:30,123456789", "2016-02-29 17:45:30:123"};
+        for (String text : texts) {
+            assertSameBehaviour(f, text);
+        }
+    }
+
+    @Test
+    public void momentWithOffset() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(
+            f.parse("2016-02-29T17:45:30.123+05:30", new ParseLog()),
+            is(PlainTimestamp.of(2016, 2, 29, 17, 45, 30).plus(123, net.time4j.ClockUnit.MILLIS)
+                .at(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30))));
+        for (String text : TIMESTAMPS) {
+            assertSameBehaviour(f, text);
+            assertSameBehaviour(f.with(Leniency.STRICT), text);
+        }
+    }
+
+    @Test
+    public void momentWithTimezoneAttribute() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, () -> "Europe/Berlin");
+        String[] texts = {"2016-03-27 02:30", "2016-10-30 02:30", "2016-07-01 12:00"};
+        for (String text : texts) {
+            assertSameBehaviour(f, text);
+        }
+    }
+
+    @Test
+    public void startPositionAndTrailingCharacters() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.TRAILING_CHARACTERS, true);
+        ParseLog plog = new ParseLog(3);
+        assertThat(f.parse("at 2016-02-29 etc", plog), is(PlainDate.of(2016, 2, 29)));
+        assertThat(plog.getPosition(), is(13));
+    }
+
+    @Test
+    public void rawValuesAfterFastParsing() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseLog plog = new ParseLog();
+        f.parse("2016-02-29", plog);
+        ChronoEntity<?> raw = plog.getRawValues();
+        assertThat(raw.getInt(PlainDate.YEAR), is(2016));
+        assertThat(raw.getInt(PlainDate.MONTH_AS_NUMBER), is(2));
+        assertThat(raw.getInt(PlainDate.DAY_OF_MONTH), is(29));
+        ParseLog generic = new ParseLog();
+        f.parse("2016-02-29", generic, new Attributes.Builder().build());
+        assertThat(raw.toString(), is(generic.getRawValues().toString()));
+    }
+
+    @Test
+    public void rawValuesOfMutableText() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        StringBuilder sb = new StringBuilder("2016-02-29");
+        ParseLog plog = new ParseLog();
+        assertThat(f.parse(sb, plog), is(PlainDate.of(2016, 2, 29)));
+        sb.setLength(0);
+        sb.append("1999-12-31");
+        ChronoEntity<?> raw = plog.getRawValues();
+        assertThat(raw.getInt(PlainDate.YEAR), is(2016));
+        assertThat(raw.getInt(PlainDate.MONTH_AS_NUMBER), is(2));
+        assertThat(raw.getInt(PlainDate.DAY_OF_MONTH), is(29));
+    }
+
+    @Test
+    public void rawValuesOfMutableTextWithAdjacentDigits() {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuuMMddHHmmss", PatternType.CLDR, Locale.ROOT);
+        StringBuilder sb = new StringBuilder("##20160229174530");
+        ParseLog plog = new ParseLog();
+        plog.setPosition(2);
+        assertThat(f.parse(sb, plog), is(PlainTimestamp.of(2016, 2, 29, 17, 45, 30)));
+        sb.setLength(0);
+        sb.append("##19991231235959");
+        ParseLog generic = new ParseLog();
+        generic.setPosition(2);
+        f.parse("##20160229174530", generic, new Attributes.Builder().build());
+        assertThat(plog.getRawValues().toString(), is(generic.getRawValues().toString()));
+    }
+
+    @Test
+    public void rawValuesOfMoment() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ParseLog plog = new ParseLog();
+        f.parse("2016-02-29T17:45:30.123Z", plog);
+        ParseLog generic = new ParseLog();
+        f.parse("2016-02-29T17:45:30.123Z", generic, new Attributes.Builder().build());
+        assertThat(plog.getRawValues().toString(), is(generic.getRawValues().toString()));
+    }
+
+    private static <T extends ChronoEntity<T>> void assertSameBehaviour(
+        ChronoFormatter<T> formatter,
+        String text
+    ) {
+        ParseLog fast = new ParseLog();
+        ParseLog generic = new ParseLog();
+        T expected;
+        T result;
+
+        try {
+            expected = formatter.parse(text, generic, new Attributes.Builder().build());
+        } catch (IndexOutOfBoundsException ex) {
+            try {
+                formatter.parse(text, fast);
+            } catch (IndexOutOfBoundsException ex2) {
+                return;
+            }
+            throw new AssertionError("Expected IndexOutOfBoundsException: " + text);
+        }
+
+        result = formatter.parse(text, fast);
+        assertThat(text, result, is(expected));
+        assertThat(text, fast.getPosition(), is(generic.getPosition()));
+        assertThat(text, fast.getErrorIndex(), is(generic.getErrorIndex()));
+        assertThat(text, fast.getErrorMessage(), is(generic.getErrorMessage()));
+
+        if (expected == null) {
+            assertThat(text, result, nullValue());
+        }
+    }
+
+}
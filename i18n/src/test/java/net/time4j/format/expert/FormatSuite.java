@@ -9,6 +9,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         AdjacentDigitParsingTest.class,
+        BulkParsingTest.class,
+        CompiledParserTest.class,
         DayPeriodTest.class,
         DefaultValueTest.class,
         DuplicateElementTest.class,
@@ -22,6 +24,7 @@ import org.junit.runners.Suite.SuiteClasses;
         OrdinalTest.class,
         ParsingTextOverflowTest.class,
         SkipUnknownTest.class,
+        SlotTableTest.class,
         ThreetenFormatTest.class,
         WhitespaceTest.class
     }
@@ -1,5 +1,6 @@
 package net.time4j.format.expert;
 
+import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -820,6 +821,46 @@ public class MiscellaneousTest {
         assertThat(tsp, is(PlainTimestamp.of(2016, 2, 29, 0, 0)));
     }
 
+    @Test
+    public void formatToArray() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment moment = PlainTimestamp.of(2016, 7, 14, 15, 45, 0).plus(7, ClockUnit.MILLIS).atUTC();
+        char[] buffer = new char[40];
+        buffer[0] = '[';
+        int count = f.formatToArray(moment, buffer, 1);
+        assertThat(count, is(24));
+        assertThat(new String(buffer, 0, count + 1), is("[2016-07-14T15:45:00.007Z"));
+        assertThat(f.formatToArray(moment, buffer, 0), is(24));
+        assertThat(new String(buffer, 0, 24), is(f.format(moment)));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void formatToArrayTooSmall() {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.formatToArray(PlainDate.of(2016, 7, 14), new char[12], 3);
+    }
+
+    @Test
+    public void formatToBufferReused() throws IOException {
+        StringBuilder buffer = new StringBuilder();
+        Iso8601Format.BASIC_DATE.formatToBuffer(PlainDate.of(-5, 1, 31), buffer);
+        assertThat(buffer.toString(), is("-00050131"));
+        buffer.setLength(0);
+        Iso8601Format.BASIC_DATE.formatToBuffer(PlainDate.of(12345, 12, 1), buffer);
+        assertThat(buffer.toString(), is("+123451201"));
+    }
+
+    @Test
+    public void printNumbersWithOtherZeroDigit() {
+        ChronoFormatter<PlainTime> f =
+            ChronoFormatter.ofTimePattern("HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.ZERO_DIGIT, '\u0660');
+        assertThat(
+            f.format(PlainTime.of(9, 5, 0, 120_000_000)),
+            is("\u0660\u0669:\u0660\u0665:\u0660\u0660.\u0661\u0662\u0660"));
+    }
+
     private static ChronoFormatter<PlainDate> getQuarterDateFormatter() {
         return ChronoFormatter.setUp(PlainDate.class, Locale.US)
             .addFixedInteger(PlainDate.YEAR, 4)
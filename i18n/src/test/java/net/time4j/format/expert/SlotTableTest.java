@@ -0,0 +1,249 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.BasicElement;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.tz.ZonalOffset;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SlotTableTest {
+
+    private static final SlotTable TABLE =
+        SlotTable.of(
+            Arrays.asList(
+                PlainDate.YEAR, PlainDate.MONTH_OF_YEAR, PlainDate.DAY_OF_MONTH,
+                PlainDate.YEAR, TimezoneElement.TIMEZONE_OFFSET));
+
+    @Test
+    public void denseIndex() {
+        assertThat(TABLE.size(), is(4));
+        assertThat(TABLE.indexOf(PlainDate.YEAR), is(0));
+        assertThat(TABLE.indexOf(PlainDate.MONTH_OF_YEAR), is(1));
+        assertThat(TABLE.indexOf(PlainDate.DAY_OF_MONTH), is(2));
+        assertThat(TABLE.indexOf(TimezoneElement.TIMEZONE_OFFSET), is(3));
+        assertThat(TABLE.indexOf(PlainTime.MINUTE_OF_HOUR), is(-1));
+        assertThat(TABLE.isNumerical(0), is(true));
+        assertThat(TABLE.isNumerical(1), is(false));
+        assertThat(TABLE.hasObjects(), is(true));
+    }
+
+    @Test
+    public void tooManyElements() {
+        List<ChronoElement<?>> elements = new ArrayList<>();
+        for (int i = 0; i <= SlotTable.MAX_SLOTS; i++) {
+            elements.add(new StdIntegerTestElement("E" + i));
+        }
+        assertThat(SlotTable.of(elements), nullValue());
+        elements.remove(0);
+        assertThat(SlotTable.of(elements).size(), is(SlotTable.MAX_SLOTS));
+    }
+
+    @Test
+    public void slotModeStorage() {
+        ParsedValues values = new ParsedValues(TABLE);
+        values.put(PlainDate.YEAR, 2016);
+        values.put(PlainDate.MONTH_OF_YEAR, Month.FEBRUARY);
+        values.put(PlainTime.MINUTE_OF_HOUR, 45); // not in table
+        assertThat(values.size(), is(3));
+        assertThat(values.getInt(PlainDate.YEAR), is(2016));
+        assertThat(values.get(PlainDate.MONTH_OF_YEAR), is(Month.FEBRUARY));
+        assertThat(values.getInt(PlainTime.MINUTE_OF_HOUR), is(45));
+        assertThat(values.contains(PlainDate.DAY_OF_MONTH), is(false));
+        assertThat(values.getInt(PlainDate.DAY_OF_MONTH), is(Integer.MIN_VALUE));
+        assertThat(values.hasTimezone(), is(false));
+        values.put(TimezoneElement.TIMEZONE_OFFSET, ZonalOffset.UTC);
+        assertThat(values.getTimezone(), is((Object) ZonalOffset.UTC));
+        values.put(PlainDate.MONTH_OF_YEAR, null);
+        assertThat(values.contains(PlainDate.MONTH_OF_YEAR), is(false));
+        assertThat(values.size(), is(3));
+    }
+
+    @Test
+    public void longElement() {
+        SlotTable table = SlotTable.of(Arrays.asList(PlainTime.NANO_OF_DAY));
+        ParsedValues values = new ParsedValues(table);
+        values.put(PlainTime.NANO_OF_DAY, Long.valueOf(86_399_999_999_999L));
+        assertThat(table.hasObjects(), is(false));
+        assertThat(values.get(PlainTime.NANO_OF_DAY), is(86_399_999_999_999L));
+    }
+
+    @Test(expected=AmbivalentValueException.class)
+    public void ambivalentInt() {
+        ParsedValues values = new ParsedValues(TABLE);
+        values.put(PlainDate.YEAR, 2016);
+        values.put(PlainDate.YEAR, 2016);
+        values.put(PlainDate.YEAR, 2015);
+    }
+
+    @Test(expected=AmbivalentValueException.class)
+    public void ambivalentObject() {
+        ParsedValues values = new ParsedValues(TABLE);
+        values.put(PlainDate.MONTH_OF_YEAR, Month.MAY);
+        values.put(PlainDate.MONTH_OF_YEAR, Month.JUNE);
+    }
+
+    @Test
+    public void noAmbivalentCheck() {
+        ParsedValues values = new ParsedValues(TABLE);
+        values.put(PlainDate.YEAR, 2016);
+        values.setNoAmbivalentCheck();
+        values.put(PlainDate.YEAR, 2015);
+        assertThat(values.getInt(PlainDate.YEAR), is(2015));
+    }
+
+    @Test
+    public void putAllAndEquality() {
+        ParsedValues v1 = new ParsedValues(TABLE);
+        v1.put(PlainDate.YEAR, 2016);
+        ParsedValues v2 = new ParsedValues(TABLE);
+        v2.put(PlainDate.MONTH_OF_YEAR, Month.MAY);
+        v2.put(PlainTime.MINUTE_OF_HOUR, 45);
+        v1.putAll(v2);
+        ParsedValues std = new ParsedValues(3);
+        std.put(PlainDate.YEAR, 2016);
+        std.put(PlainDate.MONTH_OF_YEAR, Month.MAY);
+        std.put(PlainTime.MINUTE_OF_HOUR, 45);
+        assertThat(v1, is(std));
+        assertThat(std, is(v1));
+        assertThat(v1.toString(), is("{YEAR=2016, MONTH_OF_YEAR=MAY, MINUTE_OF_HOUR=45}"));
+        ParsedValues v3 = new ParsedValues(TABLE);
+        v3.putAll(std);
+        assertThat(v3, is(v1));
+        assertThat(v3.hashCode(), is(v1.hashCode()));
+    }
+
+    @Test
+    public void acquireAndRelease() {
+        SlotTable table = SlotTable.of(Arrays.asList(PlainDate.YEAR));
+        ParsedValues v1 = table.acquire();
+        v1.put(PlainDate.YEAR, 2016);
+        v1.setPosition(5);
+        v1.setNoAmbivalentCheck();
+        table.release(v1);
+        ParsedValues v2 = table.acquire();
+        assertThat(v2, sameInstance(v1));
+        assertThat(v2.size(), is(0));
+        assertThat(v2.getPosition(), is(-1));
+        assertThat(table.acquire(), not(sameInstance(v1)));
+        table.release(new ParsedValues(TABLE)); // foreign instance
+        assertThat(table.acquire().getSlotTable(), sameInstance(table));
+    }
+
+    @Test
+    public void oneCachedInstancePerThread() {
+        SlotTable t1 = SlotTable.of(Arrays.asList(PlainDate.YEAR));
+        SlotTable t2 = SlotTable.of(Arrays.asList(PlainDate.YEAR));
+        ParsedValues v1 = t1.acquire();
+        ParsedValues v2 = t2.acquire();
+        t1.release(v1);
+        t2.release(v2); // replaces the cached instance of t1
+        assertThat(t1.acquire(), not(sameInstance(v1)));
+        assertThat(t2.acquire(), sameInstance(v2));
+    }
+
+    @Test
+    public void repeatedParsingWithReuse() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.ENGLISH);
+        for (int i = 1; i <= 28; i++) {
+            assertThat(f.parse(i + ". February 2016"), is(PlainDate.of(2016, 2, i)));
+            assertThat(f.parse(i + ". March 2016", new ParsePosition(0)), is(PlainDate.of(2016, 3, i)));
+        }
+        assertThat(f.parse("29. Februar 2016", new ParsePosition(0)), nullValue());
+        assertThat(f.parse("29. February 2016"), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void rawValuesNotRecycled() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm XXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ParseLog plog = new ParseLog();
+        Moment m = f.parse("2016-07-01 12:00 -07:00", plog);
+        ChronoEntity<?> raw = plog.getRawValues();
+        String before = raw.toString();
+        ChronoEntity<?> parsedRaw = f.parseRaw("2016-07-01 12:00 -07:00", 0);
+        String beforeRaw = parsedRaw.toString();
+        assertThat(f.parse("2017-01-31 08:30 -08:00"), is(PlainTimestamp.of(2017, 1, 31, 16, 30).atUTC()));
+        assertThat(f.parse("2017-01-31 08:30 -08:00", new ParsePosition(0)), not(m));
+        assertThat(raw.toString(), is(before));
+        assertThat(parsedRaw.toString(), is(beforeRaw));
+        assertThat(raw.getInt(PlainTime.DIGITAL_HOUR_OF_DAY), is(12));
+        assertThat(raw.contains(PlainTimestamp.axis().element()), is(true));
+    }
+
+    @Test
+    public void optionalSectionsAndOrBlocks() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern(
+                "[uuuu-MM-dd|dd.MM.uuuu][ HH:mm[:ss]]", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainTime.DIGITAL_HOUR_OF_DAY, 0)
+                .withDefault(PlainTime.MINUTE_OF_HOUR, 0)
+                .withDefault(PlainTime.SECOND_OF_MINUTE, 0);
+        for (int i = 0; i < 3; i++) {
+            assertThat(f.parse("2016-02-29 17:45:30"), is(PlainTimestamp.of(2016, 2, 29, 17, 45, 30)));
+            assertThat(f.parse("2016-02-29 17:45"), is(PlainTimestamp.of(2016, 2, 29, 17, 45)));
+            assertThat(f.parse("29.02.2016 17:45"), is(PlainTimestamp.of(2016, 2, 29, 17, 45)));
+            assertThat(f.parse("29.02.2016 17:45:30"), is(PlainTimestamp.of(2016, 2, 29, 17, 45, 30)));
+        }
+    }
+
+    private static class StdIntegerTestElement
+        extends BasicElement<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        StdIntegerTestElement(String name) {
+            super(name);
+        }
+
+        @Override
+        public Class<Integer> getType() {
+            return Integer.class;
+        }
+
+        @Override
+        public Integer getDefaultMinimum() {
+            return Integer.valueOf(1);
+        }
+
+        @Override
+        public Integer getDefaultMaximum() {
+            return Integer.valueOf(10);
+        }
+
+        @Override
+        public boolean isDateElement() {
+            return false;
+        }
+
+        @Override
+        public boolean isTimeElement() {
+            return false;
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@ import org.junit.runners.Suite.SuiteClasses;
         FormatPatternTest.class,
         FormatSuite.class,
         HistorySuite.class,
+        InstrumentationTest.class,
         IsoSanityTest.class,
         LocalizedGMTOffsetTest.class,
         NameDisplayTest.class,
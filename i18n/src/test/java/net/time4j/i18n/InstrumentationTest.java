@@ -0,0 +1,93 @@
+package net.time4j.i18n;
+
+import net.time4j.PlainDate;
+import net.time4j.base.Instrumentation;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.PatternType;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class InstrumentationTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    @After
+    public void disable() {
+        Instrumentation.setListener(null);
+    }
+
+    @Test
+    public void formatterBuild() {
+        this.enable();
+        ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMANY);
+        assertThat(
+            this.events.get(this.events.size() - 1),
+            is("FORMATTER_BUILD|net.time4j.PlainDate:de_DE|NOT_CACHED"));
+    }
+
+    @Test
+    public void formatterBuildWithListenerAfterSetUp() throws Exception {
+        ChronoFormatter.setUp(PlainDate.class, Locale.ENGLISH).addPattern("yyyy", PatternType.CLDR).build();
+        List<Long> nanos = new ArrayList<>();
+        ChronoFormatter.Builder<PlainDate> builder =
+            ChronoFormatter.setUp(PlainDate.class, Locale.ENGLISH).addPattern("yyyy", PatternType.CLDR);
+        Instrumentation.setListener((operation, key, elapsed, outcome) -> nanos.add(elapsed));
+        Thread.sleep(200); // caller time is not counted
+        builder.build();
+        builder.build();
+        assertThat(nanos.size(), is(2));
+        assertThat(nanos.get(0) < 200_000_000L, is(true));
+        assertThat(nanos.get(1) < 200_000_000L, is(true));
+    }
+
+    @Test
+    public void resourceLoading() throws Exception {
+        this.enable();
+        ResourceBundle rb =
+            UTF8ResourceControl.SINGLETON.newBundle(
+                "calendar/iso8601",
+                Locale.GERMAN,
+                "time4j.properties",
+                this.getClass().getClassLoader(),
+                true);
+        assertThat(rb == null, is(false));
+        assertThat(this.events.size(), is(1));
+        assertThat(this.events.get(0), is("RESOURCE_LOADING|calendar/iso8601_de.properties|MISS"));
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        this.enable();
+        ChronoFormatter.setUp(PlainDate.class, Locale.ENGLISH).addPattern("yyyy", PatternType.CLDR).build();
+        assertThat(this.events.isEmpty(), is(false));
+        Instrumentation.setListener(null);
+        this.events.clear();
+        ChronoFormatter.setUp(PlainDate.class, Locale.ENGLISH).addPattern("yyyy", PatternType.CLDR).build();
+        UTF8ResourceControl.SINGLETON.newBundle(
+            "calendar/iso8601",
+            Locale.FRENCH,
+            "time4j.properties",
+            this.getClass().getClassLoader(),
+            true);
+        assertThat(this.events.isEmpty(), is(true));
+    }
+
+    private void enable() {
+        Instrumentation.setListener(
+            (operation, key, nanos, outcome) -> this.events.add(operation + "|" + key + "|" + outcome)
+        );
+    }
+
+}
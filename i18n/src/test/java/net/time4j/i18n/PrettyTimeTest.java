@@ -4,10 +4,12 @@ import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.PrettyTime;
 import net.time4j.base.TimeSource;
+import net.time4j.base.UnixTime;
 import net.time4j.engine.BasicUnit;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.Chronology;
@@ -25,6 +27,7 @@ import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Locale;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static net.time4j.CalendarUnit.*;
@@ -79,6 +82,64 @@ public class PrettyTimeTest {
             is("há 2 h")); // inherited from Brazilian, does not exist in pt_PT-resource
     }
 
+    @Test
+    public void relativeRenderer() {
+        TimeSource<?> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC();
+        PrettyTime.RelativeRenderer renderer =
+            PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock).relativeRenderer(Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS);
+        UnixTime[] moments = {
+            PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC(),
+            PlainTimestamp.of(2014, 9, 4, 14, 40, 5).atUTC(),
+            PlainTimestamp.of(2014, 9, 4, 14, 35, 10).atUTC(),
+            PlainTimestamp.of(2014, 9, 4, 16, 40, 10).atUTC(),
+            PlainTimestamp.of(2014, 9, 2, 14, 40, 10).atUTC()
+        };
+        assertThat(
+            renderer.printAll(moments),
+            is(new String[] {"now", "5 seconds ago", "5 minutes ago", "in 2 hours", "2 days ago"}));
+        assertThat(renderer.getReference(), is(PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC()));
+    }
+
+    @Test
+    public void relativeRendererWithPosixTimes() {
+        TimeSource<?> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40, 10).atUTC();
+        PrettyTime.RelativeRenderer renderer =
+            PrettyTime.of(Locale.GERMAN).withReferenceClock(clock).relativeRenderer(Timezone.of(ZonalOffset.UTC), TimeUnit.MINUTES);
+        long posix = clock.currentTime().getPosixTime();
+        assertThat(
+            renderer.printAll(new long[] {posix - 30, posix - 300, posix + 300}),
+            is(new String[] {"jetzt", "vor 5 Minuten", "in 5 Minuten"}));
+    }
+
+    @Test
+    public void relativeRendererEqualToPrintRelative() {
+        Random random = new Random(4711);
+        Timezone[] zones = {Timezone.of("Europe/Berlin"), Timezone.of("America/New_York"), Timezone.of(ZonalOffset.UTC)};
+        TimeUnit[] precisions = {TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS, TimeUnit.DAYS};
+        Moment[] refs = {
+            PlainTimestamp.of(2016, 3, 26, 23, 30).atUTC(), // near start of summer time in Berlin
+            PlainTimestamp.of(2016, 10, 30, 0, 45, 30).atUTC(), // near end of summer time in Berlin
+            PlainTimestamp.of(2016, 12, 31, 23, 59, 30).atUTC(), // near leap second
+            PlainTimestamp.of(2016, 7, 4, 12, 0).atUTC().plus(123456789, TimeUnit.NANOSECONDS)
+        };
+        for (Moment ref : refs) {
+            for (Timezone tz : zones) {
+                for (TimeUnit precision : precisions) {
+                    PrettyTime pt = PrettyTime.of(Locale.ENGLISH).withReferenceClock(() -> ref);
+                    PrettyTime.RelativeRenderer renderer = pt.relativeRenderer(tz, precision);
+                    for (int i = 0; i < 500; i++) {
+                        long seconds = random.nextInt(4 * 86400) - 2 * 86400;
+                        if (i % 2 == 0) {
+                            seconds = seconds / 50;
+                        }
+                        Moment m = ref.plus(seconds, TimeUnit.SECONDS).plus(random.nextInt(1000000000), TimeUnit.NANOSECONDS);
+                        assertThat(renderer.print(m), is(pt.printRelative(m, tz, precision)));
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     public void printDurationPT() {
         assertThat(
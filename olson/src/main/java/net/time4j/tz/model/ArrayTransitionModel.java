@@ -42,6 +42,11 @@ import java.util.List;
 /**
  * <p>Array-basiertes &Uuml;bergangsmodell. </p>
  *
+ * <p>Die &Uuml;berg&auml;nge werden spaltenweise in primitiven Arrays gehalten, damit die
+ * bin&auml;re Suche nur zusammenh&auml;ngenden Speicher liest. {@code ZonalTransition}-Objekte
+ * werden erst dann erzeugt (und danach wiederverwendet), wenn die &ouml;ffentliche API sie
+ * zur&uuml;ckgibt. </p>
+ *
  * @author      Meno Hochschild
  * @since       2.2
  * @serial      include
@@ -56,10 +61,17 @@ final class ArrayTransitionModel
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private transient final ZonalTransition[] transitions;
+    private transient final long[] posixTimes;
+    private transient final int[] previousOffsets;
+    private transient final int[] totalOffsets;
+    private transient final int[] dstOffsets;
+    private transient final long[] localLimits; // posix + max(previous, total)
 
-    // Cache
-    private transient final List<ZonalTransition> stdTransitions;
+    // Cache (lazy, benign data races because all elements are immutable)
+    private transient final ZonalTransition[] transitions;
+    private transient final ZonalOffset[] offsets;
+    private transient final ZonalOffset initialOffset;
+    private transient volatile List<ZonalTransition> stdTransitions = null;
     private transient int hash = 0;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -93,11 +105,24 @@ final class ArrayTransitionModel
             checkSanity(tmp, transitions);
         }
 
-        this.transitions = tmp;
+        this.posixTimes = new long[n];
+        this.previousOffsets = new int[n];
+        this.totalOffsets = new int[n];
+        this.dstOffsets = new int[n];
+        this.localLimits = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = tmp[i];
+            this.posixTimes[i] = zt.getPosixTime();
+            this.previousOffsets[i] = zt.getPreviousOffset();
+            this.totalOffsets[i] = zt.getTotalOffset();
+            this.dstOffsets[i] = zt.getDaylightSavingOffset();
+            this.localLimits[i] = zt.getPosixTime() + Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+        }
 
-        // fill standard transition cache
-        long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.transitions = new ZonalTransition[n];
+        this.offsets = new ZonalOffset[n];
+        this.initialOffset = ZonalOffset.ofTotalSeconds(this.previousOffsets[0]);
 
     }
 
@@ -106,32 +131,57 @@ final class ArrayTransitionModel
     @Override
     public ZonalOffset getInitialOffset() {
 
-        return ZonalOffset.ofTotalSeconds(
-            this.transitions[0].getPreviousOffset());
+        return this.initialOffset;
+
+    }
+
+    @Override
+    ZonalOffset searchOffset(UnixTime ut) {
+
+        int index = this.search(ut.getPosixTime());
+
+        return (
+            (index == 0)
+            ? this.initialOffset
+            : this.getOffset(index - 1));
+
+    }
+
+    @Override
+    void searchInterval(
+        long posixTime,
+        long[] interval
+    ) {
+
+        int index = this.search(posixTime);
+        int n = this.posixTimes.length;
+        interval[0] = ((index == 0) ? Long.MIN_VALUE : this.posixTimes[index - 1]);
+        interval[1] = ((index == n) ? Long.MAX_VALUE : this.posixTimes[index]);
+        interval[2] = ((index == 0) ? this.previousOffsets[0] : this.totalOffsets[index - 1]);
 
     }
 
     @Override
     public ZonalTransition findStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.search(ut.getPosixTime());
 
         return (
             (index == 0)
             ? null
-            : this.transitions[index - 1]);
+            : this.getTransition(index - 1));
 
     }
 
     @Override
     public ZonalTransition findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = this.search(ut.getPosixTime());
 
         return (
-            (index == this.transitions.length)
+            (index == this.posixTimes.length)
             ? null
-            : this.transitions[index]);
+            : this.getTransition(index));
 
     }
 
@@ -158,7 +208,15 @@ final class ArrayTransitionModel
     @Override
     public List<ZonalTransition> getStdTransitions() {
 
-        return this.stdTransitions;
+        List<ZonalTransition> std = this.stdTransitions;
+
+        if (std == null) {
+            long end = TransitionModel.getFutureMoment(1);
+            std = this.getTransitions(0L, end);
+            this.stdTransitions = std;
+        }
+
+        return std;
 
     }
 
@@ -168,8 +226,7 @@ final class ArrayTransitionModel
         UnixTime endExclusive
     ) {
 
-        return getTransitions(
-            this.transitions,
+        return this.getTransitions(
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
@@ -178,7 +235,7 @@ final class ArrayTransitionModel
     @Override
     public void dump(Appendable buffer) throws IOException {
 
-        this.dump(this.transitions.length, buffer);
+        this.dump(this.posixTimes.length, buffer);
 
     }
 
@@ -189,7 +246,7 @@ final class ArrayTransitionModel
             return true;
         } else if (obj instanceof ArrayTransitionModel) {
             ArrayTransitionModel that = (ArrayTransitionModel) obj;
-            return Arrays.equals(this.transitions, that.transitions);
+            return this.equals(that, this.posixTimes.length, that.posixTimes.length);
         } else {
             return false;
         }
@@ -202,7 +259,7 @@ final class ArrayTransitionModel
         int h = this.hash;
 
         if (h == 0) {
-            h = Arrays.hashCode(this.transitions);
+            h = this.hashCode(this.posixTimes.length);
             this.hash = h;
         }
 
@@ -216,7 +273,7 @@ final class ArrayTransitionModel
         StringBuilder sb = new StringBuilder(32);
         sb.append(this.getClass().getName());
         sb.append("[transition-count=");
-        sb.append(this.transitions.length);
+        sb.append(this.posixTimes.length);
         sb.append(",hash=");
         sb.append(this.hashCode());
         sb.append(']');
@@ -241,26 +298,28 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = this.searchLocal(localSecs);
 
-        if (index == this.transitions.length) {
+        if (index == this.posixTimes.length) {
             return (
                 (ruleModel == null)
                 ? null
                 : ruleModel.getConflictTransition(localDate, localSecs));
         }
 
-        ZonalTransition test = this.transitions[index];
+        long posix = this.posixTimes[index];
+        int previous = this.previousOffsets[index];
+        int total = this.totalOffsets[index];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
-                return test;
+        if (total > previous) { // gap
+            assert (posix + total > localSecs);
+            if (posix + previous <= localSecs) {
+                return this.getTransition(index);
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return test;
+        } else if (total < previous) { // overlap
+            assert (posix + previous > localSecs);
+            if (posix + total <= localSecs) {
+                return this.getTransition(index);
             }
         }
 
@@ -284,35 +343,33 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = this.searchLocal(localSecs);
 
-        if (index == this.transitions.length) {
+        if (index == this.posixTimes.length) {
             if (ruleModel == null) {
-                ZonalTransition last =
-                    this.transitions[this.transitions.length - 1];
-                return TransitionModel.toList(last.getTotalOffset());
+                return TransitionModel.toList(this.totalOffsets[index - 1]);
             } else {
                 return ruleModel.getValidOffsets(localDate, localSecs);
             }
         }
 
-        ZonalTransition test = this.transitions[index];
+        long posix = this.posixTimes[index];
+        int previous = this.previousOffsets[index];
+        int total = this.totalOffsets[index];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
+        if (total > previous) { // gap
+            assert (posix + total > localSecs);
+            if (posix + previous <= localSecs) {
                 return Collections.emptyList();
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return TransitionModel.toList(
-                    test.getTotalOffset(),
-                    test.getPreviousOffset());
+        } else if (total < previous) { // overlap
+            assert (posix + previous > localSecs);
+            if (posix + total <= localSecs) {
+                return TransitionModel.toList(total, previous);
             }
         }
 
-        return TransitionModel.toList(test.getPreviousOffset());
+        return TransitionModel.toList(previous);
 
     }
 
@@ -323,8 +380,7 @@ final class ArrayTransitionModel
     ) throws IOException {
 
         for (int i = 0; i < size; i++) {
-            ZonalTransition transition = this.transitions[i];
-            TransitionModel.dump(transition, buffer);
+            TransitionModel.dump(this.getTransition(i), buffer);
         }
 
     }
@@ -332,7 +388,7 @@ final class ArrayTransitionModel
     // Called by CompositeTransitionModel
     ZonalTransition getLastTransition() {
 
-        return this.transitions[this.transitions.length - 1];
+        return this.getTransition(this.posixTimes.length - 1);
 
     }
 
@@ -343,15 +399,20 @@ final class ArrayTransitionModel
         int s2
     ) {
 
-        int n1 = Math.min(s1, this.transitions.length);
-        int n2 = Math.min(s2, other.transitions.length);
+        int n1 = Math.min(s1, this.posixTimes.length);
+        int n2 = Math.min(s2, other.posixTimes.length);
 
         if (n1 != n2) {
             return false;
         }
 
         for (int i = 0; i < n1; i++) {
-            if (!this.transitions[i].equals(other.transitions[i])) {
+            if (
+                (this.posixTimes[i] != other.posixTimes[i])
+                || (this.previousOffsets[i] != other.previousOffsets[i])
+                || (this.totalOffsets[i] != other.totalOffsets[i])
+                || (this.dstOffsets[i] != other.dstOffsets[i])
+            ) {
                 return false;
             }
         }
@@ -363,10 +424,16 @@ final class ArrayTransitionModel
     // Called by CompositeTransitionModel
     int hashCode(int size) {
 
-        int n = Math.min(size, this.transitions.length);
-        ZonalTransition[] tmp = new ZonalTransition[n];
-        System.arraycopy(this.transitions, 0, tmp, 0, n);
-        return Arrays.hashCode(tmp);
+        // same result as Arrays.hashCode(ZonalTransition[])
+        int n = Math.min(size, this.posixTimes.length);
+        int h = 1;
+
+        for (int i = 0; i < n; i++) {
+            long posix = this.posixTimes[i];
+            h = 31 * h + (int) (posix ^ (posix >>> 32));
+        }
+
+        return h;
 
     }
 
@@ -400,7 +467,7 @@ final class ArrayTransitionModel
      */
     void writeTransitions(ObjectOutput out) throws IOException {
 
-        this.writeTransitions(this.transitions.length, out);
+        this.writeTransitions(this.posixTimes.length, out);
 
     }
 
@@ -415,12 +482,50 @@ final class ArrayTransitionModel
         ObjectOutput out
     ) throws IOException {
 
-        SPX.writeTransitions(this.transitions, size, out);
+        SPX.writeTransitions(
+            this.posixTimes,
+            this.previousOffsets,
+            this.totalOffsets,
+            this.dstOffsets,
+            size,
+            out);
 
     }
 
-    private static List<ZonalTransition> getTransitions(
-        ZonalTransition[] transitions,
+    // creates the transition object on demand
+    private ZonalTransition getTransition(int index) {
+
+        ZonalTransition zt = this.transitions[index];
+
+        if (zt == null) {
+            zt =
+                new ZonalTransition(
+                    this.posixTimes[index],
+                    this.previousOffsets[index],
+                    this.totalOffsets[index],
+                    this.dstOffsets[index]);
+            this.transitions[index] = zt;
+        }
+
+        return zt;
+
+    }
+
+    // yields the total offset after given transition
+    private ZonalOffset getOffset(int index) {
+
+        ZonalOffset offset = this.offsets[index];
+
+        if (offset == null) {
+            offset = ZonalOffset.ofTotalSeconds(this.totalOffsets[index]);
+            this.offsets[index] = offset;
+        }
+
+        return offset;
+
+    }
+
+    private List<ZonalTransition> getTransitions(
         long startInclusive,
         long endExclusive
     ) {
@@ -429,18 +534,18 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = this.search(startInclusive);
+        int i2 = this.search(endExclusive);
 
         if (i2 == 0) {
             return Collections.emptyList();
-        } else if ((i1 > 0) && (transitions[i1 - 1].getPosixTime() == startInclusive)) {
+        } else if ((i1 > 0) && (this.posixTimes[i1 - 1] == startInclusive)) {
             i1--;
         }
 
         i2--;
 
-        if (transitions[i2].getPosixTime() == endExclusive) {
+        if (this.posixTimes[i2] == endExclusive) {
             i2--;
         }
 
@@ -449,7 +554,7 @@ final class ArrayTransitionModel
         } else {
             List<ZonalTransition> result = new ArrayList<>(i2 - i1 + 1);
             for (int i = i1; i <= i2; i++) {
-                result.add(transitions[i]);
+                result.add(this.getTransition(i));
             }
             return Collections.unmodifiableList(result);
         }
@@ -457,18 +562,16 @@ final class ArrayTransitionModel
     }
 
     // returns index of first transition after posixTime
-    private static int search(
-        long posixTime,
-        ZonalTransition[] transitions
-    ) {
+    private int search(long posixTime) {
 
+        long[] times = this.posixTimes;
         int low = 0;
-        int high = transitions.length - 1;
+        int high = times.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
+            int middle = (low + high) >>> 1;
 
-            if (transitions[middle].getPosixTime() <= posixTime) {
+            if (times[middle] <= posixTime) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -480,20 +583,16 @@ final class ArrayTransitionModel
     }
 
     // returns index of first transition after local date and time
-    private static int searchLocal(
-        long localSecs,
-        ZonalTransition[] transitions
-    ) {
+    private int searchLocal(long localSecs) {
 
+        long[] limits = this.localLimits;
         int low = 0;
-        int high = transitions.length - 1;
+        int high = limits.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
-            ZonalTransition zt = transitions[middle];
-            int offset = Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+            int middle = (low + high) >>> 1;
 
-            if (zt.getPosixTime() + offset <= localSecs) {
+            if (limits[middle] <= localSecs) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -91,6 +91,31 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    ZonalOffset searchOffset(UnixTime ut) {
+
+        if (ut.getPosixTime() < this.last.getPosixTime()) {
+            return this.arrayModel.searchOffset(ut);
+        } else {
+            return this.ruleModel.searchOffset(ut); // initial offset of rule model is offset of last transition
+        }
+
+    }
+
+    @Override
+    void searchInterval(
+        long posixTime,
+        long[] interval
+    ) {
+
+        if (posixTime < this.last.getPosixTime()) {
+            this.arrayModel.searchInterval(posixTime, interval);
+        } else {
+            super.searchInterval(posixTime, interval);
+        }
+
+    }
+
     @Override
     public ZonalTransition findStartTransition(UnixTime ut) {
 
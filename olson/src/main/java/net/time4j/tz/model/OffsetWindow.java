@@ -0,0 +1,254 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (OffsetWindow.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.List;
+
+
+/**
+ * <p>Vorberechnete Tabelle der Gesamtverschiebungen in einem Fenster um die aktuelle Zeit. </p>
+ *
+ * <p>Das Fenster ist in Eimer fester Gr&ouml;&szlig;e (2<sup>20</sup> Sekunden, etwa zw&ouml;lf
+ * Tage) eingeteilt. Jeder Eimer kennt das Intervall, das an seinem Anfang g&uuml;ltig ist, so
+ * da&szlig; eine Abfrage nur eine Division per Bitverschiebung und h&ouml;chstens wenige Vergleiche
+ * braucht. Zeitpunkte au&szlig;erhalb des Fensters ergeben {@code null}. </p>
+ *
+ * <p>Das Fenster liegt um die Zeit seiner Erzeugung fest. Weil die Uhr weiterl&auml;uft,
+ * kann der Besitzer mit {@link #isOutdated(long, long)} pr&uuml;fen, ob eine Abfrage hinter
+ * dem Ende ein neues Fenster rechtfertigt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+final class OffsetWindow {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SHIFT = 20;
+    private static final OffsetWindow EMPTY =
+        new OffsetWindow(0L, 0L, 0L, new int[0], new long[0], new ZonalOffset[0]);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long created; // current time in posix seconds when this window was computed
+    private final long start;
+    private final long end;
+    private final int[] buckets; // index of interval valid at start of bucket
+    private final long[] starts; // start of interval in posix seconds
+    private final ZonalOffset[] offsets;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private OffsetWindow(
+        long created,
+        long start,
+        long end,
+        int[] buckets,
+        long[] starts,
+        ZonalOffset[] offsets
+    ) {
+        super();
+
+        this.created = created;
+        this.start = start;
+        this.end = end;
+        this.buckets = buckets;
+        this.starts = starts;
+        this.offsets = offsets;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Berechnet die Tabelle f&uuml;r das angegebene Modell. </p>
+     *
+     * @param   model       transition model
+     * @param   years       count of years before and after now ({@code 0} means no table)
+     * @return  new table
+     */
+    static OffsetWindow of(
+        TransitionModel model,
+        int years
+    ) {
+
+        return OffsetWindow.of(model, years, System.currentTimeMillis() / 1000);
+
+    }
+
+    /**
+     * <p>Berechnet die Tabelle f&uuml;r das angegebene Modell um die angegebene Zeit. </p>
+     *
+     * @param   model       transition model
+     * @param   years       count of years before and after now ({@code 0} means no table)
+     * @param   now         current time in posix seconds
+     * @return  new table
+     */
+    static OffsetWindow of(
+        TransitionModel model,
+        int years,
+        long now
+    ) {
+
+        if (years <= 0) {
+            return EMPTY;
+        }
+
+        long span = (long) (365.2425 * 86400L * Math.min(years, 1000));
+        long start = ((now - span) >> SHIFT) << SHIFT;
+        int count = (int) (((now + span - start) >> SHIFT) + 1);
+        long end = start + (((long) count) << SHIFT);
+
+        List<ZonalTransition> transitions =
+            model.getTransitions(Moment.of(start, TimeScale.POSIX), Moment.of(end, TimeScale.POSIX));
+        int n = transitions.size() + 1;
+        long[] starts = new long[n];
+        ZonalOffset[] offsets = new ZonalOffset[n];
+        starts[0] = start;
+        offsets[0] = model.searchOffset(Moment.of(start, TimeScale.POSIX));
+        int size = 1;
+
+        for (ZonalTransition zt : transitions) {
+            if (zt.getPosixTime() > start) {
+                starts[size] = zt.getPosixTime();
+                offsets[size] = ZonalOffset.ofTotalSeconds(zt.getTotalOffset());
+                size++;
+            }
+        }
+
+        if (size < n) {
+            long[] tmpStarts = new long[size];
+            ZonalOffset[] tmpOffsets = new ZonalOffset[size];
+            System.arraycopy(starts, 0, tmpStarts, 0, size);
+            System.arraycopy(offsets, 0, tmpOffsets, 0, size);
+            starts = tmpStarts;
+            offsets = tmpOffsets;
+        }
+
+        int[] buckets = new int[count];
+        int index = 0;
+
+        for (int b = 0; b < count; b++) {
+            long bucketStart = start + (((long) b) << SHIFT);
+
+            while ((index + 1 < size) && (starts[index + 1] <= bucketStart)) {
+                index++;
+            }
+
+            buckets[b] = index;
+        }
+
+        return new OffsetWindow(now, start, end, buckets, starts, offsets);
+
+    }
+
+    /**
+     * <p>Liefert die Gesamtverschiebung zur angegebenen POSIX-Zeit. </p>
+     *
+     * @param   posixTime   POSIX time in seconds
+     * @return  total offset or {@code null} if outside of this window
+     */
+    ZonalOffset getOffset(long posixTime) {
+
+        int index = this.indexOf(posixTime);
+        return ((index == -1) ? null : this.offsets[index]);
+
+    }
+
+    /**
+     * <p>Bestimmt das Intervall, das die angegebene POSIX-Zeit enth&auml;lt. </p>
+     *
+     * <p>Das Ergebnis-Array wird mit dem Start (inklusive), dem Ende (exklusive) und der
+     * Gesamtverschiebung des Intervalls gef&uuml;llt, wobei das Intervall auf das Fenster
+     * beschr&auml;nkt ist. </p>
+     *
+     * @param   posixTime   POSIX time in seconds
+     * @param   interval    array of length 3 to be filled with start, end and total offset
+     * @return  {@code false} if outside of this window else {@code true}
+     */
+    boolean fillInterval(
+        long posixTime,
+        long[] interval
+    ) {
+
+        int index = this.indexOf(posixTime);
+
+        if (index == -1) {
+            return false;
+        }
+
+        interval[0] = this.starts[index];
+        interval[1] = ((index + 1 < this.starts.length) ? this.starts[index + 1] : this.end);
+        interval[2] = this.offsets[index].getIntegralAmount();
+        return true;
+
+    }
+
+    /**
+     * <p>Soll das Fenster wegen einer Abfrage hinter seinem Ende neu berechnet werden? </p>
+     *
+     * <p>Das ist nur dann der Fall, wenn die Uhr seit der Berechnung mindestens um einen
+     * Eimer weitergelaufen ist, so da&szlig; ein neues Fenster weiter in die Zukunft reicht.
+     * Abfragen weit in der Zukunft erzwingen deshalb h&ouml;chstens eine Neuberechnung je
+     * Eimer. </p>
+     *
+     * @param   posixTime   queried POSIX time in seconds
+     * @param   now         current time in posix seconds
+     * @return  {@code true} if a new window should be computed else {@code false}
+     */
+    boolean isOutdated(
+        long posixTime,
+        long now
+    ) {
+
+        return (
+            (posixTime >= this.end)
+            && (this.buckets.length > 0)
+            && (now - this.created >= (1L << SHIFT)));
+
+    }
+
+    private int indexOf(long posixTime) {
+
+        if ((posixTime < this.start) || (posixTime >= this.end)) {
+            return -1;
+        }
+
+        int index = this.buckets[(int) ((posixTime - this.start) >> SHIFT)];
+        long[] times = this.starts;
+
+        while ((index + 1 < times.length) && (times[index + 1] <= posixTime)) {
+            index++;
+        }
+
+        return index;
+
+    }
+
+}
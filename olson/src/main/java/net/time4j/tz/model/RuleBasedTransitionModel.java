@@ -75,6 +75,8 @@ final class RuleBasedTransitionModel
     private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
+    private transient final ZonalOffset initialOffset;
+    private transient final ZonalOffset[] ruleOffsets;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -176,6 +178,13 @@ final class RuleBasedTransitionModel
         // state initialization
         this.initial = zt;
         this.rules = Collections.unmodifiableList(sortedRules);
+        this.initialOffset = ZonalOffset.ofTotalSeconds(zt.getTotalOffset());
+        this.ruleOffsets = new ZonalOffset[sortedRules.size()];
+
+        for (int i = 0; i < this.ruleOffsets.length; i++) {
+            int total = zt.getStandardOffset() + sortedRules.get(i).getSavings();
+            this.ruleOffsets[i] = ZonalOffset.ofTotalSeconds(total);
+        }
 
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
@@ -188,7 +197,28 @@ final class RuleBasedTransitionModel
     @Override
     public ZonalOffset getInitialOffset() {
 
-        return ZonalOffset.ofTotalSeconds(this.initial.getTotalOffset());
+        return this.initialOffset;
+
+    }
+
+    @Override
+    ZonalOffset searchOffset(UnixTime ut) {
+
+        ZonalTransition t = this.findStartTransition(ut);
+
+        if (t == null) {
+            return this.initialOffset;
+        }
+
+        int total = t.getTotalOffset();
+
+        for (ZonalOffset offset : this.ruleOffsets) {
+            if (offset.getIntegralAmount() == total) {
+                return offset;
+            }
+        }
+
+        return ZonalOffset.ofTotalSeconds(total);
 
     }
 
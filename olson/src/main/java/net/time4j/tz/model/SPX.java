@@ -217,20 +217,23 @@ final class SPX
 
     // called by ArrayTransitionModel
     static void writeTransitions(
-        ZonalTransition[] transitions,
+        long[] posixTimes,
+        int[] previousOffsets,
+        int[] totalOffsets,
+        int[] dstOffsets,
         int size,
         DataOutput out
     ) throws IOException {
 
-        int n = Math.min(size, transitions.length);
+        int n = Math.min(size, posixTimes.length);
         out.writeInt(n);
 
         if (n > 0) {
-            int stdOffset = transitions[0].getPreviousOffset();
+            int stdOffset = previousOffsets[0];
             writeOffset(out, stdOffset);
 
             for (int i = 0; i < n; i++) {
-                stdOffset = writeTransition(transitions[i], stdOffset, out);
+                stdOffset = writeTransition(posixTimes[i], totalOffsets[i], dstOffsets[i], stdOffset, out);
             }
         }
 
@@ -720,12 +723,14 @@ final class SPX
     }
 
     private static int writeTransition(
-        ZonalTransition transition,
+        long posixTime,
+        int totalOffset,
+        int dstOffset,
         int stdOffset,
         DataOutput out
     ) throws IOException {
 
-        int rawOffset = transition.getStandardOffset();
+        int rawOffset = totalOffset - dstOffset;
         boolean newStdOffset = (rawOffset != stdOffset);
         byte first = 0;
 
@@ -735,7 +740,7 @@ final class SPX
 
         int dstIndex;
 
-        switch (transition.getDaylightSavingOffset()) {
+        switch (dstOffset) {
             case 0:
                 dstIndex = 1;
                 break;
@@ -752,7 +757,7 @@ final class SPX
         first |= (dstIndex << 5);
 
         // local standard time plus two hours: 22:00-3:00 => 0:00-5:00
-        long modTime = transition.getPosixTime() + stdOffset + 7200;
+        long modTime = posixTime + stdOffset + 7200;
         int timeIndex = NO_COMPRESSION;
 
         if (
@@ -766,7 +771,7 @@ final class SPX
 
         if (timeIndex == NO_COMPRESSION) {
             out.writeByte(first);
-            out.writeLong(transition.getPosixTime());
+            out.writeLong(posixTime);
         } else {
             int dayIndex = (int) ((modTime - POSIX_TIME_1825) / 86400);
             byte high = (byte) ((dayIndex >>> 16) & 3);
@@ -777,7 +782,7 @@ final class SPX
         }
 
         if (dstIndex == NO_COMPRESSION) {
-            writeOffset(out, transition.getDaylightSavingOffset());
+            writeOffset(out, dstOffset);
         }
 
         if (newStdOffset) {
@@ -913,6 +918,18 @@ final class SPX
 
     }
 
+    /**
+     * <p>Liefert das zu serialisierende bzw. das deserialisierte Objekt. </p>
+     *
+     * @return  Object
+     * @since   4.18
+     */
+    Object getObject() {
+
+        return this.obj;
+
+    }
+
     private Object readResolve() throws ObjectStreamException {
 
         return this.obj;
@@ -63,6 +63,12 @@ public abstract class TransitionModel
 
     static final String NEW_LINE = System.getProperty("line.separator");
 
+    private static final int WINDOW_YEARS = Integer.getInteger("net.time4j.tz.offset.window", 10);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private transient volatile OffsetWindow window = null;
+
     //~ Konstruktoren -----------------------------------------------------
 
     // package-private for subclasses only
@@ -176,6 +182,100 @@ public abstract class TransitionModel
 
     }
 
+    /**
+     * <p>Queries the total offset which is valid at given global timestamp. </p>
+     *
+     * <p>Timestamps in a window around the current time are resolved in constant time
+     * by help of a table which is computed on first call. The window covers ten years
+     * before and after now by default and can be configured by the system property
+     * &quot;net.time4j.tz.offset.window&quot; (count of years, zero switches the table off).
+     * Other timestamps are resolved by searching the transitions. If a query falls behind
+     * the end of the window and the clock has moved on by about twelve days since the table
+     * was computed then the table will be computed again around the new current time. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  total offset valid at given timestamp
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die zur angegebenen Referenzzeit g&uuml;ltige Gesamtverschiebung. </p>
+     *
+     * <p>Zeitpunkte in einem Fenster um die aktuelle Zeit werden mit Hilfe einer Tabelle,
+     * die beim ersten Aufruf berechnet wird, in konstanter Zeit aufgel&ouml;st.
+     * Das Fenster umfa&szlig;t standardm&auml;&szlig;ig zehn Jahre vor und nach jetzt und
+     * kann mit der System-Property &quot;net.time4j.tz.offset.window&quot; konfiguriert
+     * werden (Anzahl der Jahre, null schaltet die Tabelle ab). Andere Zeitpunkte werden
+     * durch Suche in den &Uuml;berg&auml;ngen aufgel&ouml;st. Liegt eine Abfrage hinter dem
+     * Ende des Fensters und ist die Uhr seit der Berechnung um etwa zw&ouml;lf Tage
+     * weitergelaufen, wird die Tabelle um die neue aktuelle Zeit herum neu berechnet. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  total offset valid at given timestamp
+     * @since   4.18
+     */
+    @Override
+    public ZonalOffset getOffset(UnixTime ut) {
+
+        long t = ut.getPosixTime();
+        ZonalOffset offset = this.getWindow(t).getOffset(t);
+        return ((offset == null) ? this.searchOffset(ut) : offset);
+
+    }
+
+    /**
+     * <p>Determines the total offsets for an array of POSIX timestamps in one pass. </p>
+     *
+     * <p>The interval between two transitions which contains the previous element is reused
+     * as long as following elements are inside it. Otherwise the interval is determined in
+     * constant time by help of the table around the current time (see {@link #getOffset(UnixTime)})
+     * or by searching the transitions. Sorted input therefore walks through the transitions
+     * linearly. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @throws  IllegalArgumentException if the target array is too short
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Gesamtverschiebungen f&uuml;r ein Array von POSIX-Zeitstempeln in einem
+     * Durchgang. </p>
+     *
+     * <p>Das Intervall zwischen zwei &Uuml;berg&auml;ngen, das das vorherige Element enth&auml;lt,
+     * wird wiederverwendet, solange folgende Elemente darin liegen. Sonst wird das Intervall mit
+     * Hilfe der Tabelle um die aktuelle Zeit (siehe {@link #getOffset(UnixTime)}) in konstanter
+     * Zeit oder durch Suche in den &Uuml;berg&auml;ngen bestimmt. Sortierte Eingaben durchlaufen
+     * die &Uuml;berg&auml;nge deshalb linear. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z] without leap seconds
+     * @param   totalOffsets    array to be filled with total offsets in seconds
+     * @throws  IllegalArgumentException if the target array is too short
+     * @since   4.18
+     */
+    @Override
+    public void getTotalOffsets(
+        long[] posixTimes,
+        int[] totalOffsets
+    ) {
+
+        if (totalOffsets.length < posixTimes.length) {
+            throw new IllegalArgumentException(
+                "Target array too short: " + totalOffsets.length + " < " + posixTimes.length);
+        }
+
+        long[] interval = {Long.MAX_VALUE, Long.MIN_VALUE, 0}; // start, end, offset
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            long t = posixTimes[i];
+
+            if (((t < interval[0]) || (t >= interval[1])) && !this.getWindow(t).fillInterval(t, interval)) {
+                this.searchInterval(t, interval);
+            }
+
+            totalOffsets[i] = (int) interval[2];
+        }
+
+    }
+
     @Override
     public final ZonalTransition getStartTransition(UnixTime ut) {
 
@@ -200,6 +300,57 @@ public abstract class TransitionModel
 
     }
 
+    /**
+     * <p>Ermittelt die Gesamtverschiebung durch Suche in den &Uuml;berg&auml;ngen. </p>
+     *
+     * <p>Subklassen k&ouml;nnen diese Methode &uuml;berschreiben, um die Erzeugung von
+     * Objekten zu vermeiden. </p>
+     *
+     * @param   ut      unix reference time
+     * @return  total offset valid at given timestamp
+     */
+    ZonalOffset searchOffset(UnixTime ut) {
+
+        ZonalTransition t = this.findStartTransition(ut);
+        return ((t == null) ? this.getInitialOffset() : ZonalOffset.ofTotalSeconds(t.getTotalOffset()));
+
+    }
+
+    /**
+     * <p>Bestimmt das Intervall zwischen zwei &Uuml;berg&auml;ngen, das die angegebene
+     * POSIX-Zeit enth&auml;lt. </p>
+     *
+     * <p>Subklassen k&ouml;nnen diese Methode &uuml;berschreiben, um die Erzeugung von
+     * Objekten zu vermeiden. </p>
+     *
+     * @param   posixTime   POSIX time in seconds
+     * @param   interval    array of length 3 to be filled with start (inclusive), end (exclusive)
+     *                      and total offset of the interval
+     */
+    void searchInterval(
+        long posixTime,
+        long[] interval
+    ) {
+
+        UnixTime ut = new PosixTime(posixTime); // ohne Bereichsprüfung von Moment
+        ZonalTransition previous = this.findStartTransition(ut);
+        interval[0] = ((previous == null) ? Long.MIN_VALUE : previous.getPosixTime());
+
+        try {
+            ZonalTransition next = this.findNextTransition(ut);
+            interval[1] = ((next == null) ? Long.MAX_VALUE : next.getPosixTime());
+        } catch (IllegalArgumentException ex) {
+            // Folgejahr jenseits des Kalenders: Intervall nur für diese Sekunde wie bei getOffset(UnixTime)
+            interval[1] = posixTime + 1;
+        }
+
+        interval[2] = (
+            (previous == null)
+            ? this.getInitialOffset().getIntegralAmount()
+            : previous.getTotalOffset());
+
+    }
+
     // Hauptmethode
     static TransitionHistory of(
         ZonalOffset initialOffset,
@@ -317,6 +468,20 @@ public abstract class TransitionModel
 
     }
 
+    // das Fenster wird neu berechnet, wenn eine Abfrage hinter seinem Ende liegt und die Uhr weitergelaufen ist
+    private OffsetWindow getWindow(long posixTime) {
+
+        OffsetWindow w = this.window;
+
+        if ((w == null) || w.isOutdated(posixTime, System.currentTimeMillis() / 1000)) {
+            w = OffsetWindow.of(this, WINDOW_YEARS);
+            this.window = w;
+        }
+
+        return w;
+
+    }
+
     static long getFutureMoment(int years) {
 
         long y = (long) (365.2425 * 86400L * years);
@@ -330,4 +495,40 @@ public abstract class TransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class PosixTime
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long posix;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        PosixTime(long posix) {
+            super();
+
+            this.posix = posix;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posix;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+    }
+
 }
@@ -0,0 +1,537 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneSnapshot.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import net.time4j.tz.TransitionHistory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+
+/**
+ * <p>Precompiled transition histories of many timezones in a binary file which is read
+ * via memory-mapping. </p>
+ *
+ * <p>A snapshot is compiled once from any source of timezone data (for example the tzdb
+ * of the JDK) and can then be opened by any JVM on the same host. Opening a snapshot only
+ * reads its index, the data of a single zone will only be decoded on demand. The data
+ * use the same bit-compressed encoding as the serialization of transition models. Because
+ * the file is mapped read-only, all JVMs share the pages in the page cache of the operating
+ * system. </p>
+ *
+ * <p>File layout (big endian): </p>
+ *
+ * <pre>
+ *  int     magic number (TZSP)
+ *  int     format version
+ *  short   length of version of source data in bytes, followed by UTF-8-bytes
+ *  int     count of zones
+ *  count * [short length of zone id, UTF-8-bytes, int offset, int length]
+ *  data    encoded transition histories at absolute file offsets
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Vorkompilierte &Uuml;bergangshistorien vieler Zeitzonen in einer Bin&auml;rdatei, die
+ * per Memory-Mapping gelesen wird. </p>
+ *
+ * <p>Ein Schnappschu&szlig; wird einmal aus irgendeiner Quelle von Zeitzonendaten (zum
+ * Beispiel der tzdb des JDK) kompiliert und kann dann von jeder JVM auf dem gleichen Rechner
+ * ge&ouml;ffnet werden. Das &Ouml;ffnen liest nur den Index, die Daten einer einzelnen
+ * Zeitzone werden erst bei Bedarf dekodiert. Die Daten verwenden die gleiche bit-komprimierte
+ * Kodierung wie die Serialisierung von &Uuml;bergangsmodellen. Weil die Datei nur lesend
+ * gemappt wird, teilen sich alle JVMs die Seiten im Cache des Betriebssystems. </p>
+ *
+ * <p>Dateiaufbau (big endian): </p>
+ *
+ * <pre>
+ *  int     magic number (TZSP)
+ *  int     format version
+ *  short   length of version of source data in bytes, followed by UTF-8-bytes
+ *  int     count of zones
+ *  count * [short length of zone id, UTF-8-bytes, int offset, int length]
+ *  data    encoded transition histories at absolute file offsets
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+public final class ZoneSnapshot {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAGIC = 0x545A5350; // TZSP
+    private static final int FORMAT_VERSION = 1;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String version;
+    private final Map<String, long[]> index;
+    private final ByteBuffer data;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZoneSnapshot(
+        String version,
+        Map<String, long[]> index,
+        ByteBuffer data
+    ) {
+        super();
+
+        this.version = version;
+        this.index = index;
+        this.data = data;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles given timezones into a binary file. </p>
+     *
+     * <p>The file will first be written under a temporary name in the same directory
+     * and then be renamed atomically so concurrently starting JVMs never observe an
+     * incomplete file. Zones which cannot be loaded or are not based on the standard
+     * transition models of this package will be skipped. </p>
+     *
+     * @param   target      path of snapshot file
+     * @param   version     version of source data (for example the tzdb-version)
+     * @param   ids         zone identifiers to be compiled
+     * @param   loader      function for loading a single zone
+     * @return  count of compiled zones
+     * @throws  IOException in case of any I/O-error
+     */
+    /*[deutsch]
+     * <p>Kompiliert die angegebenen Zeitzonen in eine Bin&auml;rdatei. </p>
+     *
+     * <p>Die Datei wird zuerst unter einem tempor&auml;ren Namen im gleichen Verzeichnis
+     * geschrieben und dann atomar umbenannt, so da&szlig; parallel startende JVMs nie eine
+     * halbfertige Datei sehen. Zeitzonen, die nicht geladen werden k&ouml;nnen oder nicht auf
+     * den Standardmodellen dieses Pakets beruhen, werden &uuml;bersprungen. </p>
+     *
+     * @param   target      path of snapshot file
+     * @param   version     version of source data (for example the tzdb-version)
+     * @param   ids         zone identifiers to be compiled
+     * @param   loader      function for loading a single zone
+     * @return  count of compiled zones
+     * @throws  IOException in case of any I/O-error
+     */
+    public static int compile(
+        Path target,
+        String version,
+        Collection<String> ids,
+        Function<String, ? extends TransitionHistory> loader
+    ) throws IOException {
+
+        Map<String, byte[]> zones = new LinkedHashMap<>(ids.size() * 2);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(512);
+
+        for (String id : ids) {
+            TransitionHistory history;
+
+            try {
+                history = loader.apply(id);
+            } catch (RuntimeException ex) {
+                continue;
+            }
+
+            int type;
+
+            if (history instanceof CompositeTransitionModel) {
+                type = SPX.COMPOSITE_TRANSITION_MODEL_TYPE;
+            } else if (history instanceof ArrayTransitionModel) {
+                type = SPX.ARRAY_TRANSITION_MODEL_TYPE;
+            } else if (history instanceof RuleBasedTransitionModel) {
+                type = SPX.RULE_BASED_TRANSITION_MODEL_TYPE;
+            } else {
+                continue;
+            }
+
+            bos.reset();
+            SnapshotOutput out = new SnapshotOutput(bos);
+            new SPX(history, type).writeExternal(out);
+            out.flush();
+            zones.put(id, bos.toByteArray());
+        }
+
+        byte[] versionBytes = version.getBytes(StandardCharsets.UTF_8);
+        int headerSize = 4 + 4 + 2 + versionBytes.length + 4;
+
+        for (String id : zones.keySet()) {
+            headerSize += (2 + id.getBytes(StandardCharsets.UTF_8).length + 4 + 4);
+        }
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream(headerSize + zones.size() * 256);
+        DataOutputStream out = new DataOutputStream(file);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeShort(versionBytes.length);
+        out.write(versionBytes);
+        out.writeInt(zones.size());
+        int offset = headerSize;
+
+        for (Map.Entry<String, byte[]> e : zones.entrySet()) {
+            byte[] idBytes = e.getKey().getBytes(StandardCharsets.UTF_8);
+            out.writeShort(idBytes.length);
+            out.write(idBytes);
+            out.writeInt(offset);
+            out.writeInt(e.getValue().length);
+            offset += e.getValue().length;
+        }
+
+        for (byte[] bytes : zones.values()) {
+            out.write(bytes);
+        }
+
+        out.flush();
+
+        Path dir = target.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+
+        try {
+            Files.write(tmp, file.toByteArray());
+
+            try {
+                // temporäre Dateien sind nur für den Eigentümer lesbar
+                Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-r--r--"));
+            } catch (UnsupportedOperationException ex) {
+                // kein POSIX-Dateisystem
+            }
+
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+
+        return zones.size();
+
+    }
+
+    /**
+     * <p>Opens a binary file and reads its index. </p>
+     *
+     * @param   path        path of snapshot file
+     * @return  opened snapshot
+     * @throws  IOException in case of any I/O-error or if the file is not a valid snapshot
+     */
+    /*[deutsch]
+     * <p>&Ouml;ffnet eine Bin&auml;rdatei und liest deren Index. </p>
+     *
+     * @param   path        path of snapshot file
+     * @return  opened snapshot
+     * @throws  IOException in case of any I/O-error or if the file is not a valid snapshot
+     */
+    public static ZoneSnapshot open(Path path) throws IOException {
+
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException("Not a zone snapshot: " + path);
+            } else if (buffer.getInt() != FORMAT_VERSION) {
+                throw new StreamCorruptedException("Unsupported format of zone snapshot: " + path);
+            }
+
+            String version = readString(buffer);
+            int count = buffer.getInt();
+            Map<String, long[]> index = new HashMap<>(count * 2);
+
+            for (int i = 0; i < count; i++) {
+                String id = readString(buffer);
+                int offset = buffer.getInt();
+                int length = buffer.getInt();
+
+                if ((offset < 0) || (length < 0) || (offset > buffer.limit() - length)) {
+                    throw new StreamCorruptedException("Invalid offset of zone: " + id);
+                }
+
+                index.put(id, new long[] {offset, length});
+            }
+
+            return new ZoneSnapshot(version, index, buffer);
+        } catch (RuntimeException ex) { // BufferUnderflowException etc.
+            throw new StreamCorruptedException("Damaged zone snapshot: " + path + " (" + ex + ")");
+        }
+
+    }
+
+    /**
+     * <p>Yields the version of the source data. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert die Version der Quelldaten. </p>
+     *
+     * @return  String
+     */
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    /**
+     * <p>Yields all contained zone identifiers. </p>
+     *
+     * @return  unmodifiable set
+     */
+    /*[deutsch]
+     * <p>Liefert alle enthaltenen Zeitzonen-IDs. </p>
+     *
+     * @return  unmodifiable set
+     */
+    public Set<String> getAvailableIDs() {
+
+        return Collections.unmodifiableSet(this.index.keySet());
+
+    }
+
+    /**
+     * <p>Decodes the transition history of given zone from mapped memory. </p>
+     *
+     * @param   zoneID      zone identifier
+     * @return  transition history or {@code null} if not contained in this snapshot
+     * @throws  IllegalStateException if the snapshot data are damaged
+     */
+    /*[deutsch]
+     * <p>Dekodiert die &Uuml;bergangshistorie der angegebenen Zeitzone aus dem gemappten
+     * Speicher. </p>
+     *
+     * @param   zoneID      zone identifier
+     * @return  transition history or {@code null} if not contained in this snapshot
+     * @throws  IllegalStateException if the snapshot data are damaged
+     */
+    public TransitionHistory load(String zoneID) {
+
+        long[] entry = this.index.get(zoneID);
+
+        if (entry == null) {
+            return null;
+        }
+
+        ByteBuffer slice = this.data.duplicate();
+        slice.position((int) entry[0]);
+        slice.limit((int) (entry[0] + entry[1]));
+
+        try {
+            SPX spx = new SPX();
+            spx.readExternal(new SnapshotInput(new BufferInput(slice)));
+            return (TransitionHistory) spx.getObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+            throw new IllegalStateException("Damaged zone snapshot data: " + zoneID, ex);
+        }
+
+    }
+
+    private static String readString(ByteBuffer buffer) {
+
+        int len = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[len];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // schreibt die bit-komprimierten Daten direkt, nur fremde Regeln werden serialisiert
+    private static class SnapshotOutput
+        extends DataOutputStream
+        implements ObjectOutput {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SnapshotOutput(OutputStream out) {
+            super(out);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void writeObject(Object obj) throws IOException {
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(obj);
+            }
+
+            this.writeInt(bos.size());
+            bos.writeTo(this);
+
+        }
+
+    }
+
+    // Gegenstück zu SnapshotOutput
+    private static class SnapshotInput
+        extends DataInputStream
+        implements ObjectInput {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SnapshotInput(InputStream in) {
+            super(in);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Object readObject() throws ClassNotFoundException, IOException {
+
+            byte[] bytes = new byte[this.readInt()];
+            this.readFully(bytes);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+            try (ObjectInputStream ois = new RestrictedInput(new BufferInput(buffer))) {
+                return ois.readObject();
+            }
+
+        }
+
+    }
+
+    // liest aus einem Ausschnitt des gemappten Speichers ohne Kopie der gesamten Daten
+    private static class BufferInput
+        extends InputStream {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer buffer;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BufferInput(ByteBuffer buffer) {
+            super();
+
+            this.buffer = buffer;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int read() {
+
+            return (this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1);
+
+        }
+
+        @Override
+        public int read(
+            byte[] b,
+            int off,
+            int len
+        ) {
+
+            if (len == 0) {
+                return 0;
+            }
+
+            int n = Math.min(len, this.buffer.remaining());
+
+            if (n == 0) {
+                return -1;
+            }
+
+            this.buffer.get(b, off, n);
+            return n;
+
+        }
+
+        @Override
+        public int available() {
+
+            return this.buffer.remaining();
+
+        }
+
+    }
+
+    // erlaubt nur Klassen von Time4J, weil die Datei außerhalb der JVM liegt
+    private static class RestrictedInput
+        extends ObjectInputStream {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        RestrictedInput(InputStream in) throws IOException {
+            super(in);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc)
+            throws IOException, ClassNotFoundException {
+
+            String name = desc.getName();
+
+            if (!name.startsWith("net.time4j.") && !name.equals("java.lang.Enum")) {
+                throw new InvalidClassException(name, "Not allowed in zone snapshot.");
+            }
+
+            return super.resolveClass(desc);
+
+        }
+
+    }
+
+}
@@ -33,7 +33,13 @@ import net.time4j.tz.model.DaylightSavingRule;
 import net.time4j.tz.model.GregorianTimezoneRule;
 import net.time4j.tz.model.OffsetIndicator;
 import net.time4j.tz.model.TransitionModel;
+import net.time4j.tz.model.ZoneSnapshot;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -53,22 +59,63 @@ import java.util.Set;
  * <p>SPI-implementation for the indirect evaluation of &quot;tzdb.dat&quot;-repository
  * via the new zone-api in Java-8. </p>
  *
+ * <p>If the system property &quot;net.time4j.tz.threeten.snapshot&quot; specifies a file path
+ * then all zones will be converted only once into a compact binary file at this location
+ * which is memory-mapped and shared by all JVMs on the same host. The file will be compiled
+ * again if it does not exist or does not match the tzdb-version of the JDK. In case of any
+ * I/O-problem, zones will be converted on every load as usual. If the data of a zone turn out
+ * to be damaged then the file will be deleted and compiled again on next start. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.0
+ */
+/*[deutsch]
+ * <p>SPI-Implementierung f&uuml;r die indirekte Auswertung des &quot;tzdb.dat&quot;-Repositoriums
+ * &uuml;ber die neue Zeitzonen-API in Java-8. </p>
+ *
+ * <p>Wenn die System-Property &quot;net.time4j.tz.threeten.snapshot&quot; einen Dateipfad angibt,
+ * werden alle Zeitzonen nur einmal in eine kompakte Bin&auml;rdatei an diesem Ort konvertiert,
+ * die per Memory-Mapping gelesen und von allen JVMs auf dem gleichen Rechner geteilt wird. Die
+ * Datei wird neu kompiliert, wenn sie nicht existiert oder nicht zur tzdb-Version des JDK
+ * passt. Bei I/O-Problemen werden Zeitzonen wie gewohnt bei jedem Laden konvertiert. Erweisen
+ * sich die Daten einer Zeitzone als besch&auml;digt, wird die Datei gel&ouml;scht und beim
+ * n&auml;chsten Start neu kompiliert. </p>
+ *
  * @author  Meno Hochschild
  * @since   4.0
  */
 public class JdkZoneProviderSPI
     implements ZoneModelProvider {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final String SNAPSHOT_PROPERTY = "net.time4j.tz.threeten.snapshot";
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final String version;
+    private final Path snapshotPath;
+    private volatile ZoneSnapshot snapshot;
 
     //~ Konstruktoren -----------------------------------------------------
 
     public JdkZoneProviderSPI() {
+        this(getSnapshotPath());
+
+    }
+
+    /**
+     * <p>Benutzt in Tests. </p>
+     *
+     * @param   snapshotPath    path of zone snapshot file (optional)
+     * @since   4.18
+     */
+    JdkZoneProviderSPI(Path snapshotPath) {
         super();
 
         this.version = ZoneRulesProvider.getVersions("America/New_York").lastEntry().getKey();
+        this.snapshotPath = snapshotPath;
+        this.snapshot = ((snapshotPath == null) ? null : this.openSnapshot(snapshotPath));
 
     }
 
@@ -119,6 +166,85 @@ public class JdkZoneProviderSPI
     @Override
     public TransitionHistory load(String zoneID) {
 
+        ZoneSnapshot zs = this.snapshot;
+
+        if (zs != null) {
+            try {
+                TransitionHistory history = zs.load(zoneID);
+
+                if (history != null) {
+                    return history;
+                }
+            } catch (IllegalStateException ex) {
+                this.dropSnapshot(); // damaged zone data => compile again on next start
+            }
+        }
+
+        return convert(zoneID);
+
+    }
+
+    /**
+     * <p>Is this provider backed by a memory-mapped zone snapshot? </p>
+     *
+     * @return  boolean
+     * @since   4.18
+     */
+    boolean hasSnapshot() {
+
+        return (this.snapshot != null);
+
+    }
+
+    private ZoneSnapshot openSnapshot(Path path) {
+
+        if (Files.exists(path)) {
+            try {
+                ZoneSnapshot zs = ZoneSnapshot.open(path);
+
+                if (zs.getVersion().equals(this.version)) {
+                    return zs;
+                }
+            } catch (IOException ex) {
+                // damaged file => compile again
+            }
+        }
+
+        try {
+            ZoneSnapshot.compile(path, this.version, this.getAvailableIDs(), JdkZoneProviderSPI::convert);
+            return ZoneSnapshot.open(path);
+        } catch (IOException ex) {
+            return null; // fallback to conversion on every load
+        }
+
+    }
+
+    private void dropSnapshot() {
+
+        this.snapshot = null;
+
+        try {
+            Files.deleteIfExists(this.snapshotPath);
+        } catch (IOException ex) {
+            // the next start will detect the damage again
+        }
+
+    }
+
+    private static Path getSnapshotPath() {
+
+        String path = System.getProperty(SNAPSHOT_PROPERTY);
+
+        try {
+            return ((path == null) || path.isEmpty()) ? null : Paths.get(path);
+        } catch (InvalidPathException ex) {
+            return null;
+        }
+
+    }
+
+    private static TransitionHistory convert(String zoneID) {
+
         try {
             ZoneRules zoneRules = ZoneId.of(zoneID).getRules();
             ZonalOffset initialOffset = ZonalOffset.ofTotalSeconds(zoneRules.getOffset(Instant.MIN).getTotalSeconds());
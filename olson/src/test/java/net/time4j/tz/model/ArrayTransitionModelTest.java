@@ -352,6 +352,35 @@ public class ArrayTransitionModelTest {
         assertThat(MODEL.isEmpty(), is(false));
     }
 
+    @Test
+    public void getOffset() {
+        assertThat(MODEL.getOffset(new UT(-1)), is(MODEL.getInitialOffset()));
+        assertThat(MODEL.getOffset(new UT(0)), is(ZonalOffset.ofTotalSeconds(7200)));
+        assertThat(MODEL.getOffset(new UT(365 * 86400L - 1)), is(ZonalOffset.ofTotalSeconds(7200)));
+        assertThat(MODEL.getOffset(new UT(365 * 86400L)), is(ZonalOffset.ofTotalSeconds(3600)));
+        assertThat(MODEL.getOffset(new UT(730 * 86400L)), is(ZonalOffset.ofTotalSeconds(-13 * 3600)));
+        assertThat(MODEL.getOffset(new UT(Long.MAX_VALUE)), is(ZonalOffset.ofTotalSeconds(-12 * 3600)));
+    }
+
+    @Test
+    public void transitionsAreCreatedOnceOnDemand() {
+        TransitionHistory model = new ArrayTransitionModel(Arrays.asList(FIRST, SECOND, THIRD));
+        ZonalTransition zt = model.findStartTransition(new UT(365 * 86400L));
+        assertThat(zt, is(SECOND));
+        assertThat(model.findNextTransition(new UT(0)) == zt, is(true));
+        assertThat(model.getTransitions(new UT(0), new UT(730 * 86400L)).get(1) == zt, is(true));
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        TransitionHistory model = new ArrayTransitionModel(Arrays.asList(FIRST, SECOND, THIRD, FOURTH));
+        assertThat(model.equals(MODEL), is(true));
+        assertThat(model.hashCode(), is(Arrays.hashCode(new ZonalTransition[] {FIRST, SECOND, THIRD, FOURTH})));
+        assertThat(
+            new ArrayTransitionModel(Arrays.asList(FIRST, SECOND, THIRD)).equals(MODEL),
+            is(false));
+    }
+
     // Hilfsklasse
     private static class UT implements UnixTime {
 
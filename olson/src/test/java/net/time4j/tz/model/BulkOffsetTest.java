@@ -0,0 +1,217 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.UnixTime;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BulkOffsetTest {
+
+    private static final long YEAR = 365 * 86400L;
+
+    @Test
+    public void sameAsSingleLookupForAllZones() {
+        JdkZoneProviderSPI provider = new JdkZoneProviderSPI();
+        long now = System.currentTimeMillis() / 1000;
+        Moment start = Moment.of(now - 30 * YEAR, TimeScale.POSIX);
+        Moment end = Moment.of(now + 30 * YEAR, TimeScale.POSIX);
+
+        for (String id : provider.getAvailableIDs()) {
+            TransitionHistory history = provider.load(id);
+            if (history == null) {
+                continue;
+            }
+            List<Long> times = new ArrayList<>();
+            times.add(-70 * YEAR);
+            for (ZonalTransition zt : history.getTransitions(start, end)) {
+                for (long delta = -1; delta <= 1; delta++) {
+                    times.add(zt.getPosixTime() + delta);
+                }
+            }
+            for (long t = start.getPosixTime(); t < end.getPosixTime(); t += 7 * 86400L + 3777) {
+                times.add(t);
+            }
+            times.add(now + 80 * YEAR);
+            long[] sorted = new long[times.size()];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = times.get(i);
+            }
+            check(id, history, sorted);
+            long[] shuffled = sorted.clone();
+            Random random = new Random(id.hashCode());
+            for (int i = shuffled.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long tmp = shuffled[i];
+                shuffled[i] = shuffled[j];
+                shuffled[j] = tmp;
+            }
+            check(id, history, shuffled);
+        }
+    }
+
+    @Test
+    public void toLocalFieldsBerlin() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        long[] posixTimes = {
+            PlainTimestamp.of(1969, 12, 31, 23, 30).atUTC().getPosixTime(),
+            PlainTimestamp.of(2016, 3, 27, 0, 59, 59).atUTC().getPosixTime(),
+            PlainTimestamp.of(2016, 3, 27, 1, 0).atUTC().getPosixTime(),
+            PlainTimestamp.of(2016, 10, 30, 0, 59, 59).atUTC().getPosixTime(),
+            PlainTimestamp.of(2016, 10, 30, 1, 0).atUTC().getPosixTime(),
+            PlainTimestamp.of(2016, 12, 31, 23, 0).atUTC().getPosixTime()
+        };
+        int n = posixTimes.length;
+        int[] offsets = new int[n];
+        int[] days = new int[n];
+        int[] seconds = new int[n];
+        tz.toLocalFields(posixTimes, offsets, days, seconds);
+
+        for (int i = 0; i < n; i++) {
+            Moment moment = Moment.of(posixTimes[i], TimeScale.POSIX);
+            PlainTimestamp tsp = moment.toZonalTimestamp(tz.getID());
+            assertThat(offsets[i], is(tz.getOffset(moment).getIntegralAmount()));
+            assertThat(
+                (long) days[i],
+                is(tsp.getCalendarDate().get(EpochDays.UNIX)));
+            assertThat(seconds[i], is(tsp.getWallTime().get(PlainTime.SECOND_OF_DAY)));
+        }
+
+        assertThat(days[0], is(0));
+        assertThat(seconds[0], is(30 * 60));
+        assertThat(offsets[1], is(3600));
+        assertThat(offsets[2], is(7200));
+        assertThat(offsets[3], is(7200));
+        assertThat(offsets[4], is(3600));
+        assertThat(seconds[5], is(0));
+    }
+
+    @Test
+    public void toLocalFieldsWithoutOptionalArrays() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        long[] posixTimes = {0L, 86400L};
+        int[] offsets = new int[2];
+        int[] seconds = new int[2];
+        tz.toLocalFields(posixTimes, offsets, null, seconds);
+        assertThat(offsets[0], is(3600));
+        assertThat(seconds[1], is(3600));
+        tz.toLocalFields(posixTimes, offsets, null, null);
+        assertThat(offsets[1], is(3600));
+    }
+
+    @Test
+    public void fixedOffset() {
+        Timezone tz = Timezone.of(ZonalOffset.ofTotalSeconds(-19800));
+        long[] posixTimes = {Long.MIN_VALUE / 2, 0L, 19799L, Long.MAX_VALUE / 2};
+        int[] offsets = new int[4];
+        tz.getOffsets(posixTimes, offsets);
+        for (int offset : offsets) {
+            assertThat(offset, is(-19800));
+        }
+        int[] days = new int[2];
+        int[] seconds = new int[2];
+        tz.toLocalFields(new long[] {0L, 19800L}, offsets, days, seconds);
+        assertThat(days[0], is(-1));
+        assertThat(seconds[0], is(86400 - 19800));
+        assertThat(days[1], is(0));
+        assertThat(seconds[1], is(0));
+    }
+
+    @Test
+    public void fixedOffsetWithNegativeFraction() {
+        ZonalOffset offset = ZonalOffset.atLongitude(new BigDecimal("-7.50001"));
+        assertThat(offset.getFractionalAmount() < 0, is(true));
+        Timezone tz = Timezone.of(offset);
+        long[] posixTimes = {0L, 86400L * 365 + 7777};
+        int[] offsets = new int[2];
+        int[] days = new int[2];
+        int[] seconds = new int[2];
+        tz.toLocalFields(posixTimes, offsets, days, seconds);
+        for (int i = 0; i < posixTimes.length; i++) {
+            Moment ut = Moment.of(posixTimes[i], TimeScale.POSIX);
+            PlainTimestamp tsp = ut.toZonalTimestamp(offset);
+            assertThat(offsets[i], is(offset.getIntegralAmount() - 1));
+            assertThat(offsets[i], is(tz.getOffset(ut).getIntegralAmount()));
+            assertThat((long) days[i], is(tsp.getCalendarDate().get(EpochDays.UNIX)));
+            assertThat(seconds[i], is(tsp.getWallTime().get(PlainTime.SECOND_OF_DAY)));
+        }
+    }
+
+    @Test
+    public void beyondMomentRange() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        long max = Moment.axis().getMaximum().getPosixTime();
+        long min = Moment.axis().getMinimum().getPosixTime();
+        long[] posixTimes = {min - 1, min, max}; // min - 1 is still in the local year -999999999
+        int[] offsets = new int[3];
+        tz.getOffsets(posixTimes, offsets);
+        for (int i = 0; i < posixTimes.length; i++) {
+            long t = posixTimes[i];
+            UnixTime ut =
+                new UnixTime() {
+                    @Override
+                    public long getPosixTime() {
+                        return t;
+                    }
+                    @Override
+                    public int getNanosecond() {
+                        return 0;
+                    }
+                };
+            assertThat(offsets[i], is(tz.getOffset(ut).getIntegralAmount()));
+        }
+    }
+
+    @Test
+    public void emptyInput() {
+        Timezone.of("Europe/Berlin").toLocalFields(new long[0], new int[0], null, null);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void targetArrayTooShort() {
+        Timezone.of("Europe/Berlin").getOffsets(new long[3], new int[2]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void localTargetArrayTooShort() {
+        Timezone.of("Europe/Berlin").toLocalFields(new long[3], new int[3], new int[2], null);
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void localEpochDayOverflow() {
+        Timezone.of(ZonalOffset.UTC).toLocalFields(new long[] {Long.MAX_VALUE / 2}, new int[1], new int[1], null);
+    }
+
+    private static void check(
+        String id,
+        TransitionHistory history,
+        long[] posixTimes
+    ) {
+        int[] offsets = new int[posixTimes.length];
+        history.getTotalOffsets(posixTimes, offsets);
+        for (int i = 0; i < posixTimes.length; i++) {
+            Moment ut = Moment.of(posixTimes[i], TimeScale.POSIX);
+            assertThat(id + "@" + posixTimes[i], offsets[i], is(history.getOffset(ut).getIntegralAmount()));
+        }
+    }
+
+}
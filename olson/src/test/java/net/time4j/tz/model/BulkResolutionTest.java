@@ -0,0 +1,195 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.GapResolver;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.OverlapResolver;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.TransitionStrategy;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BulkResolutionTest {
+
+    private static final long YEAR = 365 * 86400L;
+
+    @Test
+    public void sameAsSingleResolutionForAllZones() {
+        long now = System.currentTimeMillis() / 1000;
+        Moment start = Moment.of(now - 60 * YEAR, TimeScale.POSIX);
+        Moment end = Moment.of(now + 30 * YEAR, TimeScale.POSIX);
+        TransitionStrategy[] strategies = {
+            GapResolver.PUSH_FORWARD.and(OverlapResolver.EARLIER_OFFSET),
+            GapResolver.PUSH_FORWARD.and(OverlapResolver.LATER_OFFSET),
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET),
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.LATER_OFFSET)
+        };
+
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            String id = tzid.canonical();
+            Timezone zone = Timezone.of(tzid);
+            TransitionHistory history = zone.getHistory();
+            if (history == null) {
+                continue;
+            }
+            List<Long> times = new ArrayList<>();
+            for (ZonalTransition zt : history.getTransitions(start, end)) {
+                long t = zt.getPosixTime();
+                for (long local : new long[] {t + zt.getPreviousOffset(), t + zt.getTotalOffset()}) {
+                    for (long delta : new long[] {-3601, -1, 0, 1, 1800, 3599, 3600}) {
+                        times.add(local + delta);
+                    }
+                }
+            }
+            for (long t = start.getPosixTime(); t < end.getPosixTime(); t += 11 * 86400L + 3777) {
+                times.add(t);
+            }
+            Collections.sort(times);
+            long[] sorted = toArray(times);
+            Collections.shuffle(times, new Random(id.hashCode()));
+            long[] shuffled = toArray(times);
+            for (TransitionStrategy strategy : strategies) {
+                check(zone.with(strategy), sorted);
+                check(zone.with(strategy), shuffled);
+            }
+        }
+    }
+
+    @Test
+    public void gapsAndOverlapsInBerlin() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        long[] localSeconds = {
+            local(2016, 3, 27, 1, 59, 59),
+            local(2016, 3, 27, 2, 0, 0),
+            local(2016, 3, 27, 2, 59, 59),
+            local(2016, 3, 27, 3, 0, 0),
+            local(2016, 10, 30, 1, 59, 59),
+            local(2016, 10, 30, 2, 0, 0),
+            local(2016, 10, 30, 2, 59, 59),
+            local(2016, 10, 30, 3, 0, 0)
+        };
+        long[] posixTimes = new long[localSeconds.length];
+        BitSet gaps = new BitSet();
+        BitSet overlaps = new BitSet();
+        overlaps.set(0); // will be cleared
+
+        int count =
+            tz.with(GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET)).toPosixTimes(
+                localSeconds, posixTimes, gaps, overlaps);
+        assertThat(count, is(4));
+        assertThat(gaps.toString(), is("{1, 2}"));
+        assertThat(overlaps.toString(), is("{5, 6}"));
+
+        long spring = PlainTimestamp.of(2016, 3, 27, 1, 0).atUTC().getPosixTime();
+        long autumn = PlainTimestamp.of(2016, 10, 30, 1, 0).atUTC().getPosixTime();
+        assertThat(posixTimes[0], is(spring - 1));
+        assertThat(posixTimes[1], is(spring));
+        assertThat(posixTimes[2], is(spring));
+        assertThat(posixTimes[3], is(spring));
+        assertThat(posixTimes[4], is(autumn - 3601));
+        assertThat(posixTimes[5], is(autumn - 3600));
+        assertThat(posixTimes[6], is(autumn - 1));
+        assertThat(posixTimes[7], is(autumn + 3600));
+
+        tz.toPosixTimes(localSeconds, posixTimes, null, null); // default strategy
+        assertThat(posixTimes[1], is(spring));
+        assertThat(posixTimes[2], is(spring + 3599));
+        assertThat(posixTimes[5], is(autumn));
+        assertThat(posixTimes[6], is(autumn + 3599));
+    }
+
+    @Test
+    public void fixedOffset() {
+        Timezone tz = Timezone.of(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5));
+        long[] localSeconds = {Long.MIN_VALUE / 2, 0L, Long.MAX_VALUE / 2};
+        long[] posixTimes = new long[3];
+        assertThat(tz.toPosixTimes(localSeconds, posixTimes, null, null), is(0));
+        assertThat(posixTimes[0], is(Long.MIN_VALUE / 2 + 5 * 3600));
+        assertThat(posixTimes[1], is(5 * 3600L));
+        assertThat(posixTimes[2], is(Long.MAX_VALUE / 2 + 5 * 3600));
+    }
+
+    @Test
+    public void strictModeOutsideOfGap() {
+        Timezone tz = Timezone.of("Europe/Berlin").with(Timezone.STRICT_MODE);
+        long[] localSeconds = {local(2016, 3, 27, 1, 59, 59), local(2016, 3, 27, 3, 0, 0)};
+        long[] posixTimes = new long[2];
+        assertThat(tz.toPosixTimes(localSeconds, posixTimes, null, null), is(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void strictModeInGap() {
+        Timezone tz = Timezone.of("Europe/Berlin").with(Timezone.STRICT_MODE);
+        long[] localSeconds = {local(2016, 3, 27, 2, 30, 0)};
+        tz.toPosixTimes(localSeconds, new long[1], null, null);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void targetArrayTooShort() {
+        Timezone.of("Europe/Berlin").toPosixTimes(new long[2], new long[1], null, null);
+    }
+
+    private static void check(
+        Timezone tz,
+        long[] localSeconds
+    ) {
+        long[] posixTimes = new long[localSeconds.length];
+        BitSet gaps = new BitSet();
+        BitSet overlaps = new BitSet();
+        int count = tz.toPosixTimes(localSeconds, posixTimes, gaps, overlaps);
+        TransitionHistory history = tz.getHistory();
+        int expectedCount = 0;
+        for (int i = 0; i < localSeconds.length; i++) {
+            PlainTimestamp tsp = Moment.of(localSeconds[i], TimeScale.POSIX).toZonalTimestamp(ZonalOffset.UTC);
+            String msg = tz.getID().canonical() + "/" + tz.getStrategy() + "@" + tsp;
+            assertThat(msg, posixTimes[i], is(tz.getStrategy().resolve(tsp.getCalendarDate(), tsp.getWallTime(), tz)));
+            ZonalTransition conflict = history.findConflictTransition(tsp.getCalendarDate(), tsp.getWallTime());
+            boolean gap = (conflict != null) && conflict.isGap();
+            boolean overlap = (conflict != null) && conflict.isOverlap();
+            assertThat(msg, gaps.get(i), is(gap));
+            assertThat(msg, overlaps.get(i), is(overlap));
+            if (gap || overlap) {
+                expectedCount++;
+            }
+        }
+        assertThat(count, is(expectedCount));
+    }
+
+    private static long[] toArray(List<Long> times) {
+        long[] result = new long[times.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = times.get(i);
+        }
+        return result;
+    }
+
+    private static long local(
+        int year,
+        int month,
+        int dayOfMonth,
+        int hour,
+        int minute,
+        int second
+    ) {
+        return PlainTimestamp.of(year, month, dayOfMonth, hour, minute, second).atUTC().getPosixTime();
+    }
+
+}
@@ -74,6 +74,19 @@ public class CompositeTransitionModelTest {
         assertThat(MODEL_SINGLE.getInitialOffset(), is(expected));
     }
 
+    @Test
+    public void getOffset() {
+        for (TransitionHistory model : Arrays.asList(MODEL, MODEL_EXT, MODEL_SINGLE)) {
+            long end = FIFTH.getPosixTime() + 3 * 365 * 86400L;
+            for (long t = -86400L; t < end; t += 3600 * 7) {
+                ZonalTransition zt = model.findStartTransition(new UT(t));
+                ZonalOffset expected =
+                    (zt == null) ? model.getInitialOffset() : ZonalOffset.ofTotalSeconds(zt.getTotalOffset());
+                assertThat(model.getOffset(new UT(t)), is(expected));
+            }
+        }
+    }
+
     @Test
     public void getStartTransition1() {
         assertThat(MODEL.findStartTransition(new UT(-1)), nullValue());
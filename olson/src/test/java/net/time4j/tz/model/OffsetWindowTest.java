@@ -0,0 +1,109 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class OffsetWindowTest {
+
+    private static final long YEAR = 365 * 86400L;
+
+    @Test
+    public void sameAsSearchForAllZones() {
+        JdkZoneProviderSPI provider = new JdkZoneProviderSPI();
+        long now = System.currentTimeMillis() / 1000;
+        Moment start = Moment.of(now - 11 * YEAR, TimeScale.POSIX);
+        Moment end = Moment.of(now + 11 * YEAR, TimeScale.POSIX);
+
+        for (String id : provider.getAvailableIDs()) {
+            TransitionHistory history = provider.load(id);
+            if (!(history instanceof TransitionModel)) {
+                continue;
+            }
+            TransitionModel model = (TransitionModel) history;
+            for (ZonalTransition zt : model.getTransitions(start, end)) {
+                for (long delta = -1; delta <= 1; delta++) {
+                    check(id, model, zt.getPosixTime() + delta);
+                }
+            }
+            for (long t = start.getPosixTime(); t < end.getPosixTime(); t += 5 * 86400L + 3777) {
+                check(id, model, t);
+            }
+        }
+    }
+
+    @Test
+    public void outsideOfWindow() {
+        TransitionModel model = euModel();
+        OffsetWindow window = OffsetWindow.of(model, 2);
+        assertThat(window.getOffset(Long.MIN_VALUE), nullValue());
+        assertThat(window.getOffset(Long.MAX_VALUE), nullValue());
+        long now = System.currentTimeMillis() / 1000;
+        assertThat(window.getOffset(now - 3 * YEAR), nullValue());
+        assertThat(window.getOffset(now + 3 * YEAR), nullValue());
+        assertThat(window.getOffset(now), is(model.searchOffset(Moment.of(now, TimeScale.POSIX))));
+        Moment past = PlainTimestamp.of(1960, 1, 15, 12, 0).atUTC();
+        assertThat(model.getOffset(past), is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1)));
+    }
+
+    @Test
+    public void outdatedWindow() {
+        TransitionModel model = euModel();
+        long now = System.currentTimeMillis() / 1000;
+        OffsetWindow old = OffsetWindow.of(model, 1, now - 3 * YEAR);
+        assertThat(old.getOffset(now), nullValue());
+        assertThat(old.isOutdated(now, now), is(true));
+        assertThat(old.isOutdated(now - 3 * YEAR, now), is(false)); // inside
+        assertThat(old.isOutdated(now - 10 * YEAR, now), is(false)); // before start
+        OffsetWindow fresh = OffsetWindow.of(model, 1, now);
+        assertThat(fresh.getOffset(now), is(model.searchOffset(Moment.of(now, TimeScale.POSIX))));
+        assertThat(fresh.isOutdated(now + 2 * YEAR, now), is(false)); // clock has not moved on
+        assertThat(fresh.isOutdated(now + 2 * YEAR, now + 13 * 86400L), is(true));
+        assertThat(OffsetWindow.of(model, 0).isOutdated(now, now + YEAR), is(false));
+    }
+
+    @Test
+    public void disabledWindow() {
+        OffsetWindow window = OffsetWindow.of(euModel(), 0);
+        assertThat(window.getOffset(System.currentTimeMillis() / 1000), nullValue());
+    }
+
+    private static void check(
+        String id,
+        TransitionModel model,
+        long posix
+    ) {
+        Moment ut = Moment.of(posix, TimeScale.POSIX);
+        assertThat(id + "@" + posix, model.getOffset(ut), is(model.searchOffset(ut)));
+    }
+
+    private static TransitionModel euModel() {
+        DaylightSavingRule spring =
+            GregorianTimezoneRule.ofLastWeekday(
+                Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600);
+        DaylightSavingRule autumn =
+            GregorianTimezoneRule.ofLastWeekday(
+                Month.OCTOBER, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 0);
+        return new RuleBasedTransitionModel(ZonalOffset.ofTotalSeconds(3600), Arrays.asList(spring, autumn));
+    }
+
+}
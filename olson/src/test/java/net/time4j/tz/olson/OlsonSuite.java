@@ -2,9 +2,12 @@ package net.time4j.tz.olson;
 
 import net.time4j.tz.threeten.JdkZoneProviderTest;
 import net.time4j.tz.model.ArrayTransitionModelTest;
+import net.time4j.tz.model.BulkOffsetTest;
+import net.time4j.tz.model.BulkResolutionTest;
 import net.time4j.tz.model.CompositeTransitionModelTest;
 import net.time4j.tz.model.CustomZoneTest;
 import net.time4j.tz.model.DaylightSavingRuleTest;
+import net.time4j.tz.model.OffsetWindowTest;
 import net.time4j.tz.model.RulesLikeBerlin1947Test;
 import net.time4j.tz.model.RulesLikeDhaka2009Test;
 import net.time4j.tz.model.RulesOfEuropeanUnionTest;
@@ -13,6 +16,7 @@ import net.time4j.tz.model.StartOfDayTest;
 import net.time4j.tz.model.TransitionResolverTest;
 
 import net.time4j.tz.threeten.NegativeDayOfMonthPatternTest;
+import net.time4j.tz.threeten.ZoneSnapshotTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -22,11 +26,14 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         ArrayTransitionModelTest.class,
+        BulkOffsetTest.class,
+        BulkResolutionTest.class,
         CompositeTransitionModelTest.class,
         CustomZoneTest.class,
         DaylightSavingRuleTest.class,
         JdkZoneProviderTest.class,
         NegativeDayOfMonthPatternTest.class,
+        OffsetWindowTest.class,
         PredefinedIDTest.class,
         RulesLikeBerlin1947Test.class,
         RulesLikeDhaka2009Test.class,
@@ -36,7 +43,8 @@ import org.junit.runners.Suite.SuiteClasses;
         StartOfDayTest.class,
         TransitionResolverTest.class,
         ZoneNameParserTest.class,
-        ZoneNameParsingTest.class
+        ZoneNameParsingTest.class,
+        ZoneSnapshotTest.class
     }
 )
 public class OlsonSuite {
@@ -0,0 +1,132 @@
+package net.time4j.tz.threeten;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.model.ZoneSnapshot;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneSnapshotTest {
+
+    @Test
+    public void compileAndLoad() throws IOException {
+        JdkZoneProviderSPI zp = new JdkZoneProviderSPI(null);
+        List<String> ids =
+            Arrays.asList("Europe/Berlin", "America/New_York", "Asia/Kolkata", "Pacific/Apia", "Africa/Casablanca");
+        Path dir = Files.createTempDirectory("time4j");
+        Path file = dir.resolve("zones.snapshot");
+        try {
+            ZoneSnapshot.compile(file, "test", ids, zp::load);
+            ZoneSnapshot snapshot = ZoneSnapshot.open(file);
+            assertThat(snapshot.getVersion(), is("test"));
+            assertThat(snapshot.getAvailableIDs().size(), is(ids.size()));
+            for (String id : ids) {
+                assertThat(id, snapshot.load(id), is(zp.load(id)));
+            }
+            assertThat(snapshot.load("Europe/Paris"), nullValue());
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void providerWithSnapshot() throws IOException {
+        Path dir = Files.createTempDirectory("time4j");
+        Path file = dir.resolve("zones.snapshot");
+        try {
+            JdkZoneProviderSPI converting = new JdkZoneProviderSPI(null);
+            JdkZoneProviderSPI compiling = new JdkZoneProviderSPI(file);
+            assertThat(compiling.hasSnapshot(), is(true));
+            assertThat(Files.exists(file), is(true));
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            JdkZoneProviderSPI mapping = new JdkZoneProviderSPI(file); // reuses existing file
+            assertThat(Files.getLastModifiedTime(file).toMillis(), is(modified));
+            assertThat(mapping.hasSnapshot(), is(true));
+            for (String id : converting.getAvailableIDs()) {
+                TransitionHistory expected = converting.load(id);
+                assertThat(id, mapping.load(id), is(expected));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void versionMismatchRecompiles() throws IOException {
+        Path dir = Files.createTempDirectory("time4j");
+        Path file = dir.resolve("zones.snapshot");
+        try {
+            ZoneSnapshot.compile(file, "1970a", Arrays.asList("Europe/Berlin"), id -> null);
+            JdkZoneProviderSPI zp = new JdkZoneProviderSPI(file);
+            assertThat(zp.hasSnapshot(), is(true));
+            assertThat(ZoneSnapshot.open(file).getVersion(), is(zp.getVersion()));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(dir);
+        }
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void invalidFile() throws IOException {
+        Path file = Files.createTempFile("time4j", ".snapshot");
+        try {
+            Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+            ZoneSnapshot.open(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void damagedZoneDataAreConverted() throws IOException {
+        Path dir = Files.createTempDirectory("time4j");
+        Path file = dir.resolve("zones.snapshot");
+        try {
+            JdkZoneProviderSPI converting = new JdkZoneProviderSPI(null);
+            String id = "Europe/Berlin";
+            ZoneSnapshot.compile(file, converting.getVersion(), Arrays.asList(id), converting::load);
+            byte[] bytes = Files.readAllBytes(file);
+            int headerSize = 4 + 4 + 2 + converting.getVersion().length() + 4 + 2 + id.length() + 4 + 4;
+            Arrays.fill(bytes, headerSize, bytes.length, (byte) 0); // index stays intact
+            Files.write(file, bytes);
+            JdkZoneProviderSPI zp = new JdkZoneProviderSPI(file);
+            assertThat(zp.hasSnapshot(), is(true));
+            assertThat(zp.load(id), is(converting.load(id)));
+            assertThat(zp.hasSnapshot(), is(false));
+            assertThat(Files.exists(file), is(false));
+            assertThat(new JdkZoneProviderSPI(file).hasSnapshot(), is(true)); // recompiled
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void damagedFileIsRecompiled() throws IOException {
+        Path file = Files.createTempFile("time4j", ".snapshot");
+        try {
+            Files.write(file, new byte[] {0x54, 0x5A, 0x53, 0x50, 0, 0, 0, 1, 0});
+            JdkZoneProviderSPI zp = new JdkZoneProviderSPI(file);
+            assertThat(zp.hasSnapshot(), is(true)); // recompiled
+            assertThat(zp.load("Europe/Berlin"), is(new JdkZoneProviderSPI(null).load("Europe/Berlin")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
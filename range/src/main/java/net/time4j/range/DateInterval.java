@@ -31,6 +31,7 @@ import net.time4j.engine.AttributeQuery;
 import net.time4j.engine.ChronoDisplay;
 import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.Attributes;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.ChronoParser;
@@ -46,6 +47,8 @@ import java.text.ParseException;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
 
 import static net.time4j.PlainDate.*;
 import static net.time4j.range.IntervalEdge.CLOSED;
@@ -600,6 +603,93 @@ public final class DateInterval
 
     }
 
+    /**
+     * <p>Obtains a stream of all days contained in this interval. </p>
+     *
+     * <p>The stream is backed by a sized spliterator which computes every
+     * day directly from its index so parallel streams can split it in
+     * constant time. </p>
+     *
+     * @return  ordered stream of days
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @since   4.18
+     * @see     #stream(Duration)
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Stream} aller Tage dieses Intervalls. </p>
+     *
+     * <p>Der {@code Stream} basiert auf einem {@code Spliterator} mit
+     * bekannter Gr&ouml;&szlig;e, der jeden Tag direkt aus seinem Index
+     * berechnet, so da&szlig; parallele {@code Stream}s ihn in konstanter
+     * Zeit teilen k&ouml;nnen. </p>
+     *
+     * @return  ordered stream of days
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @since   4.18
+     * @see     #stream(Duration)
+     */
+    public Stream<PlainDate> streamDaily() {
+
+        long start = this.getTemporalOfClosedStart().getDaysSinceEpochUTC();
+        long count = this.getLengthInDays();
+        return IndexedSpliterator.stream(index -> PlainDate.of(start + index, EpochDays.UTC), count);
+
+    }
+
+    /**
+     * <p>Obtains a stream of dates starting with the start of this interval
+     * and stepping forward by given duration while the dates are still
+     * contained in this interval. </p>
+     *
+     * <p>The element with index {@code k} is calculated as start plus
+     * {@code k} times the duration, not by adding the duration again and
+     * again. Example: The stream of {@code [2016-01-31/2016-04-30]} in steps
+     * of one month yields 2016-01-31, 2016-02-29, 2016-03-31 and 2016-04-30
+     * (repeated addition would yield 2016-03-29 and 2016-04-29). </p>
+     *
+     * @param   duration    positive step width
+     * @return  ordered stream of dates
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the count of dates cannot be calculated due to numerical overflow
+     * @since   4.18
+     * @see     #streamDaily()
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Stream} von Datumsangaben, der mit dem Start
+     * dieses Intervalls beginnt und um die angegebene Dauer fortschreitet,
+     * solange die Datumsangaben noch in diesem Intervall liegen. </p>
+     *
+     * <p>Das Element mit dem Index {@code k} wird als Start plus {@code k}
+     * mal die Dauer berechnet, nicht durch wiederholtes Addieren der Dauer.
+     * Beispiel: Der {@code Stream} von {@code [2016-01-31/2016-04-30]} in
+     * Schritten von einem Monat liefert 2016-01-31, 2016-02-29, 2016-03-31
+     * und 2016-04-30 (wiederholtes Addieren erg&auml;be 2016-03-29 und
+     * 2016-04-29). </p>
+     *
+     * @param   duration    positive step width
+     * @return  ordered stream of dates
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the count of dates cannot be calculated due to numerical overflow
+     * @since   4.18
+     * @see     #streamDaily()
+     */
+    public Stream<PlainDate> stream(Duration<CalendarUnit> duration) {
+
+        if (!duration.isPositive()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        } else if (!this.isFinite()) {
+            throw new UnsupportedOperationException("An infinite interval has no finite duration.");
+        }
+
+        PlainDate start = this.getTemporalOfClosedStart();
+        LongFunction<Duration<CalendarUnit>> scale = duration::multipliedBy;
+        LongFunction<PlainDate> function = index -> start.plus(scale.apply(index));
+        return IndexedSpliterator.stream(function, IndexedSpliterator.count(scale, start::plus, this::contains));
+
+    }
+
     /**
      * <p>Interpretes given text as interval using a localized interval pattern. </p>
      *
@@ -0,0 +1,485 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DateIntervalSet.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * <p>Represents a compact set of calendar dates stored as sorted disjunct
+ * blocks in a primitive array of epoch days. </p>
+ *
+ * <p>An {@code IntervalCollection} of dates holds several objects per
+ * interval (interval, boundaries and dates). This class only holds two
+ * {@code long}-values per block and is therefore suitable for large
+ * resource calendars. Intervals which overlap or touch each other are
+ * always merged to blocks so this class models a set of days rather
+ * than a list of intervals. The set operations work in one linear pass
+ * over both sets. Conversions from and to {@code IntervalCollection}
+ * are available on demand. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection#withBlocks()
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert eine kompakte Menge von Kalenderdaten, die als
+ * sortierte disjunkte Bl&ouml;cke in einem primitiven Array von
+ * Epochentagen gespeichert werden. </p>
+ *
+ * <p>Eine {@code IntervalCollection} von Datumsangaben h&auml;lt mehrere
+ * Objekte pro Intervall (Intervall, Grenzen und Datumsangaben). Diese
+ * Klasse h&auml;lt nur zwei {@code long}-Werte pro Block und eignet sich
+ * deshalb f&uuml;r gro&szlig;e Ressourcenkalender. Intervalle, die sich
+ * &uuml;berlappen oder ber&uuml;hren, werden immer zu Bl&ouml;cken
+ * zusammengefasst, so da&szlig; diese Klasse eher eine Menge von Tagen
+ * als eine Liste von Intervallen darstellt. Die Mengenoperationen
+ * arbeiten in einem linearen Durchgang &uuml;ber beide Mengen.
+ * Umwandlungen von und nach {@code IntervalCollection} sind bei Bedarf
+ * verf&uuml;gbar. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection#withBlocks()
+ * @doctags.concurrency {immutable}
+ */
+public final class DateIntervalSet {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // Markierungen für unendliche Grenzen
+    private static final long PAST = Long.MIN_VALUE;
+    private static final long FUTURE = Long.MAX_VALUE;
+
+    // Bitmasken über den Index (inA * 2 + inB)
+    private static final int UNION = 0xE;
+    private static final int INTERSECTION = 0x8;
+    private static final int DIFFERENCE = 0x4;
+    private static final int SYMMETRIC_DIFFERENCE = 0x6;
+
+    private static final DateIntervalSet EMPTY = new DateIntervalSet(new long[0]);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // abwechselnd inklusiver Start und exklusives Ende in Tagen seit UTC-Epoche
+    private final long[] bounds;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private DateIntervalSet(long[] bounds) {
+        super();
+
+        this.bounds = bounds;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a compact set of all days contained in given interval collection.
+     * Empty intervals are ignored. </p>
+     *
+     * @param   collection  interval collection on the date axis
+     * @return  new set of disjunct blocks
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine kompakte Menge aller Tage, die in der angegebenen Intervallmenge
+     * enthalten sind. Leere Intervalle werden ignoriert. </p>
+     *
+     * @param   collection  interval collection on the date axis
+     * @return  new set of disjunct blocks
+     * @since   4.18
+     */
+    public static DateIntervalSet from(IntervalCollection<PlainDate> collection) {
+
+        List<ChronoInterval<PlainDate>> intervals = collection.getIntervals();
+
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] result = new long[intervals.size() * 2];
+        int k = 0;
+
+        for (ChronoInterval<PlainDate> interval : intervals) {
+            long start = toStart(interval.getStart());
+            long end = toEnd(interval.getEnd());
+
+            if (start >= end) {
+                continue;
+            } else if ((k > 0) && (start <= result[k - 1])) { // sortierter Input
+                result[k - 1] = Math.max(result[k - 1], end);
+            } else {
+                result[k++] = start;
+                result[k++] = end;
+            }
+        }
+
+        return create(result, k);
+
+    }
+
+    /**
+     * <p>Converts this set to an interval collection of disjunct blocks. </p>
+     *
+     * @return  IntervalCollection
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Wandelt diese Menge in eine Intervallmenge von disjunkten Bl&ouml;cken um. </p>
+     *
+     * @return  IntervalCollection
+     * @since   4.18
+     */
+    public IntervalCollection<PlainDate> toCollection() {
+
+        if (this.isEmpty()) {
+            return IntervalCollection.onDateAxis();
+        }
+
+        List<ChronoInterval<PlainDate>> intervals = new ArrayList<>(this.bounds.length / 2);
+
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            long start = this.bounds[i];
+            long end = this.bounds[i + 1];
+            intervals.add(
+                DateIntervalFactory.INSTANCE.between(
+                    (start == PAST) ? Boundary.infinitePast() : Boundary.ofClosed(toDate(start)),
+                    (end == FUTURE) ? Boundary.infiniteFuture() : Boundary.ofClosed(toDate(end - 1))));
+        }
+
+        return DateWindows.EMPTY.create(intervals);
+
+    }
+
+    /**
+     * <p>Queries if this set contains no days. </p>
+     *
+     * @return  {@code true} if empty else {@code false}
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob diese Menge keine Tage enth&auml;lt. </p>
+     *
+     * @return  {@code true} if empty else {@code false}
+     * @since   4.18
+     */
+    public boolean isEmpty() {
+
+        return (this.bounds.length == 0);
+
+    }
+
+    /**
+     * <p>Yields the count of disjunct blocks. </p>
+     *
+     * @return  count of blocks
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der disjunkten Bl&ouml;cke. </p>
+     *
+     * @return  count of blocks
+     * @since   4.18
+     */
+    public int getBlockCount() {
+
+        return this.bounds.length / 2;
+
+    }
+
+    /**
+     * <p>Queries if given date is contained in this set. </p>
+     *
+     * <p>The effort is {@code O(log n)}. </p>
+     *
+     * @param   date    calendar date to be queried
+     * @return  {@code true} if contained else {@code false}
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob das angegebene Datum in dieser Menge enthalten ist. </p>
+     *
+     * <p>Der Aufwand ist {@code O(log n)}. </p>
+     *
+     * @param   date    calendar date to be queried
+     * @return  {@code true} if contained else {@code false}
+     * @since   4.18
+     */
+    public boolean contains(PlainDate date) {
+
+        int pos = Arrays.binarySearch(this.bounds, date.getDaysSinceEpochUTC());
+        return ((pos >= 0) ? ((pos % 2) == 0) : (((-pos - 1) % 2) == 1));
+
+    }
+
+    /**
+     * <p>Determines the union of this set and given set. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days contained in any of both sets
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Vereinigung dieser und der angegebenen Menge. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days contained in any of both sets
+     * @since   4.18
+     */
+    public DateIntervalSet union(DateIntervalSet other) {
+
+        return this.combine(other, UNION);
+
+    }
+
+    /**
+     * <p>Determines the intersection of this set and given set. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days contained in both sets
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Schnittmenge dieser und der angegebenen Menge. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days contained in both sets
+     * @since   4.18
+     */
+    public DateIntervalSet intersect(DateIntervalSet other) {
+
+        return this.combine(other, INTERSECTION);
+
+    }
+
+    /**
+     * <p>Subtracts all days of given set from this set. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days of this set which are not in the other set
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Subtrahiert alle Tage der angegebenen Menge von dieser Menge. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days of this set which are not in the other set
+     * @since   4.18
+     */
+    public DateIntervalSet minus(DateIntervalSet other) {
+
+        return this.combine(other, DIFFERENCE);
+
+    }
+
+    /**
+     * <p>Determines the symmetric difference of this set and given set. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days which are in only one of both sets
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die symmetrische Differenz dieser und der angegebenen Menge. </p>
+     *
+     * @param   other   another set of dates
+     * @return  new set with all days which are in only one of both sets
+     * @since   4.18
+     */
+    public DateIntervalSet xor(DateIntervalSet other) {
+
+        return this.combine(other, SYMMETRIC_DIFFERENCE);
+
+    }
+
+    /**
+     * <p>Determines the gaps between the blocks of this set. </p>
+     *
+     * @return  new set of all days between the minimum and maximum which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withGaps()
+     */
+    /*[deutsch]
+     * <p>Ermittelt die L&uuml;cken zwischen den Bl&ouml;cken dieser Menge. </p>
+     *
+     * @return  new set of all days between the minimum and maximum which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withGaps()
+     */
+    public DateIntervalSet withGaps() {
+
+        int n = this.bounds.length;
+
+        if (n <= 2) {
+            return EMPTY;
+        }
+
+        return new DateIntervalSet(Arrays.copyOfRange(this.bounds, 1, n - 1));
+
+    }
+
+    /**
+     * <p>Determines the complement of this set within given time window. </p>
+     *
+     * @param   timeWindow  time window filter
+     * @return  new set of all days in the window which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withComplement(ChronoInterval)
+     */
+    /*[deutsch]
+     * <p>Ermittelt das Komplement dieser Menge innerhalb des angegebenen
+     * Zeitfensters. </p>
+     *
+     * @param   timeWindow  time window filter
+     * @return  new set of all days in the window which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withComplement(ChronoInterval)
+     */
+    public DateIntervalSet withComplement(ChronoInterval<PlainDate> timeWindow) {
+
+        long start = toStart(timeWindow.getStart());
+        long end = toEnd(timeWindow.getEnd());
+
+        if (start >= end) {
+            return EMPTY;
+        }
+
+        return new DateIntervalSet(new long[] {start, end}).combine(this, DIFFERENCE);
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof DateIntervalSet) {
+            DateIntervalSet that = (DateIntervalSet) obj;
+            return Arrays.equals(this.bounds, that.bounds);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Arrays.hashCode(this.bounds);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return this.toCollection().toString();
+
+    }
+
+    private DateIntervalSet combine(
+        DateIntervalSet other,
+        int operation
+    ) {
+
+        long[] a = this.bounds;
+        long[] b = other.bounds;
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        boolean inside = false;
+
+        // Sweep über alle Grenzen: i und j ungerade bedeutet innerhalb eines Blocks
+        while ((i < a.length) || (j < b.length)) {
+            long x;
+
+            if ((j == b.length) || ((i < a.length) && (a[i] < b[j]))) {
+                x = a[i++];
+            } else if ((i == a.length) || (b[j] < a[i])) {
+                x = b[j++];
+            } else {
+                x = a[i++];
+                j++;
+            }
+
+            boolean now = (((operation >> (((i & 1) << 1) | (j & 1))) & 1) != 0);
+
+            if (now != inside) {
+                result[k++] = x;
+                inside = now;
+            }
+        }
+
+        return create(result, k);
+
+    }
+
+    private static DateIntervalSet create(
+        long[] bounds,
+        int len
+    ) {
+
+        if (len == 0) {
+            return EMPTY;
+        }
+
+        return new DateIntervalSet((len == bounds.length) ? bounds : Arrays.copyOf(bounds, len));
+
+    }
+
+    private static long toStart(Boundary<PlainDate> start) {
+
+        if (start.isInfinite()) {
+            return PAST;
+        }
+
+        long days = start.getTemporal().getDaysSinceEpochUTC();
+        return (start.isOpen() ? days + 1 : days);
+
+    }
+
+    private static long toEnd(Boundary<PlainDate> end) {
+
+        if (end.isInfinite()) {
+            return FUTURE;
+        }
+
+        long days = end.getTemporal().getDaysSinceEpochUTC();
+        return (end.isClosed() ? days + 1 : days);
+
+    }
+
+    private static PlainDate toDate(long utcDays) {
+
+        return PlainDate.of(utcDays, EpochDays.UTC);
+
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IndexedSpliterator.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>Spliterator &uuml;ber einer Folge, deren k-tes Element direkt berechnet
+ * werden kann, so da&szlig; das Teilen nur {@code O(1)} kostet. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+final class IndexedSpliterator<T>
+    implements Spliterator<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int CHARACTERISTICS = ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+
+    // Teilungsgröße für unendliche Folgen
+    private static final long BATCH = 1024;
+
+    // Ergebnisse eines Tests in der Suche nach der Anzahl
+    private static final int INSIDE = 0;
+    private static final int OUTSIDE = 1;
+    private static final int OVERFLOW = 2;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final LongFunction<T> function;
+    private final boolean sized;
+    private long index;
+    private long fence;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IndexedSpliterator(
+        LongFunction<T> function,
+        long origin,
+        long fence,
+        boolean sized
+    ) {
+        super();
+
+        this.function = function;
+        this.index = origin;
+        this.fence = fence;
+        this.sized = sized;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen sequentiellen Stream mit der angegebenen Anzahl von Elementen. </p>
+     *
+     * @param   function    liefert das Element zum Index
+     * @param   count       Anzahl der Elemente oder {@code -1} f&uuml;r eine unendliche Folge
+     * @return  Stream
+     */
+    static <T> Stream<T> stream(
+        LongFunction<T> function,
+        long count
+    ) {
+
+        Spliterator<T> spliterator = (
+            (count < 0)
+            ? new IndexedSpliterator<>(function, 0, Long.MAX_VALUE, false)
+            : new IndexedSpliterator<>(function, 0, count, true));
+        return StreamSupport.stream(spliterator, false);
+
+    }
+
+    /**
+     * <p>Bestimmt die Anzahl der Elemente vom Index {@code 0} an, die die
+     * angegebene Bedingung erf&uuml;llen. </p>
+     *
+     * <p>Das Element zum Index wird in zwei Stufen berechnet: Zuerst wird
+     * der Index skaliert (zum Beispiel eine Dauer multipliziert), dann wird
+     * das Ergebnis auf den Start angewandt. Die Folge mu&szlig; monoton
+     * sein, so da&szlig; eine exponentielle und dann bin&auml;re Suche mit
+     * {@code O(log n)} Schritten ausreicht. Elemente jenseits des
+     * Wertebereichs der Zeitachse gelten als au&szlig;erhalb der Bedingung.
+     * Ein numerischer &Uuml;berlauf beim Skalieren liegt zwar auch jenseits
+     * aller berechenbaren Elemente, darf aber das Ende der Folge nicht
+     * bestimmen, weil die Folge sonst stillschweigend abgeschnitten
+     * w&uuml;rde. </p>
+     *
+     * @param   scale       skaliert den Index
+     * @param   shift       liefert das Element zum skalierten Index
+     * @param   inside      Bedingung
+     * @return  Anzahl der Elemente
+     * @throws  ArithmeticException wenn die Anzahl wegen eines numerischen
+     *          &Uuml;berlaufs nicht bestimmt werden kann
+     */
+    static <S, T> long count(
+        LongFunction<S> scale,
+        Function<S, T> shift,
+        Predicate<T> inside
+    ) {
+
+        if (test(scale, shift, 0, inside) != INSIDE) {
+            return 0;
+        }
+
+        long low = 0; // immer innerhalb
+        long high = 1;
+        int state;
+
+        while ((state = test(scale, shift, high, inside)) == INSIDE) {
+            low = high;
+            if (high > Long.MAX_VALUE / 2) {
+                throw new ArithmeticException("Count of elements out of range.");
+            }
+            high <<= 1;
+        }
+
+        int highState = state;
+
+        while (high - low > 1) {
+            long mid = (low + high) >>> 1;
+            state = test(scale, shift, mid, inside);
+            if (state == INSIDE) {
+                low = mid;
+            } else {
+                high = mid;
+                highState = state;
+            }
+        }
+
+        if (highState == OVERFLOW) {
+            throw new ArithmeticException("Element beyond index " + low + " cannot be calculated.");
+        }
+
+        return low + 1;
+
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        if (this.index < this.fence) {
+            action.accept(this.function.apply(this.index++));
+            return true;
+        }
+
+        return false;
+
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+
+        long i = this.index;
+        long n = this.fence;
+        this.index = n;
+
+        while (i < n) {
+            action.accept(this.function.apply(i++));
+        }
+
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+
+        long lo = this.index;
+        long mid;
+
+        if (this.sized) {
+            mid = lo + ((this.fence - lo) >>> 1);
+        } else {
+            mid = lo + BATCH;
+            if (mid > this.fence) {
+                return null;
+            }
+        }
+
+        if (mid <= lo) {
+            return null;
+        }
+
+        this.index = mid;
+        return new IndexedSpliterator<>(this.function, lo, mid, true);
+
+    }
+
+    @Override
+    public long estimateSize() {
+
+        return (this.fence - this.index);
+
+    }
+
+    @Override
+    public int characteristics() {
+
+        return (this.sized ? (CHARACTERISTICS | SIZED | SUBSIZED) : CHARACTERISTICS);
+
+    }
+
+    private static <S, T> int test(
+        LongFunction<S> scale,
+        Function<S, T> shift,
+        long index,
+        Predicate<T> inside
+    ) {
+
+        S scaled;
+
+        try {
+            scaled = scale.apply(index);
+        } catch (ArithmeticException ex) {
+            return OVERFLOW;
+        }
+
+        try {
+            return (inside.test(shift.apply(scaled)) ? INSIDE : OUTSIDE);
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            return OUTSIDE; // jenseits des Wertebereichs der Zeitachse
+        }
+
+    }
+
+}
@@ -30,6 +30,7 @@ import net.time4j.engine.TimeLine;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -563,6 +564,11 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
      * <p>Subtracts all timepoints of given intervals from this interval
      * collection. </p>
      *
+     * <p>The subtrahend is merged to disjunct blocks which are swept in
+     * one pass over the sorted intervals of this collection. If the intervals
+     * of this collection don't overlap each other then the effort is
+     * {@code O(n + m)} apart from sorting the given list. </p>
+     *
      * @param   intervals   list of intervals to be subtracted
      * @return  new interval collection containing all timepoints of
      *          this instance excluding those of given intervals
@@ -575,6 +581,12 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
      * <p>Subtrahiert alle in den angegebenen Zeitintervallen enthaltenen
      * Zeitpunkte von dieser Intervallmenge. </p>
      *
+     * <p>Der Subtrahend wird zu disjunkten Bl&ouml;cken zusammengefasst,
+     * die in einem Durchgang &uuml;ber die sortierten Intervalle dieser
+     * Menge abgearbeitet werden. Wenn sich die Intervalle dieser Menge nicht
+     * gegenseitig &uuml;berlappen, ist der Aufwand {@code O(n + m)}, abgesehen
+     * vom Sortieren der angegebenen Liste. </p>
+     *
      * @param   intervals   list of intervals to be subtracted
      * @return  new interval collection containing all timepoints of
      *          this instance excluding those of given intervals
@@ -596,22 +608,54 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
         List<ChronoInterval<T>> list = new ArrayList<>();
 
         for (ChronoInterval<T> i : intervals) {
-            list.add(this.adjust(i));
+            if (!i.isEmpty()) {
+                list.add(this.adjust(i));
+            }
+        }
+
+        if (list.isEmpty()) {
+            return this;
         }
 
         Collections.sort(list, this.getComparator());
-        IntervalCollection<T> subtrahend = this.create(list);
+        List<ChronoInterval<T>> blocks = this.create(list).withBlocks().intervals;
+        int first = 0;
+        int m = blocks.size();
+
+        // sweep: the disjunct blocks of the subtrahend are only visited while they can overlap
+        for (ChronoInterval<T> minuend : this.intervals) {
+            T start = minuend.getStart().getTemporal();
+
+            if (start != null) {
+                while (first < m) {
+                    T end = this.getEndExclusive(blocks.get(first));
+                    if ((end == null) || end.isAfter(start)) {
+                        break;
+                    }
+                    first++;
+                }
+            }
 
-        for (int i = 0, n = this.intervals.size(); i < n; i++) {
-            ChronoInterval<T> minuend = this.intervals.get(i);
-            IntervalCollection<T> diff = subtrahend.withComplement(minuend);
+            T end = this.getEndExclusive(minuend);
+            int last = first;
+
+            while (last < m) {
+                T s = blocks.get(last).getStart().getTemporal();
+                if ((end != null) && (s != null) && !s.isBefore(end)) {
+                    break;
+                }
+                last++;
+            }
 
-            if (!diff.isEmpty()) {
-                parts.addAll(diff.intervals);
+            if (first == last) {
+                parts.add(minuend);
+            } else {
+                IntervalCollection<T> subtrahend = this.create(blocks.subList(first, last));
+                parts.addAll(subtrahend.withComplement(minuend).intervals);
             }
         }
 
-        Collections.sort(parts, this.getComparator());
+        Collections.sort(parts, this.getComparator()); // linear for sorted parts
         return this.create(parts);
 
     }
@@ -992,6 +1036,9 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
     /**
      * <p>Determines the intersection. </p>
      *
+     * <p>Both collections are first merged to disjunct blocks which are then
+     * intersected in one merge pass. The effort is {@code O(n + m)}. </p>
+     *
      * @param   other       another interval collection
      * @return  new interval collection with disjunct blocks containing all time points in both interval collections
      * @since   3.8/4.5
@@ -999,6 +1046,10 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
     /*[deutsch]
      * <p>Ermittelt die gemeinsame Schnittmenge. </p>
      *
+     * <p>Beide Mengen werden zuerst zu disjunkten Bl&ouml;cken zusammengefasst,
+     * die dann in einem Durchgang geschnitten werden. Der Aufwand ist
+     * {@code O(n + m)}. </p>
+     *
      * @param   other       another interval collection
      * @return  new interval collection with disjunct blocks containing all time points in both interval collections
      * @since   3.8/4.5
@@ -1011,21 +1062,38 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
         }
 
         List<ChronoInterval<T>> list = new ArrayList<>();
-
-        for (ChronoInterval<T> a : this.intervals) {
-            for (ChronoInterval<T> b : other.intervals) {
-                List<ChronoInterval<T>> candidates = new ArrayList<>(2);
-                candidates.add(a);
-                candidates.add(b);
-                Collections.sort(candidates, this.getComparator());
-                candidates = this.intersect(candidates);
-                if (!candidates.isEmpty()) {
-                    list.addAll(candidates);
+        List<ChronoInterval<T>> blocks1 = this.withBlocks().intervals;
+        List<ChronoInterval<T>> blocks2 = other.withBlocks().intervals;
+        int i = 0;
+        int j = 0;
+
+        // merge of two sorted lists of disjunct blocks, always advancing the block which ends first
+        while ((i < blocks1.size()) && (j < blocks2.size())) {
+            ChronoInterval<T> a = blocks1.get(i);
+            ChronoInterval<T> b = blocks2.get(j);
+            List<ChronoInterval<T>> pair = (
+                (this.getComparator().compare(a, b) <= 0)
+                ? Arrays.asList(a, b)
+                : Arrays.asList(b, a));
+            list.addAll(this.intersect(pair));
+            T end1 = this.getEndExclusive(a);
+            T end2 = this.getEndExclusive(b);
+
+            if (end1 == null) {
+                if (end2 == null) {
+                    break;
                 }
+                j++;
+            } else if ((end2 == null) || end1.isBefore(end2)) {
+                i++;
+            } else if (end2.isBefore(end1)) {
+                j++;
+            } else {
+                i++;
+                j++;
             }
         }
 
-        Collections.sort(list, this.getComparator());
         return this.create(list).withBlocks();
 
     }
@@ -1033,6 +1101,10 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
     /**
      * <p>Determines the difference which holds all time points either in this <i>xor</i> the other collection. </p>
      *
+     * <p>The difference is the union of the intersections of each collection with the complement of the other
+     * one. Both parts are already sorted disjunct blocks and are combined in one merge pass, so the effort
+     * is {@code O(n + m)}. </p>
+     *
      * @param   other       another interval collection
      * @return  new interval collection with disjunct blocks containing all time points which are in only one
      *          of both interval collections
@@ -1041,6 +1113,10 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
     /*[deutsch]
      * <p>Ermittelt die Differenz, die alle Zeitpunkte entweder in dieser oder in der anderen enth&auml;lt. </p>
      *
+     * <p>Die Differenz ist die Vereinigung der Schnittmengen jeder Menge mit dem Komplement der jeweils anderen.
+     * Beide Teile sind schon sortierte disjunkte Bl&ouml;cke und werden in einem Durchgang zusammengef&uuml;hrt,
+     * so da&szlig; der Aufwand {@code O(n + m)} ist. </p>
+     *
      * @param   other       another interval collection
      * @return  new interval collection with disjunct blocks containing all time points which are in only one
      *          of both interval collections
@@ -1091,13 +1167,42 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
         }
 
         ChronoInterval<T> window = this.newInterval(start, end);
-        List<ChronoInterval<T>> list = new ArrayList<>();
-        IntervalCollection<T> ic1 = this.withComplement(window).intersect(other);
-        IntervalCollection<T> ic2 = other.withComplement(window).intersect(this);
-        list.addAll(ic1.getIntervals());
-        list.addAll(ic2.getIntervals());
-        Collections.sort(list, this.getComparator());
-        return this.create(list).withBlocks();
+        List<ChronoInterval<T>> blocks1 = this.withComplement(window).intersect(other).intervals;
+        List<ChronoInterval<T>> blocks2 = other.withComplement(window).intersect(this).intervals;
+        List<ChronoInterval<T>> list = new ArrayList<>(blocks1.size() + blocks2.size());
+        int i = 0;
+        int j = 0;
+
+        // both parts are sorted disjunct blocks which never overlap each other, so one merge pass is enough
+        while ((i < blocks1.size()) || (j < blocks2.size())) {
+            ChronoInterval<T> next;
+
+            if (j == blocks2.size()) {
+                next = blocks1.get(i++);
+            } else if (i == blocks1.size()) {
+                next = blocks2.get(j++);
+            } else if (this.getComparator().compare(blocks1.get(i), blocks2.get(j)) <= 0) {
+                next = blocks1.get(i++);
+            } else {
+                next = blocks2.get(j++);
+            }
+
+            int last = list.size() - 1;
+
+            if (last >= 0) {
+                ChronoInterval<T> previous = list.get(last);
+                T previousEnd = this.getEndExclusive(previous);
+
+                if ((previousEnd != null) && !previousEnd.isBefore(next.getStart().getTemporal())) {
+                    list.set(last, this.newInterval(previous.getStart(), next.getEnd())); // touching blocks
+                    continue;
+                }
+            }
+
+            list.add(next);
+        }
+
+        return this.create(list);
 
     }
 
@@ -1255,21 +1360,31 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
                 continue;
             }
 
-            List<ChronoInterval<T>> pair = new ArrayList<>(2);
-            pair.add(window);
-            pair.add(interval);
-            Collections.sort(pair, this.getComparator());
-            IntervalCollection<T> is = this.create(pair).withIntersection();
-
-            if (!is.isEmpty()) {
-                parts.add(is.getIntervals().get(0));
-            }
+            List<ChronoInterval<T>> pair = (
+                (this.getComparator().compare(window, interval) <= 0)
+                ? Arrays.asList(window, interval)
+                : Arrays.asList(interval, window));
+            parts.addAll(this.intersect(pair));
         }
 
         return this.create(parts);
 
     }
 
+    // exklusives Ende oder null für die unendliche Zukunft
+    private T getEndExclusive(ChronoInterval<T> interval) {
+
+        Boundary<T> b = interval.getEnd();
+
+        if (b.isInfinite()) {
+            return null;
+        }
+
+        T end = b.getTemporal();
+        return (b.isClosed() ? this.getTimeLine().stepForward(end) : end);
+
+    }
+
     private Boundary<T> createStartBoundary(T start) {
 
         if (start == null) {
@@ -1366,11 +1481,11 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
             s = this.createStartBoundary(latestStart);
             e = Boundary.infiniteFuture();
         } else if (this.isCalendrical()) {
-            if (!earliestEnd.isBefore(latestStart)) {
+            if ((latestStart == null) || !earliestEnd.isBefore(latestStart)) {
                 s = this.createStartBoundary(latestStart);
                 e = Boundary.ofClosed(earliestEnd);
             }
-        } else if (earliestEnd.isAfter(latestStart)) {
+        } else if ((latestStart == null) || earliestEnd.isAfter(latestStart)) {
             s = this.createStartBoundary(latestStart);
             e = Boundary.ofOpen(earliestEnd);
         }
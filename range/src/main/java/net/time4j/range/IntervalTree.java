@@ -0,0 +1,800 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalTree.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.Temporal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * <p>Represents a mutable index of intervals which supports fast queries
+ * for all intervals containing a given time point or intersecting a
+ * given interval. </p>
+ *
+ * <p>In contrast to {@link IntervalCollection} which copies and sorts its
+ * whole list of intervals with every change, this index is an augmented
+ * balanced search tree. Inserting or removing an interval costs
+ * {@code O(log n)}, and a query costs {@code O(log n + k)} where
+ * {@code k} is the count of found intervals. A snapshot in form of an
+ * {@code IntervalCollection} can be obtained at any time. </p>
+ *
+ * <p>All intervals are stored as given but found via their time points
+ * only, so empty intervals will never be found. Equal intervals can be
+ * stored several times. </p>
+ *
+ * @param   <T> generic type characterizing the associated time axis
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert einen ver&auml;nderlichen Index von Intervallen,
+ * der schnelle Abfragen nach allen Intervallen erlaubt, die einen
+ * gegebenen Zeitpunkt enthalten oder ein gegebenes Intervall
+ * schneiden. </p>
+ *
+ * <p>Im Unterschied zu {@link IntervalCollection}, die mit jeder
+ * &Auml;nderung ihre ganze Intervall-Liste kopiert und sortiert, ist
+ * dieser Index ein erweiterter balancierter Suchbaum. Das Einf&uuml;gen
+ * oder Entfernen eines Intervalls kostet {@code O(log n)}, und eine
+ * Abfrage kostet {@code O(log n + k)}, wobei {@code k} die Anzahl der
+ * gefundenen Intervalle ist. Ein Schnappschu&szlig; in Form einer
+ * {@code IntervalCollection} kann jederzeit erhalten werden. </p>
+ *
+ * <p>Alle Intervalle werden wie angegeben gespeichert, aber nur &uuml;ber
+ * ihre Zeitpunkte gefunden, so da&szlig; leere Intervalle nie gefunden
+ * werden. Gleiche Intervalle k&ouml;nnen mehrfach gespeichert
+ * werden. </p>
+ *
+ * @param   <T> generic type characterizing the associated time axis
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection
+ * @doctags.concurrency {threadsafe}
+ */
+public final class IntervalTree<T extends Temporal<? super T>> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final IntervalCollection<T> axis;
+    private final ReadWriteLock lock;
+
+    private Node<T> root;
+    private int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalTree(IntervalCollection<T> axis) {
+        super();
+
+        this.axis = axis;
+        this.lock = new ReentrantReadWriteLock();
+        this.root = null;
+        this.size = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields a new empty index on the date axis. </p>
+     *
+     * @return  empty {@code IntervalTree} for date intervals
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert einen neuen leeren Index auf der Datumsachse. </p>
+     *
+     * @return  empty {@code IntervalTree} for date intervals
+     * @since   4.18
+     */
+    public static IntervalTree<PlainDate> onDateAxis() {
+
+        return new IntervalTree<>(IntervalCollection.onDateAxis());
+
+    }
+
+    /**
+     * <p>Yields a new empty index on the walltime axis. </p>
+     *
+     * @return  empty {@code IntervalTree} for clock intervals
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert einen neuen leeren Index auf der Uhrzeitachse. </p>
+     *
+     * @return  empty {@code IntervalTree} for clock intervals
+     * @since   4.18
+     */
+    public static IntervalTree<PlainTime> onClockAxis() {
+
+        return new IntervalTree<>(IntervalCollection.onClockAxis());
+
+    }
+
+    /**
+     * <p>Yields a new empty index on the timestamp axis. </p>
+     *
+     * @return  empty {@code IntervalTree} for timestamp intervals
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert einen neuen leeren Index auf der Zeitstempelachse. </p>
+     *
+     * @return  empty {@code IntervalTree} for timestamp intervals
+     * @since   4.18
+     */
+    public static IntervalTree<PlainTimestamp> onTimestampAxis() {
+
+        return new IntervalTree<>(IntervalCollection.onTimestampAxis());
+
+    }
+
+    /**
+     * <p>Yields a new empty index on the UTC-axis. </p>
+     *
+     * @return  empty {@code IntervalTree} for moment intervals
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert einen neuen leeren Index auf der UTC-Achse. </p>
+     *
+     * @return  empty {@code IntervalTree} for moment intervals
+     * @since   4.18
+     */
+    public static IntervalTree<Moment> onMomentAxis() {
+
+        return new IntervalTree<>(IntervalCollection.onMomentAxis());
+
+    }
+
+    /**
+     * <p>Inserts given interval into this index. </p>
+     *
+     * @param   interval    the interval to be inserted
+     * @throws  IllegalArgumentException if the interval has an open start at the maximum of the time axis
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt das angegebene Intervall in diesen Index ein. </p>
+     *
+     * @param   interval    the interval to be inserted
+     * @throws  IllegalArgumentException if the interval has an open start at the maximum of the time axis
+     * @since   4.18
+     */
+    public void add(ChronoInterval<T> interval) {
+
+        T start = this.getStart(interval);
+        T end = this.getEndExclusive(interval);
+        Lock w = this.lock.writeLock();
+        w.lock();
+
+        try {
+            this.root = this.insert(this.root, start, end, interval);
+            this.size++;
+        } finally {
+            w.unlock();
+        }
+
+    }
+
+    /**
+     * <p>Inserts all given intervals into this index. </p>
+     *
+     * @param   intervals   the intervals to be inserted
+     * @throws  IllegalArgumentException if any interval has an open start at the maximum of the time axis
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt alle angegebenen Intervalle in diesen Index ein. </p>
+     *
+     * @param   intervals   the intervals to be inserted
+     * @throws  IllegalArgumentException if any interval has an open start at the maximum of the time axis
+     * @since   4.18
+     */
+    public void addAll(Collection<? extends ChronoInterval<T>> intervals) {
+
+        List<ChronoInterval<T>> list = new ArrayList<>(intervals);
+        List<T> starts = new ArrayList<>(list.size());
+        List<T> ends = new ArrayList<>(list.size());
+
+        for (ChronoInterval<T> interval : list) {
+            starts.add(this.getStart(interval));
+            ends.add(this.getEndExclusive(interval));
+        }
+
+        Lock w = this.lock.writeLock();
+        w.lock();
+
+        try {
+            for (int i = 0, n = list.size(); i < n; i++) {
+                this.root = this.insert(this.root, starts.get(i), ends.get(i), list.get(i));
+            }
+            this.size += list.size();
+        } finally {
+            w.unlock();
+        }
+
+    }
+
+    /**
+     * <p>Removes one occurrence of given interval from this index. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  {@code true} if the interval was found and removed else {@code false}
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Entfernt ein Vorkommen des angegebenen Intervalls aus diesem Index. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @return  {@code true} if the interval was found and removed else {@code false}
+     * @since   4.18
+     */
+    public boolean remove(ChronoInterval<T> interval) {
+
+        T start;
+
+        try {
+            start = this.getStart(interval);
+        } catch (IllegalArgumentException iae) {
+            return false; // kann nicht eingefügt worden sein
+        }
+
+        T end = this.getEndExclusive(interval);
+        Lock w = this.lock.writeLock();
+        w.lock();
+
+        try {
+            Node<T> node = this.root;
+
+            while (node != null) {
+                int cmp = compareKey(start, end, node);
+
+                if (cmp < 0) {
+                    node = node.left;
+                } else if (cmp > 0) {
+                    node = node.right;
+                } else if (node.values.remove(interval)) {
+                    if (node.values.isEmpty()) {
+                        this.root = this.delete(this.root, start, end);
+                    }
+                    this.size--;
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+
+            return false;
+        } finally {
+            w.unlock();
+        }
+
+    }
+
+    /**
+     * <p>Removes all intervals from this index. </p>
+     *
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Intervalle aus diesem Index. </p>
+     *
+     * @since   4.18
+     */
+    public void clear() {
+
+        Lock w = this.lock.writeLock();
+        w.lock();
+
+        try {
+            this.root = null;
+            this.size = 0;
+        } finally {
+            w.unlock();
+        }
+
+    }
+
+    /**
+     * <p>Yields the count of stored intervals. </p>
+     *
+     * @return  count of intervals including duplicates
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der gespeicherten Intervalle. </p>
+     *
+     * @return  count of intervals including duplicates
+     * @since   4.18
+     */
+    public int size() {
+
+        Lock r = this.lock.readLock();
+        r.lock();
+
+        try {
+            return this.size;
+        } finally {
+            r.unlock();
+        }
+
+    }
+
+    /**
+     * <p>Queries if this index contains no intervals. </p>
+     *
+     * @return  {@code true} if there are no intervals else {@code false}
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob dieser Index keine Intervalle enth&auml;lt. </p>
+     *
+     * @return  {@code true} if there are no intervals else {@code false}
+     * @since   4.18
+     */
+    public boolean isEmpty() {
+
+        return (this.size() == 0);
+
+    }
+
+    /**
+     * <p>Finds all intervals which contain given time point. </p>
+     *
+     * @param   timepoint   the time point to be queried
+     * @return  unmodifiable list of found intervals sorted by start and then by end
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Findet alle Intervalle, die den angegebenen Zeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the time point to be queried
+     * @return  unmodifiable list of found intervals sorted by start and then by end
+     * @since   4.18
+     */
+    public List<ChronoInterval<T>> findIntersections(T timepoint) {
+
+        if (timepoint == null) {
+            throw new NullPointerException("Missing time point.");
+        }
+
+        T end = this.axis.getTimeLine().stepForward(timepoint);
+        return this.query(timepoint, end);
+
+    }
+
+    /**
+     * <p>Finds all intervals which have at least one time point in common with given interval. </p>
+     *
+     * @param   interval    the interval to be queried
+     * @return  unmodifiable list of found intervals sorted by start and then by end
+     * @throws  IllegalArgumentException if the interval has an open start at the maximum of the time axis
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Findet alle Intervalle, die mindestens einen Zeitpunkt mit dem angegebenen Intervall
+     * gemeinsam haben. </p>
+     *
+     * @param   interval    the interval to be queried
+     * @return  unmodifiable list of found intervals sorted by start and then by end
+     * @throws  IllegalArgumentException if the interval has an open start at the maximum of the time axis
+     * @since   4.18
+     */
+    public List<ChronoInterval<T>> findIntersections(ChronoInterval<T> interval) {
+
+        T start = this.getStart(interval);
+        T end = this.getEndExclusive(interval);
+
+        if (isEmptyRange(start, end)) {
+            return Collections.emptyList();
+        }
+
+        return this.query(start, end);
+
+    }
+
+    /**
+     * <p>Creates a snapshot of all stored intervals. </p>
+     *
+     * <p>Later changes of this index have no effect on the snapshot. </p>
+     *
+     * @return  new interval collection containing all stored intervals
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Schnappschu&szlig; aller gespeicherten Intervalle. </p>
+     *
+     * <p>Sp&auml;tere &Auml;nderungen dieses Index haben keine Auswirkung
+     * auf den Schnappschu&szlig;. </p>
+     *
+     * @return  new interval collection containing all stored intervals
+     * @since   4.18
+     */
+    public IntervalCollection<T> toCollection() {
+
+        List<ChronoInterval<T>> list;
+        Lock r = this.lock.readLock();
+        r.lock();
+
+        try {
+            list = new ArrayList<>(this.size);
+            collect(this.root, list);
+        } finally {
+            r.unlock();
+        }
+
+        return this.axis.plus(list); // Sortieren ist hier linear
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "IntervalTree" + this.toCollection().getIntervals();
+
+    }
+
+    private List<ChronoInterval<T>> query(
+        T start,
+        T end
+    ) {
+
+        List<ChronoInterval<T>> found = new ArrayList<>();
+        Lock r = this.lock.readLock();
+        r.lock();
+
+        try {
+            search(this.root, start, end, found);
+        } finally {
+            r.unlock();
+        }
+
+        return Collections.unmodifiableList(found);
+
+    }
+
+    // inklusiver Start oder null für die unendliche Vergangenheit
+    private T getStart(ChronoInterval<T> interval) {
+
+        Boundary<T> b = interval.getStart();
+
+        if (b.isInfinite()) {
+            return null;
+        }
+
+        T start = b.getTemporal();
+
+        if (b.isOpen()) {
+            start = this.axis.getTimeLine().stepForward(start);
+            if (start == null) {
+                throw new IllegalArgumentException("Interval start with open maximum: " + interval);
+            }
+        }
+
+        return start;
+
+    }
+
+    // exklusives Ende oder null für die unendliche Zukunft
+    private T getEndExclusive(ChronoInterval<T> interval) {
+
+        Boundary<T> b = interval.getEnd();
+
+        if (b.isInfinite()) {
+            return null;
+        }
+
+        T end = b.getTemporal();
+        return (b.isClosed() ? this.axis.getTimeLine().stepForward(end) : end);
+
+    }
+
+    private Node<T> insert(
+        Node<T> node,
+        T start,
+        T end,
+        ChronoInterval<T> interval
+    ) {
+
+        if (node == null) {
+            return new Node<>(start, end, interval);
+        }
+
+        int cmp = compareKey(start, end, node);
+
+        if (cmp < 0) {
+            node.left = this.insert(node.left, start, end, interval);
+        } else if (cmp > 0) {
+            node.right = this.insert(node.right, start, end, interval);
+        } else {
+            node.values.add(interval);
+            return node;
+        }
+
+        return balance(node);
+
+    }
+
+    private Node<T> delete(
+        Node<T> node,
+        T start,
+        T end
+    ) {
+
+        int cmp = compareKey(start, end, node);
+
+        if (cmp < 0) {
+            node.left = this.delete(node.left, start, end);
+        } else if (cmp > 0) {
+            node.right = this.delete(node.right, start, end);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+
+        return balance(node);
+
+    }
+
+    private static <T extends Temporal<? super T>> Node<T> removeMin(Node<T> node) {
+
+        if (node.left == null) {
+            return node.right;
+        }
+
+        node.left = removeMin(node.left);
+        return balance(node);
+
+    }
+
+    private static <T extends Temporal<? super T>> Node<T> balance(Node<T> node) {
+
+        update(node);
+        int factor = height(node.left) - height(node.right);
+
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+
+    }
+
+    private static <T extends Temporal<? super T>> Node<T> rotateLeft(Node<T> node) {
+
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+
+    }
+
+    private static <T extends Temporal<? super T>> Node<T> rotateRight(Node<T> node) {
+
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+
+    }
+
+    private static <T extends Temporal<? super T>> void update(Node<T> node) {
+
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        T max = node.end;
+
+        if (node.left != null) {
+            max = maxEnd(max, node.left.maxEnd);
+        }
+
+        if (node.right != null) {
+            max = maxEnd(max, node.right.maxEnd);
+        }
+
+        node.maxEnd = max;
+
+    }
+
+    private static <T extends Temporal<? super T>> int height(Node<T> node) {
+
+        return ((node == null) ? 0 : node.height);
+
+    }
+
+    // findet alle nicht-leeren Intervalle, die [start, end) schneiden
+    private static <T extends Temporal<? super T>> void search(
+        Node<T> node,
+        T start,
+        T end,
+        List<ChronoInterval<T>> found
+    ) {
+
+        if (node == null) {
+            return;
+        }
+
+        if ((start != null) && (node.maxEnd != null) && !node.maxEnd.isAfter(start)) {
+            return; // alle Intervalle in diesem Teilbaum enden vorher
+        }
+
+        search(node.left, start, end, found);
+
+        if ((end != null) && (node.start != null) && !node.start.isBefore(end)) {
+            return; // dieser Knoten und der rechte Teilbaum beginnen danach
+        }
+
+        if (
+            !isEmptyRange(node.start, node.end)
+            && ((start == null) || (node.end == null) || node.end.isAfter(start))
+        ) {
+            found.addAll(node.values);
+        }
+
+        search(node.right, start, end, found);
+
+    }
+
+    private static <T extends Temporal<? super T>> void collect(
+        Node<T> node,
+        List<ChronoInterval<T>> list
+    ) {
+
+        if (node != null) {
+            collect(node.left, list);
+            list.addAll(node.values);
+            collect(node.right, list);
+        }
+
+    }
+
+    private static <T extends Temporal<? super T>> int compareKey(
+        T start,
+        T end,
+        Node<T> node
+    ) {
+
+        int cmp = compareStart(start, node.start);
+        return ((cmp == 0) ? compareEnd(end, node.end) : cmp);
+
+    }
+
+    private static <T extends Temporal<? super T>> int compareStart(
+        T s1,
+        T s2
+    ) {
+
+        if (s1 == null) {
+            return ((s2 == null) ? 0 : -1);
+        } else if (s2 == null) {
+            return 1;
+        }
+
+        return (s1.isBefore(s2) ? -1 : (s1.isAfter(s2) ? 1 : 0));
+
+    }
+
+    private static <T extends Temporal<? super T>> int compareEnd(
+        T e1,
+        T e2
+    ) {
+
+        if (e1 == null) {
+            return ((e2 == null) ? 0 : 1);
+        } else if (e2 == null) {
+            return -1;
+        }
+
+        return (e1.isBefore(e2) ? -1 : (e1.isAfter(e2) ? 1 : 0));
+
+    }
+
+    private static <T extends Temporal<? super T>> T maxEnd(
+        T e1,
+        T e2
+    ) {
+
+        return ((compareEnd(e1, e2) >= 0) ? e1 : e2);
+
+    }
+
+    private static <T extends Temporal<? super T>> boolean isEmptyRange(
+        T start,
+        T end
+    ) {
+
+        return ((start != null) && (end != null) && !start.isBefore(end));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Node<T extends Temporal<? super T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final T start; // inklusiv, null = unendliche Vergangenheit
+        private final T end; // exklusiv, null = unendliche Zukunft
+        private final List<ChronoInterval<T>> values;
+
+        private Node<T> left;
+        private Node<T> right;
+        private int height;
+        private T maxEnd;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Node(
+            T start,
+            T end,
+            ChronoInterval<T> interval
+        ) {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.values = new ArrayList<>(1);
+            this.values.add(interval);
+            this.left = null;
+            this.right = null;
+            this.height = 1;
+            this.maxEnd = end;
+
+        }
+
+    }
+
+}
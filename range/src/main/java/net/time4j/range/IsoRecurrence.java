@@ -21,16 +21,26 @@
 
 package net.time4j.range;
 
+import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoDateUnit;
 import net.time4j.PlainDate;
+import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.TimeSpan;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.Iso8601Format;
 
 import java.text.ParseException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static net.time4j.CalendarUnit.*;
 import static net.time4j.ClockUnit.*;
@@ -559,12 +569,228 @@ public class IsoRecurrence<I>
 
     }
 
+    /**
+     * <p>Obtains a stream of all recurrent intervals. </p>
+     *
+     * <p>If the duration consists of fixed-length units only (days, weeks
+     * or clock units) or of month-based units only then every interval is
+     * directly calculated from its index and parallel streams can split
+     * the underlying spliterator in constant time. A day of month after the
+     * 28th is truncated at the end of shorter months like in repeated
+     * addition. Otherwise, the intervals
+     * are calculated by repeated addition (or subtraction) of the duration
+     * like in {@link #iterator()}. An infinite recurrence yields an infinite
+     * stream. </p>
+     *
+     * @return  ordered stream of recurrent intervals
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Stream} aller wiederkehrenden Intervalle. </p>
+     *
+     * <p>Wenn die Dauer nur aus Einheiten fester L&auml;nge (Tage, Wochen
+     * oder Uhrzeiteinheiten) oder nur aus monatsbasierten Einheiten besteht,
+     * wird jedes Intervall direkt aus seinem Index berechnet, und parallele
+     * {@code Stream}s k&ouml;nnen den zugrundeliegenden {@code Spliterator}
+     * in konstanter Zeit teilen. Ein Tag des Monats nach dem 28. wird wie
+     * beim wiederholten Addieren am Ende k&uuml;rzerer Monate abgeschnitten.
+     * Sonst werden die Intervalle wie in
+     * {@link #iterator()} durch wiederholtes Addieren (oder Subtrahieren)
+     * der Dauer berechnet. Eine unendliche Wiederholung liefert einen
+     * unendlichen {@code Stream}. </p>
+     *
+     * @return  ordered stream of recurrent intervals
+     * @since   4.18
+     */
+    public Stream<I> stream() {
+
+        LongFunction<I> function = this.getIndexFunction();
+
+        if (function != null) {
+            return IndexedSpliterator.stream(function, this.isInfinite() ? -1 : this.count);
+        }
+
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        Spliterator<I> spliterator = (
+            this.isInfinite()
+            ? Spliterators.spliteratorUnknownSize(this.iterator(), characteristics)
+            : Spliterators.spliterator(this.iterator(), this.count, characteristics));
+        return StreamSupport.stream(spliterator, false);
+
+    }
+
+    /**
+     * <p>Obtains the recurrent interval with given index. </p>
+     *
+     * <p>If the duration consists of fixed-length units only or of month-based
+     * units only then the interval is directly calculated. Otherwise (for
+     * example if months and days are mixed) all previous intervals will be
+     * calculated by repeated addition (or subtraction) of the duration. </p>
+     *
+     * @param   index   zero-based index of interval
+     * @return  recurrent interval
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @since   4.18
+     * @see     #indexOf(PlainDate)
+     * @see     #indexOf(PlainTimestamp)
+     */
+    /*[deutsch]
+     * <p>Liefert das wiederkehrende Intervall zum angegebenen Index. </p>
+     *
+     * <p>Wenn die Dauer nur aus Einheiten fester L&auml;nge oder nur aus
+     * monatsbasierten Einheiten besteht, wird das Intervall direkt berechnet.
+     * Sonst (zum Beispiel, wenn Monate und Tage gemischt sind) werden alle
+     * vorherigen Intervalle durch wiederholtes Addieren (oder Subtrahieren)
+     * der Dauer berechnet. </p>
+     *
+     * @param   index   zero-based index of interval
+     * @return  recurrent interval
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @since   4.18
+     * @see     #indexOf(PlainDate)
+     * @see     #indexOf(PlainTimestamp)
+     */
+    public I get(int index) {
+
+        if ((index < 0) || (!this.isInfinite() && (index >= this.count))) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+        return this.iterator(index).next();
+
+    }
+
+    /**
+     * <p>Obtains an iterator which starts with the recurrent interval at
+     * given index. </p>
+     *
+     * @param   startIndex  zero-based index of first interval to be iterated
+     * @return  Iterator
+     * @throws  IndexOutOfBoundsException if the index is negative or greater than the count
+     * @since   4.18
+     * @see     #get(int)
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Iterator}, der mit dem wiederkehrenden
+     * Intervall zum angegebenen Index beginnt. </p>
+     *
+     * @param   startIndex  zero-based index of first interval to be iterated
+     * @return  Iterator
+     * @throws  IndexOutOfBoundsException if the index is negative or greater than the count
+     * @since   4.18
+     * @see     #get(int)
+     */
+    public Iterator<I> iterator(int startIndex) {
+
+        if ((startIndex < 0) || (!this.isInfinite() && (startIndex > this.count))) {
+            throw new IndexOutOfBoundsException("Index out of range: " + startIndex);
+        }
+
+        LongFunction<I> function = this.getIndexFunction();
+
+        if (function == null) {
+            Iterator<I> iter = this.iterator();
+            for (int i = 0; i < startIndex; i++) {
+                iter.next();
+            }
+            return iter;
+        }
+
+        return new ReadOnlyIterator<I, IsoRecurrence<I>>(this, startIndex) {
+            private long current = startIndex;
+            @Override
+            protected I nextInterval() {
+                return function.apply(this.current++);
+            }
+        };
+
+    }
+
+    /**
+     * <p>Determines the index of the recurrent interval which contains
+     * given calendar date. </p>
+     *
+     * <p>Recurrent timestamp intervals are queried with the start of given
+     * day. The index is calculated in logarithmic time if the duration
+     * satisfies the conditions mentioned in {@link #get(int)}, else by
+     * iterating the intervals until the date is passed. Hence the search
+     * also works for infinite recurrences. </p>
+     *
+     * @param   date    calendar date to be searched for
+     * @return  zero-based index of interval or {@code -1} if not found
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bestimmt den Index des wiederkehrenden Intervalls, das das
+     * angegebene Kalenderdatum enth&auml;lt. </p>
+     *
+     * <p>Wiederkehrende Zeitstempelintervalle werden mit dem Beginn des
+     * angegebenen Tages abgefragt. Der Index wird in logarithmischer Zeit
+     * berechnet, wenn die Dauer die in {@link #get(int)} genannten
+     * Bedingungen erf&uuml;llt, sonst durch Iterieren der Intervalle, bis das
+     * Datum &uuml;berschritten ist. Die Suche funktioniert deshalb auch mit
+     * unendlichen Wiederholungen. </p>
+     *
+     * @param   date    calendar date to be searched for
+     * @return  zero-based index of interval or {@code -1} if not found
+     * @since   4.18
+     */
+    public int indexOf(PlainDate date) {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Determines the index of the recurrent interval which contains
+     * given timestamp. </p>
+     *
+     * <p>Recurrent date intervals are queried with the calendar date of
+     * given timestamp. The index is calculated in logarithmic time if the
+     * duration satisfies the conditions mentioned in {@link #get(int)}, else
+     * by iterating the intervals until the timestamp is passed. </p>
+     *
+     * @param   timestamp   timestamp to be searched for
+     * @return  zero-based index of interval or {@code -1} if not found
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bestimmt den Index des wiederkehrenden Intervalls, das den
+     * angegebenen Zeitstempel enth&auml;lt. </p>
+     *
+     * <p>Wiederkehrende Datumsintervalle werden mit dem Kalenderdatum des
+     * angegebenen Zeitstempels abgefragt. Der Index wird in logarithmischer
+     * Zeit berechnet, wenn die Dauer die in {@link #get(int)} genannten
+     * Bedingungen erf&uuml;llt, sonst durch Iterieren der Intervalle, bis der
+     * Zeitstempel &uuml;berschritten ist. </p>
+     *
+     * @param   timestamp   timestamp to be searched for
+     * @return  zero-based index of interval or {@code -1} if not found
+     * @since   4.18
+     */
+    public int indexOf(PlainTimestamp timestamp) {
+
+        throw new AbstractMethodError();
+
+    }
+
     IsoRecurrence<I> copyWithCount(int count) {
 
         throw new AbstractMethodError();
 
     }
 
+    /**
+     * <p>Liefert das Intervall zu einem Index als Funktion. </p>
+     *
+     * @return  function or {@code null} if the intervals can only be calculated by repeated addition
+     */
+    LongFunction<I> getIndexFunction() {
+
+        throw new AbstractMethodError();
+
+    }
+
     int getType() {
 
         return this.type;
@@ -579,6 +805,126 @@ public class IsoRecurrence<I>
 
     }
 
+    // Multiplikation der Dauer ist äquivalent zur wiederholten Addition?
+    private static boolean isLinear(
+        Duration<?> duration,
+        int dayOfMonth
+    ) {
+
+        boolean fixed = true;
+        boolean monthly = true;
+
+        for (TimeSpan.Item<?> item : duration.getTotalLength()) {
+            Object unit = item.getUnit();
+
+            if ((unit == DAYS) || (unit == WEEKS) || (unit instanceof ClockUnit)) {
+                monthly = false;
+            } else if (
+                (unit == MONTHS) || (unit == QUARTERS) || (unit == YEARS)
+                || (unit == DECADES) || (unit == CENTURIES) || (unit == MILLENNIA)
+            ) {
+                fixed = false; // Monatsende kann abgeschnitten werden
+            } else {
+                return false;
+            }
+        }
+
+        return (fixed || (monthly && (dayOfMonth <= 28)));
+
+    }
+
+    // Anzahl der Monate einer rein monatsbasierten Dauer, sonst 0
+    private static long getMonths(Duration<?> duration) {
+
+        long months = 0;
+
+        try {
+            for (TimeSpan.Item<?> item : duration.getTotalLength()) {
+                Object unit = item.getUnit();
+                long factor;
+
+                if (unit == MONTHS) {
+                    factor = 1;
+                } else if (unit == QUARTERS) {
+                    factor = 3;
+                } else if (unit == YEARS) {
+                    factor = 12;
+                } else if (unit == DECADES) {
+                    factor = 120;
+                } else if (unit == CENTURIES) {
+                    factor = 1200;
+                } else if (unit == MILLENNIA) {
+                    factor = 12000;
+                } else {
+                    return 0;
+                }
+
+                months = Math.addExact(months, Math.multiplyExact(item.getAmount(), factor));
+            }
+        } catch (ArithmeticException ex) {
+            return 0;
+        }
+
+        return months;
+
+    }
+
+    /**
+     * <p>Bestimmt aus dem Index der ersten Intervallgrenze jenseits des
+     * gesuchten Punkts den Index des Intervalls, das den Punkt enth&auml;lt. </p>
+     *
+     * @param   beyond      Ist die Intervallgrenze zum Index jenseits des gesuchten Punkts?
+     * @param   estimate    gesch&auml;tzter Index
+     * @return  Index oder {@code -1}
+     */
+    int searchIndex(
+        LongPredicate beyond,
+        long estimate
+    ) {
+
+        long e = Math.max(0, Math.min(estimate, Integer.MAX_VALUE));
+        long lo; // nicht jenseits, -1 als Wächter
+        long hi; // jenseits
+        long step = 1;
+
+        if (beyond.test(e)) {
+            hi = e;
+            lo = e - 1;
+            while ((lo >= 0) && beyond.test(lo)) {
+                hi = lo;
+                step <<= 1;
+                lo = Math.max(hi - step, -1);
+            }
+        } else {
+            lo = e;
+            hi = e + 1;
+            while (!beyond.test(hi)) {
+                if (hi == Integer.MAX_VALUE + 1L) {
+                    return -1; // Index nicht als int darstellbar
+                }
+                lo = hi;
+                step <<= 1;
+                hi = Math.min(lo + step, Integer.MAX_VALUE + 1L);
+            }
+        }
+
+        while (hi - lo > 1) {
+            long mid = (lo + hi) >>> 1;
+            if (beyond.test(mid)) {
+                hi = mid;
+            } else {
+                lo = mid;
+            }
+        }
+
+        if ((lo < 0) || (!this.isInfinite() && (lo >= this.count))) {
+            return -1;
+        }
+
+        return (int) lo;
+
+    }
+
     private static int parseCount(String[] parts)
         throws ParseException {
 
@@ -646,15 +992,24 @@ public class IsoRecurrence<I>
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private int index = 0;
+        private int index;
         private R recurrence;
 
         //~ Konstruktoren -------------------------------------------------
 
         ReadOnlyIterator(R recurrence) {
+            this(recurrence, 0);
+
+        }
+
+        ReadOnlyIterator(
+            R recurrence,
+            int index
+        ) {
             super();
 
             this.recurrence = recurrence;
+            this.index = index;
 
         }
 
@@ -694,6 +1049,113 @@ public class IsoRecurrence<I>
 
     }
 
+    /**
+     * <p>Berechnet die Intervallgrenzen einer rein monatsbasierten Dauer
+     * direkt aus dem Index. </p>
+     *
+     * <p>Bei wiederholter Addition (oder Subtraktion) wird der Tag des Monats
+     * am Monatsende abgeschnitten und kann danach nie mehr steigen. Er f&auml;llt
+     * also h&ouml;chstens dreimal (31 - 30 - 29 - 28), und die Stellen werden
+     * vorab bestimmt, weil sich die Monate mit einer Periode von h&ouml;chstens
+     * zw&ouml;lf Schritten und die Schaltjahre mit einer Periode von h&ouml;chstens
+     * 400 Jahren wiederholen. </p>
+     */
+    private static class MonthlyBoundaries
+        implements LongFunction<PlainDate> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long NEVER = Long.MAX_VALUE;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long epochMonth;
+        private final long step;
+        private final int dayOfMonth;
+        private final long to30;
+        private final long to29;
+        private final long to28;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MonthlyBoundaries(
+            PlainDate ref,
+            long step
+        ) {
+            super();
+
+            this.epochMonth = ref.getYear() * 12L + ref.getMonth() - 1;
+            this.step = step;
+            this.dayOfMonth = ref.getDayOfMonth();
+
+            int month = (int) Math.floorMod(this.epochMonth, 12L); // 0 = Januar
+            int delta = (int) Math.floorMod(step, 12L);
+            long first30 = NEVER; // erster Monat mit höchstens 30 Tagen
+            long firstFebruary = NEVER;
+            long period = 0; // Anzahl der Schritte bis zum selben Monat des Jahres
+
+            for (int j = 1; j <= 12; j++) {
+                int m = (month + j * delta) % 12;
+                if ((first30 == NEVER) && ((m == 1) || (m == 3) || (m == 5) || (m == 8) || (m == 10))) {
+                    first30 = j;
+                }
+                if ((firstFebruary == NEVER) && (m == 1)) {
+                    firstFebruary = j;
+                }
+                if ((period == 0) && (m == month)) {
+                    period = j;
+                }
+            }
+
+            long firstShortFebruary = NEVER;
+
+            if (firstFebruary != NEVER) {
+                try {
+                    for (int t = 0; t < 400; t++) {
+                        long j = firstFebruary + t * period;
+                        long year = Math.floorDiv(Math.addExact(this.epochMonth, Math.multiplyExact(j, step)), 12L);
+                        if ((year < GregorianMath.MIN_YEAR) || (year > GregorianMath.MAX_YEAR)) {
+                            break;
+                        } else if (!GregorianMath.isLeapYear((int) year)) {
+                            firstShortFebruary = j;
+                            break;
+                        }
+                    }
+                } catch (ArithmeticException ex) {
+                    // jenseits des Wertebereichs
+                }
+            }
+
+            this.to30 = first30;
+            this.to29 = firstFebruary;
+            this.to28 = firstShortFebruary;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate apply(long index) {
+
+            long m = Math.addExact(this.epochMonth, Math.multiplyExact(index, this.step));
+            int year = Math.toIntExact(Math.floorDiv(m, 12L));
+            int month = (int) Math.floorMod(m, 12L) + 1;
+            int dom = this.dayOfMonth;
+
+            if (index >= this.to28) {
+                dom = Math.min(dom, 28);
+            } else if (index >= this.to29) {
+                dom = Math.min(dom, 29);
+            } else if (index >= this.to30) {
+                dom = Math.min(dom, 30);
+            }
+
+            return PlainDate.of(year, month, dom);
+
+        }
+
+    }
+
     private static class RecurrentDateIntervals
         extends IsoRecurrence<DateInterval> {
 
@@ -808,6 +1270,111 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        LongFunction<DateInterval> getIndexFunction() {
+
+            LongFunction<PlainDate> boundaries = this.getBoundaries();
+
+            if (boundaries == null) {
+                return null;
+            }
+
+            return index -> {
+                PlainDate d1 = boundaries.apply(index);
+                PlainDate d2 = boundaries.apply(index + 1);
+                Boundary<PlainDate> s;
+                Boundary<PlainDate> e;
+                if (this.isBackwards()) {
+                    s = Boundary.ofClosed(d2.plus(1, DAYS));
+                    e = Boundary.ofClosed(d1);
+                } else {
+                    s = Boundary.ofClosed(d1);
+                    e = Boundary.ofClosed(d2.minus(1, DAYS));
+                }
+                return DateIntervalFactory.INSTANCE.between(s, e);
+            };
+
+        }
+
+        @Override
+        public int indexOf(PlainDate date) {
+
+            if (this.isEmpty()) {
+                return -1;
+            }
+
+            boolean backwards = this.isBackwards();
+            LongFunction<PlainDate> boundaries = this.getBoundaries();
+
+            if (boundaries == null) {
+                int index = 0;
+                Iterator<DateInterval> iter = this.iterator();
+                try {
+                    while (iter.hasNext()) {
+                        DateInterval interval = iter.next();
+                        if (interval.contains(date)) {
+                            return index;
+                        } else if (backwards ? interval.isBefore(date) : interval.isAfter(date)) {
+                            break;
+                        }
+                        index++;
+                    }
+                } catch (ArithmeticException | IllegalArgumentException ex) {
+                    // jenseits des Wertebereichs
+                }
+                return -1;
+            }
+
+            long days = date.getDaysSinceEpochUTC() - this.ref.getDaysSinceEpochUTC();
+            long estimate = 0;
+
+            try {
+                long step = Math.abs(boundaries.apply(1).getDaysSinceEpochUTC() - this.ref.getDaysSinceEpochUTC());
+                estimate = (backwards ? -days : days) / step;
+            } catch (ArithmeticException | IllegalArgumentException ex) {
+                // keine Schätzung
+            }
+
+            return this.searchIndex(
+                index -> {
+                    try {
+                        PlainDate boundary = boundaries.apply(index);
+                        return (backwards ? boundary.isBefore(date) : boundary.isAfter(date));
+                    } catch (ArithmeticException | IllegalArgumentException ex) {
+                        return true;
+                    }
+                },
+                estimate);
+
+        }
+
+        @Override
+        public int indexOf(PlainTimestamp timestamp) {
+
+            return this.indexOf(timestamp.getCalendarDate());
+
+        }
+
+        // Intervallgrenze zum Index oder null, wenn nur wiederholte Addition möglich ist
+        private LongFunction<PlainDate> getBoundaries() {
+
+            if (isLinear(this.duration, this.ref.getDayOfMonth())) {
+                return index -> {
+                    Duration<? extends IsoDateUnit> d = this.duration.multipliedBy(index);
+                    return (this.isBackwards() ? this.ref.minus(d) : this.ref.plus(d));
+                };
+            }
+
+            long months = getMonths(this.duration);
+
+            if (months == 0) {
+                return null;
+            }
+
+            return new MonthlyBoundaries(this.ref, this.isBackwards() ? -months : months);
+
+        }
+
     }
 
     private static class RecurrentTimestampIntervals
@@ -924,6 +1491,124 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        LongFunction<TimestampInterval> getIndexFunction() {
+
+            LongFunction<PlainTimestamp> boundaries = this.getBoundaries();
+
+            if (boundaries == null) {
+                return null;
+            }
+
+            return index -> {
+                PlainTimestamp t1 = boundaries.apply(index);
+                PlainTimestamp t2 = boundaries.apply(index + 1);
+                Boundary<PlainTimestamp> s;
+                Boundary<PlainTimestamp> e;
+                if (this.isBackwards()) {
+                    s = Boundary.ofClosed(t2);
+                    e = Boundary.ofOpen(t1);
+                } else {
+                    s = Boundary.ofClosed(t1);
+                    e = Boundary.ofOpen(t2);
+                }
+                return TimestampIntervalFactory.INSTANCE.between(s, e);
+            };
+
+        }
+
+        @Override
+        public int indexOf(PlainDate date) {
+
+            return this.indexOf(date.atStartOfDay());
+
+        }
+
+        @Override
+        public int indexOf(PlainTimestamp timestamp) {
+
+            if (this.isEmpty()) {
+                return -1;
+            }
+
+            boolean backwards = this.isBackwards();
+            LongFunction<PlainTimestamp> boundaries = this.getBoundaries();
+
+            if (boundaries == null) {
+                int index = 0;
+                Iterator<TimestampInterval> iter = this.iterator();
+                try {
+                    while (iter.hasNext()) {
+                        TimestampInterval interval = iter.next();
+                        if (interval.contains(timestamp)) {
+                            return index;
+                        } else if (backwards ? interval.isBefore(timestamp) : interval.isAfter(timestamp)) {
+                            break;
+                        }
+                        index++;
+                    }
+                } catch (ArithmeticException | IllegalArgumentException ex) {
+                    // jenseits des Wertebereichs
+                }
+                return -1;
+            }
+
+            double seconds = toSeconds(timestamp) - toSeconds(this.ref);
+            long estimate = 0;
+
+            try {
+                double step = Math.abs(toSeconds(boundaries.apply(1)) - toSeconds(this.ref));
+                estimate = (long) Math.floor((backwards ? -seconds : seconds) / step);
+            } catch (ArithmeticException | IllegalArgumentException ex) {
+                // keine Schätzung
+            }
+
+            return this.searchIndex(
+                index -> {
+                    try {
+                        PlainTimestamp boundary = boundaries.apply(index);
+                        return (backwards ? !boundary.isAfter(timestamp) : boundary.isAfter(timestamp));
+                    } catch (ArithmeticException | IllegalArgumentException ex) {
+                        return true;
+                    }
+                },
+                estimate);
+
+        }
+
+        // nur für die Schätzung des Index, daher genügt double
+        private static double toSeconds(PlainTimestamp timestamp) {
+
+            return (
+                timestamp.getCalendarDate().getDaysSinceEpochUTC() * 86400.0
+                + timestamp.getWallTime().get(PlainTime.NANO_OF_DAY) / 1_000_000_000.0);
+
+        }
+
+        // Intervallgrenze zum Index oder null, wenn nur wiederholte Addition möglich ist
+        private LongFunction<PlainTimestamp> getBoundaries() {
+
+            PlainDate date = this.ref.getCalendarDate();
+
+            if (isLinear(this.duration, date.getDayOfMonth())) {
+                return index -> {
+                    Duration<?> d = this.duration.multipliedBy(index);
+                    return (this.isBackwards() ? this.ref.minus(d) : this.ref.plus(d));
+                };
+            }
+
+            long months = getMonths(this.duration);
+
+            if (months == 0) {
+                return null;
+            }
+
+            MonthlyBoundaries dates = new MonthlyBoundaries(date, this.isBackwards() ? -months : months);
+            PlainTime time = this.ref.getWallTime();
+            return index -> dates.apply(index).at(time);
+
+        }
+
     }
 
 }
\ No newline at end of file
@@ -39,6 +39,7 @@ import net.time4j.format.expert.ChronoParser;
 import net.time4j.format.expert.Iso8601Format;
 import net.time4j.format.expert.ParseLog;
 import net.time4j.format.expert.SignPolicy;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 
@@ -52,6 +53,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
 
 import static net.time4j.PlainDate.*;
 import static net.time4j.format.Attributes.PROTECTED_CHARACTERS;
@@ -81,6 +84,8 @@ public final class MomentInterval
 
     private static final long serialVersionUID = -5403584519478162113L;
 
+    private static final int MRD = 1_000_000_000;
+
     private static final ChronoFormatter<Moment> EXTENDED_ISO =
         Iso8601Format.EXTENDED_DATE_TIME_OFFSET.with(Attributes.TRAILING_CHARACTERS, true);
     private static final ChronoFormatter<Moment> BASIC_ISO =
@@ -694,6 +699,74 @@ public final class MomentInterval
 
     }
 
+    /**
+     * <p>Obtains a stream of moments starting with the start of this
+     * interval and stepping forward by given duration while the moments
+     * are still contained in this interval. </p>
+     *
+     * <p>The element with index {@code k} is calculated as start plus
+     * {@code k} times the duration so parallel streams can split the
+     * underlying sized spliterator in constant time. A duration on the
+     * UTC-scale counts leap seconds, too. </p>
+     *
+     * @param   duration    positive step width
+     * @return  ordered stream of moments
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Stream} von Momenten, der mit dem Start dieses
+     * Intervalls beginnt und um die angegebene Dauer fortschreitet, solange
+     * die Momente noch in diesem Intervall liegen. </p>
+     *
+     * <p>Das Element mit dem Index {@code k} wird als Start plus {@code k}
+     * mal die Dauer berechnet, so da&szlig; parallele {@code Stream}s den
+     * zugrundeliegenden {@code Spliterator} in konstanter Zeit teilen
+     * k&ouml;nnen. Eine Dauer auf der UTC-Skala z&auml;hlt auch
+     * Schaltsekunden. </p>
+     *
+     * @param   duration    positive step width
+     * @return  ordered stream of moments
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @since   4.18
+     */
+    public Stream<Moment> stream(MachineTime<?> duration) {
+
+        if (!duration.isPositive()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        } else if (!this.isFinite()) {
+            throw new UnsupportedOperationException("An infinite interval has no finite duration.");
+        }
+
+        Moment start = this.getTemporalOfClosedStart();
+        long seconds = duration.getSeconds();
+        long fraction = duration.getFraction();
+        boolean utc = (duration.getScale() == TimeScale.UTC);
+
+        LongFunction<Moment> function =
+            index -> {
+                // index = q * MRD + r vermeidet einen Überlauf des Nanosekundenprodukts
+                long q = index / MRD;
+                long nanos = (index % MRD) * fraction;
+                long secs =
+                    Math.addExact(
+                        Math.multiplyExact(index, seconds),
+                        Math.addExact(Math.multiplyExact(q, fraction), nanos / MRD));
+                nanos %= MRD;
+                return (
+                    utc
+                    ? start.plus(secs, SI.SECONDS).plus(nanos, SI.NANOSECONDS)
+                    : start.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS));
+            };
+
+        // ein Überlauf der Sekunden liegt weit jenseits der Zeitachse
+        long count = IndexedSpliterator.count(Long::valueOf, function::apply, this::contains);
+        return IndexedSpliterator.stream(function, count);
+
+    }
+
     /**
      * <p>Interpretes given text as interval using a localized interval pattern. </p>
      *
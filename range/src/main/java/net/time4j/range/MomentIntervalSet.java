@@ -0,0 +1,569 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MomentIntervalSet.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * <p>Represents a compact set of moments stored as sorted disjunct blocks
+ * in primitive arrays of posix seconds and nanoseconds. </p>
+ *
+ * <p>An {@code IntervalCollection} of moments holds several objects per
+ * interval (interval, boundaries and moments). This class only holds one
+ * {@code long}- and one {@code int}-value per boundary and is therefore
+ * suitable for large resource calendars. Intervals which overlap or touch
+ * each other are always merged to half-open blocks so this class models a
+ * set of moments rather than a list of intervals. Leap seconds are
+ * preserved. The set operations work in one linear pass over both sets.
+ * Conversions from and to {@code IntervalCollection} are available on
+ * demand. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection#withBlocks()
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert eine kompakte Menge von Momenten, die als sortierte
+ * disjunkte Bl&ouml;cke in primitiven Arrays von POSIX-Sekunden und
+ * Nanosekunden gespeichert werden. </p>
+ *
+ * <p>Eine {@code IntervalCollection} von Momenten h&auml;lt mehrere Objekte
+ * pro Intervall (Intervall, Grenzen und Momente). Diese Klasse h&auml;lt
+ * nur einen {@code long}- und einen {@code int}-Wert pro Grenze und eignet
+ * sich deshalb f&uuml;r gro&szlig;e Ressourcenkalender. Intervalle, die sich
+ * &uuml;berlappen oder ber&uuml;hren, werden immer zu halb-offenen
+ * Bl&ouml;cken zusammengefasst, so da&szlig; diese Klasse eher eine Menge
+ * von Momenten als eine Liste von Intervallen darstellt. Schaltsekunden
+ * bleiben erhalten. Die Mengenoperationen arbeiten in einem linearen
+ * Durchgang &uuml;ber beide Mengen. Umwandlungen von und nach
+ * {@code IntervalCollection} sind bei Bedarf verf&uuml;gbar. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection#withBlocks()
+ * @doctags.concurrency {immutable}
+ */
+public final class MomentIntervalSet {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // Markierungen für unendliche Grenzen
+    private static final long PAST = Long.MIN_VALUE;
+    private static final long FUTURE = Long.MAX_VALUE;
+
+    // Schaltsekunden werden als Nanosekunden jenseits der vollen Sekunde kodiert
+    private static final int MRD = 1_000_000_000;
+
+    // Bitmasken über den Index (inA * 2 + inB)
+    private static final int UNION = 0xE;
+    private static final int INTERSECTION = 0x8;
+    private static final int DIFFERENCE = 0x4;
+    private static final int SYMMETRIC_DIFFERENCE = 0x6;
+
+    private static final MomentIntervalSet EMPTY = new MomentIntervalSet(new long[0], new int[0]);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    // abwechselnd inklusiver Start und exklusives Ende
+    private final long[] seconds;
+    private final int[] nanos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MomentIntervalSet(
+        long[] seconds,
+        int[] nanos
+    ) {
+        super();
+
+        this.seconds = seconds;
+        this.nanos = nanos;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a compact set of all moments contained in given interval collection.
+     * Empty intervals are ignored. </p>
+     *
+     * @param   collection  interval collection on the UTC-axis
+     * @return  new set of disjunct blocks
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine kompakte Menge aller Momente, die in der angegebenen Intervallmenge
+     * enthalten sind. Leere Intervalle werden ignoriert. </p>
+     *
+     * @param   collection  interval collection on the UTC-axis
+     * @return  new set of disjunct blocks
+     * @since   4.18
+     */
+    public static MomentIntervalSet from(IntervalCollection<Moment> collection) {
+
+        List<ChronoInterval<Moment>> intervals = collection.getIntervals();
+
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+
+        int len = intervals.size() * 2;
+        long[] s = new long[len];
+        int[] n = new int[len];
+        int k = 0;
+
+        for (ChronoInterval<Moment> interval : intervals) {
+            Moment start = toStart(interval.getStart());
+            Moment end = toEnd(interval.getEnd());
+            long ss = ((start == null) ? PAST : start.getPosixTime());
+            int sn = ((start == null) ? 0 : getNanos(start));
+            long es = ((end == null) ? FUTURE : end.getPosixTime());
+            int en = ((end == null) ? 0 : getNanos(end));
+
+            if (compare(ss, sn, es, en) >= 0) {
+                continue;
+            } else if ((k > 0) && (compare(ss, sn, s[k - 1], n[k - 1]) <= 0)) { // sortierter Input
+                if (compare(es, en, s[k - 1], n[k - 1]) > 0) {
+                    s[k - 1] = es;
+                    n[k - 1] = en;
+                }
+            } else {
+                s[k] = ss;
+                n[k++] = sn;
+                s[k] = es;
+                n[k++] = en;
+            }
+        }
+
+        return create(s, n, k);
+
+    }
+
+    /**
+     * <p>Converts this set to an interval collection of disjunct half-open blocks. </p>
+     *
+     * @return  IntervalCollection
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Wandelt diese Menge in eine Intervallmenge von disjunkten halb-offenen Bl&ouml;cken um. </p>
+     *
+     * @return  IntervalCollection
+     * @since   4.18
+     */
+    public IntervalCollection<Moment> toCollection() {
+
+        if (this.isEmpty()) {
+            return IntervalCollection.onMomentAxis();
+        }
+
+        List<ChronoInterval<Moment>> intervals = new ArrayList<>(this.seconds.length / 2);
+
+        for (int i = 0; i < this.seconds.length; i += 2) {
+            long start = this.seconds[i];
+            long end = this.seconds[i + 1];
+            intervals.add(
+                MomentIntervalFactory.INSTANCE.between(
+                    (start == PAST)
+                        ? Boundary.infinitePast()
+                        : Boundary.ofClosed(toMoment(start, this.nanos[i])),
+                    (end == FUTURE)
+                        ? Boundary.infiniteFuture()
+                        : Boundary.ofOpen(toMoment(end, this.nanos[i + 1]))));
+        }
+
+        return MomentWindows.EMPTY.create(intervals);
+
+    }
+
+    /**
+     * <p>Queries if this set contains no moments. </p>
+     *
+     * @return  {@code true} if empty else {@code false}
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob diese Menge keine Momente enth&auml;lt. </p>
+     *
+     * @return  {@code true} if empty else {@code false}
+     * @since   4.18
+     */
+    public boolean isEmpty() {
+
+        return (this.seconds.length == 0);
+
+    }
+
+    /**
+     * <p>Yields the count of disjunct blocks. </p>
+     *
+     * @return  count of blocks
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der disjunkten Bl&ouml;cke. </p>
+     *
+     * @return  count of blocks
+     * @since   4.18
+     */
+    public int getBlockCount() {
+
+        return this.seconds.length / 2;
+
+    }
+
+    /**
+     * <p>Queries if given moment is contained in this set. </p>
+     *
+     * <p>The effort is {@code O(log n)}. </p>
+     *
+     * @param   moment  moment to be queried
+     * @return  {@code true} if contained else {@code false}
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob der angegebene Moment in dieser Menge enthalten ist. </p>
+     *
+     * <p>Der Aufwand ist {@code O(log n)}. </p>
+     *
+     * @param   moment  moment to be queried
+     * @return  {@code true} if contained else {@code false}
+     * @since   4.18
+     */
+    public boolean contains(Moment moment) {
+
+        long s = moment.getPosixTime();
+        int n = getNanos(moment);
+        int low = 0;
+        int high = this.seconds.length - 1;
+
+        // Anzahl der Grenzen kleiner oder gleich dem Moment
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(this.seconds[mid], this.nanos[mid], s, n) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return ((low % 2) == 1);
+
+    }
+
+    /**
+     * <p>Determines the union of this set and given set. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments contained in any of both sets
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Vereinigung dieser und der angegebenen Menge. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments contained in any of both sets
+     * @since   4.18
+     */
+    public MomentIntervalSet union(MomentIntervalSet other) {
+
+        return this.combine(other, UNION);
+
+    }
+
+    /**
+     * <p>Determines the intersection of this set and given set. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments contained in both sets
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Schnittmenge dieser und der angegebenen Menge. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments contained in both sets
+     * @since   4.18
+     */
+    public MomentIntervalSet intersect(MomentIntervalSet other) {
+
+        return this.combine(other, INTERSECTION);
+
+    }
+
+    /**
+     * <p>Subtracts all moments of given set from this set. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments of this set which are not in the other set
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Subtrahiert alle Momente der angegebenen Menge von dieser Menge. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments of this set which are not in the other set
+     * @since   4.18
+     */
+    public MomentIntervalSet minus(MomentIntervalSet other) {
+
+        return this.combine(other, DIFFERENCE);
+
+    }
+
+    /**
+     * <p>Determines the symmetric difference of this set and given set. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments which are in only one of both sets
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Ermittelt die symmetrische Differenz dieser und der angegebenen Menge. </p>
+     *
+     * @param   other   another set of moments
+     * @return  new set with all moments which are in only one of both sets
+     * @since   4.18
+     */
+    public MomentIntervalSet xor(MomentIntervalSet other) {
+
+        return this.combine(other, SYMMETRIC_DIFFERENCE);
+
+    }
+
+    /**
+     * <p>Determines the gaps between the blocks of this set. </p>
+     *
+     * @return  new set of all moments between the minimum and maximum which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withGaps()
+     */
+    /*[deutsch]
+     * <p>Ermittelt die L&uuml;cken zwischen den Bl&ouml;cken dieser Menge. </p>
+     *
+     * @return  new set of all moments between the minimum and maximum which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withGaps()
+     */
+    public MomentIntervalSet withGaps() {
+
+        int len = this.seconds.length;
+
+        if (len <= 2) {
+            return EMPTY;
+        }
+
+        return new MomentIntervalSet(
+            Arrays.copyOfRange(this.seconds, 1, len - 1),
+            Arrays.copyOfRange(this.nanos, 1, len - 1));
+
+    }
+
+    /**
+     * <p>Determines the complement of this set within given time window. </p>
+     *
+     * @param   timeWindow  time window filter
+     * @return  new set of all moments in the window which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withComplement(ChronoInterval)
+     */
+    /*[deutsch]
+     * <p>Ermittelt das Komplement dieser Menge innerhalb des angegebenen
+     * Zeitfensters. </p>
+     *
+     * @param   timeWindow  time window filter
+     * @return  new set of all moments in the window which are not in this set
+     * @since   4.18
+     * @see     IntervalCollection#withComplement(ChronoInterval)
+     */
+    public MomentIntervalSet withComplement(ChronoInterval<Moment> timeWindow) {
+
+        MomentIntervalSet window = from(IntervalCollection.onMomentAxis().plus(timeWindow));
+        return window.combine(this, DIFFERENCE);
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof MomentIntervalSet) {
+            MomentIntervalSet that = (MomentIntervalSet) obj;
+            return (Arrays.equals(this.seconds, that.seconds) && Arrays.equals(this.nanos, that.nanos));
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Arrays.hashCode(this.seconds) + Arrays.hashCode(this.nanos);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return this.toCollection().toString();
+
+    }
+
+    private MomentIntervalSet combine(
+        MomentIntervalSet other,
+        int operation
+    ) {
+
+        long[] as = this.seconds;
+        int[] an = this.nanos;
+        long[] bs = other.seconds;
+        int[] bn = other.nanos;
+        int len = as.length + bs.length;
+        long[] s = new long[len];
+        int[] n = new int[len];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        boolean inside = false;
+
+        // Sweep über alle Grenzen: i und j ungerade bedeutet innerhalb eines Blocks
+        while ((i < as.length) || (j < bs.length)) {
+            long xs;
+            int xn;
+            int cmp = (
+                (j == bs.length) ? -1
+                : ((i == as.length) ? 1 : compare(as[i], an[i], bs[j], bn[j])));
+
+            if (cmp <= 0) {
+                xs = as[i];
+                xn = an[i++];
+                if (cmp == 0) {
+                    j++;
+                }
+            } else {
+                xs = bs[j];
+                xn = bn[j++];
+            }
+
+            boolean now = (((operation >> (((i & 1) << 1) | (j & 1))) & 1) != 0);
+
+            if (now != inside) {
+                s[k] = xs;
+                n[k++] = xn;
+                inside = now;
+            }
+        }
+
+        return create(s, n, k);
+
+    }
+
+    private static MomentIntervalSet create(
+        long[] seconds,
+        int[] nanos,
+        int len
+    ) {
+
+        if (len == 0) {
+            return EMPTY;
+        } else if (len == seconds.length) {
+            return new MomentIntervalSet(seconds, nanos);
+        }
+
+        return new MomentIntervalSet(Arrays.copyOf(seconds, len), Arrays.copyOf(nanos, len));
+
+    }
+
+    private static int compare(
+        long s1,
+        int n1,
+        long s2,
+        int n2
+    ) {
+
+        return ((s1 < s2) ? -1 : ((s1 > s2) ? 1 : Integer.compare(n1, n2)));
+
+    }
+
+    // inklusiver Start oder null für die unendliche Vergangenheit
+    private static Moment toStart(Boundary<Moment> start) {
+
+        if (start.isInfinite()) {
+            return null;
+        }
+
+        Moment m = start.getTemporal();
+
+        if (start.isOpen()) {
+            m = Moment.axis().stepForward(m);
+            if (m == null) {
+                throw new IllegalArgumentException("Interval start with open maximum.");
+            }
+        }
+
+        return m;
+
+    }
+
+    // exklusives Ende oder null für die unendliche Zukunft
+    private static Moment toEnd(Boundary<Moment> end) {
+
+        if (end.isInfinite()) {
+            return null;
+        }
+
+        Moment m = end.getTemporal();
+        return (end.isClosed() ? Moment.axis().stepForward(m) : m);
+
+    }
+
+    private static int getNanos(Moment moment) {
+
+        int n = moment.getNanosecond();
+        return (moment.isLeapSecond() ? n + MRD : n);
+
+    }
+
+    private static Moment toMoment(
+        long posixTime,
+        int nanos
+    ) {
+
+        if (nanos >= MRD) {
+            return Moment.of(posixTime, nanos - MRD, TimeScale.POSIX).plus(1, SI.SECONDS);
+        }
+
+        return Moment.of(posixTime, nanos, TimeScale.POSIX);
+
+    }
+
+}
@@ -50,6 +50,8 @@ import java.text.ParseException;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
 
 import static net.time4j.PlainDate.*;
 import static net.time4j.range.IntervalEdge.CLOSED;
@@ -645,6 +647,54 @@ public final class TimestampInterval
 
     }
 
+    /**
+     * <p>Obtains a stream of timestamps starting with the start of this
+     * interval and stepping forward by given duration while the timestamps
+     * are still contained in this interval. </p>
+     *
+     * <p>The element with index {@code k} is calculated as start plus
+     * {@code k} times the duration so parallel streams can split the
+     * underlying sized spliterator in constant time. </p>
+     *
+     * @param   duration    positive step width
+     * @return  ordered stream of timestamps
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the count of timestamps cannot be calculated due to numerical overflow
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Stream} von Zeitstempeln, der mit dem Start
+     * dieses Intervalls beginnt und um die angegebene Dauer fortschreitet,
+     * solange die Zeitstempel noch in diesem Intervall liegen. </p>
+     *
+     * <p>Das Element mit dem Index {@code k} wird als Start plus {@code k}
+     * mal die Dauer berechnet, so da&szlig; parallele {@code Stream}s den
+     * zugrundeliegenden {@code Spliterator} in konstanter Zeit teilen
+     * k&ouml;nnen. </p>
+     *
+     * @param   duration    positive step width
+     * @return  ordered stream of timestamps
+     * @throws  IllegalArgumentException if the duration is not positive
+     * @throws  UnsupportedOperationException if this interval is infinite
+     * @throws  ArithmeticException if the count of timestamps cannot be calculated due to numerical overflow
+     * @since   4.18
+     */
+    public Stream<PlainTimestamp> stream(Duration<?> duration) {
+
+        if (!duration.isPositive()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        } else if (!this.isFinite()) {
+            throw new UnsupportedOperationException("An infinite interval has no finite duration.");
+        }
+
+        PlainTimestamp start = this.getTemporalOfClosedStart();
+        LongFunction<Duration<?>> scale = duration::multipliedBy;
+        LongFunction<PlainTimestamp> function = index -> start.plus(scale.apply(index));
+        return IndexedSpliterator.stream(function, IndexedSpliterator.count(scale, start::plus, this::contains));
+
+    }
+
     /**
      * <p>Interpretes given text as interval using a localized interval pattern. </p>
      *
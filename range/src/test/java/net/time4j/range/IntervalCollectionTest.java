@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
@@ -9,7 +10,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
+import net.time4j.engine.Temporal;
 import net.time4j.scale.TimeScale;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -1009,4 +1012,161 @@ public class IntervalCollectionTest {
         assertThat(result, is(expected));
     }
 
+    @Test
+    public void xorWithTouchingBlocks() {
+        Moment d0 = Moment.of(0, TimeScale.POSIX);
+        Moment d1 = Moment.of(1, TimeScale.POSIX);
+        Moment d2 = Moment.of(2, TimeScale.POSIX);
+        Moment d3 = Moment.of(3, TimeScale.POSIX);
+        Moment d4 = Moment.of(4, TimeScale.POSIX);
+        Moment d5 = Moment.of(5, TimeScale.POSIX);
+
+        IntervalCollection<Moment> a =
+            IntervalCollection.onMomentAxis().plus(MomentInterval.between(d0, d3));
+        IntervalCollection<Moment> b =
+            IntervalCollection.onMomentAxis()
+                .plus(MomentInterval.between(d1, d2))
+                .plus(MomentInterval.between(d3, d5));
+        IntervalCollection<Moment> expected =
+            IntervalCollection.onMomentAxis()
+                .plus(MomentInterval.between(d0, d1))
+                .plus(MomentInterval.between(d2, d5));
+        assertThat(a.xor(b), is(expected));
+        assertThat(b.xor(a), is(expected));
+
+        IntervalCollection<Moment> c =
+            IntervalCollection.onMomentAxis()
+                .plus(MomentInterval.between(d0, d2))
+                .plus(MomentInterval.between(d4, d5));
+        IntervalCollection<Moment> d =
+            IntervalCollection.onMomentAxis().plus(MomentInterval.between(d2, d4));
+        IntervalCollection<Moment> all =
+            IntervalCollection.onMomentAxis().plus(MomentInterval.between(d0, d5));
+        assertThat(c.xor(d), is(all));
+        assertThat(d.xor(c), is(all));
+        assertThat(c.xor(d).getIntervals().size(), is(1));
+    }
+
+    @Test
+    public void xorWithTouchingDateBlocks() {
+        PlainDate start = PlainDate.of(2016, 1, 1);
+        IntervalCollection<PlainDate> a =
+            IntervalCollection.onDateAxis()
+                .plus(DateInterval.between(start, PlainDate.of(2016, 1, 10)))
+                .plus(DateInterval.between(PlainDate.of(2016, 1, 21), PlainDate.of(2016, 1, 31)));
+        IntervalCollection<PlainDate> b =
+            IntervalCollection.onDateAxis()
+                .plus(DateInterval.between(PlainDate.of(2016, 1, 11), PlainDate.of(2016, 1, 20)));
+        IntervalCollection<PlainDate> expected =
+            IntervalCollection.onDateAxis()
+                .plus(DateInterval.between(start, PlainDate.of(2016, 1, 31)));
+        assertThat(a.xor(b), is(expected));
+        assertThat(b.xor(a), is(expected));
+    }
+
+    @Test
+    public void setOperationsOnDateAxisRandomized() {
+        Random random = new Random(4711);
+        PlainDate origin = PlainDate.of(2000, 1, 1);
+        for (int run = 0; run < 200; run++) {
+            IntervalCollection<PlainDate> a = IntervalCollection.onDateAxis().plus(randomDateIntervals(random));
+            IntervalCollection<PlainDate> b = IntervalCollection.onDateAxis().plus(randomDateIntervals(random));
+            IntervalCollection<PlainDate> intersection = a.intersect(b);
+            IntervalCollection<PlainDate> difference = a.minus(b);
+            IntervalCollection<PlainDate> symmetric = a.xor(b);
+            assertThat(intersection.withBlocks(), is(intersection));
+            assertThat(symmetric.withBlocks(), is(symmetric));
+            IntervalCollection<PlainDate> sequential = a;
+            for (ChronoInterval<PlainDate> interval : b.getIntervals()) {
+                sequential = sequential.minus(interval);
+            }
+            assertThat(difference, is(sequential));
+            for (int day = -5; day <= 130; day++) {
+                PlainDate date = origin.plus(day, CalendarUnit.DAYS);
+                boolean inA = contains(a, date);
+                boolean inB = contains(b, date);
+                String msg = a + " / " + b + " @ " + date;
+                assertThat(msg, contains(intersection, date), is(inA && inB));
+                assertThat(msg, contains(difference, date), is(inA && !inB));
+                assertThat(msg, contains(symmetric, date), is(inA != inB));
+            }
+        }
+    }
+
+    @Test
+    public void setOperationsOnMomentAxisRandomized() {
+        Random random = new Random(815);
+        for (int run = 0; run < 200; run++) {
+            IntervalCollection<Moment> a = IntervalCollection.onMomentAxis().plus(randomMomentIntervals(random));
+            IntervalCollection<Moment> b = IntervalCollection.onMomentAxis().plus(randomMomentIntervals(random));
+            IntervalCollection<Moment> intersection = a.intersect(b);
+            IntervalCollection<Moment> difference = a.minus(b);
+            IntervalCollection<Moment> symmetric = a.xor(b);
+            assertThat(intersection.withBlocks(), is(intersection));
+            assertThat(symmetric.withBlocks(), is(symmetric));
+            IntervalCollection<Moment> sequential = a;
+            for (ChronoInterval<Moment> interval : b.getIntervals()) {
+                sequential = sequential.minus(interval);
+            }
+            assertThat(difference, is(sequential));
+            for (int halfSeconds = -10; halfSeconds <= 260; halfSeconds++) {
+                Moment moment = Moment.of(halfSeconds / 2, (halfSeconds % 2 == 0) ? 0 : 500_000_000, TimeScale.POSIX);
+                if (halfSeconds < 0) {
+                    moment = Moment.of(-1 - (-halfSeconds) / 2, (halfSeconds % 2 == 0) ? 0 : 500_000_000, TimeScale.POSIX);
+                }
+                boolean inA = contains(a, moment);
+                boolean inB = contains(b, moment);
+                String msg = a + " / " + b + " @ " + moment;
+                assertThat(msg, contains(intersection, moment), is(inA && inB));
+                assertThat(msg, contains(difference, moment), is(inA && !inB));
+                assertThat(msg, contains(symmetric, moment), is(inA != inB));
+            }
+        }
+    }
+
+    private static List<ChronoInterval<PlainDate>> randomDateIntervals(Random random) {
+        PlainDate origin = PlainDate.of(2000, 1, 1);
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>();
+        for (int i = random.nextInt(12); i >= 0; i--) {
+            PlainDate start = origin.plus(random.nextInt(120), CalendarUnit.DAYS);
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                list.add(DateInterval.since(start));
+            } else if (kind == 1) {
+                list.add(DateInterval.until(start));
+            } else {
+                list.add(DateInterval.between(start, start.plus(random.nextInt(15), CalendarUnit.DAYS)));
+            }
+        }
+        return list;
+    }
+
+    private static List<ChronoInterval<Moment>> randomMomentIntervals(Random random) {
+        List<ChronoInterval<Moment>> list = new ArrayList<>();
+        for (int i = random.nextInt(12); i >= 0; i--) {
+            Moment start = Moment.of(random.nextInt(120), TimeScale.POSIX);
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                list.add(MomentInterval.since(start));
+            } else {
+                MomentInterval interval =
+                    MomentInterval.between(start, Moment.of(start.getPosixTime() + random.nextInt(15), TimeScale.POSIX));
+                list.add((kind < 5) ? interval.withClosedEnd() : interval);
+            }
+        }
+        return list;
+    }
+
+    private static <T extends Temporal<? super T>> boolean contains(
+        IntervalCollection<T> collection,
+        T temporal
+    ) {
+        for (ChronoInterval<T> interval : collection.getIntervals()) {
+            if (interval.contains(temporal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
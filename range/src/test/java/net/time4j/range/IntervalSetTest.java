@@ -0,0 +1,210 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.engine.Temporal;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalSetTest {
+
+    @Test
+    public void dateRoundTrip() {
+        IntervalCollection<PlainDate> coll =
+            IntervalCollection.onDateAxis().plus(
+                DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2016, 1, 10))
+            ).plus(
+                DateInterval.between(PlainDate.of(2016, 1, 11), PlainDate.of(2016, 1, 20))
+            ).plus(
+                DateInterval.between(PlainDate.of(2016, 1, 15), PlainDate.of(2016, 2, 20))
+            ).plus(
+                DateInterval.since(PlainDate.of(2016, 3, 1))
+            );
+        DateIntervalSet set = DateIntervalSet.from(coll);
+        assertThat(set.getBlockCount(), is(2));
+        assertThat(set.toCollection(), is(coll.withBlocks()));
+        assertThat(DateIntervalSet.from(set.toCollection()), is(set));
+        assertThat(set.contains(PlainDate.of(2015, 12, 31)), is(false));
+        assertThat(set.contains(PlainDate.of(2016, 1, 1)), is(true));
+        assertThat(set.contains(PlainDate.of(2016, 2, 20)), is(true));
+        assertThat(set.contains(PlainDate.of(2016, 2, 21)), is(false));
+        assertThat(set.contains(PlainDate.axis().getMaximum()), is(true));
+        assertThat(set.withGaps().toCollection(), is(coll.withGaps()));
+    }
+
+    @Test
+    public void dateInfiniteBoundaries() {
+        IntervalCollection<PlainDate> coll =
+            IntervalCollection.onDateAxis().plus(DateInterval.until(PlainDate.of(2016, 1, 1)));
+        DateIntervalSet set = DateIntervalSet.from(coll);
+        DateIntervalSet all = set.union(DateIntervalSet.from(
+            IntervalCollection.onDateAxis().plus(DateInterval.since(PlainDate.of(2016, 1, 2)))));
+        assertThat(all.getBlockCount(), is(1));
+        assertThat(all.contains(PlainDate.axis().getMinimum()), is(true));
+        assertThat(all.contains(PlainDate.axis().getMaximum()), is(true));
+        assertThat(all.toCollection().getIntervals().get(0).getStart().isInfinite(), is(true));
+        assertThat(all.toCollection().getIntervals().get(0).getEnd().isInfinite(), is(true));
+        assertThat(
+            set.withComplement(DateInterval.between(PlainDate.of(2015, 12, 30), PlainDate.of(2016, 1, 5))),
+            is(DateIntervalSet.from(IntervalCollection.onDateAxis().plus(
+                DateInterval.between(PlainDate.of(2016, 1, 2), PlainDate.of(2016, 1, 5))))));
+    }
+
+    @Test
+    public void dateOperationsSameAsIntervalCollection() {
+        Random random = new Random(2016);
+        for (int run = 0; run < 300; run++) {
+            IntervalCollection<PlainDate> a = IntervalCollection.onDateAxis().plus(randomDateIntervals(random));
+            IntervalCollection<PlainDate> b = IntervalCollection.onDateAxis().plus(randomDateIntervals(random));
+            DateIntervalSet sa = DateIntervalSet.from(a);
+            DateIntervalSet sb = DateIntervalSet.from(b);
+            assertThat(sa.union(sb).toCollection(), is(a.union(b)));
+            assertThat(sa.intersect(sb).toCollection(), is(a.intersect(b)));
+            assertThat(sa.minus(sb).toCollection(), is(a.minus(b).withBlocks()));
+            assertThat(sa.xor(sb).toCollection(), is(a.xor(b)));
+            assertThat(sa.withGaps().toCollection(), is(withoutEmptyIntervals(a).withGaps()));
+        }
+    }
+
+    @Test
+    public void emptySets() {
+        DateIntervalSet empty = DateIntervalSet.from(IntervalCollection.onDateAxis());
+        assertThat(empty.isEmpty(), is(true));
+        assertThat(empty.toCollection().isEmpty(), is(true));
+        assertThat(empty.contains(PlainDate.of(2016, 1, 1)), is(false));
+        MomentIntervalSet none = MomentIntervalSet.from(IntervalCollection.onMomentAxis());
+        assertThat(none.isEmpty(), is(true));
+        assertThat(none.union(none), is(none));
+        assertThat(none.withGaps(), is(none));
+    }
+
+    @Test
+    public void momentRoundTripWithClosedEnd() {
+        Moment m1 = Moment.of(1000, TimeScale.POSIX);
+        Moment m2 = Moment.of(2000, 5, TimeScale.POSIX);
+        IntervalCollection<Moment> coll =
+            IntervalCollection.onMomentAxis().plus(MomentInterval.between(m1, m2).withClosedEnd());
+        MomentIntervalSet set = MomentIntervalSet.from(coll);
+        assertThat(set.contains(m2), is(true));
+        assertThat(set.contains(Moment.of(2000, 6, TimeScale.POSIX)), is(false));
+        assertThat(set.toCollection(), is(not(coll)));
+        assertThat(
+            set.toCollection(),
+            is(IntervalCollection.onMomentAxis().plus(
+                MomentInterval.between(m1, Moment.of(2000, 6, TimeScale.POSIX)))));
+    }
+
+    @Test
+    public void momentLeapSecond() {
+        Moment leap = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        assertThat(leap.isLeapSecond(), is(true));
+        Moment next = leap.plus(1, SI.SECONDS);
+        MomentIntervalSet set =
+            MomentIntervalSet.from(IntervalCollection.onMomentAxis().plus(MomentInterval.between(leap, next)));
+        assertThat(set.contains(leap), is(true));
+        assertThat(set.contains(leap.minus(1, SI.SECONDS)), is(false));
+        assertThat(set.contains(next), is(false));
+        Moment start = set.toCollection().getIntervals().get(0).getStart().getTemporal();
+        assertThat(start.isLeapSecond(), is(true));
+        assertThat(start, is(leap));
+    }
+
+    @Test
+    public void momentOperationsSameAsIntervalCollection() {
+        Random random = new Random(4711);
+        for (int run = 0; run < 300; run++) {
+            IntervalCollection<Moment> a = IntervalCollection.onMomentAxis().plus(randomMomentIntervals(random));
+            IntervalCollection<Moment> b = IntervalCollection.onMomentAxis().plus(randomMomentIntervals(random));
+            MomentIntervalSet sa = MomentIntervalSet.from(a);
+            MomentIntervalSet sb = MomentIntervalSet.from(b);
+            assertThat(sa.union(sb), is(MomentIntervalSet.from(a.union(b))));
+            assertThat(sa.intersect(sb), is(MomentIntervalSet.from(a.intersect(b))));
+            assertThat(sa.minus(sb), is(MomentIntervalSet.from(a.minus(b))));
+            assertThat(sa.xor(sb), is(MomentIntervalSet.from(a.xor(b))));
+            assertThat(sa.withGaps(), is(MomentIntervalSet.from(withoutEmptyIntervals(a).withGaps())));
+            for (int t = -5; t < 140; t++) {
+                Moment probe = Moment.of(t, 500_000_000, TimeScale.POSIX);
+                boolean inA = sa.contains(probe);
+                boolean inB = sb.contains(probe);
+                assertThat(inA, is(contains(a, probe)));
+                assertThat(sa.xor(sb).contains(probe), is(inA != inB));
+            }
+        }
+    }
+
+    private static List<ChronoInterval<PlainDate>> randomDateIntervals(Random random) {
+        PlainDate origin = PlainDate.of(2000, 1, 1);
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>();
+        for (int i = random.nextInt(12); i >= 0; i--) {
+            PlainDate start = origin.plus(random.nextInt(120), CalendarUnit.DAYS);
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                list.add(DateInterval.since(start));
+            } else if (kind == 1) {
+                list.add(DateInterval.until(start));
+            } else {
+                list.add(DateInterval.between(start, start.plus(random.nextInt(15), CalendarUnit.DAYS)));
+            }
+        }
+        return list;
+    }
+
+    private static List<ChronoInterval<Moment>> randomMomentIntervals(Random random) {
+        List<ChronoInterval<Moment>> list = new ArrayList<>();
+        for (int i = random.nextInt(12); i >= 0; i--) {
+            Moment start = Moment.of(random.nextInt(120), TimeScale.POSIX);
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                list.add(MomentInterval.since(start));
+            } else if (kind == 1) {
+                list.add(MomentInterval.until(start));
+            } else {
+                MomentInterval interval =
+                    MomentInterval.between(start, Moment.of(start.getPosixTime() + random.nextInt(15), TimeScale.POSIX));
+                list.add((kind < 5) ? interval.withClosedEnd() : interval);
+            }
+        }
+        return list;
+    }
+
+    private static <T extends Temporal<? super T>> IntervalCollection<T> withoutEmptyIntervals(
+        IntervalCollection<T> collection
+    ) {
+        List<ChronoInterval<T>> list = new ArrayList<>();
+        for (ChronoInterval<T> interval : collection.getIntervals()) {
+            if (!interval.isEmpty()) {
+                list.add(interval);
+            }
+        }
+        return collection.create(list);
+    }
+
+    private static boolean contains(
+        IntervalCollection<Moment> collection,
+        Moment moment
+    ) {
+        for (ChronoInterval<Moment> interval : collection.getIntervals()) {
+            if (interval.contains(moment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,230 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.engine.Temporal;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalTreeTest {
+
+    @Test
+    public void emptyTree() {
+        IntervalTree<PlainDate> tree = IntervalTree.onDateAxis();
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(tree.size(), is(0));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 1, 1)).isEmpty(), is(true));
+        assertThat(tree.toCollection(), is(IntervalCollection.onDateAxis()));
+    }
+
+    @Test
+    public void stabbingOnDateAxis() {
+        DateInterval i1 = DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2016, 1, 31));
+        DateInterval i2 = DateInterval.between(PlainDate.of(2016, 1, 15), PlainDate.of(2016, 2, 15));
+        DateInterval i3 = DateInterval.since(PlainDate.of(2016, 2, 1));
+        DateInterval i4 = DateInterval.until(PlainDate.of(2015, 12, 31));
+        IntervalTree<PlainDate> tree = IntervalTree.onDateAxis();
+        tree.addAll(Arrays.asList(i3, i1, i4, i2));
+
+        assertThat(tree.size(), is(4));
+        assertThat(tree.findIntersections(PlainDate.of(2015, 12, 31)), is(list(i4)));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 1, 1)), is(list(i1)));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 1, 20)), is(list(i1, i2)));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 1, 31)), is(list(i1, i2)));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 2, 1)), is(list(i2, i3)));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 2, 16)), is(list(i3)));
+        assertThat(tree.findIntersections(PlainDate.axis().getMaximum()), is(list(i3)));
+    }
+
+    @Test
+    public void overlapOnClockAxis() {
+        ClockInterval morning = ClockInterval.between(PlainTime.of(8), PlainTime.of(12));
+        ClockInterval noon = ClockInterval.between(PlainTime.of(12), PlainTime.of(13));
+        ClockInterval afternoon = ClockInterval.between(PlainTime.of(13), PlainTime.of(17));
+        IntervalTree<PlainTime> tree = IntervalTree.onClockAxis();
+        tree.add(afternoon);
+        tree.add(noon);
+        tree.add(morning);
+
+        assertThat(
+            tree.findIntersections(ClockInterval.between(PlainTime.of(11), PlainTime.of(12))),
+            is(list(morning)));
+        assertThat(
+            tree.findIntersections(ClockInterval.between(PlainTime.of(11), PlainTime.of(12, 1))),
+            is(list(morning, noon)));
+        assertThat(
+            tree.findIntersections(ClockInterval.between(PlainTime.of(12), PlainTime.of(12))).isEmpty(),
+            is(true));
+        assertThat(
+            tree.findIntersections(ClockInterval.between(PlainTime.of(0), PlainTime.of(24))),
+            is(list(morning, noon, afternoon)));
+    }
+
+    @Test
+    public void duplicatesAndRemoval() {
+        DateInterval interval = DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2016, 1, 31));
+        IntervalTree<PlainDate> tree = IntervalTree.onDateAxis();
+        tree.add(interval);
+        tree.add(interval);
+        assertThat(tree.size(), is(2));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 1, 10)), is(list(interval, interval)));
+        assertThat(tree.remove(interval), is(true));
+        assertThat(tree.findIntersections(PlainDate.of(2016, 1, 10)), is(list(interval)));
+        assertThat(tree.remove(interval), is(true));
+        assertThat(tree.remove(interval), is(false));
+        assertThat(tree.isEmpty(), is(true));
+    }
+
+    @Test
+    public void emptyIntervalsAreNeverFound() {
+        Moment m = Moment.of(1000, TimeScale.POSIX);
+        MomentInterval empty = MomentInterval.between(m, m);
+        IntervalTree<Moment> tree = IntervalTree.onMomentAxis();
+        tree.add(empty);
+        assertThat(tree.size(), is(1));
+        assertThat(tree.findIntersections(m).isEmpty(), is(true));
+        assertThat(tree.findIntersections(MomentInterval.since(Moment.UNIX_EPOCH)).isEmpty(), is(true));
+        assertThat(tree.remove(empty), is(true));
+    }
+
+    @Test
+    public void snapshot() {
+        IntervalTree<PlainDate> tree = IntervalTree.onDateAxis();
+        List<ChronoInterval<PlainDate>> intervals = randomDateIntervals(new Random(7), 50);
+        tree.addAll(intervals);
+        IntervalCollection<PlainDate> snapshot = tree.toCollection();
+        assertThat(snapshot, is(IntervalCollection.onDateAxis().plus(intervals)));
+        tree.clear();
+        assertThat(snapshot.getIntervals().size(), is(50));
+        assertThat(tree.toCollection().isEmpty(), is(true));
+    }
+
+    @Test
+    public void sameAsLinearSearchOnMomentAxis() {
+        Random random = new Random(4711);
+        IntervalTree<Moment> tree = IntervalTree.onMomentAxis();
+        List<ChronoInterval<Moment>> stored = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            if (stored.isEmpty() || (random.nextInt(3) > 0)) {
+                ChronoInterval<Moment> interval = randomMomentInterval(random);
+                tree.add(interval);
+                stored.add(interval);
+            } else {
+                ChronoInterval<Moment> interval = stored.remove(random.nextInt(stored.size()));
+                assertThat(tree.remove(interval), is(true));
+            }
+            assertThat(tree.size(), is(stored.size()));
+
+            Moment probe = Moment.of(random.nextInt(1100) - 50, TimeScale.POSIX);
+            List<ChronoInterval<Moment>> expected = new ArrayList<>();
+            for (ChronoInterval<Moment> interval : stored) {
+                if (interval.contains(probe)) {
+                    expected.add(interval);
+                }
+            }
+            assertThat(sorted(tree.findIntersections(probe)), is(sorted(expected)));
+
+            MomentInterval window = randomMomentInterval(random);
+            expected.clear();
+            for (ChronoInterval<Moment> interval : stored) {
+                if (!window.isEmpty() && !interval.isEmpty() && window.intersects((MomentInterval) interval)) {
+                    expected.add(interval);
+                }
+            }
+            assertThat(sorted(tree.findIntersections(window)), is(sorted(expected)));
+        }
+    }
+
+    @Test
+    public void concurrentReadersAndWriters() throws Exception {
+        final IntervalTree<PlainDate> tree = IntervalTree.onDateAxis();
+        final PlainDate origin = PlainDate.of(2016, 1, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            final int offset = t * 1000;
+            futures.add(executor.submit(
+                () -> {
+                    for (int i = 0; i < 500; i++) {
+                        PlainDate start = origin.plus(offset + i, CalendarUnit.DAYS);
+                        DateInterval interval = DateInterval.between(start, start.plus(1, CalendarUnit.DAYS));
+                        tree.add(interval);
+                        if (!tree.findIntersections(start).contains(interval)) {
+                            throw new AssertionError("Not found: " + interval);
+                        }
+                    }
+                }
+            ));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        assertThat(tree.size(), is(2000));
+        assertThat(tree.toCollection().withBlocks().getIntervals().size(), is(4));
+    }
+
+    private static List<ChronoInterval<PlainDate>> randomDateIntervals(
+        Random random,
+        int count
+    ) {
+        PlainDate origin = PlainDate.of(2000, 1, 1);
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PlainDate start = origin.plus(random.nextInt(365), CalendarUnit.DAYS);
+            list.add(DateInterval.between(start, start.plus(random.nextInt(30), CalendarUnit.DAYS)));
+        }
+        return list;
+    }
+
+    private static MomentInterval randomMomentInterval(Random random) {
+        Moment start = Moment.of(random.nextInt(1000), TimeScale.POSIX);
+        int kind = random.nextInt(20);
+        if (kind == 0) {
+            return MomentInterval.since(start);
+        } else if (kind == 1) {
+            return MomentInterval.until(start);
+        }
+        MomentInterval interval =
+            MomentInterval.between(start, Moment.of(start.getPosixTime() + random.nextInt(60), TimeScale.POSIX));
+        return ((kind < 5) ? interval.withClosedEnd() : interval);
+    }
+
+    private static List<ChronoInterval<Moment>> sorted(List<ChronoInterval<Moment>> list) {
+        List<ChronoInterval<Moment>> copy = new ArrayList<>(list);
+        copy.sort(MomentInterval.comparator());
+        return copy;
+    }
+
+    @SafeVarargs
+    private static <T extends Temporal<? super T>> List<ChronoInterval<T>> list(
+        ChronoInterval<T>... intervals
+    ) {
+        return Arrays.asList(intervals);
+    }
+
+}
@@ -11,7 +11,10 @@ import org.junit.runners.JUnit4;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -345,4 +348,236 @@ public class IsoRecurrenceTest {
         assertThat(IsoRecurrence.parseTimestampIntervals("R2/2016-07-01T10:15:59/16:45:00.123"), is(expected));
     }
 
+    @Test
+    public void getByIndex() {
+        IsoRecurrence<DateInterval> recurrence =
+            IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS));
+        assertThat(recurrence.get(0), is(DateInterval.between(PlainDate.of(2016, 7, 1), PlainDate.of(2016, 7, 31))));
+        assertThat(recurrence.get(3), is(DateInterval.between(PlainDate.of(2016, 10, 1), PlainDate.of(2016, 10, 31))));
+        IsoRecurrence<DateInterval> weekly =
+            IsoRecurrence.of(0, PlainDate.of(2000, 1, 1), Duration.of(1, CalendarUnit.WEEKS)).withInfiniteCount();
+        assertThat(
+            weekly.get(1000),
+            is(DateInterval.between(PlainDate.of(2019, 3, 2), PlainDate.of(2019, 3, 8))));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getByIndexAfterCount() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS)).get(4);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getByNegativeIndex() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS)).get(-1);
+    }
+
+    @Test
+    public void iteratorWithStartIndex() {
+        IsoRecurrence<DateInterval> recurrence =
+            IsoRecurrence.of(4, PlainDate.of(2016, 1, 31), Duration.of(1, CalendarUnit.MONTHS));
+        Iterator<DateInterval> iter = recurrence.iterator(2);
+        List<DateInterval> expected = toList(recurrence);
+        assertThat(iter.next(), is(expected.get(2)));
+        assertThat(iter.next(), is(expected.get(3)));
+        assertThat(iter.hasNext(), is(false));
+        assertThat(recurrence.iterator(4).hasNext(), is(false));
+        IsoRecurrence<DateInterval> daily =
+            IsoRecurrence.of(10, PlainDate.of(2016, 1, 1), Duration.of(1, CalendarUnit.DAYS));
+        iter = daily.iterator(9);
+        assertThat(iter.next(), is(DateInterval.between(PlainDate.of(2016, 1, 10), PlainDate.of(2016, 1, 10))));
+        assertThat(iter.hasNext(), is(false));
+    }
+
+    @Test
+    public void indexOfDate() {
+        IsoRecurrence<DateInterval> weekly =
+            IsoRecurrence.of(0, PlainDate.of(2000, 1, 1), Duration.of(1, CalendarUnit.WEEKS)).withInfiniteCount();
+        assertThat(weekly.indexOf(PlainDate.of(1999, 12, 31)), is(-1));
+        assertThat(weekly.indexOf(PlainDate.of(2000, 1, 1)), is(0));
+        assertThat(weekly.indexOf(PlainDate.of(2000, 1, 7)), is(0));
+        assertThat(weekly.indexOf(PlainDate.of(2000, 1, 8)), is(1));
+        assertThat(weekly.indexOf(PlainDate.of(2019, 3, 8)), is(1000));
+        assertThat(weekly.indexOf(PlainTimestamp.of(2019, 3, 8, 23, 59)), is(1000));
+        PlainDate far = PlainDate.of(100000, 1, 1);
+        assertThat(weekly.indexOf(far), is((int) (CalendarUnit.DAYS.between(PlainDate.of(2000, 1, 1), far) / 7)));
+        assertThat(weekly.indexOf(PlainDate.axis().getMaximum()), is(-1));
+        IsoRecurrence<DateInterval> finite = weekly.withCount(1000);
+        assertThat(finite.indexOf(PlainDate.of(2019, 3, 1)), is(999));
+        assertThat(finite.indexOf(PlainDate.of(2019, 3, 2)), is(-1));
+        assertThat(finite.withCount(0).indexOf(PlainDate.of(2000, 1, 1)), is(-1));
+    }
+
+    @Test
+    public void indexOfTimestamp() {
+        IsoRecurrence<TimestampInterval> recurrence =
+            IsoRecurrence.of(
+                0,
+                Duration.ofClockUnits(0, 0, 0).plus(1, ClockUnit.MILLIS),
+                PlainTimestamp.of(2016, 1, 1, 0, 0)).withInfiniteCount();
+        assertThat(recurrence.indexOf(PlainTimestamp.of(2016, 1, 1, 0, 0)), is(-1));
+        assertThat(recurrence.indexOf(PlainTimestamp.of(2015, 12, 31, 23, 59, 59)), is(999));
+        assertThat(recurrence.indexOf(PlainDate.of(2015, 12, 31)), is(86_399_999));
+    }
+
+    @Test
+    public void indexOfBeyondIntRange() {
+        PlainTimestamp start = PlainTimestamp.of(2016, 1, 1, 0, 0);
+        IsoRecurrence<TimestampInterval> recurrence =
+            IsoRecurrence.of(0, start, Duration.of(1, ClockUnit.SECONDS)).withInfiniteCount();
+        PlainTimestamp last = start.plus(Integer.MAX_VALUE, ClockUnit.SECONDS);
+        assertThat(recurrence.indexOf(last), is(Integer.MAX_VALUE));
+        assertThat(
+            recurrence.get(Integer.MAX_VALUE),
+            is(TimestampInterval.between(last, last.plus(1, ClockUnit.SECONDS))));
+        assertThat(recurrence.indexOf(last.plus(1, ClockUnit.SECONDS)), is(-1));
+        assertThat(recurrence.indexOf(last.plus(1000, CalendarUnit.DAYS)), is(-1));
+    }
+
+    @Test
+    public void monthEndSameAsIteration() {
+        List<PlainDate> anchors =
+            Arrays.asList(
+                PlainDate.of(2016, 1, 31),
+                PlainDate.of(2015, 12, 31),
+                PlainDate.of(2015, 3, 31),
+                PlainDate.of(2016, 1, 29),
+                PlainDate.of(2015, 1, 29),
+                PlainDate.of(2016, 2, 29),
+                PlainDate.of(2016, 1, 30));
+        List<Duration<CalendarUnit>> durations =
+            Arrays.asList(
+                Duration.of(1, CalendarUnit.MONTHS),
+                Duration.of(2, CalendarUnit.MONTHS),
+                Duration.of(1, CalendarUnit.QUARTERS),
+                Duration.of(1, CalendarUnit.YEARS),
+                Duration.of(4, CalendarUnit.YEARS),
+                Duration.ofCalendarUnits(1, 1, 0));
+        for (PlainDate ref : anchors) {
+            for (Duration<CalendarUnit> duration : durations) {
+                int count = (duration.contains(CalendarUnit.YEARS) ? 40 : 120);
+                List<IsoRecurrence<DateInterval>> recurrences =
+                    Arrays.asList(IsoRecurrence.of(count, ref, duration), IsoRecurrence.of(count, duration, ref));
+                for (IsoRecurrence<DateInterval> recurrence : recurrences) {
+                    assertThat(recurrence.getIndexFunction() == null, is(false));
+                    List<DateInterval> expected = toList(recurrence);
+                    for (int i = 0; i < count; i++) {
+                        DateInterval interval = expected.get(i);
+                        String msg = recurrence.toString() + " @ " + i;
+                        assertThat(msg, recurrence.get(i), is(interval));
+                        assertThat(msg, recurrence.indexOf(interval.getStartAsCalendarDate()), is(i));
+                        assertThat(msg, recurrence.indexOf(interval.getEndAsCalendarDate()), is(i));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void monthEndFarIndex() {
+        IsoRecurrence<DateInterval> monthly =
+            IsoRecurrence.of(0, PlainDate.of(2016, 1, 31), Duration.of(1, CalendarUnit.MONTHS)).withInfiniteCount();
+        Iterator<DateInterval> iter = monthly.iterator();
+        DateInterval expected = null;
+        for (int i = 0; i <= 50_000; i++) {
+            expected = iter.next();
+        }
+        assertThat(monthly.get(50_000), is(expected));
+        assertThat(monthly.indexOf(expected.getStartAsCalendarDate()), is(50_000));
+        assertThat(monthly.indexOf(expected.getEndAsCalendarDate().plus(1, CalendarUnit.DAYS)), is(50_001));
+        IsoRecurrence<TimestampInterval> timestamps =
+            IsoRecurrence.of(
+                600,
+                Duration.of(1, CalendarUnit.MONTHS),
+                PlainTimestamp.of(2016, 3, 31, 10, 15));
+        List<TimestampInterval> list = toList(timestamps);
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(timestamps.get(i), is(list.get(i)));
+            assertThat(timestamps.indexOf(list.get(i).getStartAsTimestamp()), is(i));
+        }
+    }
+
+    @Test
+    public void sameAsIteration() {
+        Random random = new Random(2016);
+        for (int run = 0; run < 200; run++) {
+            int count = 1 + random.nextInt(30);
+            PlainDate ref = PlainDate.of(2016, 1 + random.nextInt(12), 1 + random.nextInt(28)).plus(
+                random.nextInt(4), CalendarUnit.DAYS);
+            Duration<CalendarUnit> duration;
+            switch (random.nextInt(4)) {
+                case 0:
+                    duration = Duration.of(1 + random.nextInt(10), CalendarUnit.DAYS);
+                    break;
+                case 1:
+                    duration = Duration.of(1 + random.nextInt(3), CalendarUnit.WEEKS);
+                    break;
+                case 2:
+                    duration = Duration.of(1 + random.nextInt(5), CalendarUnit.MONTHS);
+                    break;
+                default:
+                    duration = Duration.ofCalendarUnits(0, 1, 1 + random.nextInt(5));
+            }
+            IsoRecurrence<DateInterval> recurrence = (
+                random.nextBoolean()
+                ? IsoRecurrence.of(count, ref, duration)
+                : IsoRecurrence.of(count, duration, ref));
+            List<DateInterval> expected = toList(recurrence);
+            for (int i = 0; i < count; i++) {
+                assertThat(recurrence.get(i), is(expected.get(i)));
+                assertThat(recurrence.iterator(i).next(), is(expected.get(i)));
+            }
+            for (int d = -400; d < 400; d++) {
+                PlainDate date = ref.plus(d, CalendarUnit.DAYS);
+                int index = -1;
+                for (int i = 0; i < count; i++) {
+                    if (expected.get(i).contains(date)) {
+                        index = i;
+                        break;
+                    }
+                }
+                assertThat(recurrence.toString() + " @ " + date, recurrence.indexOf(date), is(index));
+            }
+        }
+    }
+
+    @Test
+    public void sameAsIterationForTimestamps() {
+        Random random = new Random(4711);
+        for (int run = 0; run < 100; run++) {
+            int count = 1 + random.nextInt(30);
+            PlainTimestamp ref = PlainTimestamp.of(2016, 1, 1 + random.nextInt(31), random.nextInt(24), 0);
+            Duration<?> duration = (
+                random.nextBoolean()
+                ? Duration.ofClockUnits(random.nextInt(30), 1 + random.nextInt(59), 0)
+                : Duration.ofPositive().days(random.nextInt(2)).hours(1 + random.nextInt(5)).build());
+            IsoRecurrence<TimestampInterval> recurrence = (
+                random.nextBoolean()
+                ? IsoRecurrence.of(count, ref, duration)
+                : IsoRecurrence.of(count, duration, ref));
+            List<TimestampInterval> expected = toList(recurrence);
+            for (int i = 0; i < count; i++) {
+                assertThat(recurrence.get(i), is(expected.get(i)));
+            }
+            for (int m = -3000; m < 3000; m += 7) {
+                PlainTimestamp tsp = ref.plus(m * 15, ClockUnit.MINUTES);
+                int index = -1;
+                for (int i = 0; i < count; i++) {
+                    if (expected.get(i).contains(tsp)) {
+                        index = i;
+                        break;
+                    }
+                }
+                assertThat(recurrence.toString() + " @ " + tsp, recurrence.indexOf(tsp), is(index));
+            }
+        }
+    }
+
+    private static <I> List<I> toList(IsoRecurrence<I> recurrence) {
+        List<I> list = new ArrayList<I>();
+        for (I interval : recurrence) {
+            list.add(interval);
+        }
+        return list;
+    }
+
 }
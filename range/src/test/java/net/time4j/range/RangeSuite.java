@@ -22,6 +22,8 @@ import org.junit.runners.Suite.SuiteClasses;
         ComparatorTest.class,
         DateIntervalFormatTest.class,
         IntervalCollectionTest.class,
+        IntervalSetTest.class,
+        IntervalTreeTest.class,
         IsoRecurrenceTest.class,
         MachineTimeTest.class,
         MomentIntervalFormatTest.class,
@@ -30,6 +32,7 @@ import org.junit.runners.Suite.SuiteClasses;
         RelationTest.class,
         SerializationTest.class,
         SingleUnitTest.class,
+        StreamTest.class,
         TimestampIntervalFormatTest.class,
         YearsTest.class
     }
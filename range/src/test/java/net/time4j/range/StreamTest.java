@@ -0,0 +1,247 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class StreamTest {
+
+    @Test
+    public void dateIntervalDaily() {
+        DateInterval interval = DateInterval.between(PlainDate.of(2016, 2, 27), PlainDate.of(2016, 3, 2));
+        assertThat(
+            interval.streamDaily().collect(Collectors.toList()),
+            is(Arrays.asList(
+                PlainDate.of(2016, 2, 27),
+                PlainDate.of(2016, 2, 28),
+                PlainDate.of(2016, 2, 29),
+                PlainDate.of(2016, 3, 1),
+                PlainDate.of(2016, 3, 2))));
+        assertThat(interval.streamDaily().count(), is(5L));
+    }
+
+    @Test
+    public void dateIntervalDailyParallel() {
+        DateInterval interval = DateInterval.between(PlainDate.of(1900, 1, 1), PlainDate.of(2100, 12, 31));
+        List<PlainDate> expected = new ArrayList<>();
+        for (PlainDate date = interval.getStart().getTemporal(); !date.isAfter(PlainDate.of(2100, 12, 31)); ) {
+            expected.add(date);
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+        assertThat(interval.streamDaily().parallel().collect(Collectors.toList()), is(expected));
+        assertThat(interval.streamDaily().parallel().count(), is((long) expected.size()));
+    }
+
+    @Test
+    public void dateIntervalMonthly() {
+        DateInterval interval = DateInterval.between(PlainDate.of(2016, 1, 31), PlainDate.of(2016, 4, 30));
+        assertThat(
+            interval.stream(Duration.of(1, CalendarUnit.MONTHS)).collect(Collectors.toList()),
+            is(Arrays.asList(
+                PlainDate.of(2016, 1, 31),
+                PlainDate.of(2016, 2, 29),
+                PlainDate.of(2016, 3, 31),
+                PlainDate.of(2016, 4, 30))));
+        assertThat(
+            interval.stream(Duration.of(2, CalendarUnit.WEEKS)).parallel().count(),
+            is(7L));
+    }
+
+    @Test
+    public void dateIntervalMaximum() {
+        PlainDate max = PlainDate.axis().getMaximum();
+        DateInterval interval = DateInterval.between(max.minus(2, CalendarUnit.DAYS), max);
+        assertThat(interval.streamDaily().count(), is(3L));
+        assertThat(interval.stream(Duration.of(1, CalendarUnit.DAYS)).count(), is(3L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void dateIntervalZeroDuration() {
+        DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2016, 1, 31)).stream(
+            Duration.of(0, CalendarUnit.DAYS));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void dateIntervalInfinite() {
+        DateInterval.since(PlainDate.of(2016, 1, 1)).streamDaily();
+    }
+
+    @Test
+    public void calendarMonthDaily() {
+        CalendarMonth month = CalendarMonth.of(2016, 2);
+        assertThat(month.streamDaily().count(), is(29L));
+        assertThat(
+            month.streamDaily().collect(Collectors.toList()),
+            is(month.toFlexInterval().streamDaily().collect(Collectors.toList())));
+    }
+
+    @Test
+    public void timestampInterval() {
+        TimestampInterval interval =
+            TimestampInterval.between(PlainTimestamp.of(2016, 1, 1, 0, 0), PlainTimestamp.of(2016, 1, 1, 1, 0));
+        List<PlainTimestamp> list =
+            interval.stream(Duration.of(15, ClockUnit.MINUTES)).parallel().collect(Collectors.toList());
+        assertThat(
+            list,
+            is(Arrays.asList(
+                PlainTimestamp.of(2016, 1, 1, 0, 0),
+                PlainTimestamp.of(2016, 1, 1, 0, 15),
+                PlainTimestamp.of(2016, 1, 1, 0, 30),
+                PlainTimestamp.of(2016, 1, 1, 0, 45))));
+        assertThat(interval.withClosedEnd().stream(Duration.of(15, ClockUnit.MINUTES)).count(), is(5L));
+    }
+
+    @Test
+    public void timestampIntervalBeyondIntRange() {
+        PlainTimestamp start = PlainTimestamp.of(2016, 1, 1, 0, 0);
+        TimestampInterval interval = TimestampInterval.between(start, start.plus(10, ClockUnit.SECONDS));
+        assertThat(interval.stream(Duration.of(1, ClockUnit.NANOS)).count(), is(10_000_000_000L));
+        assertThat(
+            interval.stream(Duration.of(1, ClockUnit.NANOS)).skip(1).findFirst().get(),
+            is(start.plus(1, ClockUnit.NANOS)));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void timestampIntervalWithOverflow() {
+        PlainTimestamp start = PlainTimestamp.of(1800, 1, 1, 0, 0);
+        TimestampInterval.between(start, PlainTimestamp.of(2100, 1, 1, 0, 0)).stream(Duration.of(10, ClockUnit.NANOS));
+    }
+
+    @Test
+    public void dateIntervalBeyondIntRange() {
+        PlainDate start = PlainDate.of(2016, 1, 1);
+        DateInterval interval = DateInterval.between(start, PlainDate.axis().getMaximum());
+        long count = interval.stream(Duration.of(1, CalendarUnit.DAYS)).count();
+        assertThat(count, is(PlainDate.axis().getMaximum().get(EpochDays.UTC) - start.get(EpochDays.UTC) + 1));
+        assertThat(count > Integer.MAX_VALUE, is(true));
+    }
+
+    @Test
+    public void momentIntervalWithLeapSecond() {
+        Moment start = PlainTimestamp.of(2016, 12, 31, 23, 59, 58).atUTC();
+        Moment end = PlainTimestamp.of(2017, 1, 1, 0, 0, 1).atUTC();
+        MomentInterval interval = MomentInterval.between(start, end);
+        assertThat(interval.stream(MachineTime.ofSISeconds(1)).count(), is(4L));
+        assertThat(interval.stream(MachineTime.ofPosixSeconds(1)).count(), is(3L));
+        List<Moment> list = interval.stream(MachineTime.ofSISeconds(1)).collect(Collectors.toList());
+        assertThat(list.get(2).isLeapSecond(), is(true));
+        assertThat(list.get(3), is(start.plus(3, SI.SECONDS)));
+    }
+
+    @Test
+    public void momentIntervalFraction() {
+        Moment start = Moment.of(1000, TimeScale.POSIX);
+        MomentInterval interval = MomentInterval.between(start, Moment.of(1002, TimeScale.POSIX));
+        List<Moment> list =
+            interval.stream(MachineTime.ofPosixSeconds(0.5)).parallel().collect(Collectors.toList());
+        assertThat(list.size(), is(4));
+        assertThat(list.get(3), is(Moment.of(1001, 500_000_000, TimeScale.POSIX)));
+    }
+
+    @Test
+    public void momentIntervalBeyondIntRange() {
+        Moment start = Moment.of(1000, TimeScale.POSIX);
+        MomentInterval interval = MomentInterval.between(start, Moment.of(1020, TimeScale.POSIX));
+        assertThat(interval.stream(MachineTime.ofPosixSeconds(0.000000001)).count(), is(20_000_000_000L));
+    }
+
+    @Test
+    public void recurrenceLinear() {
+        IsoRecurrence<DateInterval> forward =
+            IsoRecurrence.of(50, PlainDate.of(2016, 1, 15), Duration.of(1, CalendarUnit.MONTHS));
+        assertThat(forward.stream().parallel().collect(Collectors.toList()), is(toList(forward)));
+        IsoRecurrence<DateInterval> backward =
+            IsoRecurrence.of(50, Duration.of(10, CalendarUnit.DAYS), PlainDate.of(2016, 1, 31));
+        assertThat(backward.stream().parallel().collect(Collectors.toList()), is(toList(backward)));
+        IsoRecurrence<TimestampInterval> timestamps =
+            IsoRecurrence.of(
+                100,
+                PlainTimestamp.of(2016, 1, 1, 0, 0),
+                Duration.ofClockUnits(1, 30, 0));
+        assertThat(timestamps.stream().parallel().collect(Collectors.toList()), is(toList(timestamps)));
+        IsoRecurrence<TimestampInterval> backwardTimestamps =
+            IsoRecurrence.of(
+                100,
+                Duration.ofClockUnits(1, 30, 0),
+                PlainTimestamp.of(2016, 1, 1, 0, 0));
+        assertThat(
+            backwardTimestamps.stream().parallel().collect(Collectors.toList()),
+            is(toList(backwardTimestamps)));
+    }
+
+    @Test
+    public void recurrenceWithMonthEnd() {
+        IsoRecurrence<DateInterval> recurrence =
+            IsoRecurrence.of(12, PlainDate.of(2016, 1, 31), Duration.of(1, CalendarUnit.MONTHS));
+        assertThat(recurrence.stream().parallel().collect(Collectors.toList()), is(toList(recurrence)));
+        assertThat(recurrence.stream().count(), is(12L));
+    }
+
+    @Test
+    public void recurrenceInfinite() {
+        IsoRecurrence<DateInterval> recurrence =
+            IsoRecurrence.of(0, PlainDate.of(2016, 1, 1), Duration.of(1, CalendarUnit.WEEKS)).withInfiniteCount();
+        assertThat(recurrence.isInfinite(), is(true));
+        assertThat(
+            recurrence.stream().limit(3000).collect(Collectors.toList()),
+            is(recurrence.stream().parallel().limit(3000).collect(Collectors.toList())));
+        assertThat(
+            recurrence.stream().skip(2).findFirst().get(),
+            is(DateInterval.between(PlainDate.of(2016, 1, 15), PlainDate.of(2016, 1, 21))));
+    }
+
+    @Test
+    public void recurrenceInfiniteBeyondIntRange() {
+        PlainTimestamp start = PlainTimestamp.of(2016, 1, 1, 0, 0);
+        IsoRecurrence<TimestampInterval> recurrence =
+            IsoRecurrence.of(0, start, Duration.of(1, ClockUnit.SECONDS)).withInfiniteCount();
+        // skip() would calculate every element, so the prefixes are split off instead
+        Spliterator<TimestampInterval> spliterator = recurrence.stream().spliterator();
+        long skipped = 0;
+        while (skipped < Integer.MAX_VALUE + 1L) {
+            skipped += spliterator.trySplit().getExactSizeIfKnown();
+        }
+        assertThat(skipped, is(Integer.MAX_VALUE + 1L));
+        List<TimestampInterval> list = new ArrayList<>();
+        spliterator.tryAdvance(list::add);
+        spliterator.tryAdvance(list::add);
+        PlainTimestamp t = start.plus(Integer.MAX_VALUE + 1L, ClockUnit.SECONDS);
+        assertThat(
+            list,
+            is(Arrays.asList(
+                TimestampInterval.between(t, t.plus(1, ClockUnit.SECONDS)),
+                TimestampInterval.between(t.plus(1, ClockUnit.SECONDS), t.plus(2, ClockUnit.SECONDS)))));
+    }
+
+    private static <I> List<I> toList(IsoRecurrence<I> recurrence) {
+        List<I> list = new ArrayList<>();
+        Iterator<I> iter = recurrence.iterator();
+        while (iter.hasNext()) {
+            list.add(iter.next());
+        }
+        return list;
+    }
+
+}